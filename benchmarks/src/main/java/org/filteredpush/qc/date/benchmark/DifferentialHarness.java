@@ -0,0 +1,741 @@
+/**
+ * DifferentialHarness.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date.benchmark;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVRecord;
+import org.datakurator.ffdq.annotations.ActedUpon;
+import org.datakurator.ffdq.annotations.Consulted;
+import org.datakurator.ffdq.annotations.Parameter;
+import org.datakurator.ffdq.annotations.Provides;
+import org.datakurator.ffdq.api.DQResponse;
+import org.filteredpush.qc.date.TemporalSuite;
+import org.filteredpush.qc.date.util.DateUtils;
+import org.filteredpush.qc.date.util.RecordParseMemo;
+
+/**
+ * Differential harness, runs a reference implementation and the optimized paths of this build
+ * side by side over golden corpora, reporting every input on which their outputs diverge and
+ * the throughput of each.
+ *
+ * Three comparisons are made:
+ *
+ * VERBATIM, DateUtils.extractDateFromVerbatimER() on each verbatim date, compared on result
+ * state, result, and comment class.
+ *
+ * INTERVAL, DateUtils.extractInterval() on each eventDate, compared on the first and last
+ * days of the interval, with the optimized path inside a RecordParseMemo as the tests use it.
+ *
+ * TESTS, each of the TIME tests of TemporalSuite on each record, the reference invoking each
+ * @Provides method (with default parameters) separately, the optimized path running
+ * TemporalSuite.evaluate(), compared on result state, value, and comment class.
+ *
+ * The comment class is the comment with any values in square brackets removed, so that a
+ * change in how a value is quoted is not a divergence, but a different reason is.  A test or
+ * call that throws is compared on the class of the exception.
+ *
+ * The reference is either another build of event_date_qc, e.g. the last release or the
+ * commit before an optimization, given as a classpath with -r and loaded in its own class
+ * loader, or, without -r, this build with each test invoked separately and no RecordParseMemo,
+ * in which case VERBATIM and INTERVAL compare this build with itself.  The corpora are
+ * example_dates.csv and DateReferenceSetCol1.txt, the ExampleRecords, records from the
+ * SyntheticDataGenerator, and optionally a file in the layout read by Runner, e.g.
+ *
+ *    java -cp target/benchmarks.jar org.filteredpush.qc.date.benchmark.DifferentialHarness -r event_date_qc-3.1.0.jar -n 100000
+ *
+ * Exits with status 1 if any divergence was found.
+ *
+ * @author mole
+ *
+ */
+public final class DifferentialHarness {
+
+	/** Classes searched for the method providing each test, those with default parameters first. */
+	public static final String[] TEST_CLASSES = { "org.filteredpush.qc.date.DwCEventDQDefaults",
+			"org.filteredpush.qc.date.DwCOtherDateDQDefaults", "org.filteredpush.qc.date.DwCEventDQ",
+			"org.filteredpush.qc.date.DwCOtherDateDQ" };
+
+	public static final int DEFAULT_RECORDS = 10000;
+
+	/** Resource name of the reference set of verbatim dates. */
+	public static final String DATE_REFERENCE_SET = "/DateReferenceSetCol1.txt";
+
+	private static final Pattern BRACKETED = Pattern.compile("\\[[^\\]]*\\]");
+	private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+	/**
+	 * One side of a comparison, invoked once for each input of a corpus.
+	 */
+	private interface Path {
+		/**
+		 * @param index of the input.
+		 * @return the output for the input, or the exception thrown in producing it.
+		 */
+		Object apply(int index);
+	}
+
+	/**
+	 * Class loader for a reference build, which loads the classes of event_date_qc from the
+	 * reference classpath in preference to those of this build, and all other classes, such as
+	 * those of ffdq-api and java.time, from its parent, so that outputs of either build can be
+	 * compared directly.
+	 */
+	static final class ReferenceClassLoader extends URLClassLoader {
+
+		ReferenceClassLoader(URL[] urls, ClassLoader parent) {
+			super(urls, parent);
+		}
+
+		@Override
+		protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+			Class<?> result;
+			synchronized (getClassLoadingLock(name)) {
+				result = findLoadedClass(name);
+				if (result==null && name.startsWith("org.filteredpush.qc.date.") && !name.startsWith("org.filteredpush.qc.date.benchmark.")) {
+					try {
+						result = findClass(name);
+					} catch (ClassNotFoundException e) {
+						// not in the reference build, use the class of this build
+						result = null;
+					}
+				}
+				if (result==null) {
+					result = super.loadClass(name, false);
+				}
+				if (resolve) {
+					resolveClass(result);
+				}
+			}
+			return result;
+		}
+	}
+
+	private final boolean separateReference;
+	private final Method referenceVerbatim;
+	private final Method referenceInterval;
+	/** Reference method for each test, indexed as TemporalSuite.getGuids(), null if not provided. */
+	private final Method[] referenceTests;
+	private final String[] testNames;
+	private final PrintWriter out;
+	private final int maxReported;
+	private final int warmup;
+	private long divergences = 0l;
+
+	/**
+	 * @param reference class loader of the reference implementation, null for this build.
+	 * @param out to which to write the report.
+	 * @param maxReported the maximum number of divergences reported for each comparison and
+	 *   corpus, 0 to report all of them.
+	 * @param warmup number of passes of each path over each corpus before the measured pass.
+	 * @throws ReflectiveOperationException if the reference does not provide the methods compared.
+	 */
+	public DifferentialHarness(ClassLoader reference, PrintWriter out, int maxReported, int warmup) throws ReflectiveOperationException {
+		this.separateReference = reference!=null;
+		ClassLoader loader = reference;
+		if (loader==null) {
+			loader = DifferentialHarness.class.getClassLoader();
+		}
+		Class<?> dateUtils = Class.forName("org.filteredpush.qc.date.util.DateUtils", true, loader);
+		this.referenceVerbatim = dateUtils.getMethod("extractDateFromVerbatimER", String.class);
+		this.referenceInterval = dateUtils.getMethod("extractInterval", String.class);
+		String[] guids = TemporalSuite.getGuids();
+		this.referenceTests = new Method[guids.length];
+		this.testNames = new String[guids.length];
+		for (String className : TEST_CLASSES) {
+			Class<?> testClass = Class.forName(className, true, loader);
+			for (Method method : testClass.getDeclaredMethods()) {
+				Provides provides = method.getAnnotation(Provides.class);
+				if (provides!=null && !hasParameter(method)) {
+					int index = TemporalSuite.indexOf(provides.value());
+					if (index>=0 && referenceTests[index]==null) {
+						referenceTests[index] = method;
+						testNames[index] = testClass.getSimpleName() + "." + method.getName();
+					}
+				}
+			}
+		}
+		for (int i=0; i<guids.length; i++) {
+			if (testNames[i]==null) {
+				testNames[i] = guids[i];
+			}
+		}
+		this.out = out;
+		this.maxReported = maxReported;
+		this.warmup = warmup;
+	}
+
+	private static boolean hasParameter(Method method) {
+		boolean result = false;
+		for (Annotation[] annotations : method.getParameterAnnotations()) {
+			for (Annotation annotation : annotations) {
+				if (annotation instanceof Parameter) {
+					result = true;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Create a class loader for a reference build.
+	 *
+	 * @param classpath jars or directories of the reference build, separated by the path separator.
+	 * @return a class loader preferring the classes of event_date_qc in classpath.
+	 * @throws MalformedURLException if an element of classpath can not be made into a URL.
+	 */
+	public static ClassLoader referenceLoader(String classpath) throws MalformedURLException {
+		String[] elements = classpath.split(Pattern.quote(File.pathSeparator));
+		URL[] urls = new URL[elements.length];
+		for (int i=0; i<elements.length; i++) {
+			urls[i] = new File(elements[i]).toURI().toURL();
+		}
+		return new ReferenceClassLoader(urls, DifferentialHarness.class.getClassLoader());
+	}
+
+	/**
+	 * @return the number of divergences found so far.
+	 */
+	public long getDivergences() {
+		return divergences;
+	}
+
+	private static Object invoke(Method method, Object[] arguments) {
+		Object result;
+		try {
+			result = method.invoke(null, arguments);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("Unable to invoke " + method.getName() + ": " + e.getMessage(), e);
+		} catch (InvocationTargetException e) {
+			result = e.getCause();
+		}
+		return result;
+	}
+
+	private static Object call(Method method, Object target) {
+		Object result;
+		try {
+			result = method.invoke(target);
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Unable to call " + method.getName() + " on " + target.getClass().getName(), e);
+		}
+		return result;
+	}
+
+	/**
+	 * @param comment a comment from a test or interpretation.
+	 * @return the comment with the values in square brackets removed and whitespace collapsed.
+	 */
+	public static String commentClass(String comment) {
+		String result = "";
+		if (comment!=null) {
+			result = WHITESPACE.matcher(BRACKETED.matcher(comment).replaceAll("[]")).replaceAll(" ").trim();
+		}
+		return result;
+	}
+
+	private static String describeThrown(Object output) {
+		return "threw " + output.getClass().getName();
+	}
+
+	/**
+	 * Describe an EventResult of either build by its result state, result and comment class.
+	 */
+	private static String describeVerbatim(Object output) {
+		String result;
+		if (output==null) {
+			result = "null";
+		} else if (output instanceof Throwable) {
+			result = describeThrown(output);
+		} else {
+			try {
+				Class<?> type = output.getClass();
+				result = call(type.getMethod("getResultState"), output) + " " + call(type.getMethod("getResult"), output)
+						+ " {" + commentClass((String)call(type.getMethod("getComment"), output)) + "}";
+			} catch (NoSuchMethodException e) {
+				throw new IllegalStateException("Unexpected verbatim interpretation " + output.getClass().getName(), e);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Describe a LocalDateInterval of either build by its first and last days.
+	 */
+	private static String describeInterval(Object output) {
+		String result;
+		if (output==null) {
+			result = "null";
+		} else if (output instanceof Throwable) {
+			result = describeThrown(output);
+		} else {
+			try {
+				Class<?> type = output.getClass();
+				result = call(type.getMethod("getStartDate"), output) + "/" + call(type.getMethod("getEndDate"), output);
+			} catch (NoSuchMethodException e) {
+				throw new IllegalStateException("Unexpected interval " + output.getClass().getName(), e);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Describe a DQResponse by its result state, value and comment class.
+	 */
+	private static String describeResponse(Object output) {
+		String result;
+		if (output==null) {
+			result = "null";
+		} else if (output instanceof Throwable) {
+			result = describeThrown(output);
+		} else {
+			DQResponse<?> response = (DQResponse<?>)output;
+			Object value = null;
+			if (response.getValue()!=null) {
+				value = response.getValue().getObject();
+				if (value instanceof Map) {
+					value = new TreeMap<Object,Object>((Map<?,?>)value);
+				}
+			}
+			result = (response.getResultState()==null ? null : response.getResultState().getLabel()) + " " + value
+					+ " {" + commentClass(response.getComment()) + "}";
+		}
+		return result;
+	}
+
+	/**
+	 * Run one path over a corpus, after the warmup passes.
+	 *
+	 * @param path to run.
+	 * @param size number of inputs in the corpus.
+	 * @param outputs array of size elements into which to place the outputs.
+	 * @return nanoseconds taken by the measured pass.
+	 */
+	private long run(Path path, int size, Object[] outputs) {
+		for (int pass=0; pass<warmup; pass++) {
+			for (int i=0; i<size; i++) {
+				path.apply(i);
+			}
+		}
+		long started = System.nanoTime();
+		for (int i=0; i<size; i++) {
+			outputs[i] = path.apply(i);
+		}
+		return System.nanoTime() - started;
+	}
+
+	private boolean report(String comparison, String corpus, int reported, int index, String test, String input, String expected, String actual) {
+		boolean result = false;
+		divergences++;
+		if (maxReported==0 || reported<maxReported) {
+			out.println("DIVERGENCE\t" + comparison + "\t" + corpus + "\t" + index + "\t" + test + "\t" + input
+					+ "\treference=" + expected + "\toptimized=" + actual);
+			result = true;
+		}
+		return result;
+	}
+
+	private void summarize(String comparison, String corpus, int size, int found, long referenceNanos, long optimizedNanos) {
+		double speedup = optimizedNanos==0l ? 0d : (double)referenceNanos / optimizedNanos;
+		out.println(String.format(Locale.ROOT, "SUMMARY\t%s\t%s\t%d\t%d\t%.1f\t%.1f\t%.2f", comparison, corpus, size, found,
+				referenceNanos / 1000000d, optimizedNanos / 1000000d, speedup));
+		out.flush();
+	}
+
+	/**
+	 * Compare DateUtils.extractDateFromVerbatimER() on a corpus of verbatim dates.
+	 *
+	 * @param corpus name of the corpus, for the report.
+	 * @param values the verbatim dates.
+	 * @return the number of divergences found.
+	 */
+	public int compareVerbatim(String corpus, final List<String> values) {
+		final Object[] arguments = new Object[1];
+		Object[] expected = new Object[values.size()];
+		Object[] actual = new Object[values.size()];
+		long referenceNanos = run(new Path() {
+			@Override
+			public Object apply(int index) {
+				arguments[0] = values.get(index);
+				return invoke(referenceVerbatim, arguments);
+			}
+		}, values.size(), expected);
+		long optimizedNanos = run(new Path() {
+			@Override
+			public Object apply(int index) {
+				Object result;
+				try {
+					result = DateUtils.extractDateFromVerbatimER(values.get(index));
+				} catch (RuntimeException e) {
+					result = e;
+				}
+				return result;
+			}
+		}, values.size(), actual);
+		int found = 0;
+		for (int i=0; i<values.size(); i++) {
+			String reference = describeVerbatim(expected[i]);
+			String optimized = describeVerbatim(actual[i]);
+			if (!reference.equals(optimized)) {
+				report("VERBATIM", corpus, found, i, "DateUtils.extractDateFromVerbatimER", values.get(i), reference, optimized);
+				found++;
+			}
+		}
+		summarize("VERBATIM", corpus, values.size(), found, referenceNanos, optimizedNanos);
+		return found;
+	}
+
+	/**
+	 * Compare DateUtils.extractInterval() on a corpus of eventDates.
+	 *
+	 * @param corpus name of the corpus, for the report.
+	 * @param values the eventDates.
+	 * @return the number of divergences found.
+	 */
+	public int compareInterval(String corpus, final List<String> values) {
+		final Object[] arguments = new Object[1];
+		Object[] expected = new Object[values.size()];
+		Object[] actual = new Object[values.size()];
+		long referenceNanos = run(new Path() {
+			@Override
+			public Object apply(int index) {
+				arguments[0] = values.get(index);
+				return invoke(referenceInterval, arguments);
+			}
+		}, values.size(), expected);
+		long optimizedNanos = run(new Path() {
+			@Override
+			public Object apply(int index) {
+				Object result;
+				boolean opened = RecordParseMemo.open();
+				try {
+					result = DateUtils.extractInterval(values.get(index));
+				} catch (RuntimeException e) {
+					result = e;
+				} finally {
+					if (opened) {
+						RecordParseMemo.close();
+					}
+				}
+				return result;
+			}
+		}, values.size(), actual);
+		int found = 0;
+		for (int i=0; i<values.size(); i++) {
+			String reference = describeInterval(expected[i]);
+			String optimized = describeInterval(actual[i]);
+			if (!reference.equals(optimized)) {
+				report("INTERVAL", corpus, found, i, "DateUtils.extractInterval", values.get(i), reference, optimized);
+				found++;
+			}
+		}
+		summarize("INTERVAL", corpus, values.size(), found, referenceNanos, optimizedNanos);
+		return found;
+	}
+
+	private static Object[] arguments(Method method, Map<String,String> record) {
+		Annotation[][] annotations = method.getParameterAnnotations();
+		Object[] result = new Object[annotations.length];
+		for (int i=0; i<annotations.length; i++) {
+			for (Annotation annotation : annotations[i]) {
+				if (annotation instanceof ActedUpon) {
+					result[i] = record.get(((ActedUpon)annotation).value());
+				} else if (annotation instanceof Consulted) {
+					result[i] = record.get(((Consulted)annotation).value());
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Compare the TIME tests of TemporalSuite on a corpus of records.
+	 *
+	 * @param corpus name of the corpus, for the report.
+	 * @param records the records, maps of terms such as dwc:eventDate to values.
+	 * @return the number of divergences found.
+	 */
+	public int compareTests(String corpus, final List<Map<String,String>> records) {
+		final Object[][] bound = new Object[referenceTests.length][];
+		for (int t=0; t<referenceTests.length; t++) {
+			if (referenceTests[t]!=null) {
+				bound[t] = new Object[records.size()];
+				for (int r=0; r<records.size(); r++) {
+					bound[t][r] = arguments(referenceTests[t], records.get(r));
+				}
+			}
+		}
+		Object[] expected = new Object[records.size()];
+		Object[] actual = new Object[records.size()];
+		long referenceNanos = run(new Path() {
+			@Override
+			public Object apply(int index) {
+				Object[] result = new Object[referenceTests.length];
+				for (int t=0; t<referenceTests.length; t++) {
+					if (referenceTests[t]!=null) {
+						result[t] = invoke(referenceTests[t], (Object[])bound[t][index]);
+					}
+				}
+				return result;
+			}
+		}, records.size(), expected);
+		long optimizedNanos = run(new Path() {
+			@Override
+			public Object apply(int index) {
+				Object result;
+				try {
+					result = TemporalSuite.evaluate(records.get(index));
+				} catch (RuntimeException e) {
+					result = e;
+				}
+				return result;
+			}
+		}, records.size(), actual);
+		int found = 0;
+		for (int r=0; r<records.size(); r++) {
+			Object[] reference = (Object[])expected[r];
+			String input = new TreeMap<String,String>(records.get(r)).toString();
+			if (actual[r] instanceof Throwable) {
+				// the suite stops at a test that throws, as a caller of that test would
+				String optimized = describeThrown(actual[r]);
+				boolean thrown = false;
+				for (int t=0; t<reference.length; t++) {
+					if (reference[t]!=null && describeResponse(reference[t]).equals(optimized)) {
+						thrown = true;
+					}
+				}
+				if (!thrown) {
+					report("TESTS", corpus, found, r, "TemporalSuite.evaluate", input, "no test threw", optimized);
+					found++;
+				}
+			} else {
+				DQResponse<?>[] responses = (DQResponse<?>[])actual[r];
+				for (int t=0; t<reference.length; t++) {
+					if (referenceTests[t]!=null) {
+						String referenceDescription = describeResponse(reference[t]);
+						String optimizedDescription = describeResponse(responses[t]);
+						if (!referenceDescription.equals(optimizedDescription)) {
+							report("TESTS", corpus, found, r, testNames[t], input, referenceDescription, optimizedDescription);
+							found++;
+						}
+					}
+				}
+			}
+		}
+		summarize("TESTS", corpus, records.size(), found, referenceNanos, optimizedNanos);
+		return found;
+	}
+
+	/**
+	 * Compare all three on the golden corpora.
+	 *
+	 * @param generated number of records from the SyntheticDataGenerator.
+	 * @param seed of the SyntheticDataGenerator.
+	 * @param file a file in the layout read by Runner to compare on as well, or null.
+	 * @throws IOException if a corpus can not be read.
+	 */
+	public void compareAll(int generated, long seed, String file) throws IOException {
+		out.println("# reference: " + (separateReference ? "separate build" : "this build, tests invoked separately, no RecordParseMemo"));
+		for (int t=0; t<referenceTests.length; t++) {
+			if (referenceTests[t]==null) {
+				out.println("# not provided by the reference, not compared: " + testNames[t]);
+			}
+		}
+		out.println("SUMMARY\tcomparison\tcorpus\tinputs\tdivergences\treference ms\toptimized ms\tspeedup");
+
+		List<String> exampleDates = VerbatimShape.loadExampleDates();
+		List<String> referenceSet = loadLines(DATE_REFERENCE_SET);
+		List<Map<String,String>> exampleRecords = ExampleRecords.load();
+		List<Map<String,String>> generatedRecords = new ArrayList<Map<String,String>>(generated);
+		SyntheticDataGenerator generator = new SyntheticDataGenerator(seed, SyntheticDataGenerator.DEFAULT_DUPLICATION_RATIO,
+				SyntheticDataGenerator.DEFAULT_ERROR_RATE, exampleDates);
+		for (int i=0; i<generated; i++) {
+			generatedRecords.add(record(SyntheticDataGenerator.HEADER, generator.next()));
+		}
+
+		compareVerbatim("example_dates", exampleDates);
+		compareVerbatim("DateReferenceSet", referenceSet);
+		compareVerbatim("generated", values(generatedRecords, "dwc:verbatimEventDate"));
+		compareInterval("example_dates", exampleDates);
+		compareInterval("DateReferenceSet", referenceSet);
+		compareInterval("example_records", values(exampleRecords, "dwc:eventDate"));
+		compareInterval("generated", values(generatedRecords, "dwc:eventDate"));
+		compareTests("example_records", exampleRecords);
+		compareTests("generated", generatedRecords);
+		if (file!=null) {
+			List<Map<String,String>> fileRecords = loadRecords(file);
+			compareVerbatim(file, values(fileRecords, "dwc:verbatimEventDate"));
+			compareInterval(file, values(fileRecords, "dwc:eventDate"));
+			compareTests(file, fileRecords);
+		}
+		out.println("# divergences: " + divergences);
+		out.flush();
+	}
+
+	/**
+	 * @param columns column names as in the layout read by Runner, e.g. eventDate, modified.
+	 * @param values the values of the columns.
+	 * @return a record of the values keyed by term, dcterms:modified, otherwise dwc:, with
+	 *   any occurrenceID omitted.
+	 */
+	private static Map<String,String> record(String[] columns, String[] values) {
+		Map<String,String> result = new TreeMap<String,String>();
+		for (int i=0; i<columns.length && i<values.length; i++) {
+			if (columns[i].equals("modified")) {
+				result.put("dcterms:modified", values[i]);
+			} else if (!columns[i].equalsIgnoreCase("occurrenceID")) {
+				result.put("dwc:" + columns[i], values[i]);
+			}
+		}
+		return result;
+	}
+
+	private static List<String> values(List<Map<String,String>> records, String term) {
+		List<String> result = new ArrayList<String>();
+		for (Map<String,String> record : records) {
+			String value = record.get(term);
+			if (value!=null && value.trim().length()>0) {
+				result.add(value);
+			}
+		}
+		return result;
+	}
+
+	private static List<String> loadLines(String resource) throws IOException {
+		List<String> result = new ArrayList<String>();
+		InputStream stream = DifferentialHarness.class.getResourceAsStream(resource);
+		if (stream==null) {
+			throw new IOException("Resource " + resource + " not found on the classpath.");
+		}
+		BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+		try {
+			String line;
+			while ((line=reader.readLine())!=null) {
+				String value = line.trim();
+				if (value.length()>0) {
+					result.add(value);
+				}
+			}
+		} finally {
+			reader.close();
+		}
+		return result;
+	}
+
+	private static List<Map<String,String>> loadRecords(String file) throws IOException {
+		List<Map<String,String>> result = new ArrayList<Map<String,String>>();
+		Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8);
+		try {
+			for (CSVRecord row : CSVFormat.TDF.withFirstRecordAsHeader().withIgnoreSurroundingSpaces(false).parse(reader)) {
+				Map<String,String> values = row.toMap();
+				String[] columns = values.keySet().toArray(new String[values.size()]);
+				String[] rowValues = new String[columns.length];
+				for (int i=0; i<columns.length; i++) {
+					rowValues[i] = values.get(columns[i]);
+				}
+				result.add(record(columns, rowValues));
+			}
+		} finally {
+			reader.close();
+		}
+		return result;
+	}
+
+	/**
+	 * Run the comparisons.
+	 *
+	 * @param args [-r {reference classpath}] [-n {generated records}] [-s {seed}] [-f {file}]
+	 *   [-m {max reported}] [-w {warmup passes}] [-o {report file}]
+	 * @throws Exception on a failure to load the reference or read a corpus.
+	 */
+	public static void main(String[] args) throws Exception {
+		Options options = new Options();
+		options.addOption("r", "reference", true, "Classpath of the reference build of event_date_qc, default this build with each test invoked separately.");
+		options.addOption("n", "records", true, "Number of generated records, default " + DEFAULT_RECORDS + ".");
+		options.addOption("s", "seed", true, "Seed of the generated records, default 1.");
+		options.addOption("f", "file", true, "File in the layout read by Runner to compare on as well.");
+		options.addOption("m", "maxReported", true, "Maximum divergences reported for each comparison and corpus, default 0, all of them.");
+		options.addOption("w", "warmup", true, "Passes of each path over each corpus before the measured pass, default 1.");
+		options.addOption("o", "output", true, "File to which to write the report, default standard out.");
+		int exitStatus = 0;
+		try {
+			CommandLineParser parser = new DefaultParser();
+			CommandLine cmd = parser.parse(options, args);
+			ClassLoader reference = null;
+			if (cmd.hasOption("r")) {
+				reference = referenceLoader(cmd.getOptionValue("r"));
+			}
+			PrintWriter out;
+			if (cmd.hasOption("o")) {
+				out = new PrintWriter(new OutputStreamWriter(new FileOutputStream(cmd.getOptionValue("o")), StandardCharsets.UTF_8));
+			} else {
+				out = new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8));
+			}
+			try {
+				DifferentialHarness harness = new DifferentialHarness(reference, out,
+						Integer.parseInt(cmd.getOptionValue("m", "0")), Integer.parseInt(cmd.getOptionValue("w", "1")));
+				harness.compareAll(Integer.parseInt(cmd.getOptionValue("n", Integer.toString(DEFAULT_RECORDS))),
+						Long.parseLong(cmd.getOptionValue("s", "1")), cmd.getOptionValue("f"));
+				if (harness.getDivergences()>0) {
+					exitStatus = 1;
+				}
+			} finally {
+				out.flush();
+				if (cmd.hasOption("o")) {
+					out.close();
+				}
+			}
+		} catch (ParseException | NumberFormatException e) {
+			System.out.println("ERROR: " + e.getMessage() + "\n");
+			HelpFormatter formatter = new HelpFormatter();
+			formatter.printHelp("java -cp target/benchmarks.jar " + DifferentialHarness.class.getName(), options);
+			exitStatus = 2;
+		}
+		System.exit(exitStatus);
+	}
+
+}
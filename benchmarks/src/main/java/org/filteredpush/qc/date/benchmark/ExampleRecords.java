@@ -0,0 +1,153 @@
+/**
+ * ExampleRecords.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+
+/**
+ * Representative records of the values of the terms and parameters used by the tests, as maps
+ * of term name (e.g. dwc:eventDate, dcterms:modified, bdq:earliestValidDate) to value.
+ *
+ * Records are taken from the rows of src/test/resources/date_example_data.csv, and from the
+ * examples in the TG2 test definitions, generation/time_tests.csv and
+ * generation/ident_time_tests.csv, each of which gives the values of the information
+ * elements and parameters for one response.  Terms absent from a record are not present in
+ * the map.
+ *
+ * @author mole
+ *
+ */
+public final class ExampleRecords {
+
+	/** Resource name of the example Darwin Core records. */
+	public static final String DATE_EXAMPLE_DATA = "/date_example_data.csv";
+
+	/** Resource names of the TG2 test definitions. */
+	public static final String[] TEST_DEFINITIONS = { "/time_tests.csv", "/ident_time_tests.csv" };
+
+	/** The input part of one example, [dwc:eventDate="1963-03-08T14": Response.status=...] */
+	private static final Pattern EXAMPLE_PATTERN = Pattern.compile("\\[([^\\[]*?):\\s*Response\\.");
+	/** A term and its value within the input part of an example. */
+	private static final Pattern TERM_VALUE_PATTERN = Pattern.compile("([A-Za-z]+:[A-Za-z]+)\\s*=\\s*\"([^\"]*)\"");
+
+	private ExampleRecords() {
+	}
+
+	/**
+	 * Load the records from the example data and from the examples in the test definitions.
+	 *
+	 * @return an unmodifiable list of records, those from the example data first.
+	 * @throws IOException if a resource can not be read.
+	 */
+	public static List<Map<String,String>> load() throws IOException {
+		List<Map<String,String>> result = new ArrayList<Map<String,String>>();
+		result.addAll(loadExampleData());
+		for (String definitions : TEST_DEFINITIONS) {
+			result.addAll(loadTestDefinitionExamples(definitions));
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * Load the rows of date_example_data.csv, with the namespace prefix added to columns
+	 * that do not have one, dcterms: for modified, otherwise dwc:.
+	 *
+	 * @return the rows as records.
+	 * @throws IOException if the resource can not be read.
+	 */
+	public static List<Map<String,String>> loadExampleData() throws IOException {
+		List<Map<String,String>> result = new ArrayList<Map<String,String>>();
+		Reader reader = open(DATE_EXAMPLE_DATA);
+		try {
+			CSVParser parser = CSVFormat.DEFAULT.withFirstRecordAsHeader().parse(reader);
+			for (CSVRecord row : parser) {
+				Map<String,String> record = new HashMap<String,String>();
+				for (Map.Entry<String,String> entry : row.toMap().entrySet()) {
+					String term = entry.getKey();
+					if (!term.contains(":")) {
+						if (term.equals("modified")) {
+							term = "dcterms:" + term;
+						} else {
+							term = "dwc:" + term;
+						}
+					}
+					record.put(term, entry.getValue());
+				}
+				result.add(record);
+			}
+		} finally {
+			reader.close();
+		}
+		return result;
+	}
+
+	/**
+	 * Load the inputs of the examples of each test in a file of TG2 test definitions.
+	 *
+	 * @param resource the name of the test definitions resource.
+	 * @return one record for each example.
+	 * @throws IOException if the resource can not be read.
+	 */
+	public static List<Map<String,String>> loadTestDefinitionExamples(String resource) throws IOException {
+		List<Map<String,String>> result = new ArrayList<Map<String,String>>();
+		Reader reader = open(resource);
+		try {
+			CSVParser parser = CSVFormat.DEFAULT.withFirstRecordAsHeader().parse(reader);
+			for (CSVRecord row : parser) {
+				Matcher example = EXAMPLE_PATTERN.matcher(row.get("Examples"));
+				while (example.find()) {
+					Map<String,String> record = new HashMap<String,String>();
+					Matcher termValue = TERM_VALUE_PATTERN.matcher(example.group(1));
+					while (termValue.find()) {
+						record.put(termValue.group(1), termValue.group(2));
+					}
+					if (!record.isEmpty()) {
+						result.add(record);
+					}
+				}
+			}
+		} finally {
+			reader.close();
+		}
+		return result;
+	}
+
+	private static Reader open(String resource) throws IOException {
+		InputStream stream = ExampleRecords.class.getResourceAsStream(resource);
+		if (stream==null) {
+			throw new IOException("Resource " + resource + " not found on the classpath.");
+		}
+		return new InputStreamReader(stream, StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,201 @@
+/**
+ * ProvidedTest.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date.benchmark;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.datakurator.ffdq.annotations.ActedUpon;
+import org.datakurator.ffdq.annotations.Consulted;
+import org.datakurator.ffdq.annotations.Parameter;
+import org.datakurator.ffdq.annotations.Provides;
+import org.filteredpush.qc.date.DwCEventDQ;
+import org.filteredpush.qc.date.DwCEventDQDefaults;
+import org.filteredpush.qc.date.DwCOtherDateDQ;
+import org.filteredpush.qc.date.DwCOtherDateDQDefaults;
+
+/**
+ * A method annotated with @Provides, with the arguments to invoke it with for each of a set
+ * of records, bound to its parameters from the @ActedUpon, @Consulted and @Parameter
+ * annotations on them.
+ *
+ * A term that is absent from a record is passed as an empty string, a parameter that is
+ * absent as null, so that the test uses its default.  Arguments of a type other than String
+ * or Integer are passed as null.
+ *
+ * @author mole
+ *
+ */
+public final class ProvidedTest {
+
+	/** The classes whose @Provides methods are benchmarked. */
+	public static final Class<?>[] TEST_CLASSES = { DwCEventDQ.class, DwCEventDQDefaults.class,
+			DwCOtherDateDQ.class, DwCOtherDateDQDefaults.class };
+
+	private final String key;
+	private final Method method;
+	private final Object target;
+	private final Object[][] arguments;
+
+	private ProvidedTest(String key, Method method, Object target, Object[][] arguments) {
+		this.key = key;
+		this.method = method;
+		this.target = target;
+		this.arguments = arguments;
+	}
+
+	/**
+	 * Find the @Provides methods of TEST_CLASSES and bind their parameters to a set of records.
+	 *
+	 * @param records the records from which to take the arguments of each invocation.
+	 * @return the tests, in the order of TEST_CLASSES, then of method signature.
+	 */
+	public static List<ProvidedTest> discover(List<Map<String,String>> records) {
+		List<ProvidedTest> result = new ArrayList<ProvidedTest>();
+		for (Class<?> testClass : TEST_CLASSES) {
+			Method[] methods = testClass.getDeclaredMethods();
+			Arrays.sort(methods, new Comparator<Method>() {
+				@Override
+				public int compare(Method a, Method b) {
+					return a.toGenericString().compareTo(b.toGenericString());
+				}
+			});
+			for (Method method : methods) {
+				if (method.isAnnotationPresent(Provides.class) && Modifier.isPublic(method.getModifiers())) {
+					String key = testClass.getSimpleName() + "." + method.getName();
+					Object target = null;
+					if (!Modifier.isStatic(method.getModifiers())) {
+						try {
+							target = testClass.newInstance();
+						} catch (InstantiationException e) {
+							throw new IllegalStateException("Unable to instantiate " + testClass.getName() + " for " + key, e);
+						} catch (IllegalAccessException e) {
+							throw new IllegalStateException("Unable to instantiate " + testClass.getName() + " for " + key, e);
+						}
+					}
+					result.add(new ProvidedTest(key, method, target, bind(key, method, records)));
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Find one @Provides method by its key.
+	 *
+	 * @param key the simple name of the class and the name of the method, e.g. DwCEventDQ.validationEventConsistent
+	 * @param records the records from which to take the arguments of each invocation.
+	 * @return the test with that key.
+	 * @throws IllegalArgumentException if no @Provides method has that key.
+	 */
+	public static ProvidedTest find(String key, List<Map<String,String>> records) {
+		ProvidedTest result = null;
+		for (ProvidedTest test : discover(records)) {
+			if (test.getKey().equals(key)) {
+				result = test;
+			}
+		}
+		if (result==null) {
+			throw new IllegalArgumentException("No @Provides method found for " + key);
+		}
+		return result;
+	}
+
+	private static Object[][] bind(String key, Method method, List<Map<String,String>> records) {
+		Annotation[][] annotations = method.getParameterAnnotations();
+		Class<?>[] types = method.getParameterTypes();
+		String[] terms = new String[annotations.length];
+		boolean[] isParameter = new boolean[annotations.length];
+		for (int i=0; i<annotations.length; i++) {
+			for (Annotation annotation : annotations[i]) {
+				if (annotation instanceof ActedUpon) {
+					terms[i] = ((ActedUpon)annotation).value();
+				} else if (annotation instanceof Consulted) {
+					terms[i] = ((Consulted)annotation).value();
+				} else if (annotation instanceof Parameter) {
+					terms[i] = ((Parameter)annotation).name();
+					isParameter[i] = true;
+				}
+			}
+			if (terms[i]==null) {
+				throw new IllegalArgumentException("Parameter " + i + " of " + key + " is not annotated with @ActedUpon, @Consulted or @Parameter.");
+			}
+		}
+		Object[][] result = new Object[records.size()][];
+		for (int r=0; r<records.size(); r++) {
+			Map<String,String> record = records.get(r);
+			result[r] = new Object[terms.length];
+			for (int i=0; i<terms.length; i++) {
+				String value = record.get(terms[i]);
+				if (value==null && !isParameter[i]) {
+					value = "";
+				}
+				if (types[i].equals(String.class)) {
+					result[r][i] = value;
+				} else if (types[i].equals(Integer.class) && value!=null && value.trim().matches("-?[0-9]{1,9}")) {
+					result[r][i] = Integer.valueOf(value.trim());
+				} else {
+					result[r][i] = null;
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return the simple name of the class and the name of the method, e.g. DwCEventDQ.validationEventConsistent
+	 */
+	public String getKey() {
+		return key;
+	}
+
+	/**
+	 * @return the number of records arguments are bound for.
+	 */
+	public int size() {
+		return arguments.length;
+	}
+
+	/**
+	 * Invoke the test with the arguments bound from one record.
+	 *
+	 * @param record the index of the record.
+	 * @return the response of the test, or the exception thrown by the test, as some tests
+	 *   throw on some values, e.g. validationEventConsistent on an eventDate from which no
+	 *   interval can be extracted, and the cost of doing so is part of the cost of the test.
+	 */
+	public Object invoke(int record) {
+		Object result;
+		try {
+			result = method.invoke(target, arguments[record]);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("Unable to invoke " + key + ": " + e.getMessage(), e);
+		} catch (InvocationTargetException e) {
+			result = e.getCause();
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,132 @@
+/**
+ * ProvidesBenchmark.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date.benchmark;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Throughput of each @Provides method of DwCEventDQ, DwCEventDQDefaults, DwCOtherDateDQ and
+ * DwCOtherDateDQDefaults, over the ExampleRecords, found from the annotations by ProvidedTest.
+ *
+ * The test parameter is the key of one method, e.g. DwCEventDQ.validationEventConsistent, or
+ * ALL, for which each invocation runs every method on one record, the cost of the whole suite
+ * per record.  Each invocation takes the next record, cycling through the records.  main() runs
+ * ALL and every method found, with the gc profiler for gc.alloc.rate.norm per test, a run of
+ * the benchmarks jar runs only ALL, unless the methods are given with -p, e.g.
+ *
+ *    java -jar target/benchmarks.jar ProvidesBenchmark -p test=DwCEventDQ.validationEventConsistent,DwCEventDQ.amendmentEventFromEventdate -prof gc
+ *
+ * @author mole
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-benchmark.xml")
+public class ProvidesBenchmark {
+
+	/** Value of the test parameter that runs every method on each record. */
+	public static final String ALL = "ALL";
+
+	@Param({ALL})
+	public String test;
+
+	private ProvidedTest[] tests;
+	private int records;
+	private int index;
+
+	/**
+	 * Bind the arguments of the method, or methods, being measured.
+	 *
+	 * @throws IOException if the example records can not be read.
+	 */
+	@Setup
+	public void setup() throws IOException {
+		List<Map<String,String>> exampleRecords = ExampleRecords.load();
+		if (test.equals(ALL)) {
+			List<ProvidedTest> found = ProvidedTest.discover(exampleRecords);
+			tests = found.toArray(new ProvidedTest[found.size()]);
+		} else {
+			tests = new ProvidedTest[] { ProvidedTest.find(test, exampleRecords) };
+		}
+		records = exampleRecords.size();
+		index = 0;
+	}
+
+	/**
+	 * Invoke the method, or every method, with the arguments from the next record.
+	 *
+	 * @param blackhole consumes the responses.
+	 */
+	@Benchmark
+	public void invoke(Blackhole blackhole) {
+		for (int i=0; i<tests.length; i++) {
+			blackhole.consume(tests[i].invoke(index));
+		}
+		index++;
+		if (index==records) {
+			index = 0;
+		}
+	}
+
+	/**
+	 * Run the benchmark for ALL and for each @Provides method, with the gc profiler.
+	 *
+	 * @param args not used.
+	 * @throws RunnerException on a failure to run the benchmark.
+	 * @throws IOException if the example records can not be read.
+	 */
+	public static void main(String[] args) throws RunnerException, IOException {
+		List<String> keys = new ArrayList<String>();
+		keys.add(ALL);
+		for (ProvidedTest provided : ProvidedTest.discover(ExampleRecords.load())) {
+			keys.add(provided.getKey());
+		}
+		Options options = new OptionsBuilder()
+				.include(ProvidesBenchmark.class.getSimpleName())
+				.param("test", keys.toArray(new String[keys.size()]))
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+
+}
@@ -0,0 +1,413 @@
+/**
+ * SyntheticDataGenerator.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.TextStyle;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.CommandLineParser;
+import org.apache.commons.cli.DefaultParser;
+import org.apache.commons.cli.HelpFormatter;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVPrinter;
+
+/**
+ * Generate synthetic Darwin Core temporal data, in the tab separated layout read by
+ * Runner -e runTests, for testing at scale without real collection data.
+ *
+ * Each record has an eventDate in one of the forms found in collection data (single days,
+ * months, years, ranges, abbreviated ranges, date times, ordinal dates, or empty), year, month
+ * and day consistent with it or absent, startDayOfYear and endDayOfYear for some, a
+ * verbatimEventDate either drawn from the example verbatim dates in
+ * src/test/resources/example_dates.csv or spelled from the eventDate, and dateIdentified and
+ * modified values.  A fraction of the records, the duplication ratio, repeat the values of a
+ * recent record, as specimens collected together do, and a fraction, the error rate, have one
+ * error introduced, such as a month of 13, a day past the end of the month, a range ending
+ * before it starts, or an unparseable eventDate.
+ *
+ * The output is determined by the seed, the options, and the example verbatim dates, so that
+ * the same file can be generated again rather than shipped around, e.g.
+ *
+ *    java -cp target/benchmarks.jar org.filteredpush.qc.date.benchmark.SyntheticDataGenerator -n 100000000 -s 42 -o synthetic.tsv
+ *
+ * @author mole
+ *
+ */
+public class SyntheticDataGenerator {
+
+	/** Columns written, in order, those read by Runner with occurrenceID, eventTime and modified. */
+	public static final String[] HEADER = { "occurrenceID", "eventDate", "eventTime", "startDayOfYear", "endDayOfYear",
+			"year", "month", "day", "verbatimEventDate", "dateIdentified", "modified" };
+
+	public static final double DEFAULT_DUPLICATION_RATIO = 0.2d;
+	public static final double DEFAULT_ERROR_RATE = 0.05d;
+
+	/** Number of recent records from which duplicates are drawn. */
+	private static final int RECENT = 4096;
+
+	private static final int EVENTDATE = 1;
+	private static final int EVENTTIME = 2;
+	private static final int STARTDAYOFYEAR = 3;
+	private static final int ENDDAYOFYEAR = 4;
+	private static final int YEAR = 5;
+	private static final int MONTH = 6;
+	private static final int DAY = 7;
+	private static final int VERBATIMEVENTDATE = 8;
+	private static final int DATEIDENTIFIED = 9;
+	private static final int MODIFIED = 10;
+
+	private static final String[] ROMAN = { "I", "II", "III", "IV", "V", "VI", "VII", "VIII", "IX", "X", "XI", "XII" };
+	private static final String[] UNPARSEABLE = { "unknown", "no date", "s.d.", "[illegible]", "19??", "spring", "0000-00-00" };
+
+	private final SplittableRandom random;
+	private final double duplicationRatio;
+	private final double errorRate;
+	private final String[] verbatimDates;
+	private final String[][] recent = new String[RECENT][];
+	private long count = 0l;
+
+	/**
+	 * @param seed the seed from which the records are generated.
+	 * @param duplicationRatio the fraction of records which repeat a recent record, from 0 to 1.
+	 * @param errorRate the fraction of records, other than repeats, with an error, from 0 to 1.
+	 * @param verbatimDates example verbatim dates from which verbatimEventDate values are drawn.
+	 */
+	public SyntheticDataGenerator(long seed, double duplicationRatio, double errorRate, List<String> verbatimDates) {
+		if (duplicationRatio<0d || duplicationRatio>1d) {
+			throw new IllegalArgumentException("Duplication ratio must be from 0 to 1, not " + duplicationRatio);
+		}
+		if (errorRate<0d || errorRate>1d) {
+			throw new IllegalArgumentException("Error rate must be from 0 to 1, not " + errorRate);
+		}
+		if (verbatimDates.isEmpty()) {
+			throw new IllegalArgumentException("At least one example verbatim date is needed.");
+		}
+		this.random = new SplittableRandom(seed);
+		this.duplicationRatio = duplicationRatio;
+		this.errorRate = errorRate;
+		this.verbatimDates = verbatimDates.toArray(new String[verbatimDates.size()]);
+	}
+
+	/**
+	 * Generate the next record.
+	 *
+	 * @return the values of the record, indexed as HEADER.
+	 */
+	public String[] next() {
+		String[] result;
+		count++;
+		if (count>1 && random.nextDouble()<duplicationRatio) {
+			int available = (int)Math.min(count - 1, RECENT);
+			result = recent[random.nextInt(available)].clone();
+		} else {
+			result = generate();
+			if (random.nextDouble()<errorRate) {
+				introduceError(result);
+			}
+		}
+		result[0] = "urn:synthetic:" + count;
+		recent[(int)((count - 1) % RECENT)] = result;
+		return result;
+	}
+
+	private int year() {
+		int result;
+		double p = random.nextDouble();
+		if (p<0.70d) {
+			result = 1950 + random.nextInt(75);
+		} else if (p<0.95d) {
+			result = 1850 + random.nextInt(100);
+		} else {
+			result = 1700 + random.nextInt(150);
+		}
+		return result;
+	}
+
+	private LocalDate date() {
+		int year = year();
+		return LocalDate.ofYearDay(year, 1 + random.nextInt(LocalDate.of(year, 1, 1).lengthOfYear()));
+	}
+
+	private static String pad(int value) {
+		String result = Integer.toString(value);
+		if (value<10) {
+			result = "0" + result;
+		}
+		return result;
+	}
+
+	private static String padDayOfYear(int value) {
+		String result = Integer.toString(value);
+		while (result.length()<3) {
+			result = "0" + result;
+		}
+		return result;
+	}
+
+	private String[] generate() {
+		String[] result = new String[HEADER.length];
+		for (int i=0; i<result.length; i++) {
+			result[i] = "";
+		}
+		LocalDate start = date();
+		LocalDate end = start;
+		String eventDate;
+		double form = random.nextDouble();
+		if (form<0.45d) {
+			eventDate = start.toString();
+		} else if (form<0.55d) {
+			start = start.withDayOfMonth(1);
+			end = start.withDayOfMonth(start.lengthOfMonth());
+			eventDate = start.getYear() + "-" + pad(start.getMonthValue());
+		} else if (form<0.63d) {
+			start = start.withDayOfYear(1);
+			end = start.withDayOfYear(start.lengthOfYear());
+			eventDate = Integer.toString(start.getYear());
+		} else if (form<0.71d) {
+			end = start.plusDays(1 + random.nextInt(60));
+			eventDate = start.toString() + "/" + end.toString();
+		} else if (form<0.74d) {
+			end = start.withDayOfMonth(start.getDayOfMonth() + random.nextInt(start.lengthOfMonth() - start.getDayOfMonth() + 1));
+			eventDate = start.toString() + "/" + pad(end.getDayOfMonth());
+		} else if (form<0.77d) {
+			end = start.plusYears(1 + random.nextInt(10));
+			start = start.withDayOfYear(1);
+			end = end.withDayOfYear(end.lengthOfYear());
+			eventDate = start.getYear() + "/" + end.getYear();
+		} else if (form<0.82d) {
+			String time = pad(random.nextInt(24)) + ":" + pad(random.nextInt(60));
+			if (random.nextBoolean()) {
+				time = time + "Z";
+			}
+			eventDate = start.toString() + "T" + time;
+			result[EVENTTIME] = time;
+		} else if (form<0.84d) {
+			eventDate = start.getYear() + "-" + padDayOfYear(start.getDayOfYear());
+		} else {
+			eventDate = "";
+		}
+		result[EVENTDATE] = eventDate;
+
+		// atomic fields, consistent with the eventDate, or the only source of a date
+		double atomic = random.nextDouble();
+		if (start.getYear()!=end.getYear()) {
+			// no single year to give
+		} else if (atomic<0.60d || (eventDate.length()==0 && atomic<0.85d)) {
+			result[YEAR] = Integer.toString(start.getYear());
+			if (start.getMonthValue()==end.getMonthValue() && start.getYear()==end.getYear()) {
+				double monthForm = random.nextDouble();
+				if (monthForm<0.90d) {
+					result[MONTH] = Integer.toString(start.getMonthValue());
+				} else if (monthForm<0.95d) {
+					result[MONTH] = start.getMonth().getDisplayName(TextStyle.FULL, Locale.ENGLISH);
+				} else {
+					result[MONTH] = ROMAN[start.getMonthValue() - 1];
+				}
+				if (start.equals(end)) {
+					result[DAY] = Integer.toString(start.getDayOfMonth());
+				}
+			}
+		} else if (atomic<0.75d) {
+			result[YEAR] = Integer.toString(start.getYear());
+		}
+		if (start.getYear()==end.getYear() && random.nextDouble()<0.20d) {
+			result[STARTDAYOFYEAR] = Integer.toString(start.getDayOfYear());
+			result[ENDDAYOFYEAR] = Integer.toString(end.getDayOfYear());
+		}
+
+		double verbatim = random.nextDouble();
+		if (verbatim<0.50d) {
+			result[VERBATIMEVENTDATE] = verbatimDates[random.nextInt(verbatimDates.length)];
+		} else if (verbatim<0.80d) {
+			result[VERBATIMEVENTDATE] = spell(start);
+		}
+
+		if (random.nextDouble()<0.40d) {
+			LocalDate identified = end.plusDays(random.nextInt(36500));
+			if (identified.getYear()>2025) {
+				identified = end;
+			}
+			if (random.nextDouble()<0.80d) {
+				result[DATEIDENTIFIED] = identified.toString();
+			} else {
+				result[DATEIDENTIFIED] = Integer.toString(identified.getYear());
+			}
+		}
+
+		double modified = random.nextDouble();
+		if (modified<0.80d) {
+			LocalDate date = LocalDate.of(2000, 1, 1).plusDays(random.nextInt(9131));
+			if (modified<0.70d) {
+				result[MODIFIED] = date.toString() + "T" + pad(random.nextInt(24)) + ":" + pad(random.nextInt(60)) + ":" + pad(random.nextInt(60)) + "Z";
+			} else {
+				result[MODIFIED] = date.toString();
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @param date a date
+	 * @return the date spelled in one of the verbatim forms common on labels.
+	 */
+	private String spell(LocalDate date) {
+		String result;
+		String month = date.getMonth().getDisplayName(TextStyle.FULL, Locale.ENGLISH);
+		switch (random.nextInt(6)) {
+		case 0:
+			result = date.getDayOfMonth() + " " + month + " " + date.getYear();
+			break;
+		case 1:
+			result = month + " " + date.getDayOfMonth() + ", " + date.getYear();
+			break;
+		case 2:
+			result = date.getDayOfMonth() + " " + month.substring(0, 3) + " " + date.getYear();
+			break;
+		case 3:
+			result = date.getMonthValue() + "/" + date.getDayOfMonth() + "/" + date.getYear();
+			break;
+		case 4:
+			result = date.getDayOfMonth() + "." + ROMAN[date.getMonthValue() - 1] + "." + date.getYear();
+			break;
+		default:
+			result = date.getYear() + "/" + pad(date.getMonthValue()) + "/" + pad(date.getDayOfMonth());
+			break;
+		}
+		return result;
+	}
+
+	/**
+	 * Introduce one error into a record.
+	 *
+	 * @param record the values of the record, changed in place.
+	 */
+	private void introduceError(String[] record) {
+		switch (random.nextInt(7)) {
+		case 0:
+			// month out of range
+			record[MONTH] = "13";
+			if (record[EVENTDATE].length()>=10) {
+				record[EVENTDATE] = record[EVENTDATE].substring(0, 5) + "13" + record[EVENTDATE].substring(7);
+			}
+			break;
+		case 1:
+			// day past the end of the month
+			record[DAY] = "31";
+			if (record[EVENTDATE].matches("^[0-9]{4}-[0-9]{2}-[0-9]{2}$")) {
+				record[EVENTDATE] = record[EVENTDATE].substring(0, 5) + "02-30";
+			}
+			break;
+		case 2:
+			// range ending before it starts
+			if (record[EVENTDATE].contains("/")) {
+				String[] bits = record[EVENTDATE].split("/");
+				if (bits[1].length()==bits[0].length()) {
+					record[EVENTDATE] = bits[1] + "/" + bits[0];
+				}
+			} else if (record[EVENTDATE].length()>=4) {
+				record[EVENTDATE] = record[EVENTDATE] + "/" + (Integer.parseInt(record[EVENTDATE].substring(0, 4)) - 1);
+			}
+			break;
+		case 3:
+			// unparseable eventDate
+			record[EVENTDATE] = UNPARSEABLE[random.nextInt(UNPARSEABLE.length)];
+			break;
+		case 4:
+			// year out of range
+			record[YEAR] = Integer.toString(random.nextBoolean() ? 2999 : 199);
+			break;
+		case 5:
+			// day of year out of range
+			record[STARTDAYOFYEAR] = "400";
+			break;
+		default:
+			// surrounding whitespace
+			record[EVENTDATE] = " " + record[EVENTDATE] + " ";
+			break;
+		}
+	}
+
+	/**
+	 * Write records as tab separated values with a header.
+	 *
+	 * @param out to which to write, flushed but not closed.
+	 * @param records the number of records to write.
+	 * @throws IOException on a failure to write.
+	 */
+	public void write(OutputStream out, long records) throws IOException {
+		BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 1 << 16);
+		CSVPrinter printer = new CSVPrinter(writer, CSVFormat.TDF.withHeader(HEADER).withRecordSeparator('\n'));
+		for (long i=0; i<records; i++) {
+			printer.printRecord((Object[])next());
+		}
+		printer.flush();
+	}
+
+	/**
+	 * Generate a file of synthetic records.
+	 *
+	 * @param args -n {records} [-s {seed}] [-o {file}] [-d {duplication ratio}] [-r {error rate}],
+	 *   writing to standard out if no file is given.
+	 * @throws IOException on a failure to read the example verbatim dates or to write the records.
+	 */
+	public static void main(String[] args) throws IOException {
+		Options options = new Options();
+		options.addRequiredOption("n", "records", true, "Number of records to generate.");
+		options.addOption("s", "seed", true, "Seed from which to generate the records, default 1.");
+		options.addOption("o", "output", true, "File to which to write the records, default standard out.");
+		options.addOption("d", "duplication", true, "Fraction of records repeating a recent record, default " + DEFAULT_DUPLICATION_RATIO);
+		options.addOption("r", "errors", true, "Fraction of records with an error, default " + DEFAULT_ERROR_RATE);
+		try {
+			CommandLineParser parser = new DefaultParser();
+			CommandLine cmd = parser.parse(options, args);
+			long records = Long.parseLong(cmd.getOptionValue("n"));
+			long seed = Long.parseLong(cmd.getOptionValue("s", "1"));
+			double duplicationRatio = Double.parseDouble(cmd.getOptionValue("d", Double.toString(DEFAULT_DUPLICATION_RATIO)));
+			double errorRate = Double.parseDouble(cmd.getOptionValue("r", Double.toString(DEFAULT_ERROR_RATE)));
+			SyntheticDataGenerator generator = new SyntheticDataGenerator(seed, duplicationRatio, errorRate, VerbatimShape.loadExampleDates());
+			String output = cmd.getOptionValue("o");
+			if (output==null) {
+				generator.write(System.out, records);
+			} else {
+				OutputStream out = new FileOutputStream(output);
+				try {
+					generator.write(out, records);
+				} finally {
+					out.close();
+				}
+			}
+		} catch (ParseException | NumberFormatException e) {
+			System.out.println("ERROR: " + e.getMessage() + "\n");
+			HelpFormatter formatter = new HelpFormatter();
+			formatter.printHelp("java -cp target/benchmarks.jar " + SyntheticDataGenerator.class.getName(), options);
+		}
+	}
+
+}
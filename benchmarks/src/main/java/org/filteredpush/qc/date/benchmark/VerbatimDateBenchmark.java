@@ -0,0 +1,114 @@
+/**
+ * VerbatimDateBenchmark.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.filteredpush.qc.date.EventResult;
+import org.filteredpush.qc.date.util.DateUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Throughput and average time of DateUtils.extractDateFromVerbatimER() over the corpus
+ * of example verbatim dates, src/test/resources/example_dates.csv, for each VerbatimShape.
+ *
+ * Each invocation interprets the next value of the bucket, cycling through the bucket, so
+ * that the score is an average over the real values of that shape rather than over one
+ * value.  Allocation rate per bucket is reported by the gc profiler, which main() adds, or
+ * which can be added to a run of the benchmarks jar with -prof gc, e.g.
+ *
+ *    java -jar target/benchmarks.jar VerbatimDateBenchmark -prof gc
+ *
+ * @author mole
+ *
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2, jvmArgsAppend = "-Dlog4j2.configurationFile=log4j2-benchmark.xml")
+public class VerbatimDateBenchmark {
+
+	@Param({"ISO", "NUMERIC_SLASH", "TEXTUAL_MONTH", "RANGE", "UNPARSEABLE"})
+	public VerbatimShape shape;
+
+	private String[] values;
+	private int index;
+
+	/**
+	 * Load the bucket of values of the shape being measured.
+	 *
+	 * @throws IOException if the corpus can not be read.
+	 */
+	@Setup
+	public void setup() throws IOException {
+		values = shape.load();
+		if (values.length==0) {
+			throw new IllegalStateException("No example verbatim dates have the shape " + shape.name());
+		}
+		index = 0;
+	}
+
+	/**
+	 * Interpret the next verbatim date of the bucket.
+	 *
+	 * @return the interpretation, returned to be consumed by JMH.
+	 */
+	@Benchmark
+	public EventResult extractDateFromVerbatimER() {
+		String value = values[index];
+		index++;
+		if (index==values.length) {
+			index = 0;
+		}
+		return DateUtils.extractDateFromVerbatimER(value);
+	}
+
+	/**
+	 * Run the benchmark with the gc profiler, reporting gc.alloc.rate and gc.alloc.rate.norm
+	 * for each shape.
+	 *
+	 * @param args not used.
+	 * @throws RunnerException on a failure to run the benchmark.
+	 */
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(VerbatimDateBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build();
+		new Runner(options).run();
+	}
+
+}
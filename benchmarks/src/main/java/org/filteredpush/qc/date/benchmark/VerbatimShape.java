@@ -0,0 +1,130 @@
+/**
+ * VerbatimShape.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Shapes of verbatim event dates, used to divide the corpus of example verbatim dates
+ * into buckets that exercise different paths through DateUtils.extractDateFromVerbatimER().
+ *
+ * The shape of a value is assigned from its characters alone, not from how it is interpreted, 
+ * so that the buckets stay the same when the code being measured changes.  Shapes are assigned 
+ * in order: UNPARSEABLE if it contains no four digit year, ISO if it is in an ISO 8601 like form, 
+ * RANGE if it contains a range or list of dates, NUMERIC_SLASH if it contains no letters, 
+ * otherwise TEXTUAL_MONTH.
+ *
+ * @author mole
+ *
+ */
+public enum VerbatimShape {
+
+	/** yyyy, yyyy-mm, yyyy-mm-dd, optionally with a time. */
+	ISO,
+	/** Numeric dates with separators other than those of ISO 8601, e.g. 11/8/43, 12.1.1915 */
+	NUMERIC_SLASH,
+	/** Dates containing letters, e.g. month names or roman numeral months, May 10, 1931 */
+	TEXTUAL_MONTH,
+	/** Ranges or lists of dates, e.g. 1-2 fevrier 1963, 1895-1897, May-June 1909, [1800's] */
+	RANGE,
+	/** Values without a four digit year, from which, mostly, no date can be extracted, e.g. 6/28/82, Oct 20 */
+	UNPARSEABLE;
+
+	/** Resource name of the corpus of example verbatim dates, one per line. */
+	public static final String EXAMPLE_DATES = "/example_dates.csv";
+
+	private static final Pattern YEAR_PATTERN = Pattern.compile("(^|[^0-9])[0-9]{4}([^0-9]|$)");
+	private static final Pattern ISO_PATTERN = Pattern.compile("^[0-9]{4}(-(0?[1-9]|1[0-2])(-(0?[1-9]|[12][0-9]|3[01]))?)?([T ][0-9:.,]+(Z|[+-][0-9:]+)?)?$");
+	/** Joining words, a decade, two words or two numbers joined by a hyphen, or two years. */
+	private static final Pattern RANGE_PATTERN = Pattern.compile("(?i)(\\b(to|and|or|until)\\b|&|[0-9]0'?s\\b"
+			+ "|\\p{L}\\.?\\s*-\\s*\\p{L}|[0-9]\\s*-\\s*[0-9]{1,2}\\b(?!\\s*[-/.])|[0-9]{4}\\s*[-/]\\s*[0-9]{4})");
+	private static final Pattern LETTER_PATTERN = Pattern.compile("\\p{L}");
+
+	/**
+	 * Assign a shape to a verbatim date, from the characters of the value.
+	 *
+	 * @param verbatim the trimmed verbatim date.
+	 * @return the shape of verbatim.
+	 */
+	public static VerbatimShape classify(String verbatim) {
+		VerbatimShape result;
+		if (!YEAR_PATTERN.matcher(verbatim).find()) {
+			result = UNPARSEABLE;
+		} else if (ISO_PATTERN.matcher(verbatim).matches()) {
+			result = ISO;
+		} else if (RANGE_PATTERN.matcher(verbatim).find()) {
+			result = RANGE;
+		} else if (!LETTER_PATTERN.matcher(verbatim).find()) {
+			result = NUMERIC_SLASH;
+		} else {
+			result = TEXTUAL_MONTH;
+		}
+		return result;
+	}
+
+	/**
+	 * Load the non-blank values of the corpus of example verbatim dates that have this shape.
+	 *
+	 * @return the trimmed values in the order they appear in the corpus.
+	 * @throws IOException if the corpus can not be read.
+	 */
+	public String[] load() throws IOException {
+		List<String> values = new ArrayList<String>();
+		for (String value : loadExampleDates()) {
+			if (classify(value)==this) {
+				values.add(value);
+			}
+		}
+		return values.toArray(new String[values.size()]);
+	}
+
+	/**
+	 * Load the non-blank values of the corpus of example verbatim dates.
+	 *
+	 * @return the trimmed values in the order they appear in the corpus.
+	 * @throws IOException if the corpus can not be read.
+	 */
+	public static List<String> loadExampleDates() throws IOException {
+		List<String> result = new ArrayList<String>();
+		InputStream stream = VerbatimShape.class.getResourceAsStream(EXAMPLE_DATES);
+		if (stream==null) {
+			throw new IOException("Resource " + EXAMPLE_DATES + " not found on the classpath.");
+		}
+		BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+		try {
+			String line;
+			while ((line=reader.readLine())!=null) {
+				String value = line.trim();
+				if (value.length()>0) {
+					result.add(value);
+				}
+			}
+		} finally {
+			reader.close();
+		}
+		return result;
+	}
+
+}
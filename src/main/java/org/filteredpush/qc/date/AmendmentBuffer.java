@@ -0,0 +1,114 @@
+/**
+ * AmendmentBuffer.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Side buffer for the values proposed by amendments, kept alongside arrays of ResultCode
+ * codes.  Only amendments that proposed a change have an entry, each entry holding the
+ * record number, the position of the test, and the proposed terms and values.
+ *
+ * A buffer is not thread safe.
+ *
+ * @author mole
+ *
+ */
+public final class AmendmentBuffer {
+
+	private long[] records;
+	private int[] tests;
+	private final List<Map<String,String>> values;
+
+	/**
+	 * Create an empty buffer.
+	 */
+	public AmendmentBuffer() {
+		records = new long[16];
+		tests = new int[16];
+		values = new ArrayList<Map<String,String>>(16);
+	}
+
+	/**
+	 * Add an entry to the buffer.
+	 *
+	 * @param record the number of the record the amendment was run on.
+	 * @param test the position of the amendment in the tests run on the record.
+	 * @param proposed the terms and values proposed by the amendment.
+	 */
+	public void add(long record, int test, Map<String,String> proposed) {
+		int size = values.size();
+		if (size==records.length) {
+			records = Arrays.copyOf(records, size * 2);
+			tests = Arrays.copyOf(tests, size * 2);
+		}
+		records[size] = record;
+		tests[size] = test;
+		values.add(proposed);
+	}
+
+	/**
+	 * @return the number of entries in the buffer.
+	 */
+	public int size() {
+		return values.size();
+	}
+
+	/**
+	 * @param entry position of the entry, in the order added.
+	 * @return the record number of the entry.
+	 */
+	public long getRecord(int entry) {
+		checkEntry(entry);
+		return records[entry];
+	}
+
+	/**
+	 * @param entry position of the entry, in the order added.
+	 * @return the position of the test of the entry.
+	 */
+	public int getTest(int entry) {
+		checkEntry(entry);
+		return tests[entry];
+	}
+
+	/**
+	 * @param entry position of the entry, in the order added.
+	 * @return the terms and values proposed by the amendment.
+	 */
+	public Map<String,String> getValues(int entry) {
+		return values.get(entry);
+	}
+
+	/**
+	 * Remove all entries, keeping the allocated capacity.
+	 */
+	public void clear() {
+		values.clear();
+	}
+
+	private void checkEntry(int entry) {
+		if (entry<0 || entry>=values.size()) {
+			throw new IndexOutOfBoundsException("Entry " + entry + " of " + values.size());
+		}
+	}
+
+}
@@ -0,0 +1,508 @@
+/**
+ * AmendmentScheduler.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.datakurator.ffdq.annotations.ActedUpon;
+import org.datakurator.ffdq.annotations.Consulted;
+import org.datakurator.ffdq.annotations.Provides;
+import org.datakurator.ffdq.api.DQResponse;
+import org.datakurator.ffdq.api.result.AmendmentValue;
+import org.datakurator.ffdq.model.ResultState;
+import org.filteredpush.qc.date.TemplatedDQResponse.CommentMode;
+import org.filteredpush.qc.date.util.EventDateQCMetrics;
+import org.filteredpush.qc.date.util.FlightRecorderEvents;
+import org.filteredpush.qc.date.util.RecordParseMemo;
+
+/**
+ * Run a sequence of amendments on a record, with the dependencies between them worked out
+ * from the @ActedUpon and @Consulted annotations on their parameters.
+ *
+ * The amendments are given in priority order, the order in which they would be run one after
+ * another with each seeing the terms as amended by those before it.  An amendment depends on
+ * an earlier one if the earlier one acts upon a term the later one reads, if the later one acts
+ * upon a term the earlier one reads, or if both act upon the same term.  Amendments with no
+ * path between them in the resulting graph are independent, they are grouped into levels which
+ * may be run concurrently, and the terms amended in a level are applied, in priority order, once
+ * the whole level is complete, so the amended record is the same as that from running the
+ * amendments one after another.
+ *
+ * Amended values are taken from responses with a result state of AMENDED or FILLED_IN, and only
+ * for non-null values of terms the amendment acts upon.
+ *
+ * A scheduler is immutable and may be shared between threads, the state carried from record to
+ * record is held in an Evaluation.  Each amendment invoked is counted and timed in the
+ * EventDateQCMetrics when they are being collected, and recorded as a FlightRecorderEvents
+ * test event if slow.
+ *
+ * @author mole
+ *
+ */
+public final class AmendmentScheduler {
+
+	private static final Log logger = LogFactory.getLog(AmendmentScheduler.class);
+
+	private static final AmendmentScheduler EVENT_AMENDMENTS;
+	static {
+		Class<?>[] one = { String.class };
+		Class<?>[] two = { String.class, String.class };
+		Class<?>[] four = { String.class, String.class, String.class, String.class };
+		Class<?>[] six = { String.class, String.class, String.class, String.class, String.class, String.class };
+		try {
+			EVENT_AMENDMENTS = new AmendmentScheduler(
+					DwCOtherDateDQ.class.getMethod("amendmentDateidentifiedStandardized", one),
+					DwCEventDQ.class.getMethod("amendmentEventdateStandardized", one),
+					DwCEventDQ.class.getMethod("amendmentDayStandardized", one),
+					DwCEventDQ.class.getMethod("amendmentMonthStandardized", one),
+					DwCEventDQ.class.getMethod("amendmentEventDateFromYearMonthDay", four),
+					DwCEventDQ.class.getMethod("amendmentEventdateFromYearstartdayofyearenddayofyear", four),
+					DwCEventDQ.class.getMethod("amendmentEventdateFromVerbatim", two),
+					DwCEventDQ.class.getMethod("amendmentEventFromEventdate", six)
+					);
+		} catch (NoSuchMethodException e) {
+			throw new IllegalStateException("Amendment method not found: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * An amendment method and the terms it reads and acts upon.
+	 */
+	private static final class Node {
+		private final Method method;
+		/** Name of the amendment in the EventDateQCMetrics, the class and method providing it. */
+		private final String name;
+		/** Term bound to each parameter of the method. */
+		private final String[] parameterTerms;
+		/** Terms the method acts upon. */
+		private final Set<String> actedUpon;
+
+		private Node(Method method) {
+			this.method = method;
+			this.name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+			Annotation[][] annotations = method.getParameterAnnotations();
+			parameterTerms = new String[annotations.length];
+			Set<String> acted = new LinkedHashSet<String>();
+			for (int i=0; i<annotations.length; i++) {
+				for (Annotation annotation : annotations[i]) {
+					if (annotation instanceof ActedUpon) {
+						parameterTerms[i] = ((ActedUpon)annotation).value();
+						acted.add(parameterTerms[i]);
+					} else if (annotation instanceof Consulted) {
+						parameterTerms[i] = ((Consulted)annotation).value();
+					}
+				}
+				if (parameterTerms[i]==null) {
+					throw new IllegalArgumentException("Parameter " + i + " of " + method.getName() + " is neither @ActedUpon nor @Consulted.");
+				}
+			}
+			actedUpon = Collections.unmodifiableSet(acted);
+		}
+
+		private boolean reads(String term) {
+			boolean result = false;
+			for (String parameterTerm : parameterTerms) {
+				if (parameterTerm.equals(term)) {
+					result = true;
+				}
+			}
+			return result;
+		}
+
+		/**
+		 * @param later an amendment after this one in priority order.
+		 * @return true if later must not run until this amendment is complete.
+		 */
+		private boolean conflictsWith(Node later) {
+			boolean result = false;
+			for (String term : actedUpon) {
+				if (later.reads(term)) {
+					result = true;
+				}
+			}
+			for (String term : later.actedUpon) {
+				if (reads(term)) {
+					result = true;
+				}
+			}
+			return result;
+		}
+	}
+
+	private final Node[] nodes;
+	/** Direct dependencies of each amendment, as indexes of earlier amendments. */
+	private final int[][] dependencies;
+	/** Indexes of the amendments in each level, in priority order within a level. */
+	private final int[][] levels;
+
+	/**
+	 * Build a scheduler for a set of amendments.
+	 *
+	 * @param amendments static methods returning DQResponse&lt;AmendmentValue&gt; with each parameter
+	 *   annotated as @ActedUpon or @Consulted, in priority order.
+	 * @throws IllegalArgumentException if a method is not static, does not return a DQResponse,
+	 *   or has a parameter that is not bound to a term.
+	 */
+	public AmendmentScheduler(Method... amendments) {
+		nodes = new Node[amendments.length];
+		dependencies = new int[amendments.length][];
+		int[] level = new int[amendments.length];
+		int levelCount = 0;
+		for (int i=0; i<amendments.length; i++) {
+			Method method = amendments[i];
+			if (!Modifier.isStatic(method.getModifiers()) || !DQResponse.class.isAssignableFrom(method.getReturnType())) {
+				throw new IllegalArgumentException(method.getName() + " is not a static method returning a DQResponse.");
+			}
+			nodes[i] = new Node(method);
+			List<Integer> depends = new ArrayList<Integer>();
+			for (int j=0; j<i; j++) {
+				if (nodes[j].conflictsWith(nodes[i])) {
+					depends.add(j);
+					level[i] = Math.max(level[i], level[j] + 1);
+				}
+			}
+			dependencies[i] = new int[depends.size()];
+			for (int j=0; j<dependencies[i].length; j++) {
+				dependencies[i][j] = depends.get(j);
+			}
+			levelCount = Math.max(levelCount, level[i] + 1);
+		}
+		levels = new int[levelCount][];
+		for (int l=0; l<levelCount; l++) {
+			List<Integer> members = new ArrayList<Integer>();
+			for (int i=0; i<level.length; i++) {
+				if (level[i]==l) {
+					members.add(i);
+				}
+			}
+			levels[l] = new int[members.size()];
+			for (int j=0; j<levels[l].length; j++) {
+				levels[l][j] = members.get(j);
+			}
+		}
+		if (logger.isDebugEnabled()) {
+			for (int i=0; i<nodes.length; i++) {
+				logger.debug(nodes[i].method.getName() + " depends on " + Arrays.toString(dependencies[i]) + " at level " + level[i]);
+			}
+		}
+	}
+
+	/**
+	 * The amendments of DwCEventDQ and DwCOtherDateDQ which alter the event terms or dateIdentified,
+	 * in priority order: AMENDMENT_DATEIDENTIFIED_STANDARDIZED, AMENDMENT_EVENTDATE_STANDARDIZED,
+	 * AMENDMENT_DAY_STANDARDIZED, AMENDMENT_MONTH_STANDARDIZED, AMENDMENT_EVENTDATE_FROM_YEARMONTHDAY,
+	 * AMENDMENT_EVENTDATE_FROM_YEARSTARTDAYOFYEARENDDAYOFYEAR, AMENDMENT_EVENTDATE_FROM_VERBATIM,
+	 * AMENDMENT_EVENT_FROM_EVENTDATE.
+	 *
+	 * @return a shared scheduler for the event amendments.
+	 */
+	public static AmendmentScheduler getEventAmendments() {
+		return EVENT_AMENDMENTS;
+	}
+
+	/**
+	 * @return the number of amendments scheduled.
+	 */
+	public int size() {
+		return nodes.length;
+	}
+
+	/**
+	 * @param index position of the amendment in priority order.
+	 * @return the method for the amendment.
+	 */
+	public Method getMethod(int index) {
+		return nodes[index].method;
+	}
+
+	/**
+	 * @param index position of the amendment in priority order.
+	 * @return the GUID from the @Provides annotation on the amendment, or null if not annotated.
+	 */
+	public String getGuid(int index) {
+		String result = null;
+		Provides provides = nodes[index].method.getAnnotation(Provides.class);
+		if (provides!=null) {
+			result = provides.value();
+		}
+		return result;
+	}
+
+	/**
+	 * @param index position of the amendment in priority order.
+	 * @return the positions of the earlier amendments that must be complete before the
+	 *   amendment is run.
+	 */
+	public int[] getDependencies(int index) {
+		return dependencies[index].clone();
+	}
+
+	/**
+	 * @return the number of levels, each level holding amendments that are independent of each other.
+	 */
+	public int getLevelCount() {
+		return levels.length;
+	}
+
+	/**
+	 * @param level the level, from 0 to getLevelCount()-1.
+	 * @return the positions of the amendments in the level.
+	 */
+	public int[] getLevel(int level) {
+		return levels[level].clone();
+	}
+
+	/**
+	 * @return a new evaluation of this set of amendments.
+	 */
+	public Evaluation newEvaluation() {
+		return new Evaluation();
+	}
+
+	/**
+	 * Evaluation of the amendments of a scheduler over a series of records.  Each amendment is
+	 * only invoked when the values of the terms it reads differ from those it was last invoked
+	 * with, otherwise its previous response is reused.
+	 *
+	 * An evaluation is not thread safe, use one evaluation per thread processing records, an
+	 * evaluation may itself run independent amendments concurrently on an Executor.
+	 */
+	public final class Evaluation {
+
+		private final String[][] lastInputs;
+		/** Inputs of the amendments being invoked, moved to lastInputs once each has succeeded. */
+		private final String[][] pendingInputs;
+		private final DQResponse<AmendmentValue>[] responses;
+		private final boolean[] reused;
+
+		@SuppressWarnings("unchecked")
+		private Evaluation() {
+			lastInputs = new String[nodes.length][];
+			pendingInputs = new String[nodes.length][];
+			responses = (DQResponse<AmendmentValue>[]) new DQResponse<?>[nodes.length];
+			reused = new boolean[nodes.length];
+		}
+
+		/**
+		 * Run the amendments one level after another on the current thread.
+		 *
+		 * @param record map of terms, such as dwc:eventDate, to values, absent terms are treated as null.
+		 * @return a new map holding the terms of the record with the amendments applied.
+		 */
+		public Map<String,String> evaluate(Map<String,String> record) {
+			return evaluate(record, null);
+		}
+
+		/**
+		 * Run the amendments, running the independent amendments in each level on an executor.
+		 *
+		 * @param record map of terms, such as dwc:eventDate, to values, absent terms are treated as null.
+		 * @param executor on which to run all but the first amendment to be invoked in each level, the
+		 *   first is run on the current thread, if null all amendments are run on the current thread.
+		 *   Amendments run on the executor use the CommentMode in effect on the current thread, and
+		 *   a RecordParseMemo for the one invocation, not the memo open on the current thread.
+		 * @return a new map holding the terms of the record with the amendments applied.
+		 */
+		public Map<String,String> evaluate(Map<String,String> record, Executor executor) {
+			Map<String,String> result = new HashMap<String,String>(record);
+			for (int[] level : levels) {
+				List<Integer> invoked = new ArrayList<Integer>();
+				for (int index : level) {
+					String[] inputs = inputs(index, result);
+					reused[index] = responses[index]!=null && Arrays.equals(inputs, lastInputs[index]);
+					if (!reused[index]) {
+						// forget the previous response until the invocation succeeds, so that a failed
+						// invocation is not followed by reuse of a response for other inputs
+						responses[index] = null;
+						lastInputs[index] = null;
+						pendingInputs[index] = inputs;
+						invoked.add(index);
+					}
+				}
+				List<FutureTask<DQResponse<AmendmentValue>>> tasks = new ArrayList<FutureTask<DQResponse<AmendmentValue>>>();
+				if (executor!=null) {
+					CommentMode commentMode = TemplatedDQResponse.getCommentMode();
+					for (int i=1; i<invoked.size(); i++) {
+						int index = invoked.get(i);
+						FutureTask<DQResponse<AmendmentValue>> task = new FutureTask<DQResponse<AmendmentValue>>(new Invocation(index, pendingInputs[index], commentMode));
+						executor.execute(task);
+						tasks.add(task);
+					}
+				}
+				for (int i=0; i<invoked.size(); i++) {
+					int index = invoked.get(i);
+					if (i==0 || executor==null) {
+						responses[index] = invoke(index, pendingInputs[index]);
+					} else {
+						responses[index] = await(tasks.get(i-1), index);
+					}
+					lastInputs[index] = pendingInputs[index];
+					pendingInputs[index] = null;
+				}
+				for (int index : level) {
+					apply(index, result);
+				}
+			}
+			return result;
+		}
+
+		/**
+		 * @param index position of the amendment in priority order.
+		 * @return the response from the amendment in the last evaluation, null before the first evaluation
+		 *   or if the last invocation of the amendment threw an exception.
+		 */
+		public DQResponse<AmendmentValue> getResponse(int index) {
+			return responses[index];
+		}
+
+		/**
+		 * @param index position of the amendment in priority order.
+		 * @return true if the response from the amendment in the last evaluation was carried over from
+		 *   an earlier evaluation, as the values the amendment reads had not changed.
+		 */
+		public boolean isReused(int index) {
+			return reused[index];
+		}
+
+		private String[] inputs(int index, Map<String,String> terms) {
+			String[] parameterTerms = nodes[index].parameterTerms;
+			String[] result = new String[parameterTerms.length];
+			for (int i=0; i<parameterTerms.length; i++) {
+				result[i] = terms.get(parameterTerms[i]);
+			}
+			return result;
+		}
+
+		private void apply(int index, Map<String,String> terms) {
+			DQResponse<AmendmentValue> response = responses[index];
+			if (response!=null && response.getValue()!=null && response.getValue().getObject()!=null) {
+				ResultState state = response.getResultState();
+				if (state.equals(ResultState.AMENDED) || state.equals(ResultState.FILLED_IN)) {
+					Map<String,String> amended = response.getValue().getObject();
+					for (String term : nodes[index].actedUpon) {
+						String value = amended.get(term);
+						if (value!=null) {
+							terms.put(term, value);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * An amendment run on an executor thread, with the CommentMode of the thread that scheduled
+	 * it opened for the call, and a RecordParseMemo of its own, as memos are confined to the
+	 * thread that opened them.
+	 */
+	private final class Invocation implements Callable<DQResponse<AmendmentValue>> {
+		private final int index;
+		private final String[] inputs;
+		private final CommentMode commentMode;
+
+		private Invocation(int index, String[] inputs, CommentMode commentMode) {
+			this.index = index;
+			this.inputs = inputs;
+			this.commentMode = commentMode;
+		}
+
+		@Override
+		public DQResponse<AmendmentValue> call() {
+			DQResponse<AmendmentValue> result = null;
+			CommentMode previousMode = TemplatedDQResponse.openCommentMode(commentMode);
+			boolean memoOpened = RecordParseMemo.open();
+			try {
+				result = invoke(index, inputs);
+			} finally {
+				if (memoOpened) {
+					RecordParseMemo.close();
+				}
+				TemplatedDQResponse.closeCommentMode(previousMode);
+			}
+			return result;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private DQResponse<AmendmentValue> invoke(int index, String[] inputs) {
+		DQResponse<AmendmentValue> result = null;
+		boolean collecting = EventDateQCMetrics.isTimingTests();
+		Object event = null;
+		long started = 0l;
+		if (collecting) {
+			event = FlightRecorderEvents.beginTest();
+			started = System.nanoTime();
+		}
+		try {
+			result = (DQResponse<AmendmentValue>) nodes[index].method.invoke(null, (Object[]) inputs);
+			if (collecting) {
+				EventDateQCMetrics.recordTest(event, nodes[index].name, result, EventDateQCMetrics.inputLength(inputs), System.nanoTime() - started);
+			}
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("Unable to invoke " + nodes[index].method.getName() + ": " + e.getMessage(), e);
+		} catch (InvocationTargetException e) {
+			throw rethrow(index, e.getCause());
+		}
+		return result;
+	}
+
+	private DQResponse<AmendmentValue> await(FutureTask<DQResponse<AmendmentValue>> task, int index) {
+		DQResponse<AmendmentValue> result = null;
+		try {
+			result = task.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted waiting for " + nodes[index].method.getName(), e);
+		} catch (ExecutionException e) {
+			throw rethrow(index, e.getCause());
+		}
+		return result;
+	}
+
+	/**
+	 * Pass on a failure of an amendment, unchecked exceptions are rethrown as they are.
+	 */
+	private RuntimeException rethrow(int index, Throwable cause) {
+		if (cause instanceof RuntimeException) {
+			throw (RuntimeException) cause;
+		}
+		if (cause instanceof Error) {
+			throw (Error) cause;
+		}
+		return new IllegalStateException("Failure in " + nodes[index].method.getName() + ": " + Objects.toString(cause), cause);
+	}
+
+}
@@ -0,0 +1,182 @@
+/**
+ * CommentTemplate.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Templates for the comments on responses from the tests that include values from the
+ * record, for use with TemplatedDQResponse.
+ *
+ * Placeholders in a template are written as {0}, {1}, ... and are replaced with the
+ * String.valueOf() of the corresponding argument, no other characters are treated specially,
+ * so a rendered template has the same text as the string concatenation it replaces.
+ *
+ * @author mole
+ *
+ */
+public enum CommentTemplate {
+
+	/** Arguments: term, value. */
+	ISO_DATE_STANDARD("Provided value for {0} '{1}' is formated as an ISO date. "),
+	/** Arguments: term, value. */
+	ISO_DATE_NOT_STANDARD("Provided value for {0} '{1}' is not a validly formatted ISO date ."),
+	/** Arguments: term, value. */
+	ISO_DATE_UNINTERPRETABLE("Provided value for {0} '{1}' is unable to be interpreted as an ISO date ."),
+
+	/** Arguments: term, value, upper bound of range. */
+	INTEGER_IN_RANGE("Provided value for {0} '{1}' is an integer in the range 1 to {2}."),
+	/** Arguments: term, value, upper bound of range. */
+	INTEGER_NOT_IN_RANGE("Provided value for {0} '{1}' is not an integer in the range 1 to {2}."),
+
+	/** Arguments: value with whitespace trimmed, the message of the NumberFormatException from Integer.parseInt(). */
+	NOT_AN_INTEGER("For input string: \"{0}\""),
+
+	/** Arguments: day. */
+	DAY_EMPTY("Provided value for dwc:day [{0}] is EMPTY."),
+	/** Arguments: day. */
+	DAY_IN_1_TO_28("Provided value for dwc:day [{0}] is in the range 1-28 inclusive."),
+	/** Arguments: day. */
+	DAY_LESS_THAN_1("Provided value for dwc:day [{0}] is less than 1."),
+	/** Arguments: day. */
+	DAY_GREATER_THAN_31("Provided value for dwc:day [{0}] is greater than 31."),
+	/** Arguments: day. */
+	DAY_IN_29_TO_30("Provided value for dwc:day [{0}] is in the range 29-30 and month is in the set (4,6,9,11)."),
+	/** Arguments: day. */
+	DAY_IN_29_TO_31("Provided value for dwc:day [{0}] is in the range 29-31 and month is in the set (1,3,5,7,8,10,12)."),
+	/** Arguments: day, month, year. */
+	DAY_LEAP_DAY_IN_LEAP_YEAR("Provided value for dwc:day [{0}] is 29 and dwc:month [{1}] is 2 making it a leap day, and dwc:year [{2}] is a leap year."),
+	/** Arguments: day, month, year. */
+	DAY_LEAP_DAY_NOT_LEAP_YEAR("Provided value for dwc:day [{0}] is 29 and dwc:month [{1}] is 2 making it a leap day, but dwc:year [{2}] is not a leap year."),
+	/** Arguments: day, month, year. */
+	DAY_LEAP_DAY_YEAR_NOT_INTEGER("Provided value for dwc:day [{0}] is 29 and dwc:month [{1}] is 2 making it a leap day, but dwc:year [{2}] could not be interpreted as an integer."),
+	/** Arguments: day, month, year. */
+	DAY_NOT_VALID_DAY("Provided values for dwc:day [{0}] dwc:month [{1}] and dwc:year [{2}] didn't match the values for a valid day."),
+	/** Arguments: day, month. */
+	DAY_MONTH_NOT_INTEGER("Provided value for dwc:day [{0}] is between 29 and 31, but dwc:month [{1}] could not be interpreted as an integer."),
+	/** Arguments: day. */
+	DAY_NOT_INTEGER("Provided value for dwc:day [{0}] could not be interpreted as an integer."),
+
+	/** Arguments: term, day of year. */
+	DAYOFYEAR_IN_RANGE("{0} [{1}] is in range for days of the year."),
+	/** Arguments: term, day of year, year. */
+	DAYOFYEAR_IN_RANGE_FOR_YEAR("{0} [{1}] is in range for days of the year [{2}]."),
+	/** Arguments: term, day of year, year. */
+	DAYOFYEAR_OUT_OF_RANGE_FOR_YEAR("{0} [{1}] is out of range for year [{2}]."),
+	/** Arguments: term, day of year. */
+	DAYOFYEAR_OUT_OF_RANGE("{0} [{1}] is out of range for days in the year."),
+	/** Arguments: term, day of year. */
+	DAYOFYEAR_NOT_NUMBER("{0} [{1}] is not a number."),
+
+	/** Arguments: eventDate. */
+	EVENTDATE_NOT_RECOGNIZED("Value provided for dwc:eventDate [{0}] not recognized as a valid date."),
+	/** Arguments: eventDate, earliest valid date, latest valid date. */
+	EVENTDATE_WITHIN_RANGE("Provided value for dwc:eventDate '{0}' falls entirely within the range {1} to {2}."),
+	/** Arguments: eventDate, earliest valid date, latest valid date. */
+	EVENTDATE_EXTENDS_OUTSIDE_RANGE("Provided value for dwc:eventDate '{0}' extends outside the range {1} to {2}."),
+	/** Arguments: eventDate, earliest valid date, latest valid date. */
+	EVENTDATE_OUTSIDE_RANGE("Provided value for dwc:eventDate '{0}' is outside the range {1} to {2}."),
+
+	/** Arguments: message from parse failure. */
+	YEAR_NOT_INTEGER("Unable to parse dwc:year as an integer:{0}"),
+	/** Arguments: year with whitespace trimmed, as YEAR_NOT_INTEGER with the message of NOT_AN_INTEGER. */
+	YEAR_NOT_AN_INTEGER("Unable to parse dwc:year as an integer:For input string: \"{0}\""),
+	/** Arguments: year, lower bound, upper bound. */
+	YEAR_IN_RANGE("Provided value for dwc:year '{0}' is an integer in the range {1} to {2} (current year)."),
+	/** Arguments: year, lower bound, upper bound. */
+	YEAR_NOT_IN_RANGE("Provided value for dwc:year '{0}' is not an integer in the range {1} to {2} (current year)."),
+
+	/** Arguments: dateIdentified. */
+	DATEIDENTIFIED_NOT_VALID("Value provided for dwc:dateIdentified [{0}] is not a valid date."),
+	/** Arguments: dateIdentified, earliest valid date, latest valid date. */
+	DATEIDENTIFIED_OVERLAPS_LIMITS("Provided value for dateIdentified [{0}] overlaps the limits [{1}]-[{2}]."),
+	/** Arguments: dateIdentified, earliest valid date, latest valid date. */
+	DATEIDENTIFIED_OUTSIDE_LIMITS("Provided value for dateIdentified [{0}] is outside the limits [{1}]-[{2}]."),
+	/** Arguments: dateIdentified, earliest valid date, latest valid date. */
+	DATEIDENTIFIED_BEYOND_LIMITS("Provided value for dateIdentified [{0}] starts extends beyond the limits [{1}]-[{2}]."),
+	/** Arguments: earliest/latest range. */
+	DATEIDENTIFIED_RANGE_UNINTERPRETABLE("Error constructing an interpretable earliest/latest date range to test against [{0}] ."),
+	/** Arguments: eventDate. */
+	DATEIDENTIFIED_EVENTDATE_NOT_VALID("Provided value for dwc:eventDate [{0}] is not a valid date, unable to compare with dwc:dateIdentified."),
+	/** Arguments: dateIdentified, eventDate. */
+	DATEIDENTIFIED_WITHIN_EVENTDATE("Provided value for dateIdentified [{0}] falls within the eventDate [{1}]."),
+	/** Arguments: dateIdentified, eventDate. */
+	DATEIDENTIFIED_AFTER_EVENTDATE("Provided value for dateIdentified [{0}] is after the end of the eventDate [{1}]."),
+	/** Arguments: dateIdentified, eventDate. */
+	DATEIDENTIFIED_STARTS_WITH_EVENTDATE("Provided value for dateIdentified [{0}] starts at the same time as the eventDate [{1}]."),
+	/** Arguments: dateIdentified, eventDate. */
+	DATEIDENTIFIED_OVERLAPS_EVENTDATE("Provided value for dateIdentified [{0}] overlaps the eventDate [{1}]."),
+	/** Arguments: dateIdentified. */
+	DATEIDENTIFIED_ENDS_BEFORE_EVENTDATE("Provided value for dateIdentified [{0}] ends before the eventDate starts."),
+	/** Arguments: dateIdentified, eventDate. */
+	DATEIDENTIFIED_NOT_AFTER_EVENTDATE("Provided value for dateIdentified [{0}] is within allowed range but is not more recent than the eventDate [{1}]."),
+	/** Arguments: test, exception. */
+	TEST_FAILED("Unable to run {0} on the provided values: {1}");
+
+	private final String pattern;
+	/** Literal text between placeholders, one more element than placeholders. */
+	private final String[] fragments;
+	/** Argument index for each placeholder in order. */
+	private final int[] argumentIndexes;
+
+	private CommentTemplate(String pattern) {
+		this.pattern = pattern;
+		List<String> literals = new ArrayList<String>();
+		List<Integer> indexes = new ArrayList<Integer>();
+		int position = 0;
+		int open = pattern.indexOf('{');
+		while (open>=0) {
+			int close = pattern.indexOf('}', open);
+			literals.add(pattern.substring(position, open));
+			indexes.add(Integer.parseInt(pattern.substring(open+1, close)));
+			position = close + 1;
+			open = pattern.indexOf('{', position);
+		}
+		literals.add(pattern.substring(position));
+		fragments = literals.toArray(new String[literals.size()]);
+		argumentIndexes = new int[indexes.size()];
+		for (int i=0; i<argumentIndexes.length; i++) {
+			argumentIndexes[i] = indexes.get(i);
+		}
+	}
+
+	/**
+	 * Render the template with a set of arguments.
+	 *
+	 * @param arguments the values for the placeholders, by index.
+	 * @return the text of the comment.
+	 */
+	public String render(Object... arguments) {
+		StringBuilder result = new StringBuilder(pattern.length() + 16 * argumentIndexes.length);
+		result.append(fragments[0]);
+		for (int i=0; i<argumentIndexes.length; i++) {
+			result.append(String.valueOf(arguments[argumentIndexes[i]]));
+			result.append(fragments[i+1]);
+		}
+		return result.toString();
+	}
+
+	/**
+	 * @return the pattern of the template, with placeholders {0}, {1}, ...
+	 */
+	public String getPattern() {
+		return pattern;
+	}
+
+}
@@ -0,0 +1,81 @@
+/**
+ * DailyBinding.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * A value bound as of the current local day, such as a validator bound to default parameter
+ * values that depend on the current day or year, bound on first use and bound again on the
+ * first use after local midnight.
+ *
+ * Concurrent callers may each bind the value when it has expired, the last binding is kept,
+ * so bind() must not have side effects.
+ *
+ * @author mole
+ *
+ * @param <T> the type of the bound value.
+ */
+abstract class DailyBinding<T> {
+
+	/** The value with the time at which it expires, replaced as a whole. */
+	private static final class Bound<T> {
+		private final T value;
+		private final long expires;
+
+		private Bound(T value, long expires) {
+			this.value = value;
+			this.expires = expires;
+		}
+	}
+
+	private volatile Bound<T> bound = null;
+
+	/**
+	 * Bind the value for a day.
+	 *
+	 * @param today the current local date.
+	 * @return the value bound as of today.
+	 */
+	protected abstract T bind(LocalDate today);
+
+	/**
+	 * @return the value bound as of the current local day.
+	 */
+	T get() {
+		return get(System.currentTimeMillis());
+	}
+
+	/**
+	 * @param now the current time in milliseconds since the epoch.
+	 * @return the value bound as of the local day containing now, bound again if the
+	 *   value last bound has expired.
+	 */
+	T get(long now) {
+		Bound<T> result = bound;
+		if (result==null || now >= result.expires) {
+			LocalDate today = Instant.ofEpochMilli(now).atZone(ZoneId.systemDefault()).toLocalDate();
+			result = new Bound<T>(bind(today), today.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli());
+			bound = result;
+		}
+		return result.value;
+	}
+
+}
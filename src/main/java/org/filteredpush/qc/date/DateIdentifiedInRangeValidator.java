@@ -0,0 +1,250 @@
+/**
+ * DateIdentifiedInRangeValidator.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.datakurator.ffdq.api.DQResponse;
+import org.datakurator.ffdq.api.result.ComplianceValue;
+import org.datakurator.ffdq.model.ResultState;
+import org.filteredpush.qc.date.util.DateUtils;
+
+/**
+ * VALIDATION_DATEIDENTIFIED_INRANGE with its parameters bdq:earliestValidDate,
+ * bdq:latestValidDate, and bdq:includeEventDate bound once, see
+ * DwCOtherDateDQ.validationDateidentifiedInrange(String, String, String, String, String).
+ *
+ * The defaults for the parameters and the interval between the earliest and latest
+ * valid dates are worked out when the validator is bound, so that validate() only needs
+ * to parse the dateIdentified and eventDate.  Instances are immutable and may be shared
+ * between threads.  Where a parameter defaults to the current day, it is the current day
+ * at the time of binding.
+ *
+ * @author mole
+ *
+ */
+public final class DateIdentifiedInRangeValidator {
+
+	private static final Log logger = LogFactory.getLog(DateIdentifiedInRangeValidator.class);
+
+	/** Default value for bdq:earliestValidDate */
+	public static final String DEFAULT_EARLIEST_VALID_DATE = "1753-01-01";
+
+	private final String earliestValidDate;
+	private final String latestValidDate;
+	private final boolean includeEventDate;
+	private final List<String> parameterComments;
+	private final String range;
+	private final LocalDateInterval withinInterval;
+
+	private DateIdentifiedInRangeValidator(String earliestValidDate, String latestValidDate, boolean includeEventDate, List<String> parameterComments) {
+		this.earliestValidDate = earliestValidDate;
+		this.latestValidDate = latestValidDate;
+		this.includeEventDate = includeEventDate;
+		this.parameterComments = Collections.unmodifiableList(parameterComments);
+		this.range = earliestValidDate + "/" + latestValidDate;
+		this.withinInterval = DateUtils.extractInterval(range);
+	}
+
+	/**
+	 * Bind the parameters of VALIDATION_DATEIDENTIFIED_INRANGE.
+	 *
+	 * @param earliestValidDate the earliest dateIdentified considered to be within range,
+	 *   if empty 1753-01-01 will be used.
+	 * @param latestValidDate the most recent dateIdentified considered to be within range,
+	 *   if empty the current day will be used.
+	 * @param includeEventDate if equal to "true" then also assess the dateIdentified against
+	 *   the eventDate, if empty true will be used.
+	 * @return a validator for dateIdentified values with the given parameters
+	 */
+	public static DateIdentifiedInRangeValidator bind(String earliestValidDate, String latestValidDate, String includeEventDate) {
+		List<String> comments = new ArrayList<String>();
+		if (DateUtils.isEmpty(earliestValidDate)) {
+			earliestValidDate = DEFAULT_EARLIEST_VALID_DATE;
+		} else {
+			if (!earliestValidDate.equals(DEFAULT_EARLIEST_VALID_DATE)) {
+				comments.add("Using non-default argument ["+ earliestValidDate +"] for Parameter bdq:earliestValidDate.");
+			}
+		}
+		String currentDay = LocalDate.now().format(DateTimeFormatter.ISO_LOCAL_DATE);
+		if (DateUtils.isEmpty(latestValidDate)) {
+			latestValidDate  = currentDay;
+		} else {
+			if (!latestValidDate.equals(currentDay)) {
+				comments.add("Using non-default argument ["+ latestValidDate +"] for Parameter bdq:latestValidDate.");
+			}
+		}
+		if (DateUtils.isEmpty(includeEventDate)) {
+			includeEventDate = "true";
+		} else {
+			if (!includeEventDate.equals("true")) {
+				comments.add("Using non-default argument ["+ includeEventDate +"] for Parameter bdq:includeEventDate.");
+			}
+		}
+		boolean includeEventDateBoolean = false;
+		if (includeEventDate.toLowerCase().equals("true")) {
+			includeEventDateBoolean = true;
+		} else if (includeEventDate.toLowerCase().equals("false")) {
+			includeEventDateBoolean = false;
+		} else {
+			comments.add("Uninterpretable value provided for bdq:includeEventDate, treating as true.");
+			includeEventDateBoolean = true;
+		}
+		return new DateIdentifiedInRangeValidator(earliestValidDate, latestValidDate, includeEventDateBoolean, comments);
+	}
+
+	/**
+	 * Is the value of dwc:dateIdentified within the bound range and either overlap or is later than dwc:eventDate?
+	 *
+	 * @param dateIdentified the provided dwc:dateIdentified to evaluate
+	 * @param eventDate the provided dwc:eventDate to evaluate as preceding dateIdentified
+	 * @return DQResponse the response of type ComplianceValue  to return
+	 */
+	public DQResponse<ComplianceValue> validate(String dateIdentified, String eventDate) {
+		TemplatedDQResponse<ComplianceValue> result = new TemplatedDQResponse<ComplianceValue>();
+		for (String comment : parameterComments) {
+			result.addComment(comment);
+		}
+
+		logger.debug(dateIdentified);
+		logger.debug(eventDate);
+
+		if (DateUtils.isEmpty(dateIdentified)) {
+			// INTERNAL_PREREQUISITES_NOT_MET if dwc:dateIdentified is
+			// EMPTY
+			result.addComment("No value provided for dwc:dateIdentified.");
+			result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
+		} else if (!DateUtils.eventDateValid(dateIdentified)) {
+			// INTERNAL_PREREQUISITES_NOT_MET if dwc:dateIdentified is
+			// ... or contains and invalid value according to ISO 8601-1;
+			result.addComment(CommentTemplate.DATEIDENTIFIED_NOT_VALID, dateIdentified);
+			result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
+		} else if (DateUtils.isEmpty(eventDate) || !includeEventDate) {
+			// COMPLIANT
+			// if the value of dwc:dateIdentified is between bdq:earliestValidDate
+			// and bdq:latestValidDate inclusive and either (1) dwc:eventDate
+			// is EMPTY or bdq:includeEventDate=false, or (2) ...
+			if (DateUtils.isEmpty(eventDate)) {
+				result.addComment("No valid value provided for dwc:eventDate to compare with dwc:dateIdentified.");
+			}
+			LocalDateInterval identifiedInterval = DateUtils.extractInterval(dateIdentified);
+			if (withinInterval.overlaps(identifiedInterval)) {
+				result.setValue(ComplianceValue.COMPLIANT);
+				result.setResultState(ResultState.RUN_HAS_RESULT);
+				result.addComment(CommentTemplate.DATEIDENTIFIED_OVERLAPS_LIMITS, dateIdentified, earliestValidDate, latestValidDate);
+			} else {
+				result.setValue(ComplianceValue.NOT_COMPLIANT);
+				result.setResultState(ResultState.RUN_HAS_RESULT);
+				result.addComment(CommentTemplate.DATEIDENTIFIED_OUTSIDE_LIMITS, dateIdentified, earliestValidDate, latestValidDate);
+			}
+		} else {
+			LocalDateInterval identifiedInterval = DateUtils.extractInterval(dateIdentified);
+			LocalDateInterval eventInterval = DateUtils.extractInterval(eventDate);
+			// COMPLIANT
+			// if the value of dwc:dateIdentified is between bdq:earliestValidDate
+			// and bdq:latestValidDate inclusive and either (1) ...
+			// (2) if dwc:eventDate
+			// is a valid ISO 8601-1 date and dwc:dateIdentified overlaps
+			// or is later than the dwc:eventDate; otherwise NOT_COMPLIANT
+			if (identifiedInterval==null) {
+				// INTERNAL_PREREQUISITES_NOT_MET if
+				// (2) dwc:dateIdentified contains an invalid
+				// value according to ISO 8601-1
+				result.addComment(CommentTemplate.DATEIDENTIFIED_NOT_VALID, dateIdentified);
+				result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
+			} else if (eventInterval==null) {
+				// INTERNAL_PREREQUISITES_NOT_MET ...
+				// (3) bdq:includeEventDate=true
+				// and dwc:eventDate is not a valid ISO 8601-1 date;
+				logger.error("Error Constructing interval from dwc:eventDate ["+eventDate+"]");
+				result.addComment(CommentTemplate.DATEIDENTIFIED_RANGE_UNINTERPRETABLE, range);
+				result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
+			} else if (withinInterval==null) {
+				logger.error("Error Constructing interval from earliest date to latest date");
+				result.addComment(CommentTemplate.DATEIDENTIFIED_RANGE_UNINTERPRETABLE, range);
+				result.setResultState(ResultState.EXTERNAL_PREREQUISITES_NOT_MET);
+			} else if (!withinInterval.contains(identifiedInterval)) {
+				result.setValue(ComplianceValue.NOT_COMPLIANT);
+				result.setResultState(ResultState.RUN_HAS_RESULT);
+				result.addComment(CommentTemplate.DATEIDENTIFIED_BEYOND_LIMITS, dateIdentified, earliestValidDate, latestValidDate);
+			} else if (!DateUtils.eventDateValid(eventDate)) {
+				result.addComment(CommentTemplate.DATEIDENTIFIED_EVENTDATE_NOT_VALID, eventDate);
+				result.setResultState(ResultState.RUN_HAS_RESULT);
+				result.setValue(ComplianceValue.NOT_COMPLIANT);
+				// Note: changed behavior in v2023-03-29, invalid eventDate is not compliant, not a prerequisites failure.
+				// result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
+			} else {
+				if (eventInterval.contains(identifiedInterval)) {
+					result.setValue(ComplianceValue.COMPLIANT);
+					result.addComment(CommentTemplate.DATEIDENTIFIED_WITHIN_EVENTDATE, dateIdentified, eventDate);
+					result.setResultState(ResultState.RUN_HAS_RESULT);
+				} else if (identifiedInterval.getStartEpochDay() > eventInterval.getEndEpochDay()) {
+					result.setValue(ComplianceValue.COMPLIANT);
+					result.addComment(CommentTemplate.DATEIDENTIFIED_AFTER_EVENTDATE, dateIdentified, eventDate);
+					result.setResultState(ResultState.RUN_HAS_RESULT);
+				} else if (identifiedInterval.getStartEpochDay() == eventInterval.getStartEpochDay()) {
+					result.setValue(ComplianceValue.COMPLIANT);
+					result.addComment(CommentTemplate.DATEIDENTIFIED_STARTS_WITH_EVENTDATE, dateIdentified, eventDate);
+					result.setResultState(ResultState.RUN_HAS_RESULT);
+				} else if (identifiedInterval.overlaps(eventInterval)) {
+					result.setValue(ComplianceValue.COMPLIANT);
+					result.addComment(CommentTemplate.DATEIDENTIFIED_OVERLAPS_EVENTDATE, dateIdentified, eventDate);
+					result.setResultState(ResultState.RUN_HAS_RESULT);
+				} else if (identifiedInterval.getEndEpochDay() < eventInterval.getStartEpochDay()) {
+					result.setValue(ComplianceValue.NOT_COMPLIANT);
+					result.addComment(CommentTemplate.DATEIDENTIFIED_ENDS_BEFORE_EVENTDATE, dateIdentified);
+					result.setResultState(ResultState.RUN_HAS_RESULT);
+				} else {
+					result.setValue(ComplianceValue.NOT_COMPLIANT);
+					result.addComment(CommentTemplate.DATEIDENTIFIED_NOT_AFTER_EVENTDATE, dateIdentified, eventDate);
+					result.setResultState(ResultState.RUN_HAS_RESULT);
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * @return the bound value of bdq:earliestValidDate
+	 */
+	public String getEarliestValidDate() {
+		return earliestValidDate;
+	}
+
+	/**
+	 * @return the bound value of bdq:latestValidDate
+	 */
+	public String getLatestValidDate() {
+		return latestValidDate;
+	}
+
+	/**
+	 * @return the bound value of bdq:includeEventDate
+	 */
+	public boolean isIncludeEventDate() {
+		return includeEventDate;
+	}
+
+}
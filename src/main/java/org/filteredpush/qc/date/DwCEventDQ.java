@@ -27,11 +27,12 @@ import org.datakurator.ffdq.api.result.IssueValue;
 import org.datakurator.ffdq.api.result.NumericalValue;
 import org.datakurator.ffdq.model.ResultState;
 import org.filteredpush.qc.date.util.DateUtils;
+import org.filteredpush.qc.date.util.EventDateBounds;
+import org.filteredpush.qc.date.util.EventDatePrecision;
+import org.filteredpush.qc.date.util.MonthDictionary;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
-import java.util.Calendar;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -199,7 +200,7 @@ public class DwCEventDQ {
 	@ProvidesVersion("https://rs.tdwg.org/bdqtest/terms/f51e15a6-a67d-4729-9c28-3766299d2985/2023-09-17")
 	@Specification("COMPLIANT if dwc:eventDate is not EMPTY; otherwise NOT_COMPLIANT ")
 	public static DQResponse<ComplianceValue> validationEventdateNotEmpty(@ActedUpon("dwc:eventDate") String eventDate) {
-		DQResponse<ComplianceValue> result = new DQResponse<ComplianceValue>();
+		TemplatedDQResponse<ComplianceValue> result = new TemplatedDQResponse<ComplianceValue>();
 
 		// Specification
 		// COMPLIANT if dwc:eventDate is not EMPTY; otherwise NOT_COMPLIANT 
@@ -234,7 +235,7 @@ public class DwCEventDQ {
 	@ProvidesVersion("https://rs.tdwg.org/bdqtest/terms/c09ecbf9-34e3-4f3e-b74a-8796af15e59f/2023-09-17")
 	@Specification("COMPLIANT if dwc:year is not EMPTY; otherwise NOT_COMPLIANT ")
 	public static DQResponse<ComplianceValue> validationYearNotEmpty(@ActedUpon(value = "dwc:year") String year) {
-		DQResponse<ComplianceValue> result = new DQResponse<>();
+		TemplatedDQResponse<ComplianceValue> result = new TemplatedDQResponse<ComplianceValue>();
 
 		// Specification
 		// COMPLIANT if dwc:year is not EMPTY; otherwise NOT_COMPLIANT 
@@ -511,7 +512,7 @@ public class DwCEventDQ {
 	@Specification("INTERNAL_PREREQUISITES_NOT_MET if dwc:eventDate is bdq:Empty; COMPLIANT if the value of dwc:eventDate is a valid ISO 8601 date; otherwise NOT_COMPLIANT. ")
 	public static DQResponse<ComplianceValue> validationEventdateStandard(
 			@ActedUpon(value = "dwc:eventDate") String eventDate) {
-		DQResponse<ComplianceValue> result = new DQResponse<>();
+		TemplatedDQResponse<ComplianceValue> result = new TemplatedDQResponse<ComplianceValue>();
 		// Specification
 		// INTERNAL_PREREQUISITES_NOT_MET if dwc:eventDate is EMPTY; 
 		// COMPLIANT if the value of dwc:eventDate is a valid ISO 8601-1 
@@ -524,15 +525,15 @@ public class DwCEventDQ {
 			try {
 				if (DateUtils.eventDateValid(eventDate)) {
 					result.setValue(ComplianceValue.COMPLIANT);
-					result.addComment("Provided value for dwc:eventDate '" + eventDate + "' is formated as an ISO date. ");
+					result.addComment(CommentTemplate.ISO_DATE_STANDARD, "dwc:eventDate", eventDate);
 				} else {
 					result.setValue(ComplianceValue.NOT_COMPLIANT);
-					result.addComment("Provided value for dwc:eventDate '" + eventDate + "' is not a validly formatted ISO date .");
+					result.addComment(CommentTemplate.ISO_DATE_NOT_STANDARD, "dwc:eventDate", eventDate);
 				}
 				result.setResultState(ResultState.RUN_HAS_RESULT);
 			} catch (Exception e) {
 				result.setValue(ComplianceValue.NOT_COMPLIANT);
-				result.addComment("Provided value for dwc:eventDate '" + eventDate + "' is unable to be interpreted as an ISO date .");
+				result.addComment(CommentTemplate.ISO_DATE_UNINTERPRETABLE, "dwc:eventDate", eventDate);
 				logger.debug(e.getMessage());
 				result.addComment(e.getMessage());
 			}
@@ -642,7 +643,7 @@ public class DwCEventDQ {
 	@ProvidesVersion("https://rs.tdwg.org/bdqtest/terms/47ff73ba-0028-4f79-9ce1-ee7008d66498/2023-09-18")
 	@Specification("INTERNAL_PREREQUISITES_NOT_MET if dwc:day is EMPTY; COMPLIANT if the value of the field dwc:day is an integer between 1 and 31 inclusive; otherwise NOT_COMPLIANT. ")
 	public static DQResponse<ComplianceValue> validationDayStandard(@ActedUpon("dwc:day") String day) {
-		DQResponse<ComplianceValue> result = new DQResponse<ComplianceValue>();
+		TemplatedDQResponse<ComplianceValue> result = new TemplatedDQResponse<ComplianceValue>();
 
 		// Specification
 		// INTERNAL_PREREQUISITES_NOT_MET if dwc:day is EMPTY; COMPLIANT 
@@ -653,21 +654,20 @@ public class DwCEventDQ {
 			result.addComment("No value provided for day.");
 			result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
 		} else {
-			try {
-				int numericDay = Integer.parseInt(day.trim());
-				if (DateUtils.isDayInRange(numericDay)) {
+			long numericDay = DateUtils.scanInteger(day, true);
+			if (numericDay==DateUtils.NOT_AN_INTEGER) {
+				result.setValue(ComplianceValue.NOT_COMPLIANT);
+				result.setResultState(ResultState.RUN_HAS_RESULT);
+				result.addComment(CommentTemplate.NOT_AN_INTEGER, day.trim());
+			} else {
+				if (DateUtils.isDayInRange((int)numericDay)) {
 					result.setValue(ComplianceValue.COMPLIANT);
-					result.addComment("Provided value for day '" + day + "' is an integer in the range 1 to 31.");
+					result.addComment(CommentTemplate.INTEGER_IN_RANGE, "day", day, 31);
 				} else {
 					result.setValue(ComplianceValue.NOT_COMPLIANT);
-					result.addComment("Provided value for day '" + day + "' is not an integer in the range 1 to 31.");
+					result.addComment(CommentTemplate.INTEGER_NOT_IN_RANGE, "day", day, 31);
 				}
 				result.setResultState(ResultState.RUN_HAS_RESULT);
-			} catch (NumberFormatException e) {
-				logger.debug(e.getMessage());
-				result.setValue(ComplianceValue.NOT_COMPLIANT);
-				result.setResultState(ResultState.RUN_HAS_RESULT);
-				result.addComment(e.getMessage());
 			}
 		}
 		return result;
@@ -693,7 +693,7 @@ public class DwCEventDQ {
 	@ProvidesVersion("https://rs.tdwg.org/bdqtest/terms/01c6dafa-0886-4b7e-9881-2c3018c98bdc/2023-09-18")
 	@Specification("INTERNAL_PREREQUISITES_NOT_MET if dwc:month is EMPTY; COMPLIANT if the value of dwc:month is interpretable as an integer between 1 and 12 inclusive; otherwise NOT_COMPLIANT ")
 	public static DQResponse<ComplianceValue> validationMonthStandard(@ActedUpon("dwc:month") String month) {
-		DQResponse<ComplianceValue> result = new DQResponse<>();
+		TemplatedDQResponse<ComplianceValue> result = new TemplatedDQResponse<ComplianceValue>();
 
 		// Specification
 		// INTERNAL_PREREQUISITES_NOT_MET if dwc:month is EMPTY; COMPLIANT 
@@ -704,21 +704,20 @@ public class DwCEventDQ {
 			result.addComment("No value provided for month.");
 			result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
 		} else {
-			try {
-				int numericMonth = Integer.parseInt(month.trim());
-				if (DateUtils.isMonthInRange(numericMonth)) {
+			long numericMonth = DateUtils.scanInteger(month, true);
+			if (numericMonth==DateUtils.NOT_AN_INTEGER) {
+				result.setResultState(ResultState.RUN_HAS_RESULT);
+				result.setValue(ComplianceValue.NOT_COMPLIANT);
+				result.addComment(CommentTemplate.NOT_AN_INTEGER, month.trim());
+			} else {
+				if (DateUtils.isMonthInRange((int)numericMonth)) {
 					result.setValue(ComplianceValue.COMPLIANT);
-					result.addComment("Provided value for month '" + month + "' is an integer in the range 1 to 12.");
+					result.addComment(CommentTemplate.INTEGER_IN_RANGE, "month", month, 12);
 				} else {
 					result.setValue(ComplianceValue.NOT_COMPLIANT);
-					result.addComment("Provided value for month '" + month + "' is not an integer in the range 1 to 12.");
+					result.addComment(CommentTemplate.INTEGER_NOT_IN_RANGE, "month", month, 12);
 				}
 				result.setResultState(ResultState.RUN_HAS_RESULT);
-			} catch (NumberFormatException e) {
-				logger.debug(e.getMessage());
-				result.setResultState(ResultState.RUN_HAS_RESULT);
-				result.setValue(ComplianceValue.NOT_COMPLIANT);
-				result.addComment(e.getMessage());
 			}
 		}
 		return result;
@@ -739,8 +738,9 @@ public class DwCEventDQ {
 			if (DateUtils.eventDateValid(eventDate)) {
 				logger.debug(eventDate);
 				try {
-					logger.debug(DateUtils.measureDurationSeconds(eventDate));
-					if (DateUtils.measureDurationSeconds(eventDate)<= 31557600) {
+					long seconds = DateUtils.measureDurationSeconds(eventDate);
+					logger.debug(seconds);
+					if (seconds<= 31557600) {
 						result.setValue(ComplianceValue.COMPLIANT);
 						result.addComment("Provided value for eventDate '" + eventDate + "' has a duration less than or equal to one Julian year of 365.25 days.");
 					}  else {
@@ -835,7 +835,7 @@ public class DwCEventDQ {
 			@ActedUpon("dwc:year") String year, 
 			@ActedUpon("dwc:month") String month, 
 			@ActedUpon("dwc:day") String day) {
-		DQResponse<ComplianceValue> result = new DQResponse<ComplianceValue>();
+		TemplatedDQResponse<ComplianceValue> result = new TemplatedDQResponse<ComplianceValue>();
 
 		// Specification
 		// INTERNAL_PREREQUISITES_NOT_MET if (1) dwc:day is EMPTY, 
@@ -860,98 +860,83 @@ public class DwCEventDQ {
 		if (DateUtils.isEmpty(day)) { 
 			//IPNM (a) dwc:day is EMPTY, 
 			result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
-			result.addComment("Provided value for dwc:day [" + day + "] is EMPTY.");;
+			result.addComment(CommentTemplate.DAY_EMPTY, day);
 		} else { 
-			try { 
-				Integer dayInteger = Integer.parseInt(day.trim());
-				if (dayInteger>=1 && dayInteger<=28) {
-					// COMP (a) the value of dwc:day is interpretable as an integer between 1 and 28 inclusive, 
+			long dayInteger = DateUtils.scanInteger(day, true);
+			if (dayInteger==DateUtils.NOT_AN_INTEGER) { 
+				// IPNM (b) dwc:day is not interpretable as an integer, 
+				result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
+				result.addComment(CommentTemplate.DAY_NOT_INTEGER, day);
+			} else if (dayInteger>=1 && dayInteger<=28) {
+				// COMP (a) the value of dwc:day is interpretable as an integer between 1 and 28 inclusive, 
+				result.setResultState(ResultState.RUN_HAS_RESULT);
+				result.setValue(ComplianceValue.COMPLIANT);
+				result.addComment(CommentTemplate.DAY_IN_1_TO_28, day);
+			} else if (dayInteger < 1) {
+				// otherwise
+				result.setResultState(ResultState.RUN_HAS_RESULT);
+				result.setValue(ComplianceValue.NOT_COMPLIANT);
+				result.addComment(CommentTemplate.DAY_LESS_THAN_1, day);
+			} else if (dayInteger > 31) {
+				// otherwise 
+				result.setResultState(ResultState.RUN_HAS_RESULT);
+				result.setValue(ComplianceValue.NOT_COMPLIANT);
+				result.addComment(CommentTemplate.DAY_GREATER_THAN_31, day);
+			} else { 
+				long monthInteger = DateUtils.scanInteger(month, true);
+				if (monthInteger==DateUtils.NOT_AN_INTEGER) { 
+					// IPNM  (c) dwc:day is interpretable as an integer between 29 and 31 
+					// inclusive and dwc:month is not interpretable as an integer 
+					// between 1 and 12, or  
+					result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
+					result.addComment(CommentTemplate.DAY_MONTH_NOT_INTEGER, day, month);
+				} else if (dayInteger>=29 && dayInteger<=30 && 
+						(monthInteger==4 || monthInteger==6 || monthInteger==9 || monthInteger==11))
+				{ 
+					// COMP (b) dwc:day is interpretable as an integer between 29 and 30 and dwc:month 
+					// is interpretable as an integer in the set (4,6,9,11),
 					result.setResultState(ResultState.RUN_HAS_RESULT);
 					result.setValue(ComplianceValue.COMPLIANT);
-					result.addComment("Provided value for dwc:day [" + day + "] is in the range 1-28 inclusive.");;
-				} else if (dayInteger < 1) {
-					// otherwise
+					result.addComment(CommentTemplate.DAY_IN_29_TO_30, day);
+				} else if (dayInteger>=29 && dayInteger<=31 && 
+						(monthInteger==1 || monthInteger==3 || monthInteger==5 || monthInteger==7 || monthInteger==8 || monthInteger==10 || monthInteger==12 )) 
+				{ 
+					///COMP (c) dwc:day is interpretable as an integer between 29 and 
+					// 31 and dwc:month is interpretable as an integer in the set 
+					// (1,3,5,7,8,10,12),
 					result.setResultState(ResultState.RUN_HAS_RESULT);
-					result.setValue(ComplianceValue.NOT_COMPLIANT);
-					result.addComment("Provided value for dwc:day [" + day + "] is less than 1.");;
-				} else if (dayInteger > 31) {
-					// otherwise 
-					result.setResultState(ResultState.RUN_HAS_RESULT);
-					result.setValue(ComplianceValue.NOT_COMPLIANT);
-					result.addComment("Provided value for dwc:day [" + day + "] is greater than 31.");;
-				} else { 
-					try {
-						if (DateUtils.isEmpty(month)) { 
-							throw new NumberFormatException();
-						}
-						Integer monthInteger = Integer.parseInt(month.trim());
-						if (dayInteger>=29 && dayInteger<=30 && 
-								(monthInteger==4 || monthInteger==6 || monthInteger==9 || monthInteger==11))
-						{ 
-							// COMP (b) dwc:day is interpretable as an integer between 29 and 30 and dwc:month 
-							// is interpretable as an integer in the set (4,6,9,11),
-							result.setResultState(ResultState.RUN_HAS_RESULT);
-							result.setValue(ComplianceValue.COMPLIANT);
-							result.addComment("Provided value for dwc:day [" + day + "] is in the range 29-30 and month is in the set (4,6,9,11).");;
-						} else if (dayInteger>=29 && dayInteger<=31 && 
-								(monthInteger==1 || monthInteger==3 || monthInteger==5 || monthInteger==7 || monthInteger==8 || monthInteger==10 || monthInteger==12 )) 
-						{ 
-							///COMP (c) dwc:day is interpretable as an integer between 29 and 
-							// 31 and dwc:month is interpretable as an integer in the set 
-							// (1,3,5,7,8,10,12),
-							result.setResultState(ResultState.RUN_HAS_RESULT);
-							result.setValue(ComplianceValue.COMPLIANT);
-							result.addComment("Provided value for dwc:day [" + day + "] is in the range 29-31 and month is in the set (1,3,5,7,8,10,12).");;
-						} else if (dayInteger==29 && monthInteger==2) { 
-							// leap day, check if in leap year
-							try {     					
-								if (DateUtils.isEmpty(year)) { 
-									throw new NumberFormatException();
-								}
-								Integer yearInteger = Integer.parseInt(year.trim());
-								if ( ((yearInteger%400)==0) || ((yearInteger % 4)==0 && (yearInteger % 100)!=0)) { 
-									// COMP (d) dwc:day is interpretable as the 
-									// integer 29 and dwc:month is interpretable as the integer 
-									// 2 and dwc:year is interpretable as is a valid leap year 
-									// (evenly divisible by 400 or (evenly divisible by 4 but not 
-									// evenly divisible by 100)); 
-									result.setResultState(ResultState.RUN_HAS_RESULT);
-									result.setValue(ComplianceValue.COMPLIANT);
-									result.addComment("Provided value for dwc:day [" + day + "] is 29 and dwc:month ["+month+"] is 2 making it a leap day, and dwc:year ["+year+"] is a leap year.");;
-								} else { 
-									// otherwise NOT_COMPLIANT.
-									result.setResultState(ResultState.RUN_HAS_RESULT);
-									result.setValue(ComplianceValue.NOT_COMPLIANT);
-									result.addComment("Provided value for dwc:day [" + day + "] is 29 and dwc:month ["+month+"] is 2 making it a leap day, but dwc:year ["+year+"] is not a leap year.");;
-								}
-							} catch (NumberFormatException e) { 
-								// IPNM (d) dwc:month is interpretable as the 
-								// integer 2 and dwc:day is interpretable as the integer 29 
-								// and dwc:year is not interpretable as a valid ISO 8601 year; 
-								logger.debug(e.getMessage());
-								result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
-								result.addComment("Provided value for dwc:day [" + day + "] is 29 and dwc:month ["+month+"] is 2 making it a leap day, but dwc:year ["+year+"] could not be interpreted as an integer.");;
-							}
-						} else {
-							// otherwise
-							result.setResultState(ResultState.RUN_HAS_RESULT);
-							result.setValue(ComplianceValue.NOT_COMPLIANT);
-							result.addComment("Provided values for dwc:day [" + day + "] dwc:month ["+month+"] and dwc:year ["+year+"] didn't match the values for a valid day.");;
-						}
-					} catch (NumberFormatException e) { 
-						// IPNM  (c) dwc:day is interpretable as an integer between 29 and 31 
-						// inclusive and dwc:month is not interpretable as an integer 
-						// between 1 and 12, or  
-						logger.debug(e.getMessage());
+					result.setValue(ComplianceValue.COMPLIANT);
+					result.addComment(CommentTemplate.DAY_IN_29_TO_31, day);
+				} else if (dayInteger==29 && monthInteger==2) { 
+					// leap day, check if in leap year
+					long yearInteger = DateUtils.scanInteger(year, true);
+					if (yearInteger==DateUtils.NOT_AN_INTEGER) { 
+						// IPNM (d) dwc:month is interpretable as the 
+						// integer 2 and dwc:day is interpretable as the integer 29 
+						// and dwc:year is not interpretable as a valid ISO 8601 year; 
 						result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
-						result.addComment("Provided value for dwc:day [" + day + "] is between 29 and 31, but dwc:month ["+month+"] could not be interpreted as an integer.");;
+						result.addComment(CommentTemplate.DAY_LEAP_DAY_YEAR_NOT_INTEGER, day, month, year);
+					} else if (DateUtils.daysInMonth((int)yearInteger, 2)==29) { 
+						// COMP (d) dwc:day is interpretable as the 
+						// integer 29 and dwc:month is interpretable as the integer 
+						// 2 and dwc:year is interpretable as is a valid leap year 
+						// (evenly divisible by 400 or (evenly divisible by 4 but not 
+						// evenly divisible by 100)); 
+						result.setResultState(ResultState.RUN_HAS_RESULT);
+						result.setValue(ComplianceValue.COMPLIANT);
+						result.addComment(CommentTemplate.DAY_LEAP_DAY_IN_LEAP_YEAR, day, month, year);
+					} else { 
+						// otherwise NOT_COMPLIANT.
+						result.setResultState(ResultState.RUN_HAS_RESULT);
+						result.setValue(ComplianceValue.NOT_COMPLIANT);
+						result.addComment(CommentTemplate.DAY_LEAP_DAY_NOT_LEAP_YEAR, day, month, year);
 					}
+				} else {
+					// otherwise
+					result.setResultState(ResultState.RUN_HAS_RESULT);
+					result.setValue(ComplianceValue.NOT_COMPLIANT);
+					result.addComment(CommentTemplate.DAY_NOT_VALID_DAY, day, month, year);
 				}
-			} catch (NumberFormatException e) { 
-				// IPNM (b) dwc:day is not interpretable as an integer, 
-				logger.debug(e.getMessage());
-				result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
-				result.addComment("Provided value for dwc:day [" + day + "] could not be interpreted as an integer.");;
 			}
 
 		}
@@ -1092,7 +1077,7 @@ public class DwCEventDQ {
 	public static final DQResponse<ComplianceValue> validationStartdayofyearInrange(
 			@ActedUpon(value="dwc:startDayOfYear") String startDayOfYear, 
 			@Consulted(value="dwc:eventDate")String eventDate) {
-		DQResponse<ComplianceValue> result = new DQResponse<ComplianceValue>();
+		TemplatedDQResponse<ComplianceValue> result = new TemplatedDQResponse<ComplianceValue>();
 
 		// Specification
 		// INTERNAL_PREREQUISITES_NOT_MET if dwc:startDayOfYear is 
@@ -1105,12 +1090,13 @@ public class DwCEventDQ {
 		// from dwc:eventDate is a leap year; otherwise NOT_COMPLIANT 
 
 		String year = ""; 
+		int yearNumber = 0;
 
 		boolean eventDateParseFailure = false;
 		if (!DateUtils.isEmpty(eventDate)) { 
 			try {
-				Integer startYearInt = new LocalDateInterval(eventDate).getStartDate().getYear();
-				year = Integer.toString(startYearInt);
+				yearNumber = new LocalDateInterval(eventDate).getStartDate().getYear();
+				year = Integer.toString(yearNumber);
 			} catch (DateTimeParseException | EmptyDateException e1) {
 				logger.debug(e1.getMessage());
 				eventDateParseFailure = true;
@@ -1125,45 +1111,39 @@ public class DwCEventDQ {
 			result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
 			result.addComment("startDayOfYear was not provided.");
 		} else {
-			try {
-				Integer numericStartDay = Integer.parseInt(startDayOfYear);
-				if (numericStartDay>0 && numericStartDay<366) {
-					result.setValue(ComplianceValue.COMPLIANT);
-					result.setResultState(ResultState.RUN_HAS_RESULT);
-					result.addComment("startDayOfYear [" + startDayOfYear + "] is in range for days of the year.");
-				} else if (numericStartDay==366) {
-					if (DateUtils.isEmpty(year)) {
-						result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
-						if (eventDateParseFailure) {
-							result.addComment("unable to extract year from provided eventDate and day is 366, could be valid in a leap year.");
-						} else {
-							result.addComment("year was not provided and day is 366, could be valid in a leap year.");
-						}
+			long numericStartDay = DateUtils.scanInteger(startDayOfYear, false);
+			if (numericStartDay==DateUtils.NOT_AN_INTEGER) {
+				result.setResultState(ResultState.RUN_HAS_RESULT);
+				result.setValue(ComplianceValue.NOT_COMPLIANT);
+				result.addComment(CommentTemplate.DAYOFYEAR_NOT_NUMBER, "startDayOfYear", startDayOfYear);
+			} else if (numericStartDay>0 && numericStartDay<366) {
+				result.setValue(ComplianceValue.COMPLIANT);
+				result.setResultState(ResultState.RUN_HAS_RESULT);
+				result.addComment(CommentTemplate.DAYOFYEAR_IN_RANGE, "startDayOfYear", startDayOfYear);
+			} else if (numericStartDay==366) {
+				if (DateUtils.isEmpty(year)) {
+					result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
+					if (eventDateParseFailure) {
+						result.addComment("unable to extract year from provided eventDate and day is 366, could be valid in a leap year.");
 					} else {
-						String potentialDay = DateUtils.createEventDateFromParts("", startDayOfYear, "", year, "", "");
-						if (DateUtils.isEmpty(potentialDay)) {
-							result.setValue(ComplianceValue.NOT_COMPLIANT);
-							result.setResultState(ResultState.RUN_HAS_RESULT);
-							result.addComment("startDayOfYear [" + startDayOfYear + "] is out of range for year ["+ year +"].");
-						} else if (DateUtils.eventDateValid(potentialDay)) {
-							result.setValue(ComplianceValue.COMPLIANT);
-							result.setResultState(ResultState.RUN_HAS_RESULT);
-							result.addComment("startDayOfYear [" + startDayOfYear + "] is in range for days of the year ["+year+"].");
-						} else {
-							result.setValue(ComplianceValue.NOT_COMPLIANT);
-							result.setResultState(ResultState.RUN_HAS_RESULT);
-							result.addComment("startDayOfYear [" + startDayOfYear + "] is out of range for year ["+ year +"].");
-						}
+						result.addComment("year was not provided and day is 366, could be valid in a leap year.");
 					}
 				} else {
-					result.setValue(ComplianceValue.NOT_COMPLIANT);
-					result.setResultState(ResultState.RUN_HAS_RESULT);
-					result.addComment("startDayOfYear [" + startDayOfYear + "] is out of range for days in the year.");
+					// day 366 of the year as a date is only recognized for four digit years
+					if (yearNumber>=1000 && yearNumber<=9999 && DateUtils.daysInYear(yearNumber)==366) {
+						result.setValue(ComplianceValue.COMPLIANT);
+						result.setResultState(ResultState.RUN_HAS_RESULT);
+						result.addComment(CommentTemplate.DAYOFYEAR_IN_RANGE_FOR_YEAR, "startDayOfYear", startDayOfYear, year);
+					} else {
+						result.setValue(ComplianceValue.NOT_COMPLIANT);
+						result.setResultState(ResultState.RUN_HAS_RESULT);
+						result.addComment(CommentTemplate.DAYOFYEAR_OUT_OF_RANGE_FOR_YEAR, "startDayOfYear", startDayOfYear, year);
+					}
 				}
-			} catch (NumberFormatException e) {
-				result.setResultState(ResultState.RUN_HAS_RESULT);
+			} else {
 				result.setValue(ComplianceValue.NOT_COMPLIANT);
-				result.addComment("startDayOfYear [" + startDayOfYear + "] is not a number.");
+				result.setResultState(ResultState.RUN_HAS_RESULT);
+				result.addComment(CommentTemplate.DAYOFYEAR_OUT_OF_RANGE, "startDayOfYear", startDayOfYear);
 			}
 		}
 		return result;
@@ -1204,15 +1184,16 @@ public class DwCEventDQ {
 		// integer between 1 and 365 inclusive, or if the value of 
 		// dwc:endDayOfYear is 366 and the end year interpreted from 
 		// dwc:eventDate is a leap year; otherwise NOT_COMPLIANT  
-		DQResponse<ComplianceValue> result = new DQResponse<ComplianceValue>();
+		TemplatedDQResponse<ComplianceValue> result = new TemplatedDQResponse<ComplianceValue>();
 
 		String year = ""; 
+		int yearNumber = 0;
 
 		boolean eventDateParseFailure = false;
 		if (!DateUtils.isEmpty(eventDate)) { 
 			try {
-				Integer endYearInt = new LocalDateInterval(eventDate).getEndDate().getYear();
-				year = Integer.toString(endYearInt);
+				yearNumber = new LocalDateInterval(eventDate).getEndDate().getYear();
+				year = Integer.toString(yearNumber);
 			} catch (DateTimeParseException | EmptyDateException e1) {
 				logger.debug(e1.getMessage());
 				eventDateParseFailure = true;
@@ -1227,45 +1208,39 @@ public class DwCEventDQ {
 			result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
 			result.addComment("endDayOfYear was not provided.");
 		} else {
-			try {
-				Integer numericEndDay = Integer.parseInt(endDay);
-				if (numericEndDay>0 && numericEndDay<366) {
-					result.setValue(ComplianceValue.COMPLIANT);
-					result.setResultState(ResultState.RUN_HAS_RESULT);
-					result.addComment("endDayOfYear [" + endDay + "] is in range for days of the year.");
-				} else if (numericEndDay==366) {
-					if (DateUtils.isEmpty(year)) {
-						result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
-						if (eventDateParseFailure) {
-							result.addComment("unable to extract year from provided eventDate and day is 366, could be valid in a leap year.");
-						} else {
-							result.addComment("year was not provided and day is 366, could be valid in a leap year.");
-						}
+			long numericEndDay = DateUtils.scanInteger(endDay, false);
+			if (numericEndDay==DateUtils.NOT_AN_INTEGER) {
+				result.setResultState(ResultState.RUN_HAS_RESULT);
+				result.setValue(ComplianceValue.NOT_COMPLIANT);
+				result.addComment(CommentTemplate.DAYOFYEAR_NOT_NUMBER, "endDayOfYear", endDay);
+			} else if (numericEndDay>0 && numericEndDay<366) {
+				result.setValue(ComplianceValue.COMPLIANT);
+				result.setResultState(ResultState.RUN_HAS_RESULT);
+				result.addComment(CommentTemplate.DAYOFYEAR_IN_RANGE, "endDayOfYear", endDay);
+			} else if (numericEndDay==366) {
+				if (DateUtils.isEmpty(year)) {
+					result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
+					if (eventDateParseFailure) {
+						result.addComment("unable to extract year from provided eventDate and day is 366, could be valid in a leap year.");
 					} else {
-						String potentialDay = DateUtils.createEventDateFromParts("", endDay, "", year, "", "");
-						if (DateUtils.isEmpty(potentialDay)) {
-							result.setValue(ComplianceValue.NOT_COMPLIANT);
-							result.setResultState(ResultState.RUN_HAS_RESULT);
-							result.addComment("endDayOfYear [" + endDay + "] is out of range for year ["+ year +"].");
-						} else if (DateUtils.eventDateValid(potentialDay)) {
-							result.setValue(ComplianceValue.COMPLIANT);
-							result.setResultState(ResultState.RUN_HAS_RESULT);
-							result.addComment("endDayOfYear [" + endDay + "] is in range for days of the year ["+year+"].");
-						} else {
-							result.setValue(ComplianceValue.NOT_COMPLIANT);
-							result.setResultState(ResultState.RUN_HAS_RESULT);
-							result.addComment("endDayOfYear [" + endDay + "] is out of range for year ["+ year +"].");
-						}
+						result.addComment("year was not provided and day is 366, could be valid in a leap year.");
 					}
 				} else {
-					result.setValue(ComplianceValue.NOT_COMPLIANT);
-					result.setResultState(ResultState.RUN_HAS_RESULT);
-					result.addComment("endDayOfYear [" + endDay + "] is out of range for days in the year.");
+					// day 366 of the year as a date is only recognized for four digit years
+					if (yearNumber>=1000 && yearNumber<=9999 && DateUtils.daysInYear(yearNumber)==366) {
+						result.setValue(ComplianceValue.COMPLIANT);
+						result.setResultState(ResultState.RUN_HAS_RESULT);
+						result.addComment(CommentTemplate.DAYOFYEAR_IN_RANGE_FOR_YEAR, "endDayOfYear", endDay, year);
+					} else {
+						result.setValue(ComplianceValue.NOT_COMPLIANT);
+						result.setResultState(ResultState.RUN_HAS_RESULT);
+						result.addComment(CommentTemplate.DAYOFYEAR_OUT_OF_RANGE_FOR_YEAR, "endDayOfYear", endDay, year);
+					}
 				}
-			} catch (NumberFormatException e) {
-				result.setResultState(ResultState.RUN_HAS_RESULT);
+			} else {
 				result.setValue(ComplianceValue.NOT_COMPLIANT);
-				result.addComment("endDayOfYear [" + endDay + "] is not a number.");
+				result.setResultState(ResultState.RUN_HAS_RESULT);
+				result.addComment(CommentTemplate.DAYOFYEAR_OUT_OF_RANGE, "endDayOfYear", endDay);
 			}
 		}
 		return result;
@@ -1551,48 +1526,38 @@ public class DwCEventDQ {
 			result.addComment("No value for dwc:month was provided.");
 		} else {
 
-			try {
-				Integer monthNumeric = Integer.parseInt(month.trim());
+			long monthNumeric = DateUtils.scanInteger(month, true);
+			if (monthNumeric!=DateUtils.NOT_AN_INTEGER) {
 				result.addComment("A value for dwc:month parsable as an integer was provided.");
 				if (monthNumeric >= 1 && monthNumeric <=12) { 
 					result.addComment("Provided value for dwc:month was in the range 1-12.");
-					if (Integer.toString(monthNumeric).equals(month)) { 
+					if (Long.toString(monthNumeric).equals(month)) { 
 						result.setResultState(ResultState.NOT_AMENDED);
 						result.addComment("No change needed.");
 					} else {
 						result.setResultState(ResultState.AMENDED);
 						Map<String, String> values = new HashMap<>();
-						values.put("dwc:month", monthNumeric.toString());
+						values.put("dwc:month", Long.toString(monthNumeric));
 						result.setValue(new AmendmentValue(values));
-						result.addComment("Interpreted provided value for dwc:month ["+month+"] as ["+monthNumeric.toString()+"].");
+						result.addComment("Interpreted provided value for dwc:month ["+month+"] as ["+monthNumeric+"].");
 					}
 				} else {
 					result.addComment("Provided value for dwc:month was outside the range 1-12.");
 					result.setResultState(ResultState.NOT_AMENDED);
 				}
-			} catch (NumberFormatException e) {
-				// Convert roman numerals 
-				logger.debug(month);
-				String monthConverted = DateUtils.interpretAsIntegerMonth(month);
-				// Strip any trailing period off of month name.
-				String monthTrim = monthConverted.replaceFirst("\\.$", "").trim();
-				if (DateUtils.isEmpty(monthTrim)) {
+			} else {
+				// Convert roman numerals, number words, etc, each distinct value is interpreted once.
+				String monthInteger = MonthDictionary.getDefault().standardize(month);
+				if (monthInteger.equals(MonthDictionary.UNINTERPRETABLE)) {
 					result.setResultState(ResultState.NOT_AMENDED);
 					result.addComment("Unable to parse a meaningfull value for month from dwc:month ["+month+"].");
 				} else {
-					logger.debug(monthTrim);
-					try { 
-						Integer monthInteger = Integer.parseInt(monthTrim);
-						result.setResultState(ResultState.AMENDED);
-						Map<String, String> values = new HashMap<>();
-						values.put("dwc:month", monthInteger.toString());
-						result.setValue(new AmendmentValue(values));
-						result.addComment("Interpreted provided value for dwc:month ["+month+"] as ["+monthInteger.toString()+"].");
-						logger.debug(result.getComment());
-					} catch (NumberFormatException ex) { 
-						result.setResultState(ResultState.NOT_AMENDED);
-						result.addComment("Unable to parse a meaningfull value for month from dwc:month ["+month+"].");
-					}
+					result.setResultState(ResultState.AMENDED);
+					Map<String, String> values = new HashMap<>();
+					values.put("dwc:month", monthInteger);
+					result.setValue(new AmendmentValue(values));
+					result.addComment("Interpreted provided value for dwc:month ["+month+"] as ["+monthInteger+"].");
+					logger.debug(result.getComment());
 				}
 			}
 
@@ -1791,6 +1756,8 @@ public class DwCEventDQ {
 		// otherwise NOT_COMPLIANT. 
 		boolean inconsistencyFound = false;
 		boolean interpretationProblem = false;
+		// parse eventDate once, null if no interval can be extracted from it
+		EventDatePrecision precision = DateUtils.isEmpty(eventDate) ? null : EventDatePrecision.of(eventDate);
 
 		if (DateUtils.isEmpty(eventDate)) {
 			result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
@@ -1798,20 +1765,23 @@ public class DwCEventDQ {
 		} else if (DateUtils.isEmpty(year) && DateUtils.isEmpty(month) && DateUtils.isEmpty(day)  && DateUtils.isEmpty(startDayOfYear) && DateUtils.isEmpty(endDayOfYear)) {
 			result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
 			result.addComment("Provided values for year, month, day, startDayOfYear and endDayOfYear are empty.  Unable to evaluate consistency.");
+		} else if (precision==null) {
+			result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
+			result.addComment("Unable to extract a date interval from the provided value for dwc:eventDate ["+eventDate+"].  Unable to evaluate consistency.");
 		} else {
-			LocalDateInterval interval = DateUtils.extractDateInterval(eventDate);
+			EventDateBounds bounds = precision.getBounds();
 			// (1) dwc:year is EMPTY or dwc:eventDate 
 			// has a precision of one year or finer and and is within a 
 			// single year and the provided value of dwc:year matches the 
 			// year expressed in dwc:eventDate, 
 			if (!DateUtils.isEmpty(year)) { 
-				if (interval!=null && interval.getStartDate().getYear()==interval.getEndDate().getYear() && DateUtils.specificToYearScale(eventDate)) {
+				if (bounds.getStartYear()==bounds.getEndYear() && bounds.isSpecificToYearScale()) {
 					// dwc:eventDate has a precision of one year or finer and and is within a single year
-					if (!year.trim().equals(Integer.toString(interval.getStartDate().getYear()))) { 
+					if (!year.trim().equals(Integer.toString(bounds.getStartYear()))) { 
 						result.addComment("Provided value for dwc:eventDate ["+eventDate+"] is inconsistent with dwc:year ["+year+"].");
 						inconsistencyFound = true;
 					}
-				} else if (interval!=null && interval.getStartDate().getYear()!=interval.getEndDate().getYear()) {
+				} else if (bounds.getStartYear()!=bounds.getEndYear()) {
 					result.addComment("Provided value for dwc:eventDate ["+eventDate+"] represents more than a year, but dwc:year contains a value ["+year+"] it should not.");
 					inconsistencyFound = true;
 				}
@@ -1821,18 +1791,19 @@ public class DwCEventDQ {
 			// is within a single month and the provided value in dwc:month 
 			// matches the month represented by dwc:eventDate, and (3) 
 			if (!DateUtils.isEmpty(month)) {
-				if (!DateUtils.specificToMonthScale(eventDate)) { 
+				if (!bounds.isSpecificToMonthScale()) { 
 					result.addComment("Provided value for dwc:eventDate ["+eventDate+"] represents more than a month, but dwc:month contains a value ["+month+"] it should not.");
 					inconsistencyFound = true;
 				} else {
-					if (interval!=null && interval.getStart().getMonthValue()!=interval.getEnd().getMonthValue()) { 
+					if (bounds.getStartMonth()!=bounds.getEndMonth()) { 
 						result.addComment("Provided value for dwc:eventDate ["+eventDate+"] spans a month boundary, but dwc:month contains a value ["+month+"] it should not.");
 						inconsistencyFound = true;
 					} else {
-						if (interval==null) { 
-							result.addComment("Unable to obtain month from dwc:eventDate ["+eventDate+"] to compare with month ");
-							interpretationProblem = true;
-						} else if (!month.trim().replaceAll("^0", "").equals(Integer.toString(interval.getStart().getMonthValue()))) {
+						String monthTrimmed = month.trim();
+						if (monthTrimmed.startsWith("0")) { 
+							monthTrimmed = monthTrimmed.substring(1);
+						}
+						if (!monthTrimmed.equals(Integer.toString(bounds.getStartMonth()))) {
 							result.addComment("Provided value for dwc:eventDate ["+eventDate+"] contains a month that is not consistent with the provided value for dwc:month ["+month+"].");
 							inconsistencyFound = true;
 						}
@@ -1844,9 +1815,9 @@ public class DwCEventDQ {
 			// or less and is within a single day and the provided value 
 			// in dwc:day matches the day represented by dwc:eventDate, 
 			if (!DateUtils.isEmpty(day)) { 
-				if (DateUtils.hasResolutionDayOrFiner(eventDate)) { 
+				if (bounds.hasResolutionDayOrFiner()) { 
 					try {
-						if (DateUtils.measureDurationSeconds(eventDate) > 86400) { 
+						if (bounds.measureDurationSeconds() > 86400) { 
 							result.addComment("The provided dwc:eventDate ["+eventDate+"] spans more than one day, and dwc:day contains a value ["+day+"] when it should not. ");
 							inconsistencyFound = true;
 						}
@@ -1854,13 +1825,15 @@ public class DwCEventDQ {
 						result.addComment("Unable to determine duration of provided dwc:eventDate ["+eventDate+"].");
 						interpretationProblem = true;
 					}
-					if (interval!=null && interval.getStartDate().getDayOfYear()!=interval.getStartDate().getDayOfYear()) { 
-						result.addComment("The provided dwc:eventDate ["+eventDate+"] represents an interval of more than one day, and dwc:day contains a value ["+day+"] when it should not. ");
-						inconsistencyFound = true;
-					}
-					if (DateUtils.extractDate(eventDate).getDayOfMonth()!=Integer.parseInt(day)) {
-						result.addComment("Provided value for dwc:eventDate ["+eventDate+"] is not consistent with the provided value of dwc:day ["+day+"].");
-						inconsistencyFound = true;
+					LocalDate extractedDate = bounds.extractDate();
+					try {
+						if (extractedDate.getDayOfMonth()!=Integer.parseInt(day.trim())) {
+							result.addComment("Provided value for dwc:eventDate ["+eventDate+"] is not consistent with the provided value of dwc:day ["+day+"].");
+							inconsistencyFound = true;
+						}
+					} catch (NumberFormatException e) {
+						result.addComment("Unable to interpret the provided value of dwc:day ["+day+"] as an integer for comparison with dwc:eventDate ["+eventDate+"].");
+						interpretationProblem = true;
 					}
 				} else { 
 					result.addComment("Provided value for dwc:eventDate ["+eventDate+"] has precision of coarser than a day, but dwc:day contains a value ["+day+"] it should not.");
@@ -1872,20 +1845,25 @@ public class DwCEventDQ {
 			// finer and the provided value in dwc:startDayOfYear matches 
 			// the start day of the year of the range represented by dwc:eventDate, 
 			if (!DateUtils.isEmpty(startDayOfYear)) { 
-				if (DateUtils.hasResolutionDayOrFiner(eventDate)) { 
+				if (bounds.hasResolutionDayOrFiner()) { 
 					LocalDate extractedDate;
-					if (DateUtils.isRange(eventDate)) { 
-						extractedDate = DateUtils.extractDateInterval(eventDate).getStartDate();
+					if (bounds.isRange()) { 
+						extractedDate = bounds.getStartDate();
 					} else {
-						extractedDate = DateUtils.extractDate(eventDate);
+						extractedDate = bounds.extractDate();
 					}
 					if (extractedDate==null) { 
 						result.addComment("Unable to extract startDayOfYear from dwc:eventDate ["+eventDate+"] for comparision with provided dwc:startDayOfYear ["+startDayOfYear+"].");
 						interpretationProblem = true;
 					} else {
-						if (extractedDate.getDayOfYear()!=Integer.parseInt(startDayOfYear)) {
-							result.addComment("Provided value for dwc:eventDate ["+eventDate+"] is not consistent with the provided value of dwc:startDayOfYear["+startDayOfYear+"].");
-							inconsistencyFound = true;
+						try {
+							if (extractedDate.getDayOfYear()!=Integer.parseInt(startDayOfYear.trim())) {
+								result.addComment("Provided value for dwc:eventDate ["+eventDate+"] is not consistent with the provided value of dwc:startDayOfYear["+startDayOfYear+"].");
+								inconsistencyFound = true;
+							}
+						} catch (NumberFormatException e) {
+							result.addComment("Unable to interpret the provided value of dwc:startDayOfYear ["+startDayOfYear+"] as an integer for comparison with dwc:eventDate ["+eventDate+"].");
+							interpretationProblem = true;
 						}
 					}
 				} else { 
@@ -1899,10 +1877,16 @@ public class DwCEventDQ {
 			// dwc:endDayOfYear matches the end day of the year of the 
 			// range represented by dwc:eventDate;
 			if (!DateUtils.isEmpty(endDayOfYear)) { 
-				if (DateUtils.hasResolutionDayOrFiner(eventDate)) { 
-					if (DateUtils.extractDateInterval(eventDate).getEnd().getDayOfYear()!=Integer.parseInt(endDayOfYear)) {
-						result.addComment("Provided value for dwc:eventDate ["+eventDate+"] is not consistent with the provided value of dwc:endDayIfYear ["+endDayOfYear+"].");
-						inconsistencyFound = true;
+				if (bounds.hasResolutionDayOrFiner()) { 
+					int endDayOfInterval = bounds.getEndDayOfYear();
+					try {
+						if (endDayOfInterval!=Integer.parseInt(endDayOfYear.trim())) {
+							result.addComment("Provided value for dwc:eventDate ["+eventDate+"] is not consistent with the provided value of dwc:endDayIfYear ["+endDayOfYear+"].");
+							inconsistencyFound = true;
+						}
+					} catch (NumberFormatException e) {
+						result.addComment("Unable to interpret the provided value of dwc:endDayOfYear ["+endDayOfYear+"] as an integer for comparison with dwc:eventDate ["+eventDate+"].");
+						interpretationProblem = true;
 					}
 				} else { 
 					result.addComment("Provided value for dwc:eventDate ["+eventDate+"] has precision of coarser than a day, but dwc:startDayOfYear contains a value ["+endDayOfYear+"] it should not.");
@@ -1985,7 +1969,7 @@ public class DwCEventDQ {
 		// dwc:day, dwc:startDayOfYear, dwc:endDayOfYear, dwc:verbatimEventDate 
 		// are NOT EMPTY; otherwise NOT_COMPLIANT. 
 
-		DQResponse<ComplianceValue> result = new DQResponse<ComplianceValue>();
+		TemplatedDQResponse<ComplianceValue> result = new TemplatedDQResponse<ComplianceValue>();
 
 		if (DateUtils.isEmpty(eventDate) &&
 				DateUtils.isEmpty(year) &&
@@ -2107,17 +2091,16 @@ public class DwCEventDQ {
 				result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
 				result.addComment("Provided value for dwc:eventDate ["+eventDate+"] could not be interpreted.");
 			} else {
-				boolean isRange = false;
-				if (DateUtils.isRange(eventDate)) {
-					isRange = true;
-				}
-				LocalDateInterval interval = DateUtils.extractInterval(eventDate);
-				if (interval==null) {
+				// classify eventDate once for all of the terms
+				EventDatePrecision precision = EventDatePrecision.of(eventDate);
+				if (precision==null) {
 					result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
 					result.addComment("Provided value for dwc:eventDate ["+ eventDate +"] appears to be correctly formatted, but could not be interpreted as a valid date.");
 				} else {
+					EventDateBounds bounds = precision.getBounds();
+					boolean isRange = precision.isRange();
 					boolean rangeSpansMoreThanYear = false;
-					if (isRange && interval.getStart().getYear() != interval.getEnd().getYear() ) {
+					if (isRange && bounds.getStartYear() != bounds.getEndYear() ) {
 						// result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
 						result.addComment("Provided value for dwc:eventDate ["+ eventDate +"] represents a range of more than one year.");
 						rangeSpansMoreThanYear = true;
@@ -2126,10 +2109,10 @@ public class DwCEventDQ {
 
 					if (DateUtils.isEmpty(day)) {
 						if (!rangeSpansMoreThanYear) { 
-							String newDay = Integer.toString(interval.getStartDate().getDayOfMonth());
-							if (isRange && !DateUtils.specificToDay(eventDate)) {
+							String newDay = Integer.toString(bounds.getStartDay());
+							if (isRange && !precision.isSpecificToDay()) {
 								result.addComment("Provided dwc:eventDate ["+eventDate+"] represents a range of more than one day or has precision coarser than a day, can't fill in day.");
-							} else if (!isRange && !DateUtils.specificToDay(eventDate)) {
+							} else if (!isRange && !precision.isSpecificToDay()) {
 								result.addComment("Provided dwc:eventDate ["+eventDate+"] has a precision coarser than a day, can't fill in day.");
 							} else {
 								result.addComment("Added day ["+ newDay+"] from eventDate ["+eventDate+"].");
@@ -2140,9 +2123,9 @@ public class DwCEventDQ {
 					}
 					if (DateUtils.isEmpty(month)) {
 						if (!rangeSpansMoreThanYear) { 
-							String newMonth = Integer.toString(interval.getStartDate().getMonthValue());
+							String newMonth = Integer.toString(bounds.getStartMonth());
 							if (isRange) {
-								if (interval.getStartDate().getMonthValue()==interval.getEndDate().getMonthValue() && DateUtils.specificToMonthScale(eventDate)) { 
+								if (bounds.getStartMonth()==bounds.getEndMonth() && precision.isSpecificToMonthScale()) { 
 									values.put("dwc:month", newMonth );
 									result.setResultState(ResultState.FILLED_IN);
 									result.addComment("Added month ["+ newMonth +"] from eventDate ["+eventDate+"].");
@@ -2158,9 +2141,9 @@ public class DwCEventDQ {
 					}
 					if (DateUtils.isEmpty(year)) {
 						if (!rangeSpansMoreThanYear) { 
-							String newYear = Integer.toString(interval.getStartDate().getYear());
+							String newYear = Integer.toString(bounds.getStartYear());
 							if (isRange) {
-								if (DateUtils.specificToYearScale(eventDate)) { 
+								if (precision.isSpecificToYearScale()) { 
 									result.addComment("Added year ["+ newYear +"] from start month of eventDate ["+eventDate+"].");
 									values.put("dwc:year", newYear );
 									result.setResultState(ResultState.FILLED_IN);
@@ -2177,10 +2160,10 @@ public class DwCEventDQ {
 						}
 					}
 
-					boolean precisionDay = DateUtils.hasResolutionDayOrFiner(eventDate);
+					boolean precisionDay = precision.hasResolutionDayOrFiner();
 					logger.debug(precisionDay);
 					if (DateUtils.isEmpty(startDayOfYear) && precisionDay) {
-						String newDay = Integer.toString(interval.getStartDate().getDayOfYear());
+						String newDay = Integer.toString(bounds.getStartDayOfYear());
 						values.put("dwc:startDayOfYear", newDay );
 						result.setResultState(ResultState.FILLED_IN);
 						if (isRange) {
@@ -2191,7 +2174,7 @@ public class DwCEventDQ {
 					}
 
 					if (DateUtils.isEmpty(endDayOfYear) && precisionDay) {
-						String newDay = Integer.toString(interval.getEndDate().getDayOfYear());
+						String newDay = Integer.toString(bounds.getEndDayOfYear());
 						values.put("dwc:endDayOfYear", newDay );
 						result.setResultState(ResultState.FILLED_IN);
 						if (isRange) {
@@ -2284,8 +2267,6 @@ public class DwCEventDQ {
 			@Parameter(name = "bdq:earliestValidDate") String lowerBound,
 			@Parameter(name = "bdq:latestValidDate") String upperBound) 
 	{
-		DQResponse<ComplianceValue> result = new DQResponse<ComplianceValue>();
-
 		// Specification
 		// INTERNAL_PREREQUISITES_NOT_MET if dwc:year is not present, 
 		// or is EMPTY or cannot be interpreted as an integer; COMPLIANT 
@@ -2297,43 +2278,7 @@ public class DwCEventDQ {
 		// This test is defined as parameterized.
 		// bdq:earliestValidDate="1582"; bdq:latestValidDate=current year
 
-		if (lowerBound==null) { 
-			lowerBound = "1582";
-		} else {
-			if (!lowerBound.equals("1582")) { 
-				result.addComment("Using non-default argument ["+ lowerBound +"] for Parameter bdq:earliestValidDate.");
-			}	
-		}
-		if (upperBound==null) { 
-			upperBound = Integer.toString(LocalDateTime.now().getYear());
-		} else {
-			if (!lowerBound.equals(Integer.toString(LocalDateTime.now().getYear()))) { 
-				result.addComment("Using non-default argument ["+ upperBound +"] for Parameter bdq:earliestDate.");
-			}	
-		}
-		if (DateUtils.isEmpty(year)) {
-			result.addComment("No value provided for dwc:year.");
-			result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
-		} else { 
-			try { 
-				int numericYear = Integer.parseInt(year.trim());
-				int numericLowerBound = Integer.parseInt(lowerBound);
-				int numericUpperBound = Integer.parseInt(upperBound);
-				if (numericYear<numericLowerBound || numericYear>numericUpperBound) { 
-					result.setValue(ComplianceValue.NOT_COMPLIANT);
-					result.addComment("Provided value for dwc:year '" + year + "' is not an integer in the range " + lowerBound + " to " + upperBound + " (current year).");
-				} else { 
-					result.setValue(ComplianceValue.COMPLIANT);
-					result.addComment("Provided value for dwc:year '" + year + "' is an integer in the range " + lowerBound + " to " + upperBound + " (current year).");
-				}
-				result.setResultState(ResultState.RUN_HAS_RESULT);
-			} catch (NumberFormatException e) { 
-				logger.debug(e.getMessage());
-				result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
-				result.addComment("Unable to parse dwc:year as an integer:" + e.getMessage());
-			}
-		}
-		return result;
+		return YearInRangeValidator.bind(lowerBound, upperBound).validate(year);
 	}		
 
 	/**
@@ -2361,8 +2306,6 @@ public class DwCEventDQ {
 			@ActedUpon("dwc:eventDate") String eventDate, 
 			@Parameter(name="bdq:earliestValidDate") String earlyestValidDate, 
 			@Parameter(name="bdq:latestValidDate") String latestValidDate ) {
-		DQResponse<ComplianceValue> result = new DQResponse<ComplianceValue>();
-
 		// Specification
 		// INTERNAL_PREREQUISITES_NOT_MET if dwc:eventDate is EMPTY 
 		// or if the value of dwc:eventDate is not a valid ISO 8601-1 
@@ -2373,53 +2316,7 @@ public class DwCEventDQ {
 		// Parameters. This test is defined as parameterized.
 		// Default values: bdq:earliestValidDate="1582-11-15"; bdq:latestValidDate=current year    	
 
-		if (DateUtils.isEmpty(latestValidDate)) {
-			latestValidDate = String.format("%04d",Calendar.getInstance().get(Calendar.YEAR)) + "-12-31";
-		} else {
-			if (!latestValidDate.equals(String.format("%04d",Calendar.getInstance().get(Calendar.YEAR)))) { 
-				result.addComment("Using non-default argument ["+ latestValidDate +"] for Parameter bdq:latestValidDate.");
-			}
-		}
-		String DEFAULT_EARLEST_VALID_DATE = "1582-11-15";
-		if (DateUtils.isEmpty(earlyestValidDate)) { 
-			earlyestValidDate = DEFAULT_EARLEST_VALID_DATE;
-		} else {
-			if (!earlyestValidDate.equals(DEFAULT_EARLEST_VALID_DATE)) { 
-				result.addComment("Using non-default argument ["+ earlyestValidDate +"] for Parameter bdq:earliestValidDate.");
-			}
-		}
-
-		if (DateUtils.isEmpty(eventDate)) {
-			result.addComment("No value provided for dwc:eventDate.");
-			result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
-		} else { 
-			logger.debug(earlyestValidDate);
-			logger.debug(latestValidDate);
-			logger.debug(eventDate);
-			if (! DateUtils.eventDateValid(eventDate)) { 
-				result.addComment("Value provided for dwc:eventDate ["+eventDate+"] not recognized as a valid date.");
-				result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
-				logger.debug(result.getComment());
-			} else { 
-				LocalDateInterval interval = DateUtils.extractInterval(eventDate);
-				LocalDateInterval bounds = DateUtils.extractInterval(earlyestValidDate + "/" + latestValidDate );
-				logger.debug(bounds);
-				logger.debug(interval);
-				if (bounds.contains(interval)) { 
-					result.setValue(ComplianceValue.COMPLIANT);
-					result.addComment("Provided value for dwc:eventDate '" + eventDate + "' falls entirely within the range " + earlyestValidDate + " to " + latestValidDate + ".");
-				} else { 
-					result.setValue(ComplianceValue.NOT_COMPLIANT);
-					if (bounds.overlaps(interval)) { 
-						result.addComment("Provided value for dwc:eventDate '" + eventDate + "' extends outside the range " + earlyestValidDate + " to " + latestValidDate + ".");
-					} else { 
-						result.addComment("Provided value for dwc:eventDate '" + eventDate + "' is outside the range " + earlyestValidDate + " to " + latestValidDate + ".");
-					}
-				} 
-				result.setResultState(ResultState.RUN_HAS_RESULT);
-			}
-		}
-		return result;
+		return EventDateInRangeValidator.bind(earlyestValidDate, latestValidDate).validate(eventDate);
 	}	    
 
 	/**
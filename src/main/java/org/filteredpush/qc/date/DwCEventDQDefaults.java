@@ -17,8 +17,7 @@
  */
 package org.filteredpush.qc.date;
 
-import java.time.LocalDateTime;
-import java.util.Calendar;
+import java.time.LocalDate;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -48,6 +47,22 @@ public class DwCEventDQDefaults extends DwCEventDQ {
 
 	private static final Log logger = LogFactory.getLog(DwCEventDQDefaults.class);
 
+	/** Validator bound to the default range, up to the end of the current year. */
+	private static final DailyBinding<EventDateInRangeValidator> eventdateInrange = new DailyBinding<EventDateInRangeValidator>() {
+		@Override
+		protected EventDateInRangeValidator bind(LocalDate today) {
+			return EventDateInRangeValidator.bind("1582-11-15", String.format("%04d", today.getYear()) + "-12-31");
+		}
+	};
+
+	/** Validator bound to the default range, up to the current year. */
+	private static final DailyBinding<YearInRangeValidator> yearInrange = new DailyBinding<YearInRangeValidator>() {
+		@Override
+		protected YearInRangeValidator bind(LocalDate today) {
+			return YearInRangeValidator.bind("1582", Integer.toString(today.getYear()));
+		}
+	};
+
     /**
      * Is the value of dwc:eventDate entirely with the Parameter Range?
      * 
@@ -78,8 +93,7 @@ public class DwCEventDQDefaults extends DwCEventDQ {
         // Parameters. This test is defined as parameterized.
         // Default values: bdq:earliestValidDate="1582-11-15"; bdq:latestValidDate=current year    	
     	
-    	String currentYear = String.format("%04d",Calendar.getInstance().get(Calendar.YEAR)) + "-12-31";
-    	return DwCEventDQ.validationEventdateInrange(eventDate,"1582-11-15",currentYear);
+    	return eventdateInrange.get().validate(eventDate);
     }
     
 	/**
@@ -102,14 +116,11 @@ public class DwCEventDQDefaults extends DwCEventDQ {
     @ProvidesVersion("https://rs.tdwg.org/bdqtest/terms/ad0c8855-de69-4843-a80c-a5387d20fbc8/2024-08-23")
     @Specification("INTERNAL_PREREQUISITES_NOT_MET if dwc:year is bdq:Empty or cannot be interpreted as an integer; COMPLIANT if the value of dwc:year is within the range bdq:earliestValidDate to bdq:latestValidDate inclusive; otherwise NOT_COMPLIANT. bdq:earliestValidDate default = '1582',bdq:latestValidDate default = '{current year}'")
     public static DQResponse<ComplianceValue> validationYearInrange(@ActedUpon("dwc:year") String year) {
-        DQResponse<ComplianceValue> result = new DQResponse<ComplianceValue>();
         // This test is defined as parameterized.
         // Default values: 
         // bdq:earliestDate="1582"; bdq:latestDate=current year
         
-    	Integer upperBound = LocalDateTime.now().getYear();
-
-        return validationYearInrange(year, 1582, upperBound);
+        return yearInrange.get().validate(year);
     }
     
 }
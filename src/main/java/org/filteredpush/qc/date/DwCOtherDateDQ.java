@@ -33,8 +33,6 @@ import org.datakurator.ffdq.api.result.ComplianceValue;
 import org.datakurator.ffdq.model.ResultState;
 import org.filteredpush.qc.date.util.DateUtils;
 
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.Map;
@@ -80,7 +78,7 @@ public class DwCOtherDateDQ {
 	@Specification("INTERNAL_PREREQUISITES_NOT_MET if dwc:dateIdentified is bdq:Empty; COMPLIANT if the value of dwc:dateIdentified contains a valid ISO 8601 date; otherwise NOT_COMPLIANT")
 	public static DQResponse<ComplianceValue> validationDateidentifiedStandard(
 			@ActedUpon("dwc:dateIdentified") String dateIdentified) {
-		DQResponse<ComplianceValue> result = new DQResponse<ComplianceValue>();
+		TemplatedDQResponse<ComplianceValue> result = new TemplatedDQResponse<ComplianceValue>();
 
 		// Specification
 		// INTERNAL_PREREQUISITES_NOT_MET if dwc:dateIdentified is 
@@ -94,10 +92,10 @@ public class DwCOtherDateDQ {
 			try {
 				if (DateUtils.eventDateValid(dateIdentified)) {
 					result.setValue(ComplianceValue.COMPLIANT);
-					result.addComment("Provided value for dwc:dateIdentified '" + dateIdentified + "' is formated as an ISO date. ");
+					result.addComment(CommentTemplate.ISO_DATE_STANDARD, "dwc:dateIdentified", dateIdentified);
 				} else {
 					result.setValue(ComplianceValue.NOT_COMPLIANT);
-					result.addComment("Provided value for dwc:dateIdentified '" + dateIdentified + "' is not a validly formatted ISO date .");
+					result.addComment(CommentTemplate.ISO_DATE_NOT_STANDARD, "dwc:dateIdentified", dateIdentified);
 				}
 				result.setResultState(ResultState.RUN_HAS_RESULT);
 			} catch (Exception e) {
@@ -158,138 +156,7 @@ public class DwCOtherDateDQ {
 		// Default values: 
 		// bdq:earliestValidDate default="1753-01-01"; bdq:latestValidDate default=[current day]; bdq:includeEventDate default=true
 
-		DQResponse<ComplianceValue> result = new DQResponse<ComplianceValue>();
-		if (DateUtils.isEmpty(earliestValidDate)) { 
-			earliestValidDate = "1753-01-01";
-		} else { 
-			if (!earliestValidDate.equals("1753-01-01")) { 
-				result.addComment("Using non-default argument ["+ earliestValidDate +"] for Parameter bdq:earliestValidDate.");
-			}
-		}
-		if (DateUtils.isEmpty(latestValidDate)) { 
-			latestValidDate  = LocalDate.now().format(DateTimeFormatter.ISO_LOCAL_DATE);
-		} else { 
-			if (!latestValidDate.equals(LocalDate.now().format(DateTimeFormatter.ISO_LOCAL_DATE))) { 
-				result.addComment("Using non-default argument ["+ latestValidDate +"] for Parameter bdq:latestValidDate.");
-			}
-		}
-		if (DateUtils.isEmpty(includeEventDate)) { 
-			includeEventDate = "true";
-		} else { 
-			if (!includeEventDate.equals("true")) { 
-				result.addComment("Using non-default argument ["+ includeEventDate +"] for Parameter bdq:includeEventDate.");
-			}			
-		}
-		Boolean includeEventDateBoolean = false;
-		if (includeEventDate.toLowerCase().equals("true")) { 
-			includeEventDateBoolean = true;
-		} else if (includeEventDate.toLowerCase().equals("false")) { 
-			includeEventDateBoolean = false;
-		} else { 
-			result.addComment("Uninterpretable value provided for bdq:includeEventDate, treating as true.");
-			includeEventDateBoolean = true;
-		}
-
-		String range = earliestValidDate + "/" + latestValidDate;
-		LocalDateInterval withinInterval = DateUtils.extractInterval(range);
-
-		logger.debug(dateIdentified);
-		logger.debug(eventDate);
-
-		if (DateUtils.isEmpty(dateIdentified)) {
-			// INTERNAL_PREREQUISITES_NOT_MET if dwc:dateIdentified is 
-			// EMPTY 
-			result.addComment("No value provided for dwc:dateIdentified.");
-			result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
-		} else if (!DateUtils.eventDateValid(dateIdentified)) {
-			// INTERNAL_PREREQUISITES_NOT_MET if dwc:dateIdentified is 
-			// ... or contains and invalid value according to ISO 8601-1; 
-			result.addComment("Value provided for dwc:dateIdentified ["+dateIdentified+"] is not a valid date.");
-			result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
-		} else if (DateUtils.isEmpty(eventDate) || !includeEventDateBoolean) {
-			// COMPLIANT 
-			// if the value of dwc:dateIdentified is between bdq:earliestValidDate 
-			// and bdq:latestValidDate inclusive and either (1) dwc:eventDate 
-			// is EMPTY or bdq:includeEventDate=false, or (2) ... 
-			if (DateUtils.isEmpty(eventDate)) {
-				result.addComment("No valid value provided for dwc:eventDate to compare with dwc:dateIdentified.");
-			}
-			LocalDateInterval identifiedInterval = DateUtils.extractInterval(dateIdentified);
-			if (withinInterval.overlaps(identifiedInterval)) {
-				result.setValue(ComplianceValue.COMPLIANT);
-				result.setResultState(ResultState.RUN_HAS_RESULT);
-				result.addComment("Provided value for dateIdentified [" + dateIdentified + "] overlaps the limits ["+earliestValidDate +"]-["+latestValidDate +"].");
-			} else { 
-				result.setValue(ComplianceValue.NOT_COMPLIANT);
-				result.setResultState(ResultState.RUN_HAS_RESULT);
-				result.addComment("Provided value for dateIdentified [" + dateIdentified + "] is outside the limits ["+earliestValidDate +"]-["+latestValidDate +"].");
-			}
-		} else {
-			LocalDateInterval identifiedInterval = DateUtils.extractInterval(dateIdentified);
-			LocalDateInterval eventInterval = DateUtils.extractInterval(eventDate);
-			// COMPLIANT 
-			// if the value of dwc:dateIdentified is between bdq:earliestValidDate 
-			// and bdq:latestValidDate inclusive and either (1) ...
-			// (2) if dwc:eventDate 
-			// is a valid ISO 8601-1 date and dwc:dateIdentified overlaps 
-			// or is later than the dwc:eventDate; otherwise NOT_COMPLIANT 
-			if (identifiedInterval==null) { 
-				// INTERNAL_PREREQUISITES_NOT_MET if 
-				// (2) dwc:dateIdentified contains an invalid 
-				// value according to ISO 8601-1 
-				result.addComment("Value provided for dwc:dateIdentified ["+dateIdentified+"] is not a valid date.");
-				result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
-			} else if (eventInterval==null) { 
-				// INTERNAL_PREREQUISITES_NOT_MET ...
-				// (3) bdq:includeEventDate=true 
-				// and dwc:eventDate is not a valid ISO 8601-1 date; 
-				logger.error("Error Constructing interval from dwc:eventDate ["+eventDate+"]");
-				result.addComment("Error constructing an interpretable earliest/latest date range to test against ["+range+"] .");
-				result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
-			} else if (withinInterval==null) { 
-				logger.error("Error Constructing interval from earliest date to latest date");
-				result.addComment("Error constructing an interpretable earliest/latest date range to test against ["+range+"] .");
-				result.setResultState(ResultState.EXTERNAL_PREREQUISITES_NOT_MET);
-			} else if (!withinInterval.contains(identifiedInterval)) {
-				result.setValue(ComplianceValue.NOT_COMPLIANT);
-				result.setResultState(ResultState.RUN_HAS_RESULT);
-				result.addComment("Provided value for dateIdentified [" + dateIdentified + "] starts extends beyond the limits ["+earliestValidDate +"]-["+latestValidDate +"].");
-			} else if (!DateUtils.eventDateValid(eventDate)) { 
-				result.addComment("Provided value for dwc:eventDate ["+eventDate+"] is not a valid date, unable to compare with dwc:dateIdentified.");
-				result.setResultState(ResultState.RUN_HAS_RESULT);
-				result.setValue(ComplianceValue.NOT_COMPLIANT);
-				// Note: changed behavior in v2023-03-29, invalid eventDate is not compliant, not a prerequisites failure.
-				// result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
-			} else { 
-				if (eventInterval.contains(identifiedInterval)) {
-					result.setValue(ComplianceValue.COMPLIANT);
-					result.addComment("Provided value for dateIdentified [" + dateIdentified + "] falls within the eventDate ["+eventDate+"].");
-					result.setResultState(ResultState.RUN_HAS_RESULT);
-				} else if (identifiedInterval.getStartDate().isAfter(eventInterval.getEndDate())) {
-					result.setValue(ComplianceValue.COMPLIANT);
-					result.addComment("Provided value for dateIdentified [" + dateIdentified + "] is after the end of the eventDate ["+eventDate+"].");;
-					result.setResultState(ResultState.RUN_HAS_RESULT);
-				} else if (identifiedInterval.getStartDate().equals(eventInterval.getStartDate())) {
-					result.setValue(ComplianceValue.COMPLIANT);
-					result.addComment("Provided value for dateIdentified [" + dateIdentified + "] starts at the same time as the eventDate ["+eventDate+"].");;
-					result.setResultState(ResultState.RUN_HAS_RESULT);
-				} else if (identifiedInterval.overlaps(eventInterval)) { 
-					result.setValue(ComplianceValue.COMPLIANT);
-					result.addComment("Provided value for dateIdentified [" + dateIdentified + "] overlaps the eventDate ["+eventDate+"].");;
-					result.setResultState(ResultState.RUN_HAS_RESULT);
-				} else if (identifiedInterval.getEndDate().isBefore(eventInterval.getStartDate())) { 
-					result.setValue(ComplianceValue.NOT_COMPLIANT);
-					result.addComment("Provided value for dateIdentified [" + dateIdentified + "] ends before the eventDate starts.");
-					result.setResultState(ResultState.RUN_HAS_RESULT);
-				} else { 
-					result.setValue(ComplianceValue.NOT_COMPLIANT);
-					result.addComment("Provided value for dateIdentified [" + dateIdentified + "] is within allowed range but is not more recent than the eventDate ["+eventDate+"].");
-					result.setResultState(ResultState.RUN_HAS_RESULT);
-				}
-			}
-		}		
-
-		return result;
+		return DateIdentifiedInRangeValidator.bind(earliestValidDate, latestValidDate, includeEventDate).validate(dateIdentified, eventDate);
 	}
 
 	/**
@@ -420,9 +287,17 @@ public class DwCOtherDateDQ {
 	public static DQResponse<AmendmentValue> correctModifiedDateFormat(@ActedUpon(value = "dcterms:modified") String modified) {
 		DQResponse<AmendmentValue> result = new DQResponse<>();
 
-		if (DateUtils.eventDateValid(modified)) {
+		String timestamp = DateUtils.extractTimestamp(modified);
+		if (timestamp!=null ? timestamp.equals(modified) : DateUtils.eventDateValid(modified)) {
 			result.setResultState(ResultState.NOT_AMENDED);
 			result.addComment("dcterms:modified contains a correctly formatted date, not changing.");
+		} else if (timestamp!=null) {
+			// timestamp with a space in place of the T separating date and time
+			Map<String, String> correctedValues = new HashMap<String, String>();
+			correctedValues.put("dcterms:modified", timestamp);
+			result.setValue(new AmendmentValue(correctedValues));
+			result.setResultState(ResultState.AMENDED);
+			result.addComment("Interpretation of dcterms:modified [" + modified + "] as [" + timestamp + "].");
 		} else {
 			if (DateUtils.isEmpty(modified)) {
 				result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
@@ -487,11 +362,13 @@ public class DwCOtherDateDQ {
 			result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
 		} else {
 			try {
-				if (DateUtils.eventDateValid(modified) && DateUtils.specificToDay(modified)) {
+				String timestamp = DateUtils.extractTimestamp(modified);
+				boolean valid = timestamp!=null ? timestamp.equals(modified) : DateUtils.eventDateValid(modified);
+				if (valid && (timestamp!=null || DateUtils.specificToDay(modified))) {
 					result.setValue(ComplianceValue.COMPLIANT);
 					result.addComment("Provided value for dcterms:modified '" + modified + "' is formated as an ISO date tha can be parsed to an explicit date/time ");
 				} else {
-					if (!DateUtils.eventDateValid(modified)) {
+					if (!valid) {
 						result.setValue(ComplianceValue.NOT_COMPLIANT);
 						result.addComment("Provided value for dcterms:modified '" + modified + "' is not a validly formatted ISO date .");
 					} else {
@@ -551,7 +428,7 @@ public class DwCOtherDateDQ {
 						} else if (identifiedInterval.overlaps(eventInterval)) { 
 							result.setValue(ComplianceValue.COMPLIANT);
 							result.addComment("Provided value for dwc:dateIdentified '" + dateIdentified + "' overlaps the dwc:eventDate provided ["+eventDate+"] . ");
-						} else if (identifiedInterval.getStartDate().isAfter(eventInterval.getEndDate())) {
+						} else if (identifiedInterval.getStartEpochDay() > eventInterval.getEndEpochDay()) {
 							result.setValue(ComplianceValue.COMPLIANT);
 							result.addComment("Provided value for dwc:dateIdentified '" + dateIdentified + "' is entirely after the dwc:eventDate provided ["+eventDate+"] . ");
 						} else {
@@ -643,7 +520,9 @@ public class DwCOtherDateDQ {
 			result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
 		} else {
 			try {
-				if (DateUtils.eventDateValid(modified)) {
+				// most values are machine timestamps, check those without the full parse
+				String timestamp = DateUtils.extractTimestamp(modified);
+				if (timestamp!=null ? timestamp.equals(modified) : DateUtils.eventDateValid(modified)) {
 					result.setValue(ComplianceValue.COMPLIANT);
 					result.addComment("Provided value for dwc:modified '" + modified + "' is formated as an ISO date. ");
 				} else {
@@ -688,9 +567,18 @@ public class DwCOtherDateDQ {
 		// and was altered to be a valid ISO 8601-1 date/time; 
 		// otherwise NOT_AMENDED
 
-		if (DateUtils.eventDateValid(modified)) {
+		// most values are machine timestamps, check those without the full parse
+		String timestamp = DateUtils.extractTimestamp(modified);
+		if (timestamp!=null ? timestamp.equals(modified) : DateUtils.eventDateValid(modified)) {
 			result.setResultState(ResultState.NOT_AMENDED);
 			result.addComment("dcterms:modified contains a correctly formatted date, not changing.");
+		} else if (timestamp!=null) { 
+			// timestamp with a space in place of the T separating date and time
+			Map<String, String> correctedValues = new HashMap<>();
+			correctedValues.put("dcterms:modified", timestamp);
+			result.addComment("Unambiguous interpretation of dcterms:modified [" + modified + "] as ["+ timestamp +"].");
+			result.setResultState(ResultState.AMENDED);
+			result.setValue(new AmendmentValue(correctedValues));
 		} else {
 			if (DateUtils.isEmpty(modified)) {
 				result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
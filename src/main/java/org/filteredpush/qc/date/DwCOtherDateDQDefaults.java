@@ -53,8 +53,15 @@ import java.util.Map;
 public class DwCOtherDateDQDefaults extends DwCOtherDateDQ {
 	
 	private static final Log logger = LogFactory.getLog(DwCOtherDateDQ.class);
+
+	/** Validator bound to the default range, up to the current day. */
+	private static final DailyBinding<DateIdentifiedInRangeValidator> dateidentifiedInrange = new DailyBinding<DateIdentifiedInRangeValidator>() {
+		@Override
+		protected DateIdentifiedInRangeValidator bind(LocalDate today) {
+			return DateIdentifiedInRangeValidator.bind("1753-01-01", today.format(DateTimeFormatter.ISO_LOCAL_DATE), "true");
+		}
+	};
 	
-		
 	/**
 	 * Is the value of dwc:dateIdentified within Parameter ranges and either overlap or is later than dwc:eventDate?
 	 *
@@ -79,8 +86,7 @@ public class DwCOtherDateDQDefaults extends DwCOtherDateDQ {
 		// Parameters. This test is defined as parameterized.
 		// Default values: 
 		// bdq:earliestValidDate default="1753-01-01"; bdq:latestValidDate default=[current day]; bdq:includeEventDate default=true
-		String currentDay = LocalDate.now().format(DateTimeFormatter.ISO_LOCAL_DATE);
-		return DwCOtherDateDQ.validationDateidentifiedInrange(dateIdentified, eventDate, "1753-01-01", currentDay, "true");
+		return dateidentifiedInrange.get().validate(dateIdentified, eventDate);
 	} 
 
 
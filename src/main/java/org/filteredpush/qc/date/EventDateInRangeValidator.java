@@ -0,0 +1,146 @@
+/**
+ * EventDateInRangeValidator.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.datakurator.ffdq.api.DQResponse;
+import org.datakurator.ffdq.api.result.ComplianceValue;
+import org.datakurator.ffdq.model.ResultState;
+import org.filteredpush.qc.date.util.DateUtils;
+
+/**
+ * VALIDATION_EVENTDATE_INRANGE with its parameters bdq:earliestValidDate and
+ * bdq:latestValidDate bound once, see DwCEventDQ.validationEventdateInrange(String, String, String).
+ *
+ * The defaults for the parameters and the interval between them are worked out when
+ * the validator is bound, so that validate() only needs to parse the eventDate.
+ * Instances are immutable and may be shared between threads.  Where a parameter
+ * defaults to the current year, it is the current year at the time of binding.
+ *
+ * @author mole
+ *
+ */
+public final class EventDateInRangeValidator {
+
+	private static final Log logger = LogFactory.getLog(EventDateInRangeValidator.class);
+
+	/** Default value for bdq:earliestValidDate */
+	public static final String DEFAULT_EARLIEST_VALID_DATE = "1582-11-15";
+
+	private final String earliestValidDate;
+	private final String latestValidDate;
+	private final List<String> parameterComments;
+	private final LocalDateInterval bounds;
+
+	private EventDateInRangeValidator(String earliestValidDate, String latestValidDate, List<String> parameterComments) {
+		this.earliestValidDate = earliestValidDate;
+		this.latestValidDate = latestValidDate;
+		this.parameterComments = Collections.unmodifiableList(parameterComments);
+		this.bounds = DateUtils.extractInterval(earliestValidDate + "/" + latestValidDate);
+	}
+
+	/**
+	 * Bind the parameters of VALIDATION_EVENTDATE_INRANGE.
+	 *
+	 * @param earliestValidDate bdq:earliestValidDate, if empty 1582-11-15 will be used.
+	 * @param latestValidDate bdq:latestValidDate, if empty the end of the current year will be used.
+	 * @return a validator for eventDate values with the given parameters
+	 */
+	public static EventDateInRangeValidator bind(String earliestValidDate, String latestValidDate) {
+		List<String> comments = new ArrayList<String>();
+		String currentYear = String.format("%04d",Calendar.getInstance().get(Calendar.YEAR));
+		if (DateUtils.isEmpty(latestValidDate)) {
+			latestValidDate = currentYear + "-12-31";
+		} else {
+			if (!latestValidDate.equals(currentYear)) {
+				comments.add("Using non-default argument ["+ latestValidDate +"] for Parameter bdq:latestValidDate.");
+			}
+		}
+		if (DateUtils.isEmpty(earliestValidDate)) {
+			earliestValidDate = DEFAULT_EARLIEST_VALID_DATE;
+		} else {
+			if (!earliestValidDate.equals(DEFAULT_EARLIEST_VALID_DATE)) {
+				comments.add("Using non-default argument ["+ earliestValidDate +"] for Parameter bdq:earliestValidDate.");
+			}
+		}
+		return new EventDateInRangeValidator(earliestValidDate, latestValidDate, comments);
+	}
+
+	/**
+	 * Is the value of dwc:eventDate entirely within the bound range?
+	 *
+	 * @param eventDate the provided dwc:eventDate to evaluate
+	 * @return DQResponse the response of type ComplianceValue  to return
+	 */
+	public DQResponse<ComplianceValue> validate(String eventDate) {
+		TemplatedDQResponse<ComplianceValue> result = new TemplatedDQResponse<ComplianceValue>();
+		for (String comment : parameterComments) {
+			result.addComment(comment);
+		}
+
+		if (DateUtils.isEmpty(eventDate)) {
+			result.addComment("No value provided for dwc:eventDate.");
+			result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
+		} else {
+			logger.debug(eventDate);
+			if (! DateUtils.eventDateValid(eventDate)) {
+				result.addComment(CommentTemplate.EVENTDATE_NOT_RECOGNIZED, eventDate);
+				result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
+				logger.debug(result.getComment());
+			} else {
+				LocalDateInterval interval = DateUtils.extractInterval(eventDate);
+				logger.debug(bounds);
+				logger.debug(interval);
+				if (bounds.contains(interval)) {
+					result.setValue(ComplianceValue.COMPLIANT);
+					result.addComment(CommentTemplate.EVENTDATE_WITHIN_RANGE, eventDate, earliestValidDate, latestValidDate);
+				} else {
+					result.setValue(ComplianceValue.NOT_COMPLIANT);
+					if (bounds.overlaps(interval)) {
+						result.addComment(CommentTemplate.EVENTDATE_EXTENDS_OUTSIDE_RANGE, eventDate, earliestValidDate, latestValidDate);
+					} else {
+						result.addComment(CommentTemplate.EVENTDATE_OUTSIDE_RANGE, eventDate, earliestValidDate, latestValidDate);
+					}
+				}
+				result.setResultState(ResultState.RUN_HAS_RESULT);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return the bound value of bdq:earliestValidDate
+	 */
+	public String getEarliestValidDate() {
+		return earliestValidDate;
+	}
+
+	/**
+	 * @return the bound value of bdq:latestValidDate
+	 */
+	public String getLatestValidDate() {
+		return latestValidDate;
+	}
+
+}
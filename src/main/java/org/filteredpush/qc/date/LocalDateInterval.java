@@ -29,6 +29,11 @@ public class LocalDateInterval {
 	private LocalDate startDate;
 	private LocalDate endDate;
 	
+	/* start and end dates as epoch days, cached on construction for 
+	 * comparisons and durations without creating objects. */
+	private long startEpochDay;
+	private long endEpochDay;
+	
 	/**
 	 * An internal date structure used in parsing string dates within 
 	 * LocalDateInterval, carries a start and end date.
@@ -77,6 +82,7 @@ public class LocalDateInterval {
 		}
 		this.startDate = startDate;
 		this.endDate = endDate;
+		cacheEpochDays();
 	}
 	
 	/**
@@ -92,6 +98,7 @@ public class LocalDateInterval {
 		}
 		this.startDate = singleDay;
 		this.endDate = singleDay;
+		cacheEpochDays();
 	}
 	
 	/**
@@ -153,6 +160,19 @@ public class LocalDateInterval {
     			this.endDate = result.getEndOfPair();
     		}
     	}
+    	cacheEpochDays();
+	}
+	
+	/**
+	 * Store the epoch days of the current start and end dates.
+	 */
+	private void cacheEpochDays() { 
+		if (startDate!=null) { 
+			startEpochDay = startDate.toEpochDay();
+		}
+		if (endDate!=null) { 
+			endEpochDay = endDate.toEpochDay();
+		}
 	}
 
 	/**
@@ -333,6 +353,7 @@ public class LocalDateInterval {
 	 */
 	private void setStartDate(LocalDate startDate) {
 		this.startDate = startDate;
+		cacheEpochDays();
 	}
 
 	/**
@@ -355,6 +376,21 @@ public class LocalDateInterval {
 	 */
 	private void setEndDate(LocalDate endDate) {
 		this.endDate = endDate;
+		cacheEpochDays();
+	}
+	
+	/**
+	 * @return the startDate as a count of days from the epoch day 1970-01-01
+	 */
+	public long getStartEpochDay() { 
+		return startEpochDay;
+	}
+	
+	/**
+	 * @return the endDate as a count of days from the epoch day 1970-01-01
+	 */
+	public long getEndEpochDay() { 
+		return endEpochDay;
 	}
 	
 	/**
@@ -365,7 +401,7 @@ public class LocalDateInterval {
 	 */
 	public boolean isSingleDay() { 
 		boolean result = false;
-		if (startDate!=null && endDate!=null && startDate.isEqual(endDate)) { 
+		if (startDate!=null && endDate!=null && startEpochDay==endEpochDay) { 
 			result = true;
 		}
 		return result;
@@ -449,10 +485,8 @@ public class LocalDateInterval {
 	public boolean contains(LocalDateInterval interval) {
 		boolean result = false;
 		if (interval!=null && this.getStartDate()!=null && this.getEndDate()!=null && interval.getEndDate()!=null && interval.getStartDate()!=null)  {
-			if (interval.getStartDate().isAfter(this.getStartDate()) || interval.getStartDate().isEqual(this.getStartDate())) { 
-				if (interval.getEndDate().isBefore(this.getEndDate()) || interval.getEndDate().isEqual(this.getEndDate())) { 
-				   result = true;
-				}
+			if (interval.startEpochDay >= this.startEpochDay && interval.endEpochDay <= this.endEpochDay) { 
+				result = true;
 			}
 		}
 		return result;
@@ -469,27 +503,10 @@ public class LocalDateInterval {
 	 */
 	public boolean overlaps(LocalDateInterval interval) {
 		boolean result = false;
-		if (interval!=null) { 
-			if (interval.equals(this)) { 
-				result = true;
-			} else if (interval.contains(this)) {
-				result = true;
-			} else if (this.contains(interval)) {
+		if (interval!=null && this.getStartDate()!=null && this.getEndDate()!=null && interval.getEndDate()!=null && interval.getStartDate()!=null)  {
+			// equal, containing, contained, and partially overlapping intervals all share at least one day.
+			if (interval.startEpochDay <= this.endEpochDay && interval.endEpochDay >= this.startEpochDay) { 
 				result = true;
-			} else if (interval!=null && this.getStartDate()!=null && this.getEndDate()!=null && interval.getEndDate()!=null && interval.getStartDate()!=null)  {
-				if (interval.getStart().isBefore(this.getStart()) && interval.getEnd().isAfter(this.getStart())) { 
-					result = true;
-				} else if (interval.getStart().isBefore(this.getEnd()) && interval.getEnd().isAfter(this.getEnd())) { 
-					result = true;
-				} else if (interval.getStart().equals(this.getStart()) && interval.getEnd().isAfter(this.getStart())) { 
-					result = true;
-				} else if (interval.getStart().isBefore(this.getEnd()) && interval.getEnd().equals(this.getEnd())) { 
-					result = true;
-				} else if (interval.getStart().isBefore(this.getStart()) && interval.getEnd().equals(this.getStart())) { 
-					result = true;
-				} else if (interval.getStart().equals(this.getEnd()) && interval.getEnd().isAfter(this.getEnd())) { 
-					result = true;
-				} 
 			}
 		}
 		return result;
@@ -502,13 +519,44 @@ public class LocalDateInterval {
 	 * @return a Duration object holding the duration of the local date interval instance.
 	 */
 	public Duration toDuration() {
-		Duration result = null;
-		
-		result = Duration.between(startDate.atStartOfDay(), endDate.atStartOfDay().plusDays(1));
-		
-		return result;
+		return Duration.ofDays(getDurationDays());
 	}
 	
-}
-
-	
\ No newline at end of file
+	/**
+	 * Obtain the number of days in the LocalDateInterval, from the start of the 
+	 * start day to the end of the end day, a single day has a duration of 1 day.
+	 * 
+	 * @return the number of days in the interval.
+	 */
+	public long getDurationDays() { 
+		return endEpochDay - startEpochDay + 1l;
+	}
+	
+	/**
+	 * Obtain the duration of the LocalDateInterval in seconds, from the start of
+	 * the start day to the end of the end day, same as toDuration().getSeconds().
+	 * 
+	 * @return the number of seconds in the interval.
+	 */
+	public long getDurationSeconds() { 
+		return getDurationDays() * PackedDateInterval.SECONDS_PER_DAY;
+	}
+	
+	/**
+	 * Count the leap days (February 29) within the LocalDateInterval, including
+	 * the start and end days, computed arithmetically from the epoch days.
+	 * 
+	 * @return the number of leap days in the interval.
+	 */
+	public int countLeapDays() { 
+		return PackedDateInterval.countLeapDays(startEpochDay, endEpochDay);
+	}
+	
+	/**
+	 * @return true if at least one leap day falls within the LocalDateInterval.
+	 */
+	public boolean includesLeapDay() { 
+		return countLeapDays() > 0;
+	}
+	
+}
\ No newline at end of file
@@ -18,6 +18,7 @@ import java.util.List;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.filteredpush.qc.date.util.DateUtils;
+import org.filteredpush.qc.date.util.ScannedDateTime;
 
 /**
  * @author mole
@@ -27,6 +28,41 @@ public class LocalDateTimeInterval {
 
 	private static final Log logger = LogFactory.getLog(LocalDateTimeInterval.class);
 	
+	/**
+	 * Formatters for date bits with a time, in the order in which they are tried.
+	 */
+	private static final List<DateTimeFormatter> DATE_TIME_FORMATTERS = dateTimeFormatters();
+	
+	private static List<DateTimeFormatter> dateTimeFormatters() { 
+		List<DateTimeFormatter> formatters = new ArrayList<DateTimeFormatter>();
+		formatters.add(new DateTimeFormatterBuilder()
+			.append(DateTimeFormatter.ISO_DATE_TIME)
+			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+		formatters.add(new DateTimeFormatterBuilder()
+			.append(DateTimeFormatter.ISO_ZONED_DATE_TIME)
+			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+		formatters.add(new DateTimeFormatterBuilder()
+			.append(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
+			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+		formatters.add(new DateTimeFormatterBuilder()
+			.append(DateTimeFormatter.ISO_OFFSET_DATE_TIME)
+			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+		// The java.time parsers don't treat minutes and seconds as optional, add more parsers
+		formatters.add(new DateTimeFormatterBuilder()
+			.append(DateTimeFormatter.ofPattern("uuuu-MM-dd'T'kk"))
+			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+		formatters.add(new DateTimeFormatterBuilder()
+			.append(DateTimeFormatter.ofPattern("uuuu-MM-dd'T'kk[VV][zz][X][xx][OOOO]"))
+			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+		formatters.add(new DateTimeFormatterBuilder()
+			.append(DateTimeFormatter.ofPattern("uuuu-MM-dd'T'kk':'mm[VV][zz][X][xx][OOOO]"))
+			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+		formatters.add(new DateTimeFormatterBuilder()
+			.append(DateTimeFormatter.ofPattern("uuuu-MM-dd'T'kk':'mm':'ss[VV][zz][X][xx]"))
+			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+		return formatters;
+	}
+	
 	private LocalDateTime startDate;
 	private LocalDateTime endDate;
 	
@@ -174,36 +210,18 @@ public class LocalDateTimeInterval {
 			// invalid ISO dates, as the ISO standard requires the year to consist of at least 4 digits.
 			throw new DateTimeParseException("unable to parse provided dateString, year does not consist of 4 digits", dateBit, 0);
 		}
-		if (dateBit.contains("T")) { 
+		ScannedDateTime scanned = ScannedDateTime.scan(dateBit);
+		if (scanned!=null && scanned.getZoneStyle()!=ScannedDateTime.ZONE_UTC 
+				&& scanned.getZoneStyle()!=ScannedDateTime.ZONE_OFFSET_BASIC
+				&& !(scanned.getPrecision()==ScannedDateTime.PRECISION_HOUR && scanned.getHour()==0)) { 
+			// a date with a time in a form also accepted by the formatters below, 
+			// read directly in one scan, time zone is ignored, as with the formatters.
+			LocalDateTime startDateBit = scanned.toLocalDateTime();
+			result = new DatePair(startDateBit, startDateBit);
+		} else if (dateBit.contains("T")) { 
 			logger.debug(dateBit);
 			// but check first that the time is correctly formatted
-			List<DateTimeFormatter> formatters = new ArrayList<DateTimeFormatter>();
-			formatters.add(new DateTimeFormatterBuilder()
-				.append(DateTimeFormatter.ISO_DATE_TIME)
-				.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			formatters.add(new DateTimeFormatterBuilder()
-				.append(DateTimeFormatter.ISO_ZONED_DATE_TIME)
-				.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			formatters.add(new DateTimeFormatterBuilder()
-    			.append(DateTimeFormatter.ISO_LOCAL_DATE_TIME)
-				.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			formatters.add(new DateTimeFormatterBuilder()
-    			.append(DateTimeFormatter.ISO_OFFSET_DATE_TIME)
-				.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			// The java.time parsers don't treat minutes and seconds as optional, add more parsers
-			formatters.add(new DateTimeFormatterBuilder()
-    			.append(DateTimeFormatter.ofPattern("uuuu-MM-dd'T'kk"))
-				.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			formatters.add(new DateTimeFormatterBuilder()
-    			.append(DateTimeFormatter.ofPattern("uuuu-MM-dd'T'kk[VV][zz][X][xx][OOOO]"))
-				.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			formatters.add(new DateTimeFormatterBuilder()
-    			.append(DateTimeFormatter.ofPattern("uuuu-MM-dd'T'kk':'mm[VV][zz][X][xx][OOOO]"))
-				.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			formatters.add(new DateTimeFormatterBuilder()
-    			.append(DateTimeFormatter.ofPattern("uuuu-MM-dd'T'kk':'mm':'ss[VV][zz][X][xx]"))
-				.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			Iterator<DateTimeFormatter> i = formatters.iterator();
+			Iterator<DateTimeFormatter> i = DATE_TIME_FORMATTERS.iterator();
 			boolean matched = false;
 			String testMe = "";
 			// Handle valid cases of fractional lowest element present that java.time can't parse
@@ -234,7 +252,9 @@ public class LocalDateTimeInterval {
 			} 
 		}
 		logger.debug(dateBit);
-    	if (dateBit.matches("^[0-9]{4}-[0-9]{2}-[0-9]{2}$")) { 
+    	if (result!=null) { 
+    		// date with time, parsed above
+    	} else if (dateBit.matches("^[0-9]{4}-[0-9]{2}-[0-9]{2}$")) { 
     		DateTimeFormatter formatter = new DateTimeFormatterBuilder()
     				.append(DateTimeFormatter.ISO_LOCAL_DATE)
     				.toFormatter().withResolverStyle(ResolverStyle.STRICT);
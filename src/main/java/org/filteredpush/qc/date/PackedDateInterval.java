@@ -0,0 +1,315 @@
+/**
+ * PackedDateInterval.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import java.time.LocalDate;
+
+/**
+ * Compact primitive representation of a date interval, the start and end days of
+ * the interval (inclusive) are held as epoch days (days since 1970-01-01 in the
+ * proleptic ISO calendar) packed into a single long, the start day in the high 32
+ * bits, the end day in the low 32 bits.
+ *
+ * All operations are static and operate on the packed long without allocating
+ * objects, suitable for in memory indexes and columnar stores of large numbers
+ * of intervals.  Use fromInterval() and toInterval() to convert to and from
+ * LocalDateInterval.
+ *
+ * @author mole
+ *
+ */
+public final class PackedDateInterval {
+
+	/**
+	 * Number of seconds in one day, ignoring leap seconds.
+	 */
+	public static final long SECONDS_PER_DAY = 86400l;
+
+	/** Days in a 400 year cycle of the proleptic Gregorian calendar. */
+	private static final long DAYS_PER_CYCLE = 146097l;
+
+	/** Days from 0000-03-01 to 1970-01-01. */
+	private static final long DAYS_0000_TO_1970 = 719468l;
+
+	private PackedDateInterval() {
+		// static operations only
+	}
+
+	/**
+	 * Pack a start and end epoch day into a single long.
+	 *
+	 * @param startEpochDay the first day of the interval as an epoch day
+	 * @param endEpochDay the last day of the interval as an epoch day
+	 * @return the packed representation of the interval
+	 * @throws IllegalArgumentException if startEpochDay is after endEpochDay
+	 */
+	public static long pack(int startEpochDay, int endEpochDay) {
+		if (startEpochDay > endEpochDay) {
+			throw new IllegalArgumentException("Provided start day ["+startEpochDay+"] is after provided end day ["+endEpochDay+"]");
+		}
+		return ((long)startEpochDay << 32) | (endEpochDay & 0xFFFFFFFFl);
+	}
+
+	/**
+	 * Pack a single day into a long representing an interval of one day.
+	 *
+	 * @param epochDay the day as an epoch day
+	 * @return the packed representation of the interval
+	 */
+	public static long packDay(int epochDay) {
+		return pack(epochDay, epochDay);
+	}
+
+	/**
+	 * @param packed a packed interval
+	 * @return the first day of the interval as an epoch day
+	 */
+	public static int startEpochDay(long packed) {
+		return (int)(packed >> 32);
+	}
+
+	/**
+	 * @param packed a packed interval
+	 * @return the last day of the interval as an epoch day
+	 */
+	public static int endEpochDay(long packed) {
+		return (int)packed;
+	}
+
+	/**
+	 * Convert a LocalDateInterval into its packed representation.
+	 *
+	 * @param interval the interval to pack
+	 * @return the packed representation of interval
+	 * @throws EmptyDateException if interval or its start or end date is null
+	 * @throws IllegalArgumentException if the start or end of the interval lies
+	 *   outside the range of an integer epoch day.
+	 */
+	public static long fromInterval(LocalDateInterval interval) throws EmptyDateException {
+		if (interval==null || interval.getStartDate()==null || interval.getEndDate()==null) {
+			throw new EmptyDateException("provided interval or its startDate and/or endDate was null");
+		}
+		return pack(toIntEpochDay(interval.getStartDate()), toIntEpochDay(interval.getEndDate()));
+	}
+
+	/**
+	 * Convert a packed interval into a LocalDateInterval.
+	 *
+	 * @param packed the packed interval to convert
+	 * @return a new LocalDateInterval covering the same days as packed.
+	 * @throws DateOrderException if packed has a start day after its end day
+	 */
+	public static LocalDateInterval toInterval(long packed) throws DateOrderException {
+		LocalDateInterval result = null;
+		try {
+			result = new LocalDateInterval(LocalDate.ofEpochDay(startEpochDay(packed)), LocalDate.ofEpochDay(endEpochDay(packed)));
+		} catch (EmptyDateException e) {
+			// not reachable, LocalDate.ofEpochDay does not return null
+			throw new IllegalStateException(e.getMessage());
+		}
+		return result;
+	}
+
+	/**
+	 * Test if one packed interval is wholly contained within another, with the same
+	 * semantics as LocalDateInterval.contains().
+	 *
+	 * @param outer the interval which may contain inner
+	 * @param inner the interval to test
+	 * @return true if inner lies entirely within outer, otherwise false.
+	 */
+	public static boolean contains(long outer, long inner) {
+		return startEpochDay(inner) >= startEpochDay(outer) && endEpochDay(inner) <= endEpochDay(outer);
+	}
+
+	/**
+	 * Test if two packed intervals share at least one day, with the same
+	 * semantics as LocalDateInterval.overlaps().
+	 *
+	 * @param interval one interval to compare
+	 * @param other the other interval to compare
+	 * @return true if the intervals have at least one day in common, otherwise false.
+	 */
+	public static boolean overlaps(long interval, long other) {
+		return startEpochDay(other) <= endEpochDay(interval) && endEpochDay(other) >= startEpochDay(interval);
+	}
+
+	/**
+	 * @param packed a packed interval
+	 * @return true if the interval starts and ends on the same day.
+	 */
+	public static boolean isSingleDay(long packed) {
+		return startEpochDay(packed) == endEpochDay(packed);
+	}
+
+	/**
+	 * Duration of the interval in days from the start of the start day to the end
+	 * of the end day, a single day has a duration of 1.
+	 *
+	 * @param packed a packed interval
+	 * @return the number of days in the interval
+	 */
+	public static long durationDays(long packed) {
+		return (long)endEpochDay(packed) - (long)startEpochDay(packed) + 1l;
+	}
+
+	/**
+	 * Duration of the interval in seconds from the start of the start day to the end
+	 * of the end day, equivalent to LocalDateInterval.toDuration().getSeconds().
+	 *
+	 * @param packed a packed interval
+	 * @return the number of seconds in the interval
+	 */
+	public static long durationSeconds(long packed) {
+		return durationDays(packed) * SECONDS_PER_DAY;
+	}
+
+	/**
+	 * Obtain the year in which an epoch day falls.
+	 *
+	 * @param epochDay the day to examine
+	 * @return the proleptic ISO year of epochDay
+	 */
+	public static long year(long epochDay) {
+		long zeroDay = epochDay + DAYS_0000_TO_1970;
+		// years here start on March 1, so that the leap day falls at the end of the year
+		long era = Math.floorDiv(zeroDay, DAYS_PER_CYCLE);
+		long dayOfEra = zeroDay - era * DAYS_PER_CYCLE;
+		long yearOfEra = (dayOfEra - dayOfEra/1460 + dayOfEra/36524 - dayOfEra/146096) / 365;
+		long dayOfMarchYear = dayOfEra - (365*yearOfEra + yearOfEra/4 - yearOfEra/100);
+		long year = yearOfEra + era * 400;
+		if (dayOfMarchYear >= 306) {
+			// January or February, belongs to the following calendar year.
+			year++;
+		}
+		return year;
+	}
+
+	/**
+	 * Obtain the epoch day of the first day of a year.
+	 *
+	 * @param year the proleptic ISO year
+	 * @return the epoch day of January 1 of year
+	 */
+	public static long firstDayOfYear(long year) {
+		// January 1 is day 306 of the March based year that began in the previous year
+		long marchYear = year - 1;
+		long era = Math.floorDiv(marchYear, 400l);
+		long yearOfEra = marchYear - era * 400;
+		long dayOfEra = yearOfEra * 365 + yearOfEra/4 - yearOfEra/100 + 306;
+		return era * DAYS_PER_CYCLE + dayOfEra - DAYS_0000_TO_1970;
+	}
+
+	/**
+	 * Obtain the day of the year on which an epoch day falls.
+	 *
+	 * @param epochDay the day to examine
+	 * @return the day of the year, 1 to 366
+	 */
+	public static int dayOfYear(long epochDay) {
+		return (int)(epochDay - firstDayOfYear(year(epochDay))) + 1;
+	}
+
+	/**
+	 * @param packed a packed interval
+	 * @return the day of the year of the first day of the interval
+	 */
+	public static int startDayOfYear(long packed) {
+		return dayOfYear(startEpochDay(packed));
+	}
+
+	/**
+	 * @param packed a packed interval
+	 * @return the day of the year of the last day of the interval
+	 */
+	public static int endDayOfYear(long packed) {
+		return dayOfYear(endEpochDay(packed));
+	}
+
+	/**
+	 * Test if a year is a leap year in the proleptic ISO calendar.
+	 *
+	 * @param year to test
+	 * @return true if year is a leap year.
+	 */
+	public static boolean isLeapYear(long year) {
+		return (year & 3) == 0 && (year % 100 != 0 || year % 400 == 0);
+	}
+
+	/**
+	 * Count the leap days (February 29) that fall within an interval, including leap
+	 * days on the start and end days.
+	 *
+	 * @param packed a packed interval
+	 * @return the number of leap days in the interval
+	 */
+	public static int countLeapDays(long packed) {
+		return countLeapDays(startEpochDay(packed), endEpochDay(packed));
+	}
+
+	/**
+	 * Count the leap days (February 29) that fall within a range of epoch days,
+	 * including leap days on the start and end days.
+	 *
+	 * @param startEpochDay the first day of the range
+	 * @param endEpochDay the last day of the range
+	 * @return the number of leap days from startEpochDay to endEpochDay inclusive, 0
+	 *   if endEpochDay is before startEpochDay.
+	 */
+	public static int countLeapDays(long startEpochDay, long endEpochDay) {
+		int result = 0;
+		if (endEpochDay >= startEpochDay) {
+			result = (int)(leapDaysThrough(endEpochDay) - leapDaysThrough(startEpochDay - 1));
+		}
+		return result;
+	}
+
+	/**
+	 * Cumulative count of leap days on or before an epoch day, relative to an arbitrary
+	 * origin, differences between two values give the number of leap days between them.
+	 *
+	 * @param epochDay the last day to include in the count
+	 * @return count of leap days
+	 */
+	private static long leapDaysThrough(long epochDay) {
+		long year = year(epochDay);
+		long priorYear = year - 1;
+		long result = Math.floorDiv(priorYear, 4l) - Math.floorDiv(priorYear, 100l) + Math.floorDiv(priorYear, 400l);
+		if (isLeapYear(year) && epochDay - firstDayOfYear(year) >= 59) {
+			// on or after February 29
+			result++;
+		}
+		return result;
+	}
+
+	/**
+	 * Convert a local date to an epoch day which fits in an int.
+	 *
+	 * @param date to convert
+	 * @return epoch day of date
+	 * @throws IllegalArgumentException if date is too distant to represent
+	 */
+	private static int toIntEpochDay(LocalDate date) {
+		long epochDay = date.toEpochDay();
+		if (epochDay < Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE) {
+			throw new IllegalArgumentException("Provided date ["+date+"] is outside the range of a packed date interval.");
+		}
+		return (int)epochDay;
+	}
+
+}
@@ -0,0 +1,178 @@
+/**
+ * ResultCode.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import org.datakurator.ffdq.api.DQResponse;
+import org.datakurator.ffdq.api.ResultValue;
+import org.datakurator.ffdq.api.result.AmendmentValue;
+import org.datakurator.ffdq.api.result.ComplianceValue;
+import org.datakurator.ffdq.model.ResultState;
+
+/**
+ * Encoding of the outcome of a test as a single byte, for storing the results of the tests
+ * run over many records in arrays rather than as DQResponse objects.
+ *
+ * The low four bits of a code hold the result state, see STATE_CODES, with 0 for no
+ * response.  Bits 4 and 5 hold the value of a validation, COMPLIANT or NOT_COMPLIANT, and
+ * bit 6 is set when an amendment proposed a change, that is when the state is AMENDED or
+ * FILLED_IN with a non-empty value.  Codes are never negative.  The values of amendments
+ * and of measures are not part of the code, see AmendmentBuffer.
+ *
+ * @author mole
+ *
+ */
+public final class ResultCode {
+
+	/** Mask for the result state in a code. */
+	public static final int STATE_MASK = 0x0F;
+	/** Bit set in a code for a ComplianceValue of COMPLIANT. */
+	public static final int COMPLIANT = 0x10;
+	/** Bit set in a code for a ComplianceValue of NOT_COMPLIANT. */
+	public static final int NOT_COMPLIANT = 0x20;
+	/** Mask for the compliance value in a code. */
+	public static final int COMPLIANCE_MASK = 0x30;
+	/** Bit set in a code when an amendment proposed a change. */
+	public static final int AMENDMENT_PROPOSED = 0x40;
+
+	/**
+	 * Result states by their code, the code for a state is its index, 0 is no response.
+	 * AMBIGUOUS and TRANSPOSED are deprecated in ResultState, but are still set by
+	 * DwCEventDQ.extractDateFromParts() and DwCEventDQ.dayMonthTransposition(), and may be on
+	 * responses from other libraries, so they keep codes for responses to round trip.
+	 */
+	@SuppressWarnings("deprecation")
+	private static final ResultState[] STATE_CODES = {
+		null,
+		ResultState.INTERNAL_PREREQUISITES_NOT_MET,
+		ResultState.EXTERNAL_PREREQUISITES_NOT_MET,
+		ResultState.RUN_HAS_RESULT,
+		ResultState.AMENDED,
+		ResultState.NOT_AMENDED,
+		ResultState.FILLED_IN,
+		ResultState.NOT_RUN,
+		ResultState.AMBIGUOUS,
+		ResultState.TRANSPOSED
+	};
+
+	private ResultCode() {
+	}
+
+	/**
+	 * Encode a response.
+	 *
+	 * @param response the response to encode, may be null.
+	 * @return the code for the response, 0 if the response is null.
+	 * @throws IllegalArgumentException if the response has a result state with no code.
+	 */
+	public static byte encode(DQResponse<?> response) {
+		int result = 0;
+		if (response!=null) {
+			ResultState state = response.getResultState();
+			int stateCode = 0;
+			for (int i=1; i<STATE_CODES.length && stateCode==0; i++) {
+				if (STATE_CODES[i].equals(state)) {
+					stateCode = i;
+				}
+			}
+			if (stateCode==0) {
+				throw new IllegalArgumentException("No code for result state " + (state==null ? null : state.getLabel()));
+			}
+			result = stateCode;
+			ResultValue value = response.getValue();
+			if (value instanceof ComplianceValue) {
+				if (ComplianceValue.COMPLIANT.getLabel().equals(((ComplianceValue)value).getLabel())) {
+					result = result | COMPLIANT;
+				} else if (ComplianceValue.NOT_COMPLIANT.getLabel().equals(((ComplianceValue)value).getLabel())) {
+					result = result | NOT_COMPLIANT;
+				}
+			}
+			if (isProposal(response)) {
+				result = result | AMENDMENT_PROPOSED;
+			}
+		}
+		return (byte) result;
+	}
+
+	/**
+	 * @param response a response from a test.
+	 * @return true if the response is AMENDED or FILLED_IN with an AmendmentValue holding at least one term.
+	 */
+	static boolean isProposal(DQResponse<?> response) {
+		boolean result = false;
+		ResultState state = response.getResultState();
+		if (state!=null && (state.equals(ResultState.AMENDED) || state.equals(ResultState.FILLED_IN))) {
+			ResultValue value = response.getValue();
+			result = value instanceof AmendmentValue && ((AmendmentValue)value).getObject()!=null
+					&& !((AmendmentValue)value).getObject().isEmpty();
+		}
+		return result;
+	}
+
+	/**
+	 * @param code a code from encode()
+	 * @return the result state for the code, or null if the code is for no response.
+	 */
+	public static ResultState getResultState(byte code) {
+		int stateCode = code & STATE_MASK;
+		ResultState result = null;
+		if (stateCode<STATE_CODES.length) {
+			result = STATE_CODES[stateCode];
+		}
+		return result;
+	}
+
+	/**
+	 * @param code a code from encode()
+	 * @return COMPLIANT or NOT_COMPLIANT, or null if the code is not for a validation with a value.
+	 */
+	public static ComplianceValue getComplianceValue(byte code) {
+		ComplianceValue result = null;
+		if ((code & COMPLIANCE_MASK)==COMPLIANT) {
+			result = ComplianceValue.COMPLIANT;
+		} else if ((code & COMPLIANCE_MASK)==NOT_COMPLIANT) {
+			result = ComplianceValue.NOT_COMPLIANT;
+		}
+		return result;
+	}
+
+	/**
+	 * @param code a code from encode()
+	 * @return true if the code is for an amendment that proposed a change.
+	 */
+	public static boolean isAmendmentProposed(byte code) {
+		return (code & AMENDMENT_PROPOSED)!=0;
+	}
+
+	/**
+	 * Count the codes for one test in a block of results laid out one record after another.
+	 *
+	 * @param codes the codes, with the code for test index of record r at r * stride + index.
+	 * @param recordCount the number of records in codes.
+	 * @param stride the number of codes per record.
+	 * @param index the position of the test within a record.
+	 * @return an array of 128 counts, indexed by code.
+	 */
+	public static int[] count(byte[] codes, int recordCount, int stride, int index) {
+		int[] result = new int[128];
+		for (int r=0; r<recordCount; r++) {
+			result[codes[r * stride + index]]++;
+		}
+		return result;
+	}
+
+}
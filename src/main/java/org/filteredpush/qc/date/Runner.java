@@ -18,11 +18,17 @@ package org.filteredpush.qc.date;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.FileOutputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
 import java.io.Reader;
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -31,8 +37,13 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
+import javax.management.JMException;
+
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
 import org.apache.commons.cli.DefaultParser;
@@ -45,13 +56,20 @@ import org.apache.commons.csv.CSVParser;
 import org.apache.commons.csv.CSVRecord;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.datakurator.ffdq.annotations.ActedUpon;
+import org.datakurator.ffdq.annotations.Consulted;
 import org.datakurator.ffdq.annotations.Provides;
 import org.datakurator.ffdq.api.DQResponse;
-import org.datakurator.ffdq.api.result.AmendmentValue;
 import org.datakurator.ffdq.api.result.ComplianceValue;
 import org.datakurator.ffdq.api.result.NumericalValue;
 import org.datakurator.ffdq.model.ResultState;
 import org.filteredpush.qc.date.util.DateUtils;
+import org.filteredpush.qc.date.util.EventDateQCMetrics;
+import org.filteredpush.qc.date.util.FlightRecorderEvents;
+import org.filteredpush.qc.date.util.LatencyHistogram;
+import org.filteredpush.qc.date.util.ProgressReporter;
+import org.filteredpush.qc.date.util.RecordParseMemo;
+import org.filteredpush.qc.date.util.VerbatimCascadeStatistics;
 
 /**
  * Selfstanding execution of event_date_qc functionality.  Can run TG2 Date related tests on flat DarwinCore 
@@ -63,6 +81,249 @@ import org.filteredpush.qc.date.util.DateUtils;
 public class Runner {
 	private static final Log logger = LogFactory.getLog(Runner.class);
 
+	/** Darwin Core terms read from each record, by the indexes below. */
+	static final String[] TERMS = { "dwc:eventDate", "dwc:day", "dwc:month", "dwc:year", 
+			"dwc:startDayOfYear", "dwc:endDayOfYear", "dwc:verbatimEventDate", "dwc:dateIdentified" };
+	private static final int EVENT_DATE = 0;
+	private static final int DAY = 1;
+	private static final int MONTH = 2;
+	private static final int YEAR = 3;
+	private static final int START_DAY_OF_YEAR = 4;
+	private static final int END_DAY_OF_YEAR = 5;
+	private static final int VERBATIM_EVENT_DATE = 6;
+	private static final int DATE_IDENTIFIED = 7;
+
+	/** Names under which the responses of the validations run by validate() are tallied. */
+	private static final String[] VALIDATION_NAMES = { 
+		"VALIDATION_DATEIDENTIFIED_NOTSTANDARD",
+		"VALIDATION_DATEIDENTIFIED_OUTOFRANGE",
+		"VALIDATION_EVENT_EMPTY",
+		"VALIDATION_EVENT_INCONSISTENT",
+		"VALIDATION_EVENTDATE_EMPTY",
+		"VALIDATION_EVENTDATE_NOTSTANDARD",
+		"VALIDATION_EVENTDATE_OUTOFRANGE",
+		"VALIDATION_DAY_NOTSTANDARD",
+		"VALIDATION_DAY_OUTOFRANGE",
+		"VALIDATION_MONTH_NOTSTANDARD",
+		"VALIDATION_YEAR_EMPTY",
+		"VALIDATION_YEAR_OUTOFRANGE",
+		"VALIDATION_STARTDAYOFYEAR_OUTOFRANGE",
+		"VALIDATION_ENDDAYOFYEAR_OUTOFRANGE"
+	};
+
+	/** Class and method providing each validation run by validate(), in the order of VALIDATION_NAMES. */
+	static final String[] VALIDATION_METHODS = { 
+		"DwCOtherDateDQ.validationDateidentifiedStandard",
+		"DwCOtherDateDQDefaults.validationDateidentifiedInrange",
+		"DwCEventDQ.validationEventTemporalNotEmpty",
+		"DwCEventDQ.validationEventConsistent",
+		"DwCEventDQ.validationEventdateNotEmpty",
+		"DwCEventDQ.validationEventdateStandard",
+		"DwCEventDQDefaults.validationEventdateInrange",
+		"DwCEventDQ.validationDayStandard",
+		"DwCEventDQ.validationDayInrange",
+		"DwCEventDQ.validationMonthStandard",
+		"DwCEventDQ.validationYearNotEmpty",
+		"DwCEventDQDefaults.validationYearInrange",
+		"DwCEventDQ.validationStartdayofyearInrange",
+		"DwCEventDQ.validationEnddayofyearInrange"
+	};
+
+	/** Terms each validation run by validate() acts upon or consults, indexed as TERMS, a 
+	 * validation need only be run again after amendment if one of these terms was changed. */
+	private static final int[][] VALIDATION_TERMS = validationTerms();
+
+	/**
+	 * Find the terms of each validation from the @ActedUpon and @Consulted annotations on the
+	 * parameters of the method providing it, so that they can not drift from its signature.
+	 * 
+	 * @return for each validation in VALIDATION_METHODS the indexes in TERMS of its terms.
+	 */
+	private static int[][] validationTerms() { 
+		Class<?>[] classes = { DwCEventDQ.class, DwCEventDQDefaults.class, DwCOtherDateDQ.class, DwCOtherDateDQDefaults.class };
+		List<String> terms = Arrays.asList(TERMS);
+		int[][] result = new int[VALIDATION_METHODS.length][];
+		for (int v=0; v<VALIDATION_METHODS.length; v++) { 
+			String className = VALIDATION_METHODS[v].substring(0, VALIDATION_METHODS[v].indexOf('.'));
+			String methodName = VALIDATION_METHODS[v].substring(VALIDATION_METHODS[v].indexOf('.') + 1);
+			Method found = null;
+			for (Class<?> testClass : classes) { 
+				if (testClass.getSimpleName().equals(className)) { 
+					for (Method method : testClass.getDeclaredMethods()) { 
+						if (method.getName().equals(methodName) && method.isAnnotationPresent(Provides.class)) { 
+							if (found!=null) { 
+								throw new IllegalStateException("More than one method provides " + VALIDATION_METHODS[v]);
+							}
+							found = method;
+						}
+					}
+				}
+			}
+			if (found==null) { 
+				throw new IllegalStateException("No method provides " + VALIDATION_METHODS[v]);
+			}
+			List<Integer> indexes = new ArrayList<Integer>();
+			for (Annotation[] annotations : found.getParameterAnnotations()) { 
+				for (Annotation annotation : annotations) { 
+					String term = null;
+					if (annotation instanceof ActedUpon) { 
+						term = ((ActedUpon)annotation).value();
+					} else if (annotation instanceof Consulted) { 
+						term = ((Consulted)annotation).value();
+					}
+					if (term!=null && terms.contains(term) && !indexes.contains(terms.indexOf(term))) { 
+						indexes.add(terms.indexOf(term));
+					}
+				}
+			}
+			result[v] = new int[indexes.size()];
+			for (int i=0; i<indexes.size(); i++) { 
+				result[v][i] = indexes.get(i);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Run one of the validations tallied by Runner.
+	 * 
+	 * @param validation index of the validation in VALIDATION_NAMES
+	 * @param values values of the terms, indexed as TERMS
+	 * @return the response from the validation.
+	 */
+	static DQResponse<ComplianceValue> validate(int validation, String[] values) { 
+		DQResponse<ComplianceValue> result = null;
+		switch (validation) { 
+		case 0: 
+			result = DwCOtherDateDQ.validationDateidentifiedStandard(values[DATE_IDENTIFIED]);
+			break;
+		case 1: 
+			result = DwCOtherDateDQDefaults.validationDateidentifiedInrange(values[DATE_IDENTIFIED],values[EVENT_DATE]);
+			break;
+		case 2: 
+			result = DwCEventDQ.validationEventTemporalNotEmpty(values[EVENT_DATE], values[VERBATIM_EVENT_DATE], values[YEAR], values[MONTH], values[DAY], values[START_DAY_OF_YEAR], values[END_DAY_OF_YEAR]);
+			break;
+		case 3: 
+			result = DwCEventDQ.validationEventConsistent(values[EVENT_DATE], values[YEAR], values[MONTH], values[DAY], values[START_DAY_OF_YEAR], values[END_DAY_OF_YEAR]);
+			break;
+		case 4: 
+			result = DwCEventDQ.validationEventdateNotEmpty(values[EVENT_DATE]);
+			break;
+		case 5: 
+			result = DwCEventDQ.validationEventdateStandard(values[EVENT_DATE]);
+			break;
+		case 6: 
+			result = DwCEventDQDefaults.validationEventdateInrange(values[EVENT_DATE]);
+			break;
+		case 7: 
+			result = DwCEventDQ.validationDayStandard(values[DAY]);
+			break;
+		case 8: 
+			result = DwCEventDQ.validationDayInrange(values[YEAR],values[MONTH],values[DAY]);
+			break;
+		case 9: 
+			result = DwCEventDQ.validationMonthStandard(values[MONTH]);
+			break;
+		case 10: 
+			result = DwCEventDQ.validationYearNotEmpty(values[YEAR]);
+			break;
+		case 11: 
+			result = DwCEventDQDefaults.validationYearInrange(values[YEAR]); 
+			break;
+		case 12: 
+			result = DwCEventDQ.validationStartdayofyearInrange(values[START_DAY_OF_YEAR], values[EVENT_DATE]);
+			break;
+		case 13: 
+			result = DwCEventDQ.validationEnddayofyearInrange(values[END_DAY_OF_YEAR], values[EVENT_DATE]);
+			break;
+		default:
+			throw new IllegalArgumentException("No validation " + validation);
+		}
+		return result;
+	}
+
+	/**
+	 * Run one of the validations tallied by Runner, timing it in the EventDateQCMetrics
+	 * when they are being collected or as a FlightRecorderEvents test event.
+	 * 
+	 * @param validation index of the validation in VALIDATION_NAMES
+	 * @param values values of the terms, indexed as TERMS
+	 * @return the response from the validation.
+	 */
+	private static DQResponse<ComplianceValue> timedValidate(int validation, String[] values) { 
+		DQResponse<ComplianceValue> result = null;
+		if (EventDateQCMetrics.isTimingTests()) { 
+			Object event = FlightRecorderEvents.beginTest();
+			long started = System.nanoTime();
+			result = validate(validation, values);
+			long elapsed = System.nanoTime() - started;
+			int inputLength = 0;
+			for (int t : VALIDATION_TERMS[validation]) { 
+				if (values[t]!=null) { 
+					inputLength = inputLength + values[t].length();
+				}
+			}
+			EventDateQCMetrics.recordTest(event, VALIDATION_NAMES[validation], result, inputLength, elapsed);
+		} else { 
+			result = validate(validation, values);
+		}
+		return result;
+	}
+
+	/**
+	 * Run the duration measure on an eventDate, timing it in the EventDateQCMetrics
+	 * when they are being collected or as a FlightRecorderEvents test event.
+	 * 
+	 * @param eventDate the value of dwc:eventDate
+	 * @return the response from the measure.
+	 */
+	private static DQResponse<NumericalValue> timedMeasure(String eventDate) { 
+		DQResponse<NumericalValue> result = null;
+		if (EventDateQCMetrics.isTimingTests()) { 
+			Object event = FlightRecorderEvents.beginTest();
+			long started = System.nanoTime();
+			result = DwCEventDQ.measureEventdateDurationinseconds(eventDate);
+			EventDateQCMetrics.recordTest(event, "MEASURE_EVENTDATE_DURATIONINSECONDS", result, EventDateQCMetrics.inputLength(eventDate), System.nanoTime() - started);
+		} else { 
+			result = DwCEventDQ.measureEventdateDurationinseconds(eventDate);
+		}
+		return result;
+	}
+
+	/**
+	 * Write the latency of each record and of each test as tab separated values, one line
+	 * each, with a header, times in microseconds.
+	 * 
+	 * @param out to which to write the latencies, flushed but not closed.
+	 * @param recordLatency latency of each record from reading it to completing its tests.
+	 */
+	private static void writeTiming(PrintWriter out, LatencyHistogram recordLatency) { 
+		out.println("test\tcount\tmean\tp50\tp90\tp99\tp99.9\tmax");
+		out.println(String.format(Locale.ROOT, "%s\t%d\t%.1f\t%.1f\t%.1f\t%.1f\t%.1f\t%.1f", "RECORD", 
+				recordLatency.getCount(), recordLatency.getMeanNanos() / 1000d, 
+				recordLatency.getPercentileNanos(50d) / 1000d, recordLatency.getPercentileNanos(90d) / 1000d, 
+				recordLatency.getPercentileNanos(99d) / 1000d, recordLatency.getPercentileNanos(99.9d) / 1000d, 
+				recordLatency.getMaxNanos() / 1000d));
+		for (EventDateQCMetrics.TestStatistics test : EventDateQCMetrics.getInstance().getTestStatistics()) { 
+			out.println(String.format(Locale.ROOT, "%s\t%d\t%.1f\t%.1f\t%.1f\t%.1f\t%.1f\t%.1f", test.getTest(), 
+					test.getInvocations(), test.getMeanMicros(), test.getP50Micros(), test.getP90Micros(), 
+					test.getP99Micros(), test.getP999Micros(), test.getMaxMicros()));
+		}
+		out.flush();
+	}
+
+	/**
+	 * Count a response under its name, result state, and value.
+	 */
+	private static void tally(HashMap<String,Integer> counter, String method, DQResponse<?> response) { 
+		String name = method + " " + response.getResultState().getLabel() + " ";
+		if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
+		Integer current = counter.get(name);
+		if (current==null) { current = 0; }
+		current = current + 1;
+		counter.put(name, current);
+	}
+
 	/**
 	 * Execute Runner from the command line.
 	 * 
@@ -78,6 +339,14 @@ public class Runner {
 		options.addOption("a","(verbatimDates) to show all lines, matched or not with their interpretations.");	
 		options.addOption("s","(verbatimDates) include summary lines at end of output");	
 		options.addOption("l","limit",true,"Limit processing to the specified number of rows");
+		options.addOption("c","comments",true,"(runTests) comments on test responses: full, lazy, or none, default none as comments are not reported");
+		options.addOption("x","verbatimStatistics",false,"Report attempts, hits, and time for each handler and formatter used to interpret verbatim dates");
+		options.addOption("t","timing",false,"(runTests) report latency percentiles for each test and for each record at end of output");
+		options.addOption(null,"timingFile",true,"(runTests) write the latency percentiles as tab separated values to the specified file, implies -timing");
+		options.addOption("j","jmx",false,"Register the EventDateQCMetrics MBean to watch the run through JMX");
+		options.addOption("p","progress",false,"(runTests) print records processed, throughput, and estimated time remaining every progressInterval seconds");
+		options.addOption(null,"progressInterval",true,"(runTests) seconds between progress reports, default " + ProgressReporter.DEFAULT_INTERVAL_SECONDS);
+		options.addOption(null,"statusFile",true,"(runTests) replace the specified file with the progress of the run every progressInterval seconds");
 		options.addOption("h","help",false,"Show help.");
 
 		try { 
@@ -91,10 +360,22 @@ public class Runner {
 				System.exit(0);
 			}
 
+			if (cmd.hasOption("j")) { 
+				EventDateQCMetrics.register();
+			}
+
+			boolean verbatimStatistics = cmd.hasOption("x");
+			if (verbatimStatistics) { 
+				VerbatimCascadeStatistics.setEnabled(true);
+			}
+
 			String execution = cmd.getOptionValue("e","runTests");
 			if (execution.equals("verbatimDates")) {
 				Boolean showSummaryLines = cmd.hasOption("s");
 				DateUtils.interpretDates(args,showSummaryLines);
+				if (verbatimStatistics) { 
+					System.out.print(VerbatimCascadeStatistics.report());
+				}
 			} else { 
 				List<Method> methods = Arrays.asList(DwCEventDQ.class.getDeclaredMethods());
 				methods.get(0).isAnnotationPresent(Provides.class);
@@ -112,6 +393,18 @@ public class Runner {
 					}
 				}
 
+				// Only result states and values are tallied, so comments are not needed by default,
+				// the mode is opened for each record on this thread, not set for the JVM.
+				TemplatedDQResponse.CommentMode commentMode = TemplatedDQResponse.CommentMode.NONE;
+				String commentModeValue = cmd.getOptionValue("c");
+				if (commentModeValue!=null) { 
+					try { 
+						commentMode = TemplatedDQResponse.CommentMode.valueOf(commentModeValue.trim().toUpperCase());
+					} catch (IllegalArgumentException e) { 
+						logger.error("Unrecognized value for comments [" + commentModeValue + "], using none.");
+					}
+				}
+
 				File inputFile = new File(input);
 				if (!inputFile.exists()) {
 					throw new FileNotFoundException("CSV input file not found: " + inputFile.getAbsolutePath());
@@ -122,7 +415,33 @@ public class Runner {
 				Long totalTimeSecs = 0l;
 				Long totalTimeSecsPost = 0l;
 
-				Reader reader = new InputStreamReader(new FileInputStream(inputFile));
+				// progress is reported from a timer thread, from counts of records and of bytes read
+				ProgressReporter progress = null;
+				if (cmd.hasOption("p") || cmd.hasOption("statusFile")) { 
+					long interval = ProgressReporter.DEFAULT_INTERVAL_SECONDS;
+					String intervalValue = cmd.getOptionValue("progressInterval");
+					if (intervalValue!=null) { 
+						try { 
+							interval = Long.parseLong(intervalValue.trim());
+						} catch (NumberFormatException nfe) { 
+							logger.error("Unrecognized value for progressInterval [" + intervalValue + "], using " + interval);
+						}
+					}
+					if (interval<1l) { 
+						interval = ProgressReporter.DEFAULT_INTERVAL_SECONDS;
+					}
+					File statusFile = null;
+					if (cmd.hasOption("statusFile")) { 
+						statusFile = new File(cmd.getOptionValue("statusFile"));
+					}
+					progress = new ProgressReporter(cmd.hasOption("p") ? System.out : null, statusFile, inputFile.length(), limit, interval * 1000l);
+				}
+
+				InputStream inputStream = new FileInputStream(inputFile);
+				if (progress!=null) { 
+					inputStream = progress.count(inputStream);
+				}
+				Reader reader = new InputStreamReader(inputStream);
 				//Iterable<CSVRecord> records = CSVFormat.DEFAULT.withFirstRecordAsHeader().parse(reader);
 				CSVParser records = CSVFormat.TDF.withFirstRecordAsHeader().parse(reader);
 
@@ -146,431 +465,166 @@ public class Runner {
 				Class[] sevenParam = new Class[7];
 				for (int i=0; i<7; i++) { sevenParam[i] = String.class; }  
 
+				// amendments are run with dependencies from their annotated terms, names in the order of getEventAmendments()
+				AmendmentScheduler.Evaluation amendments = AmendmentScheduler.getEventAmendments().newEvaluation();
+				String[] amendmentNames = { "AMENDMENT_DATEIDENTIFIED_STANDARDIZED", "AMENDMENT_EVENTDATE_STANDARDIZED", 
+						"AMENDMENT_DAY_STANDARDIZED", "AMENDMENT_MONTH_STANDARDIZED", "AMENDMENT_EVENTDATE_FROM_YEARMONTHDAY", 
+						"AMENDMENT_EVENTDATE_FROM_YEARSTARTDAYOFYEARENDDAYOFYEAR", "AMENDMENT_EVENTDATE_FROM_VERBATIM", 
+						"AMENDMENT_EVENT_FROM_EVENTDATE" };
+
+				// per test latency is collected in the EventDateQCMetrics, per record latency here
+				boolean timing = cmd.hasOption("t") || cmd.hasOption("timingFile");
+				LatencyHistogram recordLatency = new LatencyHistogram();
+				if (timing) { 
+					EventDateQCMetrics.getInstance().reset();
+					EventDateQCMetrics.getInstance().setEnabled(true);
+				}
+
 				Instant startTime = Instant.now();
 				System.out.println("Start time: " + startTime.toString());
+				if (progress!=null) { 
+					progress.start();
+				}
 
-				Iterator<CSVRecord> recordIterator = records.iterator();
-				boolean hasNext = recordIterator.hasNext();
-				while (hasNext && (limit==0 || recordCount < limit)) {
-					CSVRecord record = null;
-					try { 
-						record = recordIterator.next();
-						hasNext = recordIterator.hasNext();
-					} catch (IllegalStateException linereadexception) {
+				// the status file is marked failed if the run ends with an exception
+				boolean completed = false;
+				try { 
+					Iterator<CSVRecord> recordIterator = records.iterator();
+					boolean hasNext = recordIterator.hasNext();
+					while (hasNext && (limit==0 || recordCount < limit)) {
+						CSVRecord record = null;
 						try { 
 							record = recordIterator.next();
-						} catch (Exception e) { 
-							// skip
+							hasNext = recordIterator.hasNext();
+						} catch (IllegalStateException linereadexception) {
+							try { 
+								record = recordIterator.next();
+							} catch (Exception e) { 
+								// skip
+							}
+							// skip line
+							skippedLineCount++;
+							continue;
 						}
-						// skip line
-						skippedLineCount++;
-						continue;
-					}
 
-					String eventDate = "";
-					String day = "";
-					String month = "";
-					String year = "";
-					String startDayOfYear = "";
-					String endDayOfYear = "";
-					String verbatimEventDate = "";
-					String dateIdentified = "";
-					try { 
-						eventDate = record.get("eventDate");
-						day = record.get("day");
-						month = record.get("month");
-						year = record.get("year");
-						startDayOfYear = record.get("startDayOfYear");
-						endDayOfYear = record.get("endDayOfYear");
-						verbatimEventDate = record.get("verbatimEventDate");
-						dateIdentified = record.get("dateIdentified");
-					} catch (IllegalArgumentException valueReadEx) { 
-						logger.debug(valueReadEx.getMessage());
-					}
+						long recordStarted = 0l;
+						if (timing) { 
+							recordStarted = System.nanoTime();
+						}
+						String eventDate = "";
+						String day = "";
+						String month = "";
+						String year = "";
+						String startDayOfYear = "";
+						String endDayOfYear = "";
+						String verbatimEventDate = "";
+						String dateIdentified = "";
+						try { 
+							eventDate = record.get("eventDate");
+							day = record.get("day");
+							month = record.get("month");
+							year = record.get("year");
+							startDayOfYear = record.get("startDayOfYear");
+							endDayOfYear = record.get("endDayOfYear");
+							verbatimEventDate = record.get("verbatimEventDate");
+							dateIdentified = record.get("dateIdentified");
+						} catch (IllegalArgumentException valueReadEx) { 
+							logger.debug(valueReadEx.getMessage());
+						}
 
-					DQResponse response = null;
-					DQResponse<NumericalValue> measureResponse = null;
+						String[] values = { eventDate, day, month, year, startDayOfYear, endDayOfYear, verbatimEventDate, dateIdentified };
 
-					measureResponse = DwCEventDQ.measureEventdateDurationinseconds(eventDate); 
-					if (measureResponse.getResultState().equals(ResultState.RUN_HAS_RESULT)) { 
-						totalTimeSecs = totalTimeSecs + measureResponse.getValue().getObject().longValue();
-					}
-					{
-						String method = "VALIDATION_DATEIDENTIFIED_NOTSTANDARD";
-						response = DwCOtherDateDQ.validationDateidentifiedStandard(dateIdentified);
-						String name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						Integer current = counter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						counter.put(name, current);
-						
-						method = "VALIDATION_DATEIDENTIFIED_OUTOFRANGE";
-						response = DwCOtherDateDQDefaults.validationDateidentifiedInrange(dateIdentified,eventDate);
-						name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						current = counter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						counter.put(name, current);
-
-						method = "VALIDATION_EVENT_EMPTY";
-						response = DwCEventDQ.validationEventTemporalNotEmpty(startDayOfYear,eventDate,year, verbatimEventDate,month,day, endDayOfYear); 
-						name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						current = counter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						counter.put(name, current);
-						
-						method = "VALIDATION_EVENT_INCONSISTENT";
-						response = DwCEventDQ.validationEventConsistent(startDayOfYear, eventDate, year,month,day,endDayOfYear);
-						name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						current = counter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						counter.put(name, current);
-						
-						method = "VALIDATION_EVENTDATE_EMPTY";
-						response = DwCEventDQ.validationEventdateNotEmpty(eventDate);
-						name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						current = counter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						counter.put(name, current);
-					              	
-						method = "VALIDATION_EVENTDATE_NOTSTANDARD";
-						response = DwCEventDQ.validationEventdateStandard(eventDate);
-						name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						current = counter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						counter.put(name, current);
-					            	
-						method = "VALIDATION_EVENTDATE_OUTOFRANGE";
-						response = DwCEventDQDefaults.validationEventdateInrange(eventDate);
-						name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						current = counter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						counter.put(name, current);
-					 
-						method = "VALIDATION_DAY_NOTSTANDARD"; 
-						response = DwCEventDQ.validationDayStandard(day);
-						name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						current = counter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						counter.put(name, current);
-						
-						method = "VALIDATION_DAY_OUTOFRANGE"; 
-						response = DwCEventDQ.validationDayInrange(year,month,day);
-						name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						current = counter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						counter.put(name, current);
-					
-						method = "VALIDATION_MONTH_NOTSTANDARD"; 
-						response = DwCEventDQ.validationMonthStandard(month);
-						name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						current = counter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						counter.put(name, current);
-					
-						method = "VALIDATION_YEAR_EMPTY"; 
-						response = DwCEventDQ.validationYearNotEmpty(year);
-						name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						current = counter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						counter.put(name, current);
-					
-						method = "VALIDATION_YEAR_OUTOFRANGE"; 
-						response = DwCEventDQDefaults.validationYearInrange(year); 
-						name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						current = counter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						counter.put(name, current);
-						
-						method = "VALIDATION_STARTDAYOFYEAR_OUTOFRANGE"; 
-						response = DwCEventDQ.validationStartdayofyearInrange(startDayOfYear, year);
-						name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						current = counter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						counter.put(name, current);
-					
-						method = "VALIDATION_ENDDAYOFYEAR_OUTOFRANGE";
-						response = DwCEventDQ.validationEnddayofyearInrange(year,endDayOfYear);
-						name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						current = counter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						counter.put(name, current);
-					}
+						// share the parse of each value between the tests run on the record
+						boolean memoOpened = RecordParseMemo.open();
+						TemplatedDQResponse.CommentMode previousMode = TemplatedDQResponse.openCommentMode(commentMode);
+						try { 
+							DQResponse<NumericalValue> measureResponse = null;
 
-					// Amendments  ********************************************  
-					{
-						String method = "AMENDMENT_DATEIDENTIFIED_STANDARDIZED";
-						response = DwCOtherDateDQ.amendmentDateidentifiedStandardized(dateIdentified);
-						String name = method + " " + response.getResultState().getLabel();
-						Integer current = acounter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						acounter.put(name, current);
-						if (response.getResultState().equals(ResultState.AMENDED)) { 
-							dateIdentified = ((AmendmentValue)response.getValue()).getObject().get("dwc:dateIdentified");
-						}
-					                    
-						method = "AMENDMENT_EVENTDATE_STANDARDIZED";
-						response = DwCEventDQ.amendmentEventdateStandardized(eventDate);
-						name = method + " " + response.getResultState().getLabel();
-						current = acounter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						acounter.put(name, current);
-						if (response.getResultState().equals(ResultState.AMENDED)) { 
-							eventDate = ((AmendmentValue)response.getValue()).getObject().get("dwc:eventDate");
-						}
-					                   
-						method = "AMENDMENT_DAY_STANDARDIZED";
-						response = DwCEventDQ.amendmentDayStandardized(day);
-						name = method + " " + response.getResultState().getLabel();
-						current = acounter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						acounter.put(name, current);
-						if (response.getResultState().equals(ResultState.AMENDED)) { 
-							day = ((AmendmentValue)response.getValue()).getObject().get("dwc:day");
-						}
-					                    
-						method = "AMENDMENT_MONTH_STANDARDIZED";
-						response = DwCEventDQ.amendmentMonthStandardized(month);
-						name = method + " " + response.getResultState().getLabel();
-						current = acounter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						acounter.put(name, current);
-						if (response.getResultState().equals(ResultState.AMENDED)) { 
-							month = ((AmendmentValue)response.getValue()).getObject().get("dwc:month");
-						}
-						
-						method = "AMENDMENT_EVENTDATE_FROM_YEARMONTHDAY";
-						response = DwCEventDQ.amendmentEventDateFromYearMonthDay(eventDate,year,month,day);
-						name = method + " " + response.getResultState().getLabel();
-						current = acounter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						acounter.put(name, current);
-						if (response.getResultState().equals(ResultState.FILLED_IN)) { 
-							eventDate = ((AmendmentValue)response.getValue()).getObject().get("dwc:eventDate");
-						}
-					                    
-						method = "AMENDMENT_EVENTDATE_FROM_YEARSTARTDAYOFYEARENDDAYOFYEAR";
-						response = DwCEventDQ.amendmentEventdateFromYearstartdayofyearenddayofyear(eventDate,startDayOfYear,year,endDayOfYear);
-						name = method + " " + response.getResultState().getLabel();
-						current = acounter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						acounter.put(name, current);
-						if (response.getResultState().equals(ResultState.FILLED_IN)) { 
-							eventDate = ((AmendmentValue)response.getValue()).getObject().get("dwc:eventDate");
-						}
-					                   
-						method = "AMENDMENT_EVENTDATE_FROM_VERBATIM";
-						response = DwCEventDQ.amendmentEventdateFromVerbatim(eventDate, verbatimEventDate);
-						name = method + " " + response.getResultState().getLabel();
-						current = acounter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						acounter.put(name, current);
-						if (response.getResultState().equals(ResultState.FILLED_IN)) { 
-							eventDate = ((AmendmentValue)response.getValue()).getObject().get("dwc:eventDate");
-						}
-						
-						method = "AMENDMENT_EVENT_FROM_EVENTDATE"; 
-						response = DwCEventDQ.amendmentEventFromEventdate(eventDate,startDayOfYear,year,month,day,endDayOfYear);
-						name = method + " " + response.getResultState().getLabel();
-						current = acounter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						acounter.put(name, current);
-						if (response.getResultState().equals(ResultState.FILLED_IN)) { 
-							if (((AmendmentValue)response.getValue()).getObject().get("dwc:day")!=null) { 
-							   day = ((AmendmentValue)response.getValue()).getObject().get("dwc:day");
-							}
-							if (((AmendmentValue)response.getValue()).getObject().get("dwc:month")!=null) { 
-								month = ((AmendmentValue)response.getValue()).getObject().get("dwc:month");
+							measureResponse = timedMeasure(eventDate); 
+							if (measureResponse.getResultState().equals(ResultState.RUN_HAS_RESULT)) { 
+								totalTimeSecs = totalTimeSecs + measureResponse.getValue().getObject().longValue();
 							}
-							if (((AmendmentValue)response.getValue()).getObject().get("dwc:year")!=null) { 
-								year = ((AmendmentValue)response.getValue()).getObject().get("dwc:year");
+							DQResponse<?>[] responses = new DQResponse<?>[VALIDATION_NAMES.length];
+							for (int v=0; v<VALIDATION_NAMES.length; v++) { 
+								responses[v] = timedValidate(v, values);
+								tally(counter, VALIDATION_NAMES[v], responses[v]);
 							}
-							if (((AmendmentValue)response.getValue()).getObject().get("dwc:startDayOfYear")!=null) { 
-								startDayOfYear = ((AmendmentValue)response.getValue()).getObject().get("dwc:startDayOfYear");
+
+							// Amendments  ********************************************  
+							String[] amendedValues = new String[values.length];
+							{
+								HashMap<String,String> terms = new HashMap<String,String>();
+								for (int t=0; t<TERMS.length; t++) { 
+									terms.put(TERMS[t], values[t]);
+								}
+								Map<String,String> amended = amendments.evaluate(terms);
+								for (int a=0; a<amendmentNames.length; a++) { 
+									String name = amendmentNames[a] + " " + amendments.getResponse(a).getResultState().getLabel();
+									Integer current = acounter.get(name);
+									if (current==null) { current = 0; }
+									current = current + 1;
+									acounter.put(name, current);
+								}
+								for (int t=0; t<TERMS.length; t++) { 
+									amendedValues[t] = amended.get(TERMS[t]);
+								}
 							}
-							if (((AmendmentValue)response.getValue()).getObject().get("dwc:endDayOfYear")!=null) { 
-								endDayOfYear = ((AmendmentValue)response.getValue()).getObject().get("dwc:endDayOfYear");
+							// repeat validations post amendment   ****************************
+							// only validations reading a term changed by an amendment are run again, 
+							// the pre-amendment responses stand for the rest.
+							boolean[] changed = new boolean[values.length];
+							for (int t=0; t<values.length; t++) { 
+								changed[t] = !Objects.equals(values[t], amendedValues[t]);
 							}
-						}
 
-					}
-					// repeat validations post amendment   ****************************
+							if (changed[EVENT_DATE]) { 
+								measureResponse = timedMeasure(amendedValues[EVENT_DATE]);
+							}
+							if (measureResponse.getResultState().equals(ResultState.RUN_HAS_RESULT)) { 
+								totalTimeSecsPost = totalTimeSecsPost + measureResponse.getValue().getObject().longValue();
+							}
 
-					measureResponse = DwCEventDQ.measureEventdateDurationinseconds(eventDate); 
-					if (measureResponse.getResultState().equals(ResultState.RUN_HAS_RESULT)) { 
-						totalTimeSecsPost = totalTimeSecsPost + measureResponse.getValue().getObject().longValue();
-					}
+							for (int v=0; v<VALIDATION_NAMES.length; v++) { 
+								boolean rerun = false;
+								for (int t : VALIDATION_TERMS[v]) { 
+									if (changed[t]) { rerun = true; }
+								}
+								if (rerun) { 
+									responses[v] = timedValidate(v, amendedValues);
+								}
+								tally(postcounter, VALIDATION_NAMES[v], responses[v]);
+							}
+						} finally { 
+							TemplatedDQResponse.closeCommentMode(previousMode);
+							if (memoOpened) { 
+								RecordParseMemo.close();
+							}
+						}
 
-					{
-						String method = "VALIDATION_DATEIDENTIFIED_NOTSTANDARD";
-						response = DwCOtherDateDQ.validationDateidentifiedStandard(dateIdentified);
-						String name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						Integer current = postcounter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						postcounter.put(name, current);
-						
-						method = "VALIDATION_DATEIDENTIFIED_OUTOFRANGE";
-						response = DwCOtherDateDQDefaults.validationDateidentifiedInrange(dateIdentified,eventDate);
-						name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						current = postcounter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						postcounter.put(name, current);
-
-						method = "VALIDATION_EVENT_EMPTY";
-						response = DwCEventDQ.validationEventTemporalNotEmpty(startDayOfYear,eventDate,year, verbatimEventDate,month,day, endDayOfYear); 
-						name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						current = postcounter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						postcounter.put(name, current);
-						
-						method = "VALIDATION_EVENT_INCONSISTENT";
-						response = DwCEventDQ.validationEventConsistent(startDayOfYear, eventDate, year,month,day,endDayOfYear);
-						name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						current = postcounter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						postcounter.put(name, current);
-						
-						method = "VALIDATION_EVENTDATE_EMPTY";
-						response = DwCEventDQ.validationEventdateNotEmpty(eventDate);
-						name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						current = postcounter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						postcounter.put(name, current);
-					              	
-						method = "VALIDATION_EVENTDATE_NOTSTANDARD";
-						response = DwCEventDQ.validationEventdateStandard(eventDate);
-						name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						current = postcounter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						postcounter.put(name, current);
-					            	
-						method = "VALIDATION_EVENTDATE_OUTOFRANGE";
-						response = DwCEventDQDefaults.validationEventdateInrange(eventDate);
-						name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						current = postcounter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						postcounter.put(name, current);
-					 
-						method = "VALIDATION_DAY_NOTSTANDARD"; 
-						response = DwCEventDQ.validationDayStandard(day);
-						name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						current = postcounter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						postcounter.put(name, current);
-						
-						method = "VALIDATION_DAY_OUTOFRANGE"; 
-						response = DwCEventDQ.validationDayInrange(year,month,day);
-						name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						current = postcounter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						postcounter.put(name, current);
-					
-						method = "VALIDATION_MONTH_NOTSTANDARD"; 
-						response = DwCEventDQ.validationMonthStandard(month);
-						name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						current = postcounter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						postcounter.put(name, current);
-					
-						method = "VALIDATION_YEAR_EMPTY"; 
-						response = DwCEventDQ.validationYearNotEmpty(year);
-						name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						current = postcounter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						postcounter.put(name, current);
-					
-						method = "VALIDATION_YEAR_OUTOFRANGE"; 
-						response = DwCEventDQDefaults.validationYearInrange(year); 
-						name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						current = postcounter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						postcounter.put(name, current);
-						
-						method = "VALIDATION_STARTDAYOFYEAR_OUTOFRANGE"; 
-						response = DwCEventDQ.validationStartdayofyearInrange(startDayOfYear, year);
-						name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						current = postcounter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						postcounter.put(name, current);
-					
-						method = "VALIDATION_ENDDAYOFYEAR_OUTOFRANGE";
-						response = DwCEventDQ.validationEnddayofyearInrange(year,endDayOfYear);
-						name = method + " " + response.getResultState().getLabel() + " ";
-						if (response.getValue()!=null) { name = name + response.getValue().getObject().toString(); }
-						current = postcounter.get(name);
-						if (current==null) { current = 0; }
-						current = current + 1;
-						postcounter.put(name, current);
+						if (timing) { 
+							recordLatency.record(System.nanoTime() - recordStarted);
+						}
+						recordCount++;
+						EventDateQCMetrics.countRecord();
+						if (progress!=null) { 
+							progress.countRecord();
+						}
+						if (recordCount % 1000000 == 0) { 
+							Instant nowTime = Instant.now();
+							Duration runtime = Duration.between(startTime, nowTime);
+							System.out.println("Rows processed: " + recordCount + " in " + Long.toString(runtime.getSeconds()) + "seconds.");
+						}
 					}
-
-					recordCount++;
-					if (recordCount % 1000000 == 0) { 
-						Instant nowTime = Instant.now();
-						Duration runtime = Duration.between(startTime, nowTime);
-						System.out.println("Rows processed: " + recordCount + " in " + Long.toString(runtime.getSeconds()) + "seconds.");
+					completed = true;
+				} finally { 
+					if (progress!=null) { 
+						if (completed) { 
+							progress.stop();
+						} else { 
+							progress.fail();
+						}
 					}
 				}
-
 				Instant endTime = Instant.now();
 				Duration runtime =  Duration.between(startTime, endTime);
 				System.out.println("End time: " + endTime.toString());
@@ -616,6 +670,24 @@ public class Runner {
 					}
 				}
 
+				if (timing) { 
+					System.out.println("Latency (microseconds)");
+					writeTiming(new PrintWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8)), recordLatency);
+					String timingFile = cmd.getOptionValue("timingFile");
+					if (timingFile!=null) { 
+						PrintWriter timingOut = new PrintWriter(new OutputStreamWriter(new FileOutputStream(timingFile), StandardCharsets.UTF_8));
+						try { 
+							writeTiming(timingOut, recordLatency);
+						} finally { 
+							timingOut.close();
+						}
+					}
+				}
+
+				if (verbatimStatistics) { 
+					System.out.print(VerbatimCascadeStatistics.report());
+				}
+
 			}
 		} catch (ParseException e) {
 			System.out.println("ERROR: " + e.getMessage() + "\n");
@@ -627,6 +699,9 @@ public class Runner {
 		} catch (IOException e2) {
 			logger.error("Error reading file", e2);
 			System.out.println("ERROR: " + e2.getMessage() + "\n");
+		} catch (JMException e3) {
+			logger.error("Unable to register metrics", e3);
+			System.out.println("ERROR: Unable to register metrics: " + e3.getMessage() + "\n");
 		}
 	}
 }
@@ -0,0 +1,196 @@
+/**
+ * TemplatedDQResponse.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.datakurator.ffdq.api.DQResponse;
+import org.datakurator.ffdq.api.ResultValue;
+
+/**
+ * A DQResponse that can carry its comments as a CommentTemplate with arguments, rendering
+ * the text of the comments only when getComment() is called, or drop comments entirely.
+ *
+ * How comments are handled is determined by the CommentMode in effect on the constructing
+ * thread when the response is constructed.  FULL is in effect unless another mode has been
+ * opened for the thread with openCommentMode(), which applies only to responses created on
+ * that thread until the matching closeCommentMode(), so that a bulk run dropping comments
+ * does not affect other code in the same JVM.  In the default FULL mode comments are rendered
+ * as they are added, exactly as with DQResponse.  In LAZY mode templates and arguments are
+ * held and rendered on the first call to getComment(), with the same text and | separators
+ * as FULL mode.  In NONE mode comments are discarded and getComment() returns an empty
+ * string, which is suitable for bulk runs where only result states and values are tallied.
+ *
+ * @author mole
+ *
+ * @param <T> the type of ResultValue carried by the response.
+ */
+public class TemplatedDQResponse<T extends ResultValue> extends DQResponse<T> {
+
+	/**
+	 * How comments added to a TemplatedDQResponse are handled.
+	 */
+	public enum CommentMode {
+		/** Render comments as they are added. */
+		FULL,
+		/** Hold comment templates and arguments, render them when requested. */
+		LAZY,
+		/** Discard comments. */
+		NONE
+	}
+
+	/** CommentMode opened for the current thread, FULL where none is open. */
+	private static final ThreadLocal<CommentMode> CURRENT = new ThreadLocal<CommentMode>();
+
+	private final CommentMode mode;
+	/** Comments not yet rendered in LAZY mode, Strings and PendingComments in order added. */
+	private List<Object> pending = null;
+
+	/**
+	 * Create a response handling comments in the CommentMode in effect on the current thread.
+	 */
+	public TemplatedDQResponse() {
+		super();
+		mode = getCommentMode();
+	}
+
+	/**
+	 * Open a CommentMode for responses created on the current thread, until closeCommentMode()
+	 * is called with the value returned, typically in a finally block.
+	 *
+	 * @param mode the CommentMode to use, if null FULL is used.
+	 * @return the CommentMode previously opened on the current thread, or null if none was open,
+	 *   to pass to closeCommentMode().
+	 */
+	public static CommentMode openCommentMode(CommentMode mode) {
+		CommentMode result = CURRENT.get();
+		if (mode==null) {
+			CURRENT.set(CommentMode.FULL);
+		} else {
+			CURRENT.set(mode);
+		}
+		return result;
+	}
+
+	/**
+	 * Close the CommentMode opened on the current thread, restoring the mode that was in
+	 * effect when it was opened.
+	 *
+	 * @param previous the value returned by the matching call to openCommentMode().
+	 */
+	public static void closeCommentMode(CommentMode previous) {
+		if (previous==null) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(previous);
+		}
+	}
+
+	/**
+	 * @return the CommentMode used for new responses created on the current thread.
+	 */
+	public static CommentMode getCommentMode() {
+		CommentMode result = CURRENT.get();
+		if (result==null) {
+			result = CommentMode.FULL;
+		}
+		return result;
+	}
+
+	/**
+	 * Add a comment rendered from a template.
+	 *
+	 * @param template the template for the comment
+	 * @param arguments the values to substitute into the template, in the order of
+	 *   the template's placeholders.
+	 */
+	public void addComment(CommentTemplate template, Object... arguments) {
+		switch (mode) {
+		case FULL:
+			super.addComment(template.render(arguments));
+			break;
+		case LAZY:
+			pendingComments().add(new PendingComment(template, arguments));
+			break;
+		default:
+			// NONE, discard
+		}
+	}
+
+	@Override
+	public void addComment(String comment) {
+		switch (mode) {
+		case FULL:
+			super.addComment(comment);
+			break;
+		case LAZY:
+			pendingComments().add(comment);
+			break;
+		default:
+			// NONE, discard
+		}
+	}
+
+	@Override
+	public String getComment() {
+		if (pending!=null) {
+			for (Object comment : pending) {
+				if (comment instanceof PendingComment) {
+					super.addComment(((PendingComment)comment).render());
+				} else {
+					super.addComment((String)comment);
+				}
+			}
+			pending = null;
+		}
+		return super.getComment();
+	}
+
+	/**
+	 * @return the CommentMode used by this response.
+	 */
+	public CommentMode getMode() {
+		return mode;
+	}
+
+	private List<Object> pendingComments() {
+		if (pending==null) {
+			pending = new ArrayList<Object>(4);
+		}
+		return pending;
+	}
+
+	/**
+	 * A comment template with its arguments, not yet rendered.
+	 */
+	private static final class PendingComment {
+		private final CommentTemplate template;
+		private final Object[] arguments;
+
+		private PendingComment(CommentTemplate template, Object[] arguments) {
+			this.template = template;
+			this.arguments = arguments;
+		}
+
+		private String render() {
+			return template.render(arguments);
+		}
+	}
+
+}
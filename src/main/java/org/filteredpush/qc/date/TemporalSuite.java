@@ -0,0 +1,491 @@
+/**
+ * TemporalSuite.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.datakurator.ffdq.api.DQResponse;
+import org.datakurator.ffdq.api.ResultValue;
+import org.datakurator.ffdq.api.result.AmendmentValue;
+import org.datakurator.ffdq.model.ResultState;
+import org.filteredpush.qc.date.TemplatedDQResponse.CommentMode;
+import org.filteredpush.qc.date.util.EventDateQCMetrics;
+import org.filteredpush.qc.date.util.FlightRecorderEvents;
+import org.filteredpush.qc.date.util.RecordParseMemo;
+
+/**
+ * Run all of the TG2 TIME tests provided by DwCEventDQDefaults and DwCOtherDateDQDefaults
+ * on one record in a single call.
+ *
+ * The terms of the record are read once, and the parses of date values by
+ * DateUtils.eventDateValid() and DateUtils.extractInterval() are shared across the tests
+ * run on the record through a RecordParseMemo.  Each test is run on the record as
+ * provided, amendments are not applied before later tests are run, so the results are
+ * the same as calling each @Provides method separately, parameterized tests are run with
+ * their default parameters.
+ *
+ * Each test is isolated from the others, an exception thrown by a test is taken as a result
+ * of INTERNAL_PREREQUISITES_NOT_MET for that test, with the exception in its comment, and the
+ * remaining tests are run, so that one unexpected value does not end a bulk run.
+ *
+ * Results are placed in an array indexed by the position of the test in getGuids(), the
+ * array may be reused from record to record.  For bulk evaluation, results may instead be
+ * written as ResultCode codes into a byte array, with proposed amendments going to an
+ * AmendmentBuffer, the full responses for a record can be had by evaluating it again.
+ * Comments are dropped when evaluating to codes, as they are not kept, and a CommentMode
+ * may be given for the responses of a single evaluation, without changing the mode used
+ * by other code in the JVM.
+ *
+ * Each record and test evaluated is counted, and each test timed, in the EventDateQCMetrics
+ * when they are being collected, slow tests are recorded as FlightRecorderEvents.
+ *
+ * @author mole
+ *
+ */
+public final class TemporalSuite {
+
+	private static final Log logger = LogFactory.getLog(TemporalSuite.class);
+
+	/** GUIDs of the tests in the suite, in the order of their results. */
+	private static final String[] GUIDS = {
+		"56b6c695-adf1-418e-95d2-da04cad7be53", // MEASURE_EVENTDATE_DURATIONINSECONDS
+		"f51e15a6-a67d-4729-9c28-3766299d2985", // VALIDATION_EVENTDATE_NOTEMPTY
+		"c09ecbf9-34e3-4f3e-b74a-8796af15e59f", // VALIDATION_YEAR_NOTEMPTY
+		"dc2fc946-8114-491b-8a7b-3242a274a221", // VALIDATION_MONTH_NOTEMPTY
+		"167d4346-6fac-40eb-9d2e-30b7683dac04", // VALIDATION_STARTDAYOFYEAR_NOTEMPTY
+		"0267c35f-a02b-4dc9-9a01-38797faa6b2b", // VALIDATION_ENDDAYOFYEAR_NOTEMPTY
+		"aaebbde6-a101-4665-ba1e-6d4d8c561a31", // VALIDATION_EVENTTIME_NOTEMPTY
+		"9bc8b105-902a-489c-aae8-3b7075e1b948", // ISSUE_VERBATIMEVENTDATE_NOTEMPTY
+		"41267642-60ff-4116-90eb-499fee2cd83f", // VALIDATION_EVENT_NOTEMPTY
+		"4f2bf8fd-fc5c-493f-a44c-e7b16153c803", // VALIDATION_EVENTDATE_STANDARD
+		"47ff73ba-0028-4f79-9ce1-ee7008d66498", // VALIDATION_DAY_STANDARD
+		"01c6dafa-0886-4b7e-9881-2c3018c98bdc", // VALIDATION_MONTH_STANDARD
+		"8d787cb5-73e2-4c39-9cd1-67c7361dc02e", // VALIDATION_DAY_INRANGE
+		"85803c7e-2a5a-42e1-b8d3-299a44cafc46", // VALIDATION_STARTDAYOFYEAR_INRANGE
+		"9a39d88c-7eee-46df-b32a-c109f9f81fb8", // VALIDATION_ENDDAYOFYEAR_INRANGE
+		"ad0c8855-de69-4843-a80c-a5387d20fbc8", // VALIDATION_YEAR_INRANGE
+		"3cff4dc4-72e9-4abe-9bf3-8a30f1618432", // VALIDATION_EVENTDATE_INRANGE
+		"5618f083-d55a-4ac2-92b5-b9fb227b832f", // VALIDATION_EVENT_CONSISTENT
+		"66269bdd-9271-4e76-b25c-7ab81eebe1d8", // VALIDATION_DATEIDENTIFIED_STANDARD
+		"dc8aae4b-134f-4d75-8a71-c4186239178e", // VALIDATION_DATEIDENTIFIED_INRANGE
+		"391ca46d-3842-4a18-970c-0434cbc17f07", // VALIDATION_DATEIDENTIFIED_AFTEREVENTDATE
+		"e17918fc-25ca-4a3a-828b-4502432b98c4", // VALIDATION_MODIFIED_NOTEMPTY
+		"718dfc3c-cb52-4fca-b8e2-0e722f375da7", // AMENDMENT_EVENTDATE_STANDARDIZED
+		"6d0a0c10-5e4a-4759-b448-88932f399812", // AMENDMENT_EVENTDATE_FROM_VERBATIM
+		"eb0a44fa-241c-4d64-98df-ad4aa837307b", // AMENDMENT_EVENTDATE_FROM_YEARSTARTDAYOFYEARENDDAYOFYEAR
+		"3892f432-ddd0-4a0a-b713-f2e2ecbd879d", // AMENDMENT_EVENTDATE_FROM_YEARMONTHDAY
+		"2e371d57-1eb3-4fe3-8a61-dff43ced50cf", // AMENDMENT_MONTH_STANDARDIZED
+		"b129fa4d-b25b-43f7-9645-5ed4d44b357b", // AMENDMENT_DAY_STANDARDIZED
+		"710fe118-17e1-440f-b428-88ba3f547d6d", // AMENDMENT_EVENT_FROM_EVENTDATE
+		"39bb2280-1215-447b-9221-fd13bc990641", // AMENDMENT_DATEIDENTIFIED_STANDARDIZED
+		"dfb4a260-4cbc-45b2-bf86-28be49c2cceb"  // AMENDMENT_MODIFIED_STANDARDIZED
+	};
+
+	/** Names of the tests in the suite, the class and method providing each, in the order of GUIDS. */
+	private static final String[] TESTS = {
+		"DwCEventDQ.measureEventdateDurationinseconds",
+		"DwCEventDQ.validationEventdateNotEmpty",
+		"DwCEventDQ.validationYearNotEmpty",
+		"DwCEventDQ.validationMonthNotempty",
+		"DwCEventDQ.validationStartdayofyearNotempty",
+		"DwCEventDQ.validationEnddayofyearNotempty",
+		"DwCEventDQ.validationEventtimeNotempty",
+		"DwCEventDQ.issueVerbatimeventdateNotempty",
+		"DwCEventDQ.validationEventTemporalNotEmpty",
+		"DwCEventDQ.validationEventdateStandard",
+		"DwCEventDQ.validationDayStandard",
+		"DwCEventDQ.validationMonthStandard",
+		"DwCEventDQ.validationDayInrange",
+		"DwCEventDQ.validationStartdayofyearInrange",
+		"DwCEventDQ.validationEnddayofyearInrange",
+		"DwCEventDQDefaults.validationYearInrange",
+		"DwCEventDQDefaults.validationEventdateInrange",
+		"DwCEventDQ.validationEventConsistent",
+		"DwCOtherDateDQ.validationDateidentifiedStandard",
+		"DwCOtherDateDQDefaults.validationDateidentifiedInrange",
+		"DwCOtherDateDQ.validationDateidentifiedAftereventdate",
+		"DwCOtherDateDQ.validationModifiedNotempty",
+		"DwCEventDQ.amendmentEventdateStandardized",
+		"DwCEventDQ.amendmentEventdateFromVerbatim",
+		"DwCEventDQ.amendmentEventdateFromYearstartdayofyearenddayofyear",
+		"DwCEventDQ.amendmentEventDateFromYearMonthDay",
+		"DwCEventDQ.amendmentMonthStandardized",
+		"DwCEventDQ.amendmentDayStandardized",
+		"DwCEventDQ.amendmentEventFromEventdate",
+		"DwCOtherDateDQ.amendmentDateidentifiedStandardized",
+		"DwCOtherDateDQ.amendmentModifiedStandardized"
+	};
+
+	/** Terms of a record read by the tests, in the order of the term indexes below. */
+	private static final String[] TERMS = { "dwc:eventDate", "dwc:verbatimEventDate", "dwc:year", "dwc:month", "dwc:day",
+			"dwc:startDayOfYear", "dwc:endDayOfYear", "dwc:eventTime", "dwc:dateIdentified", "dcterms:modified" };
+	private static final int EVENT_DATE = 0;
+	private static final int VERBATIM_EVENT_DATE = 1;
+	private static final int YEAR = 2;
+	private static final int MONTH = 3;
+	private static final int DAY = 4;
+	private static final int START_DAY_OF_YEAR = 5;
+	private static final int END_DAY_OF_YEAR = 6;
+	private static final int EVENT_TIME = 7;
+	private static final int DATE_IDENTIFIED = 8;
+	private static final int MODIFIED = 9;
+
+	private static final Map<String,Integer> INDEXES;
+	static {
+		Map<String,Integer> indexes = new HashMap<String,Integer>();
+		for (int i=0; i<GUIDS.length; i++) {
+			indexes.put(GUIDS[i], i);
+		}
+		INDEXES = Collections.unmodifiableMap(indexes);
+	}
+
+	private TemporalSuite() {
+	}
+
+	/**
+	 * @return the number of tests in the suite, the required length of a results array.
+	 */
+	public static int size() {
+		return GUIDS.length;
+	}
+
+	/**
+	 * @return a copy of the GUIDs of the tests in the suite, in the order of their results.
+	 */
+	public static String[] getGuids() {
+		return GUIDS.clone();
+	}
+
+	/**
+	 * Find the position of the result of a test in a results array.
+	 *
+	 * @param guid the GUID of the test, as in its @Provides annotation.
+	 * @return the index of the result for the test, or -1 if the test is not in the suite.
+	 */
+	public static int indexOf(String guid) {
+		Integer index = INDEXES.get(guid);
+		int result = -1;
+		if (index!=null) {
+			result = index;
+		}
+		return result;
+	}
+
+	/**
+	 * Run all the tests in the suite on a record.
+	 *
+	 * @param record map of Darwin Core terms, with keys such as dwc:eventDate and dcterms:modified,
+	 *   to values, absent terms are treated as null.
+	 * @return a new array of results indexed as getGuids().
+	 */
+	public static DQResponse<?>[] evaluate(Map<String,String> record) {
+		return evaluate(record, new DQResponse<?>[GUIDS.length]);
+	}
+
+	/**
+	 * Run all the tests in the suite on a record, writing the results as ResultCode codes.
+	 * Each result is encoded as soon as its test has run, without comments and without
+	 * holding the responses for the record, and a test that throws is encoded as
+	 * INTERNAL_PREREQUISITES_NOT_MET, so a bad record does not end a bulk run.
+	 *
+	 * @param record map of Darwin Core terms, with keys such as dwc:eventDate and dcterms:modified,
+	 *   to values, absent terms are treated as null.
+	 * @param codes array into which to write the codes, indexed as getGuids() from offset.
+	 * @param offset position in codes of the code for the first test.
+	 * @param recordNumber number of the record, as recorded in amendments.
+	 * @param amendments buffer to which the values of amendments proposing a change are added,
+	 *   may be null if the values are not needed.
+	 * @throws IllegalArgumentException if codes is too short to hold the codes from offset.
+	 */
+	public static void evaluate(Map<String,String> record, byte[] codes, int offset, long recordNumber, AmendmentBuffer amendments) {
+		if (codes==null || offset<0 || codes.length-offset<GUIDS.length) {
+			throw new IllegalArgumentException("Codes array must have at least " + GUIDS.length + " elements from offset " + offset + ".");
+		}
+		evaluate(record, null, codes, offset, recordNumber, amendments, CommentMode.NONE);
+	}
+
+	/**
+	 * Run all the tests in the suite on a record, placing the results into an existing array.
+	 *
+	 * @param record map of Darwin Core terms, with keys such as dwc:eventDate and dcterms:modified,
+	 *   to values, absent terms are treated as null.
+	 * @param results array of at least size() elements into which to place the results, indexed
+	 *   as getGuids(), any existing elements are replaced.
+	 * @return results
+	 * @throws IllegalArgumentException if results is too short to hold the results.
+	 */
+	public static DQResponse<?>[] evaluate(Map<String,String> record, DQResponse<?>[] results) {
+		return evaluate(record, results, null);
+	}
+
+	/**
+	 * Run all the tests in the suite on a record, placing the results into an existing array,
+	 * with the comments on the results handled in a given CommentMode.
+	 *
+	 * @param record map of Darwin Core terms, with keys such as dwc:eventDate and dcterms:modified,
+	 *   to values, absent terms are treated as null.
+	 * @param results array of at least size() elements into which to place the results, indexed
+	 *   as getGuids(), any existing elements are replaced.
+	 * @param commentMode the CommentMode for the results of this evaluation, if null the
+	 *   CommentMode in effect on the current thread is used.
+	 * @return results
+	 * @throws IllegalArgumentException if results is too short to hold the results.
+	 */
+	public static DQResponse<?>[] evaluate(Map<String,String> record, DQResponse<?>[] results, CommentMode commentMode) {
+		if (results==null || results.length<GUIDS.length) {
+			throw new IllegalArgumentException("Results array must have at least " + GUIDS.length + " elements.");
+		}
+		evaluate(record, results, null, 0, 0l, null, commentMode);
+		return results;
+	}
+
+	/**
+	 * Run all the tests in the suite on a record, placing each result into results, or encoding
+	 * it into codes as soon as it is obtained, without holding the responses for the record.
+	 *
+	 * @param record map of Darwin Core terms to values.
+	 * @param results array into which to place the results, or null to write codes.
+	 * @param codes array into which to write the codes, used if results is null.
+	 * @param offset position in codes of the code for the first test.
+	 * @param recordNumber number of the record, as recorded in amendments.
+	 * @param amendments buffer for the values of amendments proposing a change when writing codes, may be null.
+	 * @param commentMode the CommentMode for the responses, if null the mode in effect on the current thread.
+	 */
+	private static void evaluate(Map<String,String> record, DQResponse<?>[] results, byte[] codes, int offset, 
+			long recordNumber, AmendmentBuffer amendments, CommentMode commentMode) {
+		String[] terms = terms(record);
+		boolean collecting = EventDateQCMetrics.isTimingTests();
+		int inputLength = 0;
+		long started = 0l;
+		if (collecting) {
+			inputLength = EventDateQCMetrics.inputLength(terms);
+			started = System.nanoTime();
+		}
+		boolean opened = RecordParseMemo.open();
+		CommentMode previousMode = null;
+		if (commentMode!=null) {
+			previousMode = TemplatedDQResponse.openCommentMode(commentMode);
+		}
+		try {
+			for (int i=0; i<GUIDS.length; i++) {
+				Object event = null;
+				if (collecting) {
+					event = FlightRecorderEvents.beginTest();
+				}
+				DQResponse<?> response = runIsolated(i, terms);
+				started = mark(collecting, event, inputLength, i, response, started);
+				if (results!=null) {
+					results[i] = response;
+				} else {
+					codes[offset + i] = ResultCode.encode(response);
+					if (amendments!=null && ResultCode.isAmendmentProposed(codes[offset + i])) {
+						amendments.add(recordNumber, i, ((AmendmentValue)response.getValue()).getObject());
+					}
+				}
+			}
+		} finally {
+			if (commentMode!=null) {
+				TemplatedDQResponse.closeCommentMode(previousMode);
+			}
+			if (opened) {
+				RecordParseMemo.close();
+			}
+		}
+		EventDateQCMetrics.countRecord();
+	}
+
+	/**
+	 * Read the terms of a record used by the tests, in the order of the term indexes.
+	 */
+	private static String[] terms(Map<String,String> record) {
+		String[] result = new String[TERMS.length];
+		for (int t=0; t<TERMS.length; t++) {
+			result[t] = record.get(TERMS[t]);
+		}
+		return result;
+	}
+
+	/**
+	 * Run one test of the suite, any exception thrown by the test is returned as a response
+	 * of INTERNAL_PREREQUISITES_NOT_MET with the exception as its comment, so that the other
+	 * tests on the record are run and a bulk run continues past the record.
+	 *
+	 * @param index the index of the test in GUIDS.
+	 * @param terms the values of the terms of the record, indexed as TERMS.
+	 * @return the response from the test.
+	 */
+	private static DQResponse<?> runIsolated(int index, String[] terms) {
+		DQResponse<?> result;
+		try {
+			result = run(index, terms);
+		} catch (RuntimeException e) {
+			logger.debug(TESTS[index] + " failed on " + Arrays.toString(terms), e);
+			result = failed(index, e);
+		}
+		return result;
+	}
+
+	/**
+	 * @param index the index of the test in GUIDS.
+	 * @param failure the exception thrown by the test.
+	 * @return a response of INTERNAL_PREREQUISITES_NOT_MET standing for the result of the test,
+	 *   commented with the test and the exception.
+	 */
+	static DQResponse<?> failed(int index, RuntimeException failure) {
+		TemplatedDQResponse<ResultValue> result = new TemplatedDQResponse<ResultValue>();
+		result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
+		result.addComment(CommentTemplate.TEST_FAILED, TESTS[index], failure.toString());
+		return result;
+	}
+
+	/**
+	 * Run one test of the suite.
+	 *
+	 * @param index the index of the test in GUIDS.
+	 * @param terms the values of the terms of the record, indexed as TERMS.
+	 * @return the response from the test.
+	 */
+	private static DQResponse<?> run(int index, String[] terms) {
+		DQResponse<?> result;
+		switch (index) {
+		case 0:
+			result = DwCEventDQ.measureEventdateDurationinseconds(terms[EVENT_DATE]);
+			break;
+		case 1:
+			result = DwCEventDQ.validationEventdateNotEmpty(terms[EVENT_DATE]);
+			break;
+		case 2:
+			result = DwCEventDQ.validationYearNotEmpty(terms[YEAR]);
+			break;
+		case 3:
+			result = DwCEventDQ.validationMonthNotempty(terms[MONTH]);
+			break;
+		case 4:
+			result = DwCEventDQ.validationStartdayofyearNotempty(terms[START_DAY_OF_YEAR]);
+			break;
+		case 5:
+			result = DwCEventDQ.validationEnddayofyearNotempty(terms[END_DAY_OF_YEAR]);
+			break;
+		case 6:
+			result = DwCEventDQ.validationEventtimeNotempty(terms[EVENT_TIME]);
+			break;
+		case 7:
+			result = DwCEventDQ.issueVerbatimeventdateNotempty(terms[VERBATIM_EVENT_DATE]);
+			break;
+		case 8:
+			result = DwCEventDQ.validationEventTemporalNotEmpty(terms[EVENT_DATE], terms[VERBATIM_EVENT_DATE], terms[YEAR], terms[MONTH], terms[DAY], terms[START_DAY_OF_YEAR], terms[END_DAY_OF_YEAR]);
+			break;
+		case 9:
+			result = DwCEventDQ.validationEventdateStandard(terms[EVENT_DATE]);
+			break;
+		case 10:
+			result = DwCEventDQ.validationDayStandard(terms[DAY]);
+			break;
+		case 11:
+			result = DwCEventDQ.validationMonthStandard(terms[MONTH]);
+			break;
+		case 12:
+			result = DwCEventDQ.validationDayInrange(terms[YEAR], terms[MONTH], terms[DAY]);
+			break;
+		case 13:
+			result = DwCEventDQ.validationStartdayofyearInrange(terms[START_DAY_OF_YEAR], terms[EVENT_DATE]);
+			break;
+		case 14:
+			result = DwCEventDQ.validationEnddayofyearInrange(terms[END_DAY_OF_YEAR], terms[EVENT_DATE]);
+			break;
+		case 15:
+			result = DwCEventDQDefaults.validationYearInrange(terms[YEAR]);
+			break;
+		case 16:
+			result = DwCEventDQDefaults.validationEventdateInrange(terms[EVENT_DATE]);
+			break;
+		case 17:
+			result = DwCEventDQ.validationEventConsistent(terms[EVENT_DATE], terms[YEAR], terms[MONTH], terms[DAY], terms[START_DAY_OF_YEAR], terms[END_DAY_OF_YEAR]);
+			break;
+		case 18:
+			result = DwCOtherDateDQ.validationDateidentifiedStandard(terms[DATE_IDENTIFIED]);
+			break;
+		case 19:
+			result = DwCOtherDateDQDefaults.validationDateidentifiedInrange(terms[DATE_IDENTIFIED], terms[EVENT_DATE]);
+			break;
+		case 20:
+			result = DwCOtherDateDQ.validationDateidentifiedAftereventdate(terms[EVENT_DATE], terms[DATE_IDENTIFIED]);
+			break;
+		case 21:
+			result = DwCOtherDateDQ.validationModifiedNotempty(terms[MODIFIED]);
+			break;
+		case 22:
+			result = DwCEventDQ.amendmentEventdateStandardized(terms[EVENT_DATE]);
+			break;
+		case 23:
+			result = DwCEventDQ.amendmentEventdateFromVerbatim(terms[EVENT_DATE], terms[VERBATIM_EVENT_DATE]);
+			break;
+		case 24:
+			result = DwCEventDQ.amendmentEventdateFromYearstartdayofyearenddayofyear(terms[EVENT_DATE], terms[YEAR], terms[START_DAY_OF_YEAR], terms[END_DAY_OF_YEAR]);
+			break;
+		case 25:
+			result = DwCEventDQ.amendmentEventDateFromYearMonthDay(terms[EVENT_DATE], terms[YEAR], terms[MONTH], terms[DAY]);
+			break;
+		case 26:
+			result = DwCEventDQ.amendmentMonthStandardized(terms[MONTH]);
+			break;
+		case 27:
+			result = DwCEventDQ.amendmentDayStandardized(terms[DAY]);
+			break;
+		case 28:
+			result = DwCEventDQ.amendmentEventFromEventdate(terms[EVENT_DATE], terms[YEAR], terms[MONTH], terms[DAY], terms[START_DAY_OF_YEAR], terms[END_DAY_OF_YEAR]);
+			break;
+		case 29:
+			result = DwCOtherDateDQ.amendmentDateidentifiedStandardized(terms[DATE_IDENTIFIED]);
+			break;
+		case 30:
+			result = DwCOtherDateDQ.amendmentModifiedStandardized(terms[MODIFIED]);
+			break;
+		default:
+			throw new IllegalArgumentException("No test at index " + index);
+		}
+		return result;
+	}
+
+	/**
+	 * Record the time since started as the latency of a test in the EventDateQCMetrics,
+	 * and end the FlightRecorderEvents test event begun for it, if any.
+	 *
+	 * @param collecting true if tests are being timed, otherwise nothing is recorded.
+	 * @param event the event returned by FlightRecorderEvents.beginTest() for the test, may be null.
+	 * @param inputLength the total length of the values of the record.
+	 * @param index the index of the test.
+	 * @param response the response from the test.
+	 * @param started the time the test started, from System.nanoTime().
+	 * @return the time the next test starts, or started if metrics are not being collected.
+	 */
+	private static long mark(boolean collecting, Object event, int inputLength, int index, DQResponse<?> response, long started) {
+		long result = started;
+		if (collecting) {
+			result = System.nanoTime();
+			EventDateQCMetrics.recordTest(event, TESTS[index], response, inputLength, result - started);
+		}
+		return result;
+	}
+
+}
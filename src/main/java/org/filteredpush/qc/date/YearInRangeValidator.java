@@ -0,0 +1,154 @@
+/**
+ * YearInRangeValidator.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.datakurator.ffdq.api.DQResponse;
+import org.datakurator.ffdq.api.result.ComplianceValue;
+import org.datakurator.ffdq.model.ResultState;
+import org.filteredpush.qc.date.util.DateUtils;
+
+/**
+ * VALIDATION_YEAR_INRANGE with its parameters bdq:earliestValidDate and
+ * bdq:latestValidDate bound once, see DwCEventDQ.validationYearInrange(String, String, String).
+ *
+ * The defaults for the parameters and their integer values are worked out when the
+ * validator is bound, so that validate() only needs to parse the year.  Instances
+ * are immutable and may be shared between threads.  Where a parameter defaults to the
+ * current year, it is the current year at the time of binding.
+ *
+ * @author mole
+ *
+ */
+public final class YearInRangeValidator {
+
+	private static final Log logger = LogFactory.getLog(YearInRangeValidator.class);
+
+	/** Default value for bdq:earliestValidDate */
+	public static final String DEFAULT_LOWER_BOUND = "1582";
+
+	private final String lowerBound;
+	private final String upperBound;
+	private final List<String> parameterComments;
+	private final int numericLowerBound;
+	private final int numericUpperBound;
+	/** Message from failure to parse the bounds as integers, null if they parsed. */
+	private final String boundsErrorMessage;
+
+	private YearInRangeValidator(String lowerBound, String upperBound, List<String> parameterComments) {
+		this.lowerBound = lowerBound;
+		this.upperBound = upperBound;
+		this.parameterComments = Collections.unmodifiableList(parameterComments);
+		int lower = 0;
+		int upper = 0;
+		String errorMessage = null;
+		try {
+			lower = Integer.parseInt(lowerBound);
+			upper = Integer.parseInt(upperBound);
+		} catch (NumberFormatException e) {
+			errorMessage = e.getMessage();
+		}
+		this.numericLowerBound = lower;
+		this.numericUpperBound = upper;
+		this.boundsErrorMessage = errorMessage;
+	}
+
+	/**
+	 * Bind the parameters of VALIDATION_YEAR_INRANGE.
+	 *
+	 * @param lowerBound bdq:earliestValidDate integer for lower bound of range of in range years, if null 1582 will be used.
+	 * @param upperBound bdq:latestValidDate integer for upper bound of range of in range years, if null current year will be used.
+	 * @return a validator for year values with the given parameters
+	 */
+	public static YearInRangeValidator bind(String lowerBound, String upperBound) {
+		List<String> comments = new ArrayList<String>();
+		String currentYear = Integer.toString(LocalDateTime.now().getYear());
+		if (lowerBound==null) {
+			lowerBound = DEFAULT_LOWER_BOUND;
+		} else {
+			if (!lowerBound.equals(DEFAULT_LOWER_BOUND)) {
+				comments.add("Using non-default argument ["+ lowerBound +"] for Parameter bdq:earliestValidDate.");
+			}
+		}
+		if (upperBound==null) {
+			upperBound = currentYear;
+		} else {
+			if (!lowerBound.equals(currentYear)) {
+				comments.add("Using non-default argument ["+ upperBound +"] for Parameter bdq:earliestDate.");
+			}
+		}
+		return new YearInRangeValidator(lowerBound, upperBound, comments);
+	}
+
+	/**
+	 * Is the value of dwc:year within the bound range?
+	 *
+	 * @param year the provided dwc:year to evaluate
+	 * @return DQResponse the response of type ComplianceValue to return
+	 */
+	public DQResponse<ComplianceValue> validate(String year) {
+		TemplatedDQResponse<ComplianceValue> result = new TemplatedDQResponse<ComplianceValue>();
+		for (String comment : parameterComments) {
+			result.addComment(comment);
+		}
+		if (DateUtils.isEmpty(year)) {
+			result.addComment("No value provided for dwc:year.");
+			result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
+		} else {
+			long numericYear = DateUtils.scanInteger(year, true);
+			if (numericYear==DateUtils.NOT_AN_INTEGER) {
+				result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
+				result.addComment(CommentTemplate.YEAR_NOT_AN_INTEGER, year.trim());
+			} else if (boundsErrorMessage!=null) {
+				result.setResultState(ResultState.INTERNAL_PREREQUISITES_NOT_MET);
+				result.addComment(CommentTemplate.YEAR_NOT_INTEGER, boundsErrorMessage);
+			} else {
+				if (numericYear<numericLowerBound || numericYear>numericUpperBound) {
+					result.setValue(ComplianceValue.NOT_COMPLIANT);
+					result.addComment(CommentTemplate.YEAR_NOT_IN_RANGE, year, lowerBound, upperBound);
+				} else {
+					result.setValue(ComplianceValue.COMPLIANT);
+					result.addComment(CommentTemplate.YEAR_IN_RANGE, year, lowerBound, upperBound);
+				}
+				result.setResultState(ResultState.RUN_HAS_RESULT);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return the bound value of bdq:earliestValidDate
+	 */
+	public String getLowerBound() {
+		return lowerBound;
+	}
+
+	/**
+	 * @return the bound value of bdq:latestValidDate
+	 */
+	public String getUpperBound() {
+		return upperBound;
+	}
+
+}
@@ -42,10 +42,10 @@ import org.filteredpush.qc.date.EventResult;
 import org.filteredpush.qc.date.LocalDateInterval;
 import org.filteredpush.qc.date.EventResult.EventQCResultState;
 import org.filteredpush.qc.date.LocalDateTimeInterval;
+import org.filteredpush.qc.date.PackedDateInterval;
 import org.filteredpush.qc.date.TimeExtractionException;
 
 import java.time.Instant;
-import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -108,7 +108,14 @@ public class DateUtils {
 	public static boolean eventDateValid(String eventDate) {
 		boolean result = false; 
 		logger.debug(eventDate);
-		if (!DateUtils.isEmpty(eventDate)) { 
+		RecordParseMemo memo = RecordParseMemo.current();
+		Boolean remembered = null;
+		if (memo!=null) { 
+			remembered = memo.getValid(eventDate);
+		}
+		if (remembered!=null) { 
+			result = remembered;
+		} else if (!DateUtils.isEmpty(eventDate)) { 
 			if (!eventDate.contains("/") && extractDate(eventDate)!=null) { 
 				result = true;
 				logger.debug(eventDate);    		
@@ -124,9 +131,79 @@ public class DateUtils {
 				}
 			}
 		}
+		if (memo!=null && remembered==null) { 
+			memo.putValid(eventDate, result);
+		}
     	return result;
     }
 	
+	/**
+	 * Recognize a machine generated timestamp, such as is typical in dcterms:modified, 
+	 * in a single scan of the string without invoking the date parsing cascade.  
+	 * Recognizes a date in the form yyyy-mm-dd, followed by a T or a space, followed by 
+	 * a time in the form hh:mm, hh:mm:ss, or hh:mm:ss.s (with one to nine digits of 
+	 * fractional seconds), optionally followed by Z or a time zone offset in the 
+	 * form +hh:mm or -hh:mm, offsets without the colon are not recognized.  The date 
+	 * must be a valid date, and the time a valid time of day.
+	 * 
+	 * @param value the string to examine
+	 * @return the timestamp formatted as an ISO date time with a T separating the date
+	 *   and time, or null if value is not a recognized 
+	 *   timestamp.  If the returned value equals value, then value is already a valid 
+	 *   ISO date time.
+	 */
+	public static String extractTimestamp(String value) { 
+		String result = null;
+		if (value!=null && value.length()>=16 
+				&& ScannedDateTime.isDigits(value,0,4) && value.charAt(4)=='-' 
+				&& ScannedDateTime.isDigits(value,5,2) && value.charAt(7)=='-' 
+				&& ScannedDateTime.isDigits(value,8,2) && (value.charAt(10)=='T' || value.charAt(10)==' ')
+				&& ScannedDateTime.isDigits(value,11,2) && value.charAt(13)==':' && ScannedDateTime.isDigits(value,14,2)) 
+		{ 
+			int length = value.length();
+			int year = ScannedDateTime.digitsValue(value,0,4);
+			int month = ScannedDateTime.digitsValue(value,5,2);
+			int day = ScannedDateTime.digitsValue(value,8,2);
+			boolean valid = month>=1 && month<=12 && day>=1 && day<=daysInMonth(year, month) 
+					&& ScannedDateTime.digitsValue(value,11,2)<=23 && ScannedDateTime.digitsValue(value,14,2)<=59;
+			int position = 16;
+			if (valid && position<length && value.charAt(position)==':') {
+				valid = ScannedDateTime.isDigits(value,position+1,2) && ScannedDateTime.digitsValue(value,position+1,2)<=59;
+				position = position + 3;
+				if (valid && position<length && value.charAt(position)=='.') { 
+					int fractionDigits = 0;
+					position++;
+					while (ScannedDateTime.isDigits(value,position,1)) { 
+						fractionDigits++;
+						position++;
+					}
+					valid = fractionDigits>=1 && fractionDigits<=9;
+				}
+			}
+			if (valid && position<length) { 
+				char sign = value.charAt(position);
+				if (sign=='Z' && position+1==length) { 
+					// UTC
+				} else if ((sign=='+' || sign=='-') && position+6==length && ScannedDateTime.isDigits(value,position+1,2) 
+						&& value.charAt(position+3)==':' && ScannedDateTime.isDigits(value,position+4,2)) { 
+					int offsetHours = ScannedDateTime.digitsValue(value,position+1,2);
+					int offsetMinutes = ScannedDateTime.digitsValue(value,position+4,2);
+					valid = offsetMinutes<=59 && (offsetHours<18 || (offsetHours==18 && offsetMinutes==0));
+				} else { 
+					valid = false;
+				}
+			}
+			if (valid) { 
+				if (value.charAt(10)=='T') {
+					// already in the normalized form
+					result = value;
+				} else { 
+					result = value.substring(0,10) + "T" + value.substring(11);
+				}
+			}
+		}
+		return result;
+	}
 	
 	/**
 	 * Attempt to construct an ISO formatted date as a string built from atomic parts of the date.
@@ -408,6 +485,10 @@ public class DateUtils {
 	public static EventResult extractDateFromVerbatimER(String verbatimEventDate, int yearsBeforeSuspect, Boolean assumemmddyyyy) {
 		EventResult result = new EventResult();
 		String resultDate = null;
+		// statistics on the handlers, null unless VerbatimCascadeStatistics are enabled or
+		// FlightRecorderEvents are being recorded
+		VerbatimCascadeStatistics.Probe probe = VerbatimCascadeStatistics.probe(result, verbatimEventDate);
+		if (probe!=null) { probe.handler("preprocess"); }
 		
 		// Remove some common no data comments
 		if (verbatimEventDate!=null && verbatimEventDate.contains("[no date]")) { 
@@ -450,6 +531,7 @@ public class DateUtils {
 		
 		// Stop before doing work if provided verbatim string is null.
 		if (isEmpty(verbatimEventDate)) { 
+			if (probe!=null) { probe.finish(result); }
 			return result;
 		}
 		
@@ -487,6 +569,7 @@ public class DateUtils {
 				verbatimEventDate = bits[0];
 			}
 		}
+		if (probe!=null) { probe.handler("yyyy-mm-dd"); }
 		if (verbatimEventDate.matches("^[0-9]{4}[-]([0-9]{1,2}|[A-Za-z]+)[-][0-9]{1,2}.*")) {
 			// Both separators are the same.
 			// Example 1982-02-05
@@ -524,7 +607,7 @@ public class DateUtils {
 			boolean matched = false;
 			while (i.hasNext() && !matched) {
 				try { 
-					LocalDate startDateBit = LocalDate.parse(verbatimEventDate, i.next());
+					LocalDate startDateBit = VerbatimCascadeStatistics.parse(verbatimEventDate, i.next());
 					resultDate = startDateBit.format(DateTimeFormatter.ISO_LOCAL_DATE);
 					result.setResultState(EventResult.EventQCResultState.DATE);
 					result.setResult(resultDate);
@@ -534,6 +617,7 @@ public class DateUtils {
 				}
 			}
 		}
+		if (probe!=null) { probe.handler("yyyy/mm/dd"); }
 		if (verbatimEventDate.matches("^[0-9]{4}[/]([0-9]{1,2}|[A-Za-z]+)[/][0-9]{1,2}$")) {
 			// Both separators are the same.
 			// Example 1982/02/05
@@ -552,7 +636,7 @@ public class DateUtils {
 			boolean matched = false;
 			while (i.hasNext() && !matched) {
 				try { 
-					LocalDate startDateBit = LocalDate.parse(verbatimEventDate, i.next());
+					LocalDate startDateBit = VerbatimCascadeStatistics.parse(verbatimEventDate, i.next());
 					resultDate = startDateBit.format(DateTimeFormatter.ISO_LOCAL_DATE);
 					result.setResultState(EventResult.EventQCResultState.DATE);
 					result.setResult(resultDate);
@@ -563,6 +647,7 @@ public class DateUtils {
 			}
 				
 		}
+		if (probe!=null) { probe.handler("yyyy/mm/ddThh:mm"); }
 		if (verbatimEventDate.matches("^[0-9]{4}[/]([0-9]{1,2}|[A-Za-z]+)[/][0-9]{1,2}T.*$")) {
 			// Both separators are the same, date and time
 			// Example 1982/02/05T05:03:06
@@ -583,7 +668,7 @@ public class DateUtils {
 			boolean matched = false;
 			while (i.hasNext() && !matched) {
 				try { 
-					LocalDate startDateBit = LocalDate.parse(verbatimEventDate.replace("/", "-"), i.next());
+					LocalDate startDateBit = VerbatimCascadeStatistics.parse(verbatimEventDate.replace("/", "-"), i.next());
 					resultDate = startDateBit.format(DateTimeFormatter.ISO_LOCAL_DATE);
 					result.setResultState(EventResult.EventQCResultState.DATE);
 					result.setResult(resultDate);
@@ -593,6 +678,7 @@ public class DateUtils {
 				}
 			}
 		}
+		if (probe!=null) { probe.handler("yyyy-dd-mm"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN) &&
 				verbatimEventDate.matches("^[0-9]{4}-([2-3][0-9]|[1][3-9])-([1-9]|[0][0-9]|[1][0-2])$")) 
 		{
@@ -602,7 +688,7 @@ public class DateUtils {
 				DateTimeFormatter formatter = new DateTimeFormatterBuilder()
 						.append(DateTimeFormatter.ofPattern("uuuu'-'dd'-'MM"))
 						.toFormatter().withResolverStyle(ResolverStyle.STRICT);
-	    		LocalDate parseDate = LocalDate.parse(verbatimEventDate, formatter);
+	    		LocalDate parseDate = VerbatimCascadeStatistics.parse(verbatimEventDate, formatter);
 				resultDate = parseDate.format(DateTimeFormatter.ISO_LOCAL_DATE);
 				result.setResultState(EventResult.EventQCResultState.DATE);
 				result.setResult(resultDate);
@@ -612,6 +698,7 @@ public class DateUtils {
 			}
 		}
 		logger.debug(verbatimEventDate);
+		if (probe!=null) { probe.handler("yyyy.dd.mm"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN) &&
 				verbatimEventDate.matches("^[0-9]{4}[.,]([2-3][0-9]|[1][3-9])[.,]([0-9]|[0][0-9]|[1][0-2])$")) 
 		{
@@ -632,7 +719,7 @@ public class DateUtils {
 			boolean matched = false;
 			while (i.hasNext() && !matched) {
 				try { 
-					LocalDate startDateBit = LocalDate.parse(commasReplaced, i.next());
+					LocalDate startDateBit = VerbatimCascadeStatistics.parse(commasReplaced, i.next());
 					resultDate = startDateBit.format(DateTimeFormatter.ISO_LOCAL_DATE);
 					result.setResultState(EventResult.EventQCResultState.DATE);
 					result.setResult(resultDate);
@@ -643,6 +730,7 @@ public class DateUtils {
 				}
 			}
 		}
+		if (probe!=null) { probe.handler("yyyy.mm.dd"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN) &&
 				verbatimEventDate.matches("^[0-9]{4}[.,][0-9]{1,2}[.,][0-9]{1,2}$")) 
 		{
@@ -662,7 +750,7 @@ public class DateUtils {
 						.append(DateTimeFormatter.ofPattern("uuuu'.'M'.'d"))
 						.toFormatter().withResolverStyle(ResolverStyle.STRICT);
 				String commasReplaced =  verbatimEventDate.replace(",", ".");
-	    		parseDate1 = LocalDate.parse(commasReplaced, formatter);
+	    		parseDate1 = VerbatimCascadeStatistics.parse(commasReplaced, formatter);
 				resultDateMD = parseDate1.format(DateTimeFormatter.ISO_LOCAL_DATE);
 			} catch (Exception e) { 
 				logger.debug(e.getMessage());
@@ -672,7 +760,7 @@ public class DateUtils {
 						.append(DateTimeFormatter.ofPattern("uuuu'.'d'.'M"))
 						.toFormatter().withResolverStyle(ResolverStyle.STRICT);
 				String commasReplaced =  verbatimEventDate.replace(",", ".");
-	    		parseDate2 = LocalDate.parse(commasReplaced, formatter);
+	    		parseDate2 = VerbatimCascadeStatistics.parse(commasReplaced, formatter);
 				resultDateDM = parseDate2.format(DateTimeFormatter.ISO_LOCAL_DATE);
 			} catch (Exception e) { 
 				logger.debug(e.getMessage());
@@ -711,6 +799,7 @@ public class DateUtils {
 			
 		}
 				
+		if (probe!=null) { probe.handler("mm/yyyy"); }
 		if (verbatimEventDate.matches("^[0-9]{1,2}[-/ ][0-9]{4}$")) { 
 			// Example 02/1982
 			List<DateTimeFormatter> formatters = new ArrayList<DateTimeFormatter>();
@@ -726,7 +815,7 @@ public class DateUtils {
 			while (i.hasNext() && !matched) {
 				try { 
 					String dayAppended = "01-" + verbatimEventDate.replace("/", "-");
-					LocalDate startDateBit = LocalDate.parse(dayAppended, i.next());
+					LocalDate startDateBit = VerbatimCascadeStatistics.parse(dayAppended, i.next());
 					resultDate = startDateBit.format(DateTimeFormatter.ofPattern("yyyy-MM"));
 					logger.debug(resultDate);
 					result.setResultState(EventResult.EventQCResultState.RANGE);
@@ -740,6 +829,7 @@ public class DateUtils {
 		}		
 		
 	
+		if (probe!=null) { probe.handler("yyyy年mm月dd日"); }
 		if (verbatimEventDate.matches("^[0-9]{4}年[0-9]{1,2}月[0-9]{1,2}[日号]$")) { 
 			// Example: 1972年03月25日
 			
@@ -755,7 +845,7 @@ public class DateUtils {
 			boolean matched = false;
 			while (i.hasNext() && !matched) {
 				try { 
-					LocalDate startDateBit = LocalDate.parse(verbatimEventDate, i.next());
+					LocalDate startDateBit = VerbatimCascadeStatistics.parse(verbatimEventDate, i.next());
 					resultDate = startDateBit.format(DateTimeFormatter.ISO_LOCAL_DATE);
 					logger.debug(resultDate);
 					result.setResultState(EventResult.EventQCResultState.DATE);
@@ -768,6 +858,7 @@ public class DateUtils {
 			}
 		}
 		
+		if (probe!=null) { probe.handler("yyyy-ddd/yyyy-ddd"); }
 		if (verbatimEventDate.matches("^[0-9]{4}[-][0-9]{3}/[0-9]{4}[-][0-9]{3}$")) { 
 			// Example: 1982-145/1982-200
 			try { 
@@ -775,8 +866,8 @@ public class DateUtils {
 				DateTimeFormatter formatter = new DateTimeFormatterBuilder()
 						.append(DateTimeFormatter.ISO_ORDINAL_DATE)
 						.toFormatter().withResolverStyle(ResolverStyle.STRICT);
-				LocalDate parseStartDate = LocalDate.parse(bits[0],formatter);
-				LocalDate parseEndDate = LocalDate.parse(bits[1],formatter);
+				LocalDate parseStartDate = VerbatimCascadeStatistics.parse(bits[0],formatter);
+				LocalDate parseEndDate = VerbatimCascadeStatistics.parse(bits[1],formatter);
 				if (parseStartDate.equals(parseEndDate)) { 
 					resultDate =  parseStartDate.format(DateTimeFormatter.ISO_LOCAL_DATE);
 					result.setResultState(EventResult.EventQCResultState.DATE);
@@ -790,6 +881,7 @@ public class DateUtils {
 				logger.debug(e.getMessage());
 			}			
 		}		
+		if (probe!=null) { probe.handler("yyyy"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN) && 
 				verbatimEventDate.matches("^[0-9]{4}0000$")) { 
 			// case 19800000
@@ -802,7 +894,7 @@ public class DateUtils {
 				DateTimeFormatter formatter = new DateTimeFormatterBuilder()
 						.append(DateTimeFormatter.ISO_LOCAL_DATE)
 						.toFormatter().withResolverStyle(ResolverStyle.STRICT);
-				LocalDate parseDate = LocalDate.parse(verbatimEventDate + "-01-01" ,formatter);
+				LocalDate parseDate = VerbatimCascadeStatistics.parse(verbatimEventDate + "-01-01" ,formatter);
 				resultDate = parseDate.format(DateTimeFormatter.ofPattern("yyyy"));
 				result.setResultState(EventResult.EventQCResultState.RANGE);
 				result.setResult(resultDate);
@@ -810,6 +902,7 @@ public class DateUtils {
 				logger.debug(e.getMessage());
 			}
 		}
+		if (probe!=null) { probe.handler("-yyyy"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN) &&
 				yearsBeforeSuspect < 0 &&
 				verbatimEventDate.matches("^-[0-9]{4}$")) { 
@@ -818,7 +911,7 @@ public class DateUtils {
 				DateTimeFormatter formatter = new DateTimeFormatterBuilder()
 						.append(DateTimeFormatter.ofPattern("Guuuu"))
 						.toFormatter().withResolverStyle(ResolverStyle.STRICT);
-				LocalDate parseDate = LocalDate.parse(verbatimEventDate.replace("-", "BC") + "-01-01" ,formatter);
+				LocalDate parseDate = VerbatimCascadeStatistics.parse(verbatimEventDate.replace("-", "BC") + "-01-01" ,formatter);
 				resultDate = parseDate.format(DateTimeFormatter.ofPattern("yyyy G"));
 				result.setResultState(EventResult.EventQCResultState.RANGE);
 				result.setResult(resultDate);
@@ -827,6 +920,7 @@ public class DateUtils {
 			}
 		}
 						
+		if (probe!=null) { probe.handler("century yy00s"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN) && 
 				verbatimEventDate.matches("^[12][0-9]{1}00[']{0,1}s$")) {
 			// Example: 1900s 
@@ -836,7 +930,7 @@ public class DateUtils {
 						.toFormatter().withResolverStyle(ResolverStyle.STRICT);
 				String verbatimEventDateDelta = verbatimEventDate.replace("'", "");
 				verbatimEventDateDelta = verbatimEventDateDelta.replace("s", "-01-01");
-				LocalDate parseDate = LocalDate.parse(verbatimEventDateDelta,formatter);
+				LocalDate parseDate = VerbatimCascadeStatistics.parse(verbatimEventDateDelta,formatter);
 				LocalDate endDate = parseDate.plusYears(100).minusDays(1);
 				resultDate = parseDate.format(DateTimeFormatter.ofPattern("yyyy")) + "-01-01/" + endDate.format(DateTimeFormatter.ofPattern("yyyy")) + "-12-31";
 				result.setResultState(EventResult.EventQCResultState.RANGE);
@@ -845,6 +939,7 @@ public class DateUtils {
 				logger.debug(e.getMessage());
 			}
 		}		
+		if (probe!=null) { probe.handler("decade yyy0s"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN) && 
 				verbatimEventDate.matches("^[12][0-9]{2}0[']{0,1}s$")) {
 			// Example: 1970s 
@@ -854,7 +949,7 @@ public class DateUtils {
 				DateTimeFormatter formatter = new DateTimeFormatterBuilder()
 						.append(DateTimeFormatter.ISO_LOCAL_DATE)
 						.toFormatter().withResolverStyle(ResolverStyle.STRICT);
-				LocalDate parseDate = LocalDate.parse(verbatimEventDateDelta,formatter);
+				LocalDate parseDate = VerbatimCascadeStatistics.parse(verbatimEventDateDelta,formatter);
 				LocalDate endDate = parseDate.plusYears(10).minusDays(1);
 				resultDate = parseDate.format(DateTimeFormatter.ofPattern("yyyy")) + "-01-01/" + endDate.format(DateTimeFormatter.ofPattern("yyyy")) + "-12-31";
 				result.setResultState(EventResult.EventQCResultState.RANGE);
@@ -863,6 +958,7 @@ public class DateUtils {
 				logger.debug(e.getMessage());
 			}
 		}		
+		if (probe!=null) { probe.handler("mon-yyyy"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN) &&
 				verbatimEventDate.matches("^[A-Za-z]{3,9}[.]{0,1}[ ]{0,1}[-/ ][0-9]{4}$")) { 
 			// Example: Jan-1980
@@ -894,7 +990,7 @@ public class DateUtils {
 				try { 
 					String cleaned = verbatimEventDate.replace(".", "");
 					cleaned = "01-" + cleaned;
-					LocalDate parseDate = LocalDate.parse(cleaned, i.next());
+					LocalDate parseDate = VerbatimCascadeStatistics.parse(cleaned, i.next());
 					resultDate = parseDate.format(DateTimeFormatter.ofPattern("yyyy-MM"));
 					logger.debug(resultDate);
 					result.setResultState(EventResult.EventQCResultState.RANGE);
@@ -906,6 +1002,7 @@ public class DateUtils {
 			}
 		}
 		
+		if (probe!=null) { probe.handler("mon, yyyy"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN) &&
 				verbatimEventDate.matches("^[A-Za-z]{3,9}[.]{0,1}[,]{0,1}[ ]{0,1}[0-9]{4}$")) { 
 			// Example: June, 1980
@@ -939,7 +1036,7 @@ public class DateUtils {
 					cleaned = cleaned.replace(".","-").replace(",", "-").replace(" ","-");
 					cleaned = cleaned.replace("--", "-").replace("--", "-");
 					cleaned = "01-" + cleaned;
-					LocalDate parseDate = LocalDate.parse(cleaned, i.next());
+					LocalDate parseDate = VerbatimCascadeStatistics.parse(cleaned, i.next());
 					resultDate = parseDate.format(DateTimeFormatter.ofPattern("yyyy-MM"));
 					logger.debug(resultDate);
 					result.setResultState(EventResult.EventQCResultState.RANGE);
@@ -951,6 +1048,7 @@ public class DateUtils {
 			}
 		}
 				
+		if (probe!=null) { probe.handler("nn/nn/yyyy"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN)) {
 			// Example: 04/03/1994  (ambiguous)
 			// Example: 04/20/1994
@@ -986,7 +1084,7 @@ public class DateUtils {
 					try { 
 						String verbatimEventDateCleaned = verbatimEventDate.replace("/", "-").replace(" ", "-").replace(".","-");;
 						verbatimEventDateCleaned = verbatimEventDateCleaned.replace("--", "-");
-						parseDate1 = LocalDate.parse(verbatimEventDateCleaned, i.next());
+						parseDate1 = VerbatimCascadeStatistics.parse(verbatimEventDateCleaned, i.next());
 						resultDateMD = parseDate1.format(DateTimeFormatter.ISO_LOCAL_DATE);
 						logger.debug(resultDateMD);
 						matched = true;
@@ -1022,7 +1120,7 @@ public class DateUtils {
 					try { 
 						String verbatimEventDateCleaned = verbatimEventDate.replace("/", "-").replace(" ", "-").replace(".","-");;
 						verbatimEventDateCleaned = verbatimEventDateCleaned.replace("--", "-");
-						parseDate2 = LocalDate.parse(verbatimEventDateCleaned, i.next());
+						parseDate2 = VerbatimCascadeStatistics.parse(verbatimEventDateCleaned, i.next());
 						resultDateDM = parseDate2.format(DateTimeFormatter.ISO_LOCAL_DATE);
 						logger.debug(resultDateDM);
 						matched = true;
@@ -1052,6 +1150,7 @@ public class DateUtils {
 			} 
 		}
 		
+		if (probe!=null) { probe.handler("weekday ddth month yyyy"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN) &&
 				verbatimEventDate.matches("^[A-Z][A-Za-z]+ [0-9]{1,2}[stndrh]{2} [A-Za-z]+.{0,1},{0,1} [0-9]{4}$")) { 
 			// Example: Friday 29th Oct. 2021
@@ -1125,7 +1224,7 @@ public class DateUtils {
 			logger.debug(cleaned);
 			while (i.hasNext() && !matched) {
 				try { 
-					LocalDate parseDate = LocalDate.parse(cleaned, i.next());
+					LocalDate parseDate = VerbatimCascadeStatistics.parse(cleaned, i.next());
 					resultDate = parseDate.format(DateTimeFormatter.ISO_LOCAL_DATE);
 					logger.debug(resultDate);
 					result.setResultState(EventResult.EventQCResultState.DATE);
@@ -1137,6 +1236,7 @@ public class DateUtils {
 			}
 		}	
 		
+		if (probe!=null) { probe.handler("dd/mon/yyyy"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN) &&
 				verbatimEventDate.matches("^([0-9]{1,2}|[A-Za-z]+)[-/. ]([0-9]{1,2}|[A-Za-z]+),{0,1}[-/. ][0-9]{4}$")) { 
 			// Example: 03/Jan/1982
@@ -1173,7 +1273,7 @@ public class DateUtils {
 			while (i.hasNext() && !matched) {
 				try { 
 					String cleaned = verbatimEventDate.replace("/","-").replace(".", "-").replace(" ", "-").replace("--", "-").replace(",","");
-					LocalDate parseDate = LocalDate.parse(cleaned, i.next());
+					LocalDate parseDate = VerbatimCascadeStatistics.parse(cleaned, i.next());
 					resultDate = parseDate.format(DateTimeFormatter.ISO_LOCAL_DATE);
 					logger.debug(resultDate);
 					result.setResultState(EventResult.EventQCResultState.DATE);
@@ -1184,6 +1284,7 @@ public class DateUtils {
 				}
 			}
 		}	
+		if (probe!=null) { probe.handler("mon dd, yyyy"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN) &&
 				verbatimEventDate.matches("^([0-9]{1,2}|[A-Za-z]+)[-/. ]{1,2}([0-9]{1,2}|[A-Za-z]+),{0,1}[-/., ]{1,2}[0-9]{4}$")) { 
 			// Example: Jan 03, 1982
@@ -1222,7 +1323,7 @@ public class DateUtils {
 					String cleaned = cleanMonth(verbatimEventDate);
 					cleaned = cleaned.replace("/","-").replace(".", "-").replace(" ", "-").replace("--", "-").replace(",","-");
 					cleaned = cleaned.replace("--", "-").replace("--", "-");
-					LocalDate parseDate = LocalDate.parse(cleaned, i.next());
+					LocalDate parseDate = VerbatimCascadeStatistics.parse(cleaned, i.next());
 					resultDate = parseDate.format(DateTimeFormatter.ISO_LOCAL_DATE);
 					logger.debug(resultDate);
 					result.setResultState(EventResult.EventQCResultState.DATE);
@@ -1233,6 +1334,7 @@ public class DateUtils {
 				}
 			}
 		}			
+		if (probe!=null) { probe.handler("XX-mm-yyyy"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN) &&
 				verbatimEventDate.matches("^[X*]{2}[-/. ]([0-9]{1,2}|[A-Za-z]+)[-/. ][0-9]{4}$")) { 
 			// Example: XX-04-1982   (XX for day) (which can't be a roman numeral month)
@@ -1264,7 +1366,7 @@ public class DateUtils {
 					cleaned = cleaned.replaceFirst("XX-", "01-");
 					cleaned = cleaned.replace("**-", "01-");
 					logger.debug(cleaned);
-					LocalDate parseDate = LocalDate.parse(cleaned, i.next());
+					LocalDate parseDate = VerbatimCascadeStatistics.parse(cleaned, i.next());
 					resultDate = parseDate.format(DateTimeFormatter.ofPattern("yyyy-MM"));
 					logger.debug(resultDate);
 					result.setResultState(EventResult.EventQCResultState.RANGE);
@@ -1276,6 +1378,7 @@ public class DateUtils {
 			}
 		}		
 
+		if (probe!=null) { probe.handler("XX-XX-yyyy"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN) &&
 				verbatimEventDate.matches("^[X*]{2,3}[-/. ][X*]{2,3}[-/. ][0-9]{4}$")) { 
 			// Example: XX-XXX-1995
@@ -1296,7 +1399,7 @@ public class DateUtils {
 			boolean matched = false;
 			while (i.hasNext() && !matched) {
 				try { 
-					LocalDate parseDate = LocalDate.parse(cleaned, i.next());
+					LocalDate parseDate = VerbatimCascadeStatistics.parse(cleaned, i.next());
 					resultDate = parseDate.format(DateTimeFormatter.ofPattern("yyyy"));
 					logger.debug(resultDate);
 					result.setResultState(EventResult.EventQCResultState.RANGE);
@@ -1308,6 +1411,7 @@ public class DateUtils {
 			}			 
 		}		
 		
+		if (probe!=null) { probe.handler("yyyy-ddd"); }
 		if (verbatimEventDate.matches("^[0-9]{4}[-][0-9]{3}$")) { 
 			// Example: 1994-128  (three digits after year = day of year).
 			if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN)) {
@@ -1315,7 +1419,7 @@ public class DateUtils {
 					DateTimeFormatter formatter = new DateTimeFormatterBuilder()
 							.append(DateTimeFormatter.ISO_ORDINAL_DATE)
 							.toFormatter().withResolverStyle(ResolverStyle.STRICT);
-					LocalDate parseDate = LocalDate.parse(verbatimEventDate,formatter);
+					LocalDate parseDate = VerbatimCascadeStatistics.parse(verbatimEventDate,formatter);
 					resultDate =  parseDate.format(DateTimeFormatter.ISO_LOCAL_DATE);
 					logger.debug(resultDate);
 					result.setResultState(EventResult.EventQCResultState.DATE);
@@ -1327,6 +1431,7 @@ public class DateUtils {
 		}
 	
 		// NOTE: Block order from here on matters.  
+		if (probe!=null) { probe.handler("yyyy-mm"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN)) {
 			try { 
 				// Example: 1983-15  (two digits after year may fall into subsequent blocks).
@@ -1356,7 +1461,7 @@ public class DateUtils {
 						cleaned = cleaned.replaceFirst("-$", "");
 						cleaned = cleaned + "-01";
 						logger.debug(cleaned);
-						LocalDate parseDate = LocalDate.parse(cleaned, i.next());
+						LocalDate parseDate = VerbatimCascadeStatistics.parse(cleaned, i.next());
 						resultDate = parseDate.format(DateTimeFormatter.ofPattern("yyyy-MM"));
 						logger.debug(resultDate);
 						if (verbatimEventDate.matches("^[0-9]{4}[-][0-9]{2}$")) { 
@@ -1387,6 +1492,7 @@ public class DateUtils {
 			}			
 		}
 		
+		if (probe!=null) { probe.handler("yyyy-yy"); }
 		if ( result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN) && 
 				verbatimEventDate.matches("^[0-9]{4}[-][0-9]{2}$")) 
 		{
@@ -1407,6 +1513,7 @@ public class DateUtils {
 			}					
 		}
 		
+		if (probe!=null) { probe.handler("yyyymmdd"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN) && 
 				verbatimEventDate.matches("^[0-9]{4}[0-9]{2}[0-9]{2}$") && 
 				!verbatimEventDate.endsWith("0000")) {
@@ -1415,7 +1522,7 @@ public class DateUtils {
 				DateTimeFormatter formatter = new DateTimeFormatterBuilder()
 						.append(DateTimeFormatter.BASIC_ISO_DATE)
 						.toFormatter().withResolverStyle(ResolverStyle.STRICT);
-				LocalDate parseDate = LocalDate.parse(verbatimEventDate,formatter);
+				LocalDate parseDate = VerbatimCascadeStatistics.parse(verbatimEventDate,formatter);
 				resultDate =  parseDate.format(DateTimeFormatter.ISO_LOCAL_DATE);
 				logger.debug(resultDate);
 				result.setResultState(EventResult.EventQCResultState.DATE);
@@ -1425,6 +1532,7 @@ public class DateUtils {
 			}			
 		}			
 		
+		if (probe!=null) { probe.handler("localized month names"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN)) {
 			// Multiple yyyy-mmm-ddd, mmm-dd-yyyy, dd-mmm-yyyy patterns.
 
@@ -1682,7 +1790,7 @@ public class DateUtils {
 			while (i.hasNext() && !matched) {
 				try { 
 					DateTimeFormatter formatter = i.next();
-					LocalDate parseDate = LocalDate.parse(cleaned,formatter);
+					LocalDate parseDate = VerbatimCascadeStatistics.parse(cleaned,formatter);
 					resultDate =  parseDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
 					logger.debug(resultDate);
 					result.setResultState(EventResult.EventQCResultState.DATE);
@@ -1695,6 +1803,7 @@ public class DateUtils {
 		}		
 		
 		logger.debug(result.getResultState());
+		if (probe!=null) { probe.handler("text yyyy"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN) && 
 				verbatimEventDate.matches(".*[A-Za-z].+[0-9]{4}$") ) {
 			// Example: jan.-1992
@@ -1720,7 +1829,7 @@ public class DateUtils {
 			boolean matched = false;
 			while (i.hasNext() && !matched) {
 				try { 
-					LocalDate parseDate = LocalDate.parse(cleaned, i.next());
+					LocalDate parseDate = VerbatimCascadeStatistics.parse(cleaned, i.next());
 					resultDate = parseDate.format(DateTimeFormatter.ofPattern("yyyy-MM"));
 					logger.debug(resultDate);
 					result.setResultState(EventResult.EventQCResultState.RANGE);
@@ -1732,6 +1841,7 @@ public class DateUtils {
 			}	
 		}
 	
+		if (probe!=null) { probe.handler("yyyy-yyyy"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN) &&
 				verbatimEventDate.matches("^[0-9]{4}([- ]+| to |[/ ]+)[0-9]{4}$")) {
 			// Example:  1882-1995
@@ -1751,6 +1861,7 @@ public class DateUtils {
 			}			
 		}
 
+		if (probe!=null) { probe.handler("mon-mon yyyy"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN) &&
 				verbatimEventDate.matches("^[A-Za-z]+[.]{0,1}( et | & | and | to |[-][ ]{0,1}| [-] )[A-Za-z]+[.]{0,1}(, |[/ .])[0-9]{4}$")) { 
 			logger.debug(verbatimEventDate);
@@ -1818,13 +1929,13 @@ public class DateUtils {
 					while (i.hasNext() && !matched) {
 						try { 
 							DateTimeFormatter formatter = i.next();
-							LocalDate parseStartDate = LocalDate.parse(startBit,formatter);
+							LocalDate parseStartDate = VerbatimCascadeStatistics.parse(startBit,formatter);
 							Iterator<DateTimeFormatter> iend = formatters.iterator();
 							boolean matchedend = false;
 							while (iend.hasNext() && !matchedend) {
 								try { 
 									formatter = iend.next();
-									LocalDate parseEndDate = LocalDate.parse(endBit,formatter);
+									LocalDate parseEndDate = VerbatimCascadeStatistics.parse(endBit,formatter);
 									resultDate =  parseStartDate.format(DateTimeFormatter.ofPattern("yyyy-MM")) + "/" + parseEndDate.format(DateTimeFormatter.ofPattern("yyyy-MM"));
 									logger.debug(resultDate);
 									result.setResultState(EventResult.EventQCResultState.RANGE);
@@ -1859,6 +1970,7 @@ public class DateUtils {
 			}			
 		}
 		
+		if (probe!=null) { probe.handler("dd mon-dd mon yyyy"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN) &&
 				verbatimEventDate.matches("^[0-9]{1,2}[ /.]{0,1}[A-Za-z]+[.]{0,1}( - |[-])[0-9]{1,2}[ /.]{0,1}[A-Za-z]+[.]{0,1}[/ -.][0-9]{4}$")) 
 		{ 
@@ -1904,13 +2016,13 @@ public class DateUtils {
 					while (i.hasNext() && !matched) {
 						try { 
 							DateTimeFormatter formatter = i.next();
-							LocalDate parseStartDate = LocalDate.parse(startBit,formatter);
+							LocalDate parseStartDate = VerbatimCascadeStatistics.parse(startBit,formatter);
 							Iterator<DateTimeFormatter> iend = formatters.iterator();
 							boolean matchedend = false;
 							while (iend.hasNext() && !matchedend) {
 								formatter = iend.next();
 								try { 
-									LocalDate parseEndDate = LocalDate.parse(endBit,formatter);
+									LocalDate parseEndDate = VerbatimCascadeStatistics.parse(endBit,formatter);
 									resultDate =  parseStartDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) + 
 											"/" + parseEndDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
 									logger.debug(resultDate);
@@ -1931,6 +2043,7 @@ public class DateUtils {
 				logger.debug(e.getMessage());
 			}
 		}
+		if (probe!=null) { probe.handler("mon dd-mon dd, yyyy"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN) &&
 				verbatimEventDate.matches("^[A-Za-z]+[.]{0,1}[ ]{0,1}[0-9]{1,2}( - |[-]| to | and | et | & )[A-Za-z]+[.]{0,1}[ ]{0,1}[0-9]{1,2}[/ .,][ ]{0,1}[0-9]{4}$")) 
 		{ 
@@ -1973,8 +2086,8 @@ public class DateUtils {
 				while (i.hasNext() && !matched) {
 					try { 
 						DateTimeFormatter formatter = i.next();
-						LocalDate parseStartDate = LocalDate.parse(cleanMonth(startBit),formatter);
-						LocalDate parseEndDate = LocalDate.parse(cleanMonth(bits[1]),formatter);
+						LocalDate parseStartDate = VerbatimCascadeStatistics.parse(cleanMonth(startBit),formatter);
+						LocalDate parseEndDate = VerbatimCascadeStatistics.parse(cleanMonth(bits[1]),formatter);
 						resultDate =  parseStartDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) + 
 								"/" + parseEndDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
 						logger.debug(resultDate);
@@ -1990,6 +2103,7 @@ public class DateUtils {
 				}
 			}
 		}			
+		if (probe!=null) { probe.handler("dd mon-dd mon, yyyy"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN) &&
 				verbatimEventDate.matches("^[0-9]{1,2}(.){0,1}[ ]*[A-Za-z]+[.]{0,1}( - |[.]|[-]| to | and | et | & ){0,1}[0-9]{1,2}[.]{0,1}[ ]*[A-Za-z]+[.]{0,1}[/ .,][ ]*{0,1}[0-9]{4}$")) 
 		{ 
@@ -2048,8 +2162,8 @@ public class DateUtils {
 				while (i.hasNext() && !matched) {
 					try { 
 						DateTimeFormatter formatter = i.next();
-						LocalDate parseStartDate = LocalDate.parse(cleanMonth(startBit),formatter);
-						LocalDate parseEndDate = LocalDate.parse(cleanMonth(bits[1]),formatter);
+						LocalDate parseStartDate = VerbatimCascadeStatistics.parse(cleanMonth(startBit),formatter);
+						LocalDate parseEndDate = VerbatimCascadeStatistics.parse(cleanMonth(bits[1]),formatter);
 						resultDate =  parseStartDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd")) + 
 								"/" + parseEndDate.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
 						logger.debug(resultDate);
@@ -2066,6 +2180,7 @@ public class DateUtils {
 			}
 		}			
 
+		if (probe!=null) { probe.handler("dd-dd mon yyyy"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN) &&
 				verbatimEventDate.matches("^[0-9]{1,2}([ ]{0,1}[-][ ]{0,1}| and | et | to | & )[0-9]{1,2}[ /.]{0,1}[A-Za-z]+[.]{0,1}[/ -.][0-9]{4}$")) 
 		{ 
@@ -2149,7 +2264,7 @@ public class DateUtils {
 						DateTimeFormatter formatter = i.next();
 						logger.debug(formatter.toString());
 
-						LocalDate parseEndDate = LocalDate.parse(cleanMonth(datebits[1]),formatter);
+						LocalDate parseEndDate = VerbatimCascadeStatistics.parse(cleanMonth(datebits[1]),formatter);
 						String startMonthYear = parseEndDate.format(DateTimeFormatter.ofPattern("LLLL/yyyy").withLocale(Locale.ENGLISH));
 						String startBit = datebits[0]+"/"+startMonthYear;
 						logger.debug(startBit);
@@ -2159,7 +2274,7 @@ public class DateUtils {
 						while (istart.hasNext() && !matchedstart) {
 							formatter = istart.next();
 							try { 
-								parseStartDate = LocalDate.parse(startBit,formatter);
+								parseStartDate = VerbatimCascadeStatistics.parse(startBit,formatter);
 								matchedstart = true;
 							} catch (DateTimeParseException ex) { 
 								logger.debug(ex.getMessage());
@@ -2192,6 +2307,7 @@ public class DateUtils {
 			}		
 		}
 		
+		if (probe!=null) { probe.handler("dd-XXX-yyyy"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN) &&
 				verbatimEventDate.matches("^[0-9]{2}[-. ]XXX[-. ][0-9]{4}$")) { 
 			// Example: 05-XXX-1884
@@ -2210,6 +2326,7 @@ public class DateUtils {
 			}			
 		}	
 		
+		if (probe!=null) { probe.handler("cc d/m yy"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN) &&
 				verbatimEventDate.matches("^[1-2][07-9] [0-9]{1,2}/([0-9]{1,2}|[IVXivx]{1,4}) [0-9]{2}$")) 
 		{ 
@@ -2233,7 +2350,7 @@ public class DateUtils {
 			boolean matched = false;
 			while (i.hasNext() && !matched) {
 				try { 
-					LocalDate parseDate = LocalDate.parse(cleaned, i.next());
+					LocalDate parseDate = VerbatimCascadeStatistics.parse(cleaned, i.next());
 					resultDate = parseDate.format(DateTimeFormatter.ISO_LOCAL_DATE);
 					logger.debug(resultDate);
 					result.setResultState(EventResult.EventQCResultState.DATE);
@@ -2245,6 +2362,7 @@ public class DateUtils {
 			}	
 			
 		}
+		if (probe!=null) { probe.handler("yyyy-mm/yyyy-mm"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN) && 
 				verbatimEventDate.matches("^[0-9]{4}-[0-9]{2}/[0-9]{4}-[0-9]{2}$")
 			) {
@@ -2261,6 +2379,7 @@ public class DateUtils {
 			}			
 		}	
 		
+		if (probe!=null) { probe.handler("ISO interval"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN)) {
 			// Example: 1995-03-05/1996-05-08
 			// Now try to see if string matches a simple ISO date format
@@ -2294,6 +2413,7 @@ public class DateUtils {
 				} 
 			}
 		}	
+		if (probe!=null) { probe.handler("mon dd and dd yyyy"); }
 		if (result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN)) {
 			// Example: Jan,15-18 1882
 			// Example: Jan. 17 and 18 1882
@@ -2360,6 +2480,7 @@ public class DateUtils {
 			}
 		}
 			
+		if (probe!=null) { probe.end(); }
 		// Now test to see if result is sane.
 		if (result!=null && !result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN)) {
 			LocalDateInterval testExtract = DateUtils.extractDateInterval(result.getResult());
@@ -2384,6 +2505,7 @@ public class DateUtils {
 				logger.debug(result.getResult());
 			}
 		}
+		if (probe!=null) { probe.finish(result); }
 		
 		return result;
 	}
@@ -2396,11 +2518,11 @@ public class DateUtils {
      */
     public static boolean isRange(String eventDate) { 
     	boolean isRange = false;
-    	LocalDateInterval test = extractInterval(eventDate);
-    	if (test!=null && test.toDuration().getSeconds() > 86400l) { 
-    		// simple ISO date representing more than one day
-    		isRange = true;
-    	} else if (test==null) { 
+    	EventDatePrecision precision = EventDatePrecision.of(eventDate);
+    	if (precision!=null) { 
+    		// simple ISO date, a range if representing more than one day
+    		isRange = precision.isRange();
+    	} else { 
     		// wasn't a simple ISO date, try the verbatim date parser and see if it returns a range.
     		EventResult lookupResult = DateUtils.extractDateFromVerbatimER(eventDate);
     		if (lookupResult!=null && lookupResult.getResult()!=null && lookupResult.getResult().equals(EventResult.EventQCResultState.RANGE)) { 
@@ -2444,11 +2566,25 @@ public class DateUtils {
     public static LocalDateInterval extractInterval(String eventDate) {
     	LocalDateInterval result = null;
     	
-    	try {
-			result = new LocalDateInterval(eventDate);
-		} catch (DateTimeParseException | EmptyDateException e) {
-			logger.debug(e.getMessage());
-		}
+    	RecordParseMemo memo = RecordParseMemo.current();
+    	if (memo!=null && memo.hasInterval(eventDate)) { 
+    		result = memo.getInterval(eventDate);
+    	} else { 
+    		Object event = FlightRecorderEvents.beginInterval();
+    		String outcome = "interval";
+    		try {
+    			result = new LocalDateInterval(eventDate);
+    		} catch (DateTimeParseException | EmptyDateException e) {
+    			logger.debug(e.getMessage());
+    			if (event!=null) { 
+    				outcome = e.getClass().getSimpleName();
+    			}
+    		}
+    		FlightRecorderEvents.endInterval(event, eventDate, outcome);
+    		if (memo!=null) { 
+    			memo.putInterval(eventDate, result);
+    		}
+    	}
     	return result;
     }  
     
@@ -2565,43 +2701,24 @@ public class DateUtils {
     	result = isConsistent(eventDate,year,month,day);
     	logger.debug(result);
     	if ((result || (!isEmpty(eventDate) && isEmpty(year) && isEmpty(month) && isEmpty(day))) && (!isEmpty(startDayOfYear) || !isEmpty(endDayOfYear))) {
+    		EventDateBounds bounds = EventDateBounds.extract(eventDate);
     		if (endDayOfYear==null || endDayOfYear.trim().length()==0 || startDayOfYear.trim().equals(endDayOfYear.trim())) {
-    			int startDayInt = -1;
-    			try {
-    				startDayInt = Integer.parseInt(startDayOfYear);
-    			} catch (NumberFormatException e) {
-    				logger.debug(e.getMessage());
-    				logger.debug(startDayOfYear + " is not an integer."); 
-    				result = false; 
-    			} 
+    			long startDayInt = scanInteger(startDayOfYear, false);
+    			LocalDate extractedDate = bounds==null ? DateUtils.extractDate(eventDate) : bounds.extractDate();
     			logger.debug(startDayInt);
-    			logger.debug(startDayOfYear);
-    			if (DateUtils.extractDate(eventDate)!=null && DateUtils.extractDate(eventDate).getDayOfYear() == startDayInt) { 
+    			if (extractedDate!=null && extractedDate.getDayOfYear() == startDayInt) { 
     				result=true;
     			} else { 
     				result = false;
     			}
     		} else {
-       			int startDayInt = -1;
-       			int endDayInt = -1;
-    			try {
-    				startDayInt = Integer.parseInt(startDayOfYear);
-    				endDayInt = Integer.parseInt(endDayOfYear);
-    			} catch (NumberFormatException e) {
-    				logger.debug(e.getMessage());
-    				result = false; 
-    			} 
-    			LocalDateInterval eventDateInterval = DateUtils.extractInterval(eventDate);
-    			logger.debug(eventDateInterval.toString());
-    			logger.debug(endDayInt);
-    			if (eventDateInterval!=null && eventDateInterval.getEndDate()!=null) { 
-    				int endDayOfInterval = eventDateInterval.getEndDate().getDayOfYear(); 
-    				logger.debug(endDayOfInterval);
-    				if (eventDateInterval.getStartDate().getDayOfYear() == startDayInt && endDayOfInterval == endDayInt ) { 
-    					result=true;
-    				} else { 
-    					result = false;
-    				}
+    			long startDayInt = scanInteger(startDayOfYear, false);
+    			long endDayInt = scanInteger(endDayOfYear, false);
+    			logger.debug(bounds);
+    			if (bounds!=null && bounds.getStartDayOfYear() == startDayInt && bounds.getEndDayOfYear() == endDayInt) { 
+    				result=true;
+    			} else { 
+    				result = false;
     			}
     		}
     	}
@@ -2637,60 +2754,21 @@ public class DateUtils {
     		// no event date to make comarison with
     		result = true;
     	} else { 
-    		LocalDateInterval test = extractInterval(eventDate);
+    		EventDateBounds test = EventDateBounds.extract(eventDate);
     		if (test!=null) {
-    			LocalDate start = test.getStartDate();
-    			logger.debug(start);
+    			// an empty value or one matching the first day of eventDate is consistent
     			boolean anyFails = false;
-    			Integer dayBit = null;
-    			if (!isEmpty(day)) { 
-    				try { 
-    					dayBit = Integer.parseInt(day);
-    				} catch (NumberFormatException e) { 
-    					anyFails = true;
-    				}
+    			if (!isEmpty(year) && scanInteger(year, false)!=test.getStartYear()) { 
+    				anyFails = true;
     			}
-    			Integer monthBit = null;
-    			if (!isEmpty(month)) { 
-    				try { 
-    					monthBit = Integer.parseInt(month);
-    				} catch (NumberFormatException e) { 
-    					anyFails = true;
-    				}
+    			if (!isEmpty(month) && scanInteger(month, false)!=test.getStartMonth()) { 
+    				anyFails = true;
     			}
-    			Integer yearBit = null;
-    			logger.debug(anyFails);
-    			if (!isEmpty(year)) { 
-    				try { 
-    					yearBit = Integer.parseInt(year);
-    				} catch (NumberFormatException e) { 
-    					anyFails = true;
-    				}
+    			if (!isEmpty(day) && scanInteger(day, false)!=test.getStartDay()) { 
+    				anyFails = true;
     			}
     			logger.debug(anyFails);
-    			if (!DateUtils.isEmpty(year) && yearBit!=null) {
-    				if (start.getYear()!=yearBit) { 
-    					anyFails = true;
-    				}
-    			}
-    			logger.debug(anyFails);
-    			if (!DateUtils.isEmpty(month) && monthBit!=null) { 
-    				if (start.getMonthValue()!=monthBit) { 
-    					anyFails = true;
-    				}
-    			}
-    			logger.debug(anyFails);
-    			if (!DateUtils.isEmpty(day) && dayBit!=null) {
-    				if (start.getDayOfMonth()!=dayBit) { 
-    					anyFails = true;
-    				}
-    			}
-    			logger.debug(anyFails);
-    			if (anyFails) { 
-    				result = false;
-    			} else { 
-    				result = true;
-    			}
+    			result = !anyFails;
     		}
     	}
     	
@@ -2726,32 +2804,64 @@ public class DateUtils {
     public static boolean containsTime(String eventDate) {
     	boolean result = false;
     	
+    	if (!isEmpty(eventDate)) { 
+    		ScannedDateTime scanned = ScannedDateTime.scan(eventDate);
+    		int fractionDigits = scanned==null ? 0 : scanned.getFractionDigits();
+    		if (scanned!=null && (fractionDigits==0 || fractionDigits==1 || fractionDigits==3)) { 
+    			// a single date with a time, no need to try each of the formatters
+    			result = true;
+    		} else if (eventDate.contains("/") || ScannedDateTime.hasTimeSeparator(eventDate)) { 
+    			result = containsTimeWithFormatters(eventDate);
+    		}
+    	}
+    	return result;
+    }
+    
+    /**
+     * Formatters used by containsTimeWithFormatters.
+     */
+    private static final List<DateTimeFormatter> CONTAINS_TIME_FORMATTERS = containsTimeFormatters();
+    
+    private static List<DateTimeFormatter> containsTimeFormatters() { 
+    	List<DateTimeFormatter> formatters = new ArrayList<DateTimeFormatter>();
+    	formatters.add(new DateTimeFormatterBuilder()
+    			.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H").withLocale(Locale.ENGLISH))
+    			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+    	formatters.add(new DateTimeFormatterBuilder()
+    			.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H[VV][x]").withLocale(Locale.ENGLISH))
+    			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+    	formatters.add(new DateTimeFormatterBuilder()
+    			.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H':'m[VV][x]").withLocale(Locale.ENGLISH))
+    			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+    	formatters.add(new DateTimeFormatterBuilder()
+    			.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H':'m':'s['.'S][VV][x]").withLocale(Locale.ENGLISH))
+    			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+    	formatters.add(new DateTimeFormatterBuilder()
+    			.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H':'m':'s['.'S][VV][x]").withLocale(Locale.ENGLISH))
+    			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+    	//1905-04-08T01:02:03.004Z
+    	formatters.add(new DateTimeFormatterBuilder()
+    			.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H':'m':'s'.'SSS[VV][x]").withLocale(Locale.ENGLISH))
+    			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+    	return formatters;
+    }
+    
+    /**
+     * Check for a time in an eventDate by trying each of a set of java.time formatters, 
+     * used for ranges and for forms of date and time not recognized by ScannedDateTime.
+     * 
+     * @param eventDate string to check for an ISO date with a time.
+     * @return true if eventDate is an ISO date that includes a time, or if eventDate is an 
+     * ISO date range either the start or end of which contains a time.  
+     */
+    private static boolean containsTimeWithFormatters(String eventDate) {
+    	boolean result = false;
+    	
     	if (!isEmpty(eventDate)) { 
     		if (eventDate.endsWith("UTC")) { eventDate = eventDate.replace("UTC", "Z"); } 
 			logger.debug(eventDate);
     		
-			List<DateTimeFormatter> formatters = new ArrayList<DateTimeFormatter>();
-			formatters.add(new DateTimeFormatterBuilder()
-					.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H").withLocale(Locale.ENGLISH))
-					.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			formatters.add(new DateTimeFormatterBuilder()
-					.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H[VV][x]").withLocale(Locale.ENGLISH))
-					.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			formatters.add(new DateTimeFormatterBuilder()
-					.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H':'m[VV][x]").withLocale(Locale.ENGLISH))
-					.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			formatters.add(new DateTimeFormatterBuilder()
-					.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H':'m':'s['.'S][VV][x]").withLocale(Locale.ENGLISH))
-					.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			formatters.add(new DateTimeFormatterBuilder()
-					.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H':'m':'s['.'S][VV][x]").withLocale(Locale.ENGLISH))
-					.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			//1905-04-08T01:02:03.004Z
-			formatters.add(new DateTimeFormatterBuilder()
-					.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H':'m':'s'.'SSS[VV][x]").withLocale(Locale.ENGLISH))
-					.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-
-			Iterator<DateTimeFormatter> i = formatters.iterator();
+			Iterator<DateTimeFormatter> i = CONTAINS_TIME_FORMATTERS.iterator();
 			boolean matched = false;
 			while (i.hasNext() && !matched) {
 				DateTimeFormatter formatter = i.next();
@@ -2811,68 +2921,101 @@ public class DateUtils {
      */
     public static String extractZuluTime(String eventDate) {
     	String result = null;
+    	
+    	if (!isEmpty(eventDate)) { 
+    		ScannedDateTime scanned = ScannedDateTime.scan(eventDate);
+    		if (scanned!=null && scanned.getZoneStyle()!=ScannedDateTime.ZONE_OFFSET_BASIC) { 
+    			// a single date with a time, no need to try each of the formatters, 
+    			// without a time zone the time can't be expressed in UTC
+    			if (scanned.hasZone()) { 
+    				result = scanned.toZuluTime();
+    			}
+    		} else if (eventDate.contains("/") || ScannedDateTime.hasTimeSeparator(eventDate)) { 
+    			result = extractZuluTimeWithFormatters(eventDate);
+    		}
+    	}
+    	return result;
+    }
+    
+    /**
+     * Formatters used by extractZuluTimeWithFormatters.
+     */
+    private static final List<DateTimeFormatter> ZULU_TIME_FORMATTERS = zuluTimeFormatters();
+    
+    private static List<DateTimeFormatter> zuluTimeFormatters() { 
+    	List<DateTimeFormatter> formatters = new ArrayList<DateTimeFormatter>();
+    	formatters.add(new DateTimeFormatterBuilder()
+    			.append(DateTimeFormatter.ISO_OFFSET_DATE_TIME.withLocale(Locale.ENGLISH))
+    			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+    	formatters.add(new DateTimeFormatterBuilder()
+    			.append(DateTimeFormatter.ISO_ZONED_DATE_TIME.withLocale(Locale.ENGLISH))
+    			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+    	formatters.add(new DateTimeFormatterBuilder()
+    			.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H").withLocale(Locale.ENGLISH))
+    			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+    	formatters.add(new DateTimeFormatterBuilder()
+    			.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'Hx").withLocale(Locale.ENGLISH))
+    			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+    	formatters.add(new DateTimeFormatterBuilder()
+    			.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'Hxx").withLocale(Locale.ENGLISH))
+    			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+    	formatters.add(new DateTimeFormatterBuilder()
+    			.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'Hxxx").withLocale(Locale.ENGLISH))
+    			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+    	formatters.add(new DateTimeFormatterBuilder()
+    			.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'HX").withLocale(Locale.ENGLISH))
+    			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+    	formatters.add(new DateTimeFormatterBuilder()
+    			.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'HXX").withLocale(Locale.ENGLISH))
+    			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+    	formatters.add(new DateTimeFormatterBuilder()
+    			.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'HXXX").withLocale(Locale.ENGLISH))
+    			.toFormatter().withResolverStyle(ResolverStyle.STRICT));			
+    	formatters.add(new DateTimeFormatterBuilder()
+    			.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H[VV][xx]").withLocale(Locale.ENGLISH))
+    			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+    	formatters.add(new DateTimeFormatterBuilder()
+    			.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H':'m[VV][xx]").withLocale(Locale.ENGLISH))
+    			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+    	formatters.add(new DateTimeFormatterBuilder()
+    			.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H':'m':'s['.'S][VV][xx]").withLocale(Locale.ENGLISH))
+    			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+    	formatters.add(new DateTimeFormatterBuilder()
+    			.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H':'m':'s['.'S][VV][xx]").withLocale(Locale.ENGLISH))
+    			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+    	//1905-04-08T01:02:03.004Z
+    	formatters.add(new DateTimeFormatterBuilder()
+    			.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H':'m':'s'.'SSSSSSSS[VV][xx]").withLocale(Locale.ENGLISH))
+    			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+    	//1905-04-08T08:32:16-05:00
+    	formatters.add(new DateTimeFormatterBuilder()
+    			.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H':'m':'sx").withLocale(Locale.ENGLISH))
+    			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+    	formatters.add(new DateTimeFormatterBuilder()
+    			.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H':'m':'sxx").withLocale(Locale.ENGLISH))
+    			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+    	formatters.add(new DateTimeFormatterBuilder()
+    			.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H':'m':'sxxx").withLocale(Locale.ENGLISH))
+    			.toFormatter().withResolverStyle(ResolverStyle.STRICT));
+    	return formatters;
+    }
+    
+    /**
+     * Extract a time from an eventDate by trying each of a set of java.time formatters, 
+     * used for ranges and for forms of date and time not recognized by ScannedDateTime.
+     * 
+     * @param eventDate dwc:eventDate from which to try to extract a time (in UTC).
+     * @return a string containing a time in UTC or null
+     */
+    private static String extractZuluTimeWithFormatters(String eventDate) {
+    	String result = null;
     	boolean hasResult = false;
     	
     	if (!isEmpty(eventDate)) { 
     		if (eventDate.endsWith("UTC")) { eventDate = eventDate.replace("UTC", "Z"); } 
 			logger.debug(eventDate);
     		
-			List<DateTimeFormatter> formatters = new ArrayList<DateTimeFormatter>();
-			formatters.add(new DateTimeFormatterBuilder()
-					.append(DateTimeFormatter.ISO_OFFSET_DATE_TIME.withLocale(Locale.ENGLISH))
-					.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			formatters.add(new DateTimeFormatterBuilder()
-					.append(DateTimeFormatter.ISO_ZONED_DATE_TIME.withLocale(Locale.ENGLISH))
-					.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			formatters.add(new DateTimeFormatterBuilder()
-					.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H").withLocale(Locale.ENGLISH))
-					.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			formatters.add(new DateTimeFormatterBuilder()
-					.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'Hx").withLocale(Locale.ENGLISH))
-					.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			formatters.add(new DateTimeFormatterBuilder()
-					.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'Hxx").withLocale(Locale.ENGLISH))
-					.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			formatters.add(new DateTimeFormatterBuilder()
-					.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'Hxxx").withLocale(Locale.ENGLISH))
-					.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			formatters.add(new DateTimeFormatterBuilder()
-					.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'HX").withLocale(Locale.ENGLISH))
-					.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			formatters.add(new DateTimeFormatterBuilder()
-					.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'HXX").withLocale(Locale.ENGLISH))
-					.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			formatters.add(new DateTimeFormatterBuilder()
-					.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'HXXX").withLocale(Locale.ENGLISH))
-					.toFormatter().withResolverStyle(ResolverStyle.STRICT));			
-			formatters.add(new DateTimeFormatterBuilder()
-					.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H[VV][xx]").withLocale(Locale.ENGLISH))
-					.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			formatters.add(new DateTimeFormatterBuilder()
-					.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H':'m[VV][xx]").withLocale(Locale.ENGLISH))
-					.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			formatters.add(new DateTimeFormatterBuilder()
-					.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H':'m':'s['.'S][VV][xx]").withLocale(Locale.ENGLISH))
-					.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			formatters.add(new DateTimeFormatterBuilder()
-					.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H':'m':'s['.'S][VV][xx]").withLocale(Locale.ENGLISH))
-					.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			//1905-04-08T01:02:03.004Z
-			formatters.add(new DateTimeFormatterBuilder()
-					.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H':'m':'s'.'SSSSSSSS[VV][xx]").withLocale(Locale.ENGLISH))
-					.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			//1905-04-08T08:32:16-05:00
-			formatters.add(new DateTimeFormatterBuilder()
-					.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H':'m':'sx").withLocale(Locale.ENGLISH))
-					.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			formatters.add(new DateTimeFormatterBuilder()
-					.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H':'m':'sxx").withLocale(Locale.ENGLISH))
-					.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-			formatters.add(new DateTimeFormatterBuilder()
-					.append(DateTimeFormatter.ofPattern("uuuu'-'MM'-'dd'T'H':'m':'sxxx").withLocale(Locale.ENGLISH))
-					.toFormatter().withResolverStyle(ResolverStyle.STRICT));
-
-			Iterator<DateTimeFormatter> i = formatters.iterator();
+			Iterator<DateTimeFormatter> i = ZULU_TIME_FORMATTERS.iterator();
 			boolean matched = false;
 			while (i.hasNext() && !matched && !hasResult) {
 				DateTimeFormatter formatter = i.next();
@@ -2939,14 +3082,7 @@ public class DateUtils {
     public static boolean specificToDay(String eventDate) { 
     	boolean result = false;
     	if (!isEmpty(eventDate)) { 
-    	    LocalDateInterval eventDateInterval = extractInterval(eventDate);
-    	    Duration eventDateDuration = eventDateInterval.toDuration();
-    	    logger.debug(eventDateDuration.toDays());
-    	    if (eventDateDuration.toDays()<1l) { 
-    	    	result = true;
-    	    } else if (eventDateDuration.toDays()==1l && eventDateInterval.getStart().getDayOfYear()==eventDateInterval.getEnd().getDayOfYear()) {
-    	    	result = true;
-    	    }
+    	    result = EventDatePrecision.of(eventDate).isSpecificToDay();
     	}
     	return result;
     }
@@ -2962,11 +3098,7 @@ public class DateUtils {
     public static boolean specificToMonthScale(String eventDate) { 
     	boolean result = false;
     	if (!isEmpty(eventDate)) { 
-    	    LocalDateInterval eventDateInterval = extractDateInterval(eventDate);
-    	    Duration duration = eventDateInterval.toDuration();
-    	    if (duration.toDays() <= 31l) { 
-    	    	result = true;
-    	    }
+    	    result = EventDatePrecision.of(eventDate).isSpecificToMonthScale();
     	}
     	return result;
     }    
@@ -2983,17 +3115,7 @@ public class DateUtils {
     public static boolean specificToYearScale(String eventDate) { 
     	boolean result = false;
     	if (!isEmpty(eventDate)) { 
-    	    LocalDateInterval eventDateInterval = extractDateInterval(eventDate);
-    	    Duration duration = eventDateInterval.toDuration();
-    	    int daysInYear = 365;
-    	    if (includesLeapDay(eventDate)) { 
-    	    	daysInYear = 366;
-    	    }
-    	    Duration minusYear = (duration.minus(Duration.ofDays(daysInYear)));
-    	    logger.debug(minusYear.toDays());
-    	    if (minusYear.isNegative() || minusYear.isZero()) { 
-    	    	result = true;
-    	    }
+    	    result = EventDatePrecision.of(eventDate).isSpecificToYearScale();
     	}
     	return result;
     }      
@@ -3007,13 +3129,7 @@ public class DateUtils {
     public static boolean specificToDecadeScale(String eventDate) { 
     	boolean result = false;
     	if (!isEmpty(eventDate)) { 
-    	    LocalDateInterval eventDateInterval = extractDateInterval(eventDate);
-    	    Duration duration = eventDateInterval.toDuration();
-    	    Duration minusDecade = (duration.minus(Duration.ofDays((365*10)+3)));
-    	    logger.debug(minusDecade.toDays());
-    	    if (minusDecade.isNegative() || minusDecade.isZero()) { 
-    	    	result = true;
-    	    }
+    	    result = EventDatePrecision.of(eventDate).isSpecificToDecadeScale();
     	}
     	return result;
     }        
@@ -3041,6 +3157,27 @@ public class DateUtils {
      *   eventDate string.
      */    
     public static long measureDurationSeconds(String eventDate) throws TimeExtractionException { 
+    	long result = 0l;
+    	if (!isEmpty(eventDate)) { 
+    		EventDatePrecision precision = EventDatePrecision.of(eventDate);
+    		if (precision==null) { 
+    			result = parseDurationSeconds(eventDate);
+    		} else { 
+    			result = precision.measureDurationSeconds();
+    		}
+    	}
+    	return result;
+    }
+
+    /**
+     * Parse the duration of a non-empty event date in seconds, see measureDurationSeconds(), 
+     * without consulting its EventDatePrecision.
+     * 
+     * @param eventDate to parse.
+     * @return the duration of eventDate in seconds.
+     * @throws TimeExtractionException if unable to obtain duration in seconds from eventDate.
+     */
+    static long parseDurationSeconds(String eventDate) throws TimeExtractionException { 
     	long result = 0l;
     	if (!isEmpty(eventDate)) { 
     		if (eventDate.matches("^[0-9]{4}-[0-9]{2}-[0-9]{2}$")) { 
@@ -3064,7 +3201,7 @@ public class DateUtils {
     			LocalDateInterval interval;
 				try {
 					interval = new LocalDateInterval(eventDate);
-					result = interval.toDuration().getSeconds();
+					result = interval.getDurationSeconds();
 				} catch (DateTimeParseException | EmptyDateException e) {
 					logger.debug(e.getMessage());
 					throw new TimeExtractionException(e.getMessage());
@@ -3494,6 +3631,85 @@ public class DateUtils {
     	return cleaned;
     }
     
+    /**
+     * Returned by scanInteger() for a value that is not an integer.
+     */
+    public static final long NOT_AN_INTEGER = Long.MIN_VALUE;
+
+    /** Days in each month of a common year, indexed by month, 1 to 12. */
+    private static final int[] DAYS_IN_MONTH = { 0, 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31 };
+
+    /**
+     * Interpret a string as an integer in the same way as Integer.parseInt(), but reporting
+     * a value that is not an integer by returning NOT_AN_INTEGER rather than by throwing
+     * a NumberFormatException.  Accepts an optional leading + or - followed by one or more
+     * decimal digits, including non-ASCII decimal digits, with a value in the range of an int.
+     * 
+     * @param value the string to interpret, may be null.
+     * @param trim if true, ignore leading and trailing whitespace as String.trim() would remove.
+     * @return the integer value, or NOT_AN_INTEGER if value is null or not an integer.
+     */
+    public static long scanInteger(String value, boolean trim) { 
+    	long result = NOT_AN_INTEGER;
+    	if (value!=null) { 
+    		int start = 0;
+    		int end = value.length();
+    		if (trim) { 
+    			while (start<end && value.charAt(start)<=' ') { start++; }
+    			while (end>start && value.charAt(end-1)<=' ') { end--; }
+    		}
+    		boolean negative = false;
+    		if (start<end && (value.charAt(start)=='-' || value.charAt(start)=='+')) { 
+    			negative = value.charAt(start)=='-';
+    			start++;
+    		}
+    		if (start<end) { 
+    			long limit = negative ? -(long)Integer.MIN_VALUE : Integer.MAX_VALUE;
+    			long accumulated = 0;
+    			boolean valid = true;
+    			for (int i=start; valid && i<end; i++) { 
+    				int digit = Character.digit(value.charAt(i), 10);
+    				if (digit<0) { 
+    					valid = false;
+    				} else { 
+    					accumulated = accumulated * 10 + digit;
+    					valid = accumulated <= limit;
+    				}
+    			}
+    			if (valid) { 
+    				result = negative ? -accumulated : accumulated;
+    			}
+    		}
+    	}
+    	return result;
+    }
+
+    /**
+     * Obtain the number of days in a month of the proleptic Gregorian calendar.
+     * 
+     * @param year the year, any integer, 0 being 1 BCE.
+     * @param month the month, 1 to 12.
+     * @return the number of days in the month of the year.
+     * @throws ArrayIndexOutOfBoundsException if month is not in the range 1 to 12.
+     */
+    public static int daysInMonth(int year, int month) { 
+    	int result = DAYS_IN_MONTH[month];
+    	if (month==2 && PackedDateInterval.isLeapYear(year)) { 
+    		result = 29;
+    	}
+    	return result;
+    }
+
+    /**
+     * Obtain the number of days in a year of the proleptic Gregorian calendar.
+     * 
+     * @param year the year, any integer, 0 being 1 BCE.
+     * @return 366 if year is a leap year, otherwise 365.
+     */
+    public static int daysInYear(int year) { 
+    	return PackedDateInterval.isLeapYear(year) ? 366 : 365;
+    }
+
     /**
      * Test to see if an integer is in the range of integers that can be days of the month.
      * 
@@ -3618,9 +3834,10 @@ public class DateUtils {
 	 */
 	public static boolean includesLeapDay(String eventDate) {
 		boolean result = false;
-		if (!DateUtils.isEmpty(eventDate) && DateUtils.eventDateValid(eventDate)) { 
-			if (countLeapDays(eventDate) > 0) {
-				result = true;
+		if (!DateUtils.isEmpty(eventDate)) { 
+			EventDatePrecision precision = EventDatePrecision.of(eventDate);
+			if (precision!=null) { 
+				result = precision.includesLeapDay();
 			}
 		}
 		return result;
@@ -3635,45 +3852,10 @@ public class DateUtils {
 	 */
 	public static int countLeapDays(String eventDate) {
 		int result = 0;
-		if (!DateUtils.isEmpty(eventDate) && DateUtils.eventDateValid(eventDate)) {
+		if (!DateUtils.isEmpty(eventDate)) {
 			LocalDateInterval interval = extractInterval(eventDate);
-			Instant startInstant = interval.getStartDate().atStartOfDay().toInstant(ZoneOffset.UTC);
-			Instant endInstant = interval.getEndDate().atStartOfDay().toInstant(ZoneOffset.UTC).plusSeconds(86399);
-			Integer sYear = interval.getStartDate().getYear();
-			Integer eYear = interval.getEndDate().getYear();
-			String startYear = Integer.toString(sYear).trim();
-			String endYear = Integer.toString(eYear).trim();
-			String leapDay = startYear + "-02-29";
-			logger.debug(leapDay);
-			if (DateUtils.eventDateValid(leapDay)) {
-				Instant instantInLeapDay = extractInterval(leapDay).getStartDate().atStartOfDay().toInstant(ZoneOffset.UTC).plusSeconds(10);
-				if (startInstant.isBefore(instantInLeapDay) && endInstant.isAfter(instantInLeapDay)) { 
-					result = 1;
-				}
-			}
-			// Range spanning more than one year, check last year
-			if (!endYear.equals(startYear)) { 
-				leapDay = endYear + "-02-29";
-				logger.debug(leapDay);
-				if (DateUtils.eventDateValid(leapDay)) { 
-					Instant instantInLeapDay = extractInterval(leapDay).getStartDate().atStartOfDay().toInstant(ZoneOffset.UTC).plusSeconds(10);
-					if (startInstant.isBefore(instantInLeapDay) && endInstant.isAfter(instantInLeapDay)) { 
-						result++;
-					}
-				}				
-			}
-			// Ranges of more than two years, check intermediate years
-			if (eYear > sYear + 1) { 
-				for (int testYear = sYear+1; testYear<eYear; testYear++) { 
-					leapDay = Integer.toString(testYear).trim() + "-02-29";
-					logger.debug(leapDay);
-					if (DateUtils.eventDateValid(leapDay)) { 
-						Instant instantInLeapDay = extractInterval(leapDay).getStartDate().atStartOfDay().toInstant(ZoneOffset.UTC).plusSeconds(10);
-						if (startInstant.isBefore(instantInLeapDay) && endInstant.isAfter(instantInLeapDay)) { 
-							result++;
-						}
-					}				
-				}
+			if (interval!=null) { 
+				result = interval.countLeapDays();
 			}
 		}
 		return result;
@@ -4009,6 +4191,26 @@ public class DateUtils {
 	 * @return true if precision is one day or better, false otherwise.
 	 */
 	public static boolean hasResolutionDayOrFiner(String eventDate) { 
+		boolean result = false;
+		if (!DateUtils.isEmpty(eventDate)) { 
+			EventDatePrecision precision = EventDatePrecision.of(eventDate);
+			if (precision==null) { 
+				result = scanResolutionDayOrFiner(eventDate);
+			} else { 
+				result = precision.hasResolutionDayOrFiner();
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Examine the form of an event date for hasResolutionDayOrFiner(), without consulting 
+	 * its EventDatePrecision.
+	 * 
+	 * @param eventDate to test
+	 * @return true if precision is one day or better, false otherwise.
+	 */
+	static boolean scanResolutionDayOrFiner(String eventDate) { 
 		boolean result = false;
 		if (!DateUtils.isEmpty(eventDate)) { 
 			if (eventDate.contains("/")) { 
@@ -4016,7 +4218,7 @@ public class DateUtils {
 				boolean anyFail = false;
 				for (int i=0; i<bits.length; i++) { 
 					logger.debug(bits[i]);
-					if (!hasResolutionDayOrFiner(bits[i])) {
+					if (!scanResolutionDayOrFiner(bits[i])) {
 						if (!anyFail) { anyFail = true; }
 					}
 				}
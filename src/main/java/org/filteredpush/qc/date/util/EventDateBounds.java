@@ -0,0 +1,301 @@
+/**
+ * EventDateBounds.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date.util;
+
+import java.time.LocalDate;
+
+import org.filteredpush.qc.date.LocalDateInterval;
+import org.filteredpush.qc.date.PackedDateInterval;
+import org.filteredpush.qc.date.TimeExtractionException;
+
+/**
+ * The first and last days of a dwc:eventDate, parsed once, with the fields of those days
+ * needed to compare the eventDate with dwc:year, dwc:month, dwc:day, dwc:startDayOfYear and
+ * dwc:endDayOfYear, for the consistency checks, which otherwise parse the eventDate once
+ * for each comparison.
+ *
+ * The common forms yyyy, yyyy-mm, yyyy-mm-dd and yyyy-mm-dd/yyyy-mm-dd are scanned directly
+ * into epoch days.  Any other value is parsed with DateUtils.extractInterval(), and the checks
+ * that depend on the form of the string rather than on the days it represents are passed on
+ * to the corresponding DateUtils methods.  Each method gives the same result as the DateUtils
+ * method it is named for.
+ *
+ * @author mole
+ *
+ */
+public final class EventDateBounds {
+
+	private final String eventDate;
+	private final boolean scanned;
+	private final long startEpochDay;
+	private final long endEpochDay;
+	private final int startYear;
+	private final int startMonth;
+	private final int startDay;
+	private final int endYear;
+	private final int endMonth;
+	private Boolean dayOrFiner;
+
+	private EventDateBounds(String eventDate, boolean scanned, long startEpochDay, long endEpochDay,
+			int startYear, int startMonth, int startDay, int endYear, int endMonth) {
+		this.eventDate = eventDate;
+		this.scanned = scanned;
+		this.startEpochDay = startEpochDay;
+		this.endEpochDay = endEpochDay;
+		this.startYear = startYear;
+		this.startMonth = startMonth;
+		this.startDay = startDay;
+		this.endYear = endYear;
+		this.endMonth = endMonth;
+	}
+
+	/**
+	 * Obtain the bounds of an eventDate.
+	 *
+	 * @param eventDate the dwc:eventDate to parse.
+	 * @return the bounds of eventDate, or null where DateUtils.extractInterval() would return null.
+	 */
+	public static EventDateBounds extract(String eventDate) {
+		EventDateBounds result = null;
+		if (eventDate!=null) {
+			result = scan(eventDate);
+			if (result==null) {
+				LocalDateInterval interval = DateUtils.extractInterval(eventDate);
+				if (interval!=null) {
+					LocalDate start = interval.getStartDate();
+					LocalDate end = interval.getEndDate();
+					result = new EventDateBounds(eventDate, false, interval.getStartEpochDay(), interval.getEndEpochDay(),
+							start.getYear(), start.getMonthValue(), start.getDayOfMonth(), end.getYear(), end.getMonthValue());
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Scan yyyy, yyyy-mm, yyyy-mm-dd, and yyyy-mm-dd/yyyy-mm-dd, with valid months and
+	 * days and the end not before the start.
+	 *
+	 * @return the bounds, or null if eventDate is not in one of those forms.
+	 */
+	private static EventDateBounds scan(String eventDate) {
+		EventDateBounds result = null;
+		int length = eventDate.length();
+		if (length==4 && ScannedDateTime.isDigits(eventDate, 0, 4)) {
+			int year = ScannedDateTime.digitsValue(eventDate, 0, 4);
+			long first = PackedDateInterval.firstDayOfYear(year);
+			result = new EventDateBounds(eventDate, true, first, first + DateUtils.daysInYear(year) - 1, year, 1, 1, year, 12);
+		} else if (length==7 && isYearMonth(eventDate, 0)) {
+			int year = ScannedDateTime.digitsValue(eventDate, 0, 4);
+			int month = ScannedDateTime.digitsValue(eventDate, 5, 2);
+			long first = epochDay(year, month, 1);
+			result = new EventDateBounds(eventDate, true, first, first + DateUtils.daysInMonth(year, month) - 1, year, month, 1, year, month);
+		} else if (length==10 && isDate(eventDate, 0)) {
+			int year = ScannedDateTime.digitsValue(eventDate, 0, 4);
+			int month = ScannedDateTime.digitsValue(eventDate, 5, 2);
+			int day = ScannedDateTime.digitsValue(eventDate, 8, 2);
+			long epochDay = epochDay(year, month, day);
+			result = new EventDateBounds(eventDate, true, epochDay, epochDay, year, month, day, year, month);
+		} else if (length==21 && eventDate.charAt(10)=='/' && isDate(eventDate, 0) && isDate(eventDate, 11)) {
+			int year = ScannedDateTime.digitsValue(eventDate, 0, 4);
+			int month = ScannedDateTime.digitsValue(eventDate, 5, 2);
+			int day = ScannedDateTime.digitsValue(eventDate, 8, 2);
+			int endYear = ScannedDateTime.digitsValue(eventDate, 11, 4);
+			int endMonth = ScannedDateTime.digitsValue(eventDate, 16, 2);
+			long start = epochDay(year, month, day);
+			long end = epochDay(endYear, endMonth, ScannedDateTime.digitsValue(eventDate, 19, 2));
+			if (end>=start) {
+				result = new EventDateBounds(eventDate, true, start, end, year, month, day, endYear, endMonth);
+			}
+		}
+		return result;
+	}
+
+	private static boolean isYearMonth(String value, int start) {
+		boolean result = false;
+		if (ScannedDateTime.isDigits(value, start, 4) && value.charAt(start + 4)=='-' && ScannedDateTime.isDigits(value, start + 5, 2)) {
+			int month = ScannedDateTime.digitsValue(value, start + 5, 2);
+			result = month>=1 && month<=12;
+		}
+		return result;
+	}
+
+	private static boolean isDate(String value, int start) {
+		boolean result = false;
+		if (isYearMonth(value, start) && value.charAt(start + 7)=='-' && ScannedDateTime.isDigits(value, start + 8, 2)) {
+			int day = ScannedDateTime.digitsValue(value, start + 8, 2);
+			int daysInMonth = DateUtils.daysInMonth(ScannedDateTime.digitsValue(value, start, 4), ScannedDateTime.digitsValue(value, start + 5, 2));
+			result = day>=1 && day<=daysInMonth;
+		}
+		return result;
+	}
+
+	private static long epochDay(int year, int month, int day) {
+		long result = PackedDateInterval.firstDayOfYear(year) + day - 1;
+		for (int m=1; m<month; m++) {
+			result += DateUtils.daysInMonth(year, m);
+		}
+		return result;
+	}
+
+	/**
+	 * @return the year of the first day.
+	 */
+	public int getStartYear() {
+		return startYear;
+	}
+
+	/**
+	 * @return the month of the first day, 1 to 12.
+	 */
+	public int getStartMonth() {
+		return startMonth;
+	}
+
+	/**
+	 * @return the day of the month of the first day.
+	 */
+	public int getStartDay() {
+		return startDay;
+	}
+
+	/**
+	 * @return the year of the last day.
+	 */
+	public int getEndYear() {
+		return endYear;
+	}
+
+	/**
+	 * @return the month of the last day, 1 to 12.
+	 */
+	public int getEndMonth() {
+		return endMonth;
+	}
+
+	/**
+	 * @return the day of the year of the first day.
+	 */
+	public int getStartDayOfYear() {
+		return PackedDateInterval.dayOfYear(startEpochDay);
+	}
+
+	/**
+	 * @return the day of the year of the last day.
+	 */
+	public int getEndDayOfYear() {
+		return PackedDateInterval.dayOfYear(endEpochDay);
+	}
+
+	/**
+	 * @return the first day.
+	 */
+	public LocalDate getStartDate() {
+		return LocalDate.ofEpochDay(startEpochDay);
+	}
+
+	/**
+	 * @return the number of days from the first to the last day, inclusive.
+	 */
+	public long getDurationDays() {
+		return endEpochDay - startEpochDay + 1l;
+	}
+
+	/**
+	 * @return the number of leap days from the first to the last day, inclusive.
+	 */
+	public int countLeapDays() {
+		return PackedDateInterval.countLeapDays(startEpochDay, endEpochDay);
+	}
+
+	/**
+	 * @return as DateUtils.isRange(), true if more than one day.
+	 */
+	public boolean isRange() {
+		return endEpochDay > startEpochDay;
+	}
+
+	/**
+	 * @return as DateUtils.specificToMonthScale(), true if 31 days or less.
+	 */
+	public boolean isSpecificToMonthScale() {
+		return getDurationDays() <= 31l;
+	}
+
+	/**
+	 * @return as DateUtils.specificToYearScale(), true if 365 days or less, 366 if
+	 *   including a leap day.
+	 */
+	public boolean isSpecificToYearScale() {
+		int daysInYear = 365;
+		if (countLeapDays() > 0) {
+			daysInYear = 366;
+		}
+		return getDurationDays() - daysInYear <= 0l;
+	}
+
+	/**
+	 * @return as DateUtils.hasResolutionDayOrFiner()
+	 */
+	public boolean hasResolutionDayOrFiner() {
+		if (dayOrFiner==null) {
+			if (scanned) {
+				dayOrFiner = eventDate.length() >= 10;
+			} else {
+				dayOrFiner = DateUtils.scanResolutionDayOrFiner(eventDate);
+			}
+		}
+		return dayOrFiner;
+	}
+
+	/**
+	 * @return as DateUtils.extractDate(), the first day, may be null for forms that are not scanned.
+	 */
+	public LocalDate extractDate() {
+		LocalDate result;
+		if (scanned) {
+			result = getStartDate();
+		} else {
+			result = DateUtils.extractDate(eventDate);
+		}
+		return result;
+	}
+
+	/**
+	 * @return as DateUtils.measureDurationSeconds()
+	 * @throws TimeExtractionException as DateUtils.measureDurationSeconds()
+	 */
+	public long measureDurationSeconds() throws TimeExtractionException {
+		long result;
+		if (scanned) {
+			result = getDurationDays() * PackedDateInterval.SECONDS_PER_DAY;
+		} else {
+			result = DateUtils.parseDurationSeconds(eventDate);
+		}
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString() {
+		return getStartDate().toString() + "/" + LocalDate.ofEpochDay(endEpochDay).toString();
+	}
+
+}
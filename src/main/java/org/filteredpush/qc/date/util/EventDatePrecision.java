@@ -0,0 +1,203 @@
+/**
+ * EventDatePrecision.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date.util;
+
+import org.filteredpush.qc.date.PackedDateInterval;
+import org.filteredpush.qc.date.TimeExtractionException;
+
+/**
+ * Classification of the precision of a dwc:eventDate, from one parse of the eventDate,
+ * backing DateUtils.hasResolutionDayOrFiner(), specificToDay(), specificToMonthScale(),
+ * specificToYearScale(), specificToDecadeScale(), isRange(), includesLeapDay() and
+ * measureDurationSeconds(), which otherwise each parse the eventDate again.
+ *
+ * The scale is the smallest of a day, a month (31 days), a year (365 days, 366 if including
+ * a leap day) or a decade (3653 days) that the eventDate fits within, and is distinct from
+ * the resolution of the eventDate, 1842-01-01/1842-12-31 has a resolution of a day and the
+ * scale of a year.
+ *
+ * While a RecordParseMemo is open on the current thread, the classification of each value
+ * is shared by all the tests run on the record.
+ *
+ * @author mole
+ *
+ */
+public final class EventDatePrecision {
+
+	/**
+	 * Scales of an eventDate, from finest to coarsest.
+	 */
+	public enum Scale {
+		/** A single day, with a time giving a duration of less than a day. */
+		SUB_DAY,
+		/** A single day. */
+		DAY,
+		/** More than one day, but 31 days or less. */
+		MONTH,
+		/** More than 31 days, but 365 days or less, 366 if including a leap day. */
+		YEAR,
+		/** More than a year, but 3653 days or less. */
+		DECADE,
+		/** More than 3653 days. */
+		COARSER
+	}
+
+	private final EventDateBounds bounds;
+	private final Scale daysScale;
+	private final boolean leapDay;
+	private boolean measured;
+	private long durationSeconds;
+	private TimeExtractionException durationFailure;
+
+	private EventDatePrecision(EventDateBounds bounds) {
+		this.bounds = bounds;
+		long days = bounds.getDurationDays();
+		this.leapDay = bounds.countLeapDays() > 0;
+		if (days==1l) {
+			daysScale = Scale.DAY;
+		} else if (days <= 31l) {
+			daysScale = Scale.MONTH;
+		} else if (days - (leapDay ? 366 : 365) <= 0l) {
+			daysScale = Scale.YEAR;
+		} else if (days - ((365*10)+3) <= 0l) {
+			daysScale = Scale.DECADE;
+		} else {
+			daysScale = Scale.COARSER;
+		}
+	}
+
+	/**
+	 * Classify an eventDate.
+	 *
+	 * @param eventDate the dwc:eventDate to classify.
+	 * @return the classification of eventDate, or null if no interval can be extracted from
+	 *   eventDate, see DateUtils.extractInterval().
+	 */
+	public static EventDatePrecision of(String eventDate) {
+		EventDatePrecision result = null;
+		RecordParseMemo memo = RecordParseMemo.current();
+		if (memo!=null && memo.hasPrecision(eventDate)) {
+			result = memo.getPrecision(eventDate);
+		} else {
+			EventDateBounds bounds = EventDateBounds.extract(eventDate);
+			if (bounds!=null) {
+				result = new EventDatePrecision(bounds);
+			}
+			if (memo!=null) {
+				memo.putPrecision(eventDate, result);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return the first and last days of the eventDate.
+	 */
+	public EventDateBounds getBounds() {
+		return bounds;
+	}
+
+	/**
+	 * @return the scale of the eventDate, SUB_DAY only for a single day with a time
+	 *   for which a duration of less than a day can be measured.
+	 */
+	public Scale getScale() {
+		Scale result = daysScale;
+		if (result==Scale.DAY) {
+			try {
+				if (measureDurationSeconds() < PackedDateInterval.SECONDS_PER_DAY) {
+					result = Scale.SUB_DAY;
+				}
+			} catch (TimeExtractionException e) {
+				// no duration of less than a day can be measured, leave as a day.
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return as DateUtils.specificToDay(), true if a single day.
+	 */
+	public boolean isSpecificToDay() {
+		return daysScale==Scale.DAY;
+	}
+
+	/**
+	 * @return as DateUtils.specificToMonthScale(), true if 31 days or less.
+	 */
+	public boolean isSpecificToMonthScale() {
+		return daysScale.compareTo(Scale.MONTH) <= 0;
+	}
+
+	/**
+	 * @return as DateUtils.specificToYearScale(), true if 365 days or less, 366 if including a leap day.
+	 */
+	public boolean isSpecificToYearScale() {
+		return daysScale.compareTo(Scale.YEAR) <= 0;
+	}
+
+	/**
+	 * @return as DateUtils.specificToDecadeScale(), true if 3653 days or less.
+	 */
+	public boolean isSpecificToDecadeScale() {
+		return daysScale.compareTo(Scale.DECADE) <= 0;
+	}
+
+	/**
+	 * @return as DateUtils.isRange(), true if more than one day.
+	 */
+	public boolean isRange() {
+		return daysScale!=Scale.DAY;
+	}
+
+	/**
+	 * @return as DateUtils.includesLeapDay()
+	 */
+	public boolean includesLeapDay() {
+		return leapDay;
+	}
+
+	/**
+	 * @return as DateUtils.hasResolutionDayOrFiner()
+	 */
+	public boolean hasResolutionDayOrFiner() {
+		return bounds.hasResolutionDayOrFiner();
+	}
+
+	/**
+	 * Measure the duration, once, as DateUtils.measureDurationSeconds().
+	 *
+	 * @return the duration of the eventDate in seconds.
+	 * @throws TimeExtractionException if no duration can be measured.
+	 */
+	public long measureDurationSeconds() throws TimeExtractionException {
+		if (!measured) {
+			try {
+				durationSeconds = bounds.measureDurationSeconds();
+			} catch (TimeExtractionException e) {
+				durationFailure = e;
+			}
+			measured = true;
+		}
+		if (durationFailure!=null) {
+			throw new TimeExtractionException(durationFailure.getMessage());
+		}
+		return durationSeconds;
+	}
+
+}
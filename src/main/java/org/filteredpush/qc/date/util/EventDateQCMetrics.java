@@ -0,0 +1,480 @@
+/**
+ * EventDateQCMetrics.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date.util;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.datakurator.ffdq.api.DQResponse;
+
+/**
+ * Live metrics on the tests run in this JVM, for embedding applications to watch through JMX:
+ * records evaluated per second, invocation counts, latency histograms and result state
+ * distributions for each test, and the hit rates of the RecordParseMemo and the MonthDictionary.
+ *
+ * Metrics are collected by TemporalSuite, for each record evaluated and each test run on it,
+ * by AmendmentScheduler, for each amendment it invokes, and by the Runner.  Tests invoked
+ * directly through their @Provides methods are not counted.  All counters are lock-free and
+ * may be updated from many threads.
+ *
+ * Disabled by default, when disabled the cost is a read of a volatile flag per record, test,
+ * or cache lookup.  Collection is enabled by register(), which registers the metrics with the
+ * platform MBean server as OBJECT_NAME, by setEnabled(true), or by the system property
+ * event_date_qc.metrics=true.
+ *
+ * @author mole
+ *
+ */
+public final class EventDateQCMetrics implements EventDateQCMetricsMXBean {
+
+	/** System property which, if true, enables collection at startup. */
+	public static final String ENABLED_PROPERTY = "event_date_qc.metrics";
+
+	/** Name under which register() registers the metrics. */
+	public static final String OBJECT_NAME = "org.filteredpush.qc.date:type=EventDateQCMetrics";
+
+	/**
+	 * The caches for which hits and misses are counted.
+	 */
+	public enum Cache {
+		/** Results of DateUtils.eventDateValid() in the RecordParseMemo. */
+		EVENTDATE_VALID("RecordParseMemo eventDateValid"),
+		/** Results of DateUtils.extractInterval() in the RecordParseMemo. */
+		INTERVAL("RecordParseMemo extractInterval"),
+		/** Results of EventDatePrecision.of() in the RecordParseMemo. */
+		PRECISION("RecordParseMemo precision"),
+		/** Interpretations of dwc:month in a MonthDictionary. */
+		MONTH_DICTIONARY("MonthDictionary");
+
+		private final String label;
+
+		private Cache(String label) {
+			this.label = label;
+		}
+
+		/**
+		 * @return the name of the cache as reported.
+		 */
+		public String getLabel() {
+			return label;
+		}
+	}
+
+	/**
+	 * Invocation count, latency, and result state distribution for one test.
+	 */
+	public static final class TestStatistics {
+		private final String test;
+		private final long invocations;
+		private final double meanMicros;
+		private final double p50Micros;
+		private final double p90Micros;
+		private final double p99Micros;
+		private final double p999Micros;
+		private final double maxMicros;
+		private final Map<String,Long> resultStates;
+
+		private TestStatistics(String test, LatencyHistogram latency, Map<String,Long> resultStates) {
+			this.test = test;
+			this.invocations = latency.getCount();
+			this.meanMicros = latency.getMeanNanos() / 1000d;
+			this.p50Micros = latency.getPercentileNanos(50d) / 1000d;
+			this.p90Micros = latency.getPercentileNanos(90d) / 1000d;
+			this.p99Micros = latency.getPercentileNanos(99d) / 1000d;
+			this.p999Micros = latency.getPercentileNanos(99.9d) / 1000d;
+			this.maxMicros = latency.getMaxNanos() / 1000d;
+			this.resultStates = resultStates;
+		}
+
+		/**
+		 * @return the name of the test, the class and method providing it, e.g.
+		 *   DwCEventDQ.validationEventConsistent.
+		 */
+		public String getTest() {
+			return test;
+		}
+
+		/**
+		 * @return the number of invocations of the test.
+		 */
+		public long getInvocations() {
+			return invocations;
+		}
+
+		/**
+		 * @return the mean latency in microseconds.
+		 */
+		public double getMeanMicros() {
+			return meanMicros;
+		}
+
+		/**
+		 * @return the median latency in microseconds, to within 1/16.
+		 */
+		public double getP50Micros() {
+			return p50Micros;
+		}
+
+		/**
+		 * @return the 90th percentile latency in microseconds, to within 1/16.
+		 */
+		public double getP90Micros() {
+			return p90Micros;
+		}
+
+		/**
+		 * @return the 99th percentile latency in microseconds, to within 1/16.
+		 */
+		public double getP99Micros() {
+			return p99Micros;
+		}
+
+		/**
+		 * @return the 99.9th percentile latency in microseconds, to within 1/16.
+		 */
+		public double getP999Micros() {
+			return p999Micros;
+		}
+
+		/**
+		 * @return the largest latency in microseconds.
+		 */
+		public double getMaxMicros() {
+			return maxMicros;
+		}
+
+		/**
+		 * @return the number of responses with each result state.
+		 */
+		public Map<String,Long> getResultStates() {
+			return resultStates;
+		}
+	}
+
+	/**
+	 * Hits and misses of one cache.
+	 */
+	public static final class CacheStatistics {
+		private final String name;
+		private final long hits;
+		private final long misses;
+
+		private CacheStatistics(String name, long hits, long misses) {
+			this.name = name;
+			this.hits = hits;
+			this.misses = misses;
+		}
+
+		/**
+		 * @return the name of the cache.
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return the number of lookups which found a value.
+		 */
+		public long getHits() {
+			return hits;
+		}
+
+		/**
+		 * @return the number of lookups which did not find a value.
+		 */
+		public long getMisses() {
+			return misses;
+		}
+
+		/**
+		 * @return hits as a fraction of lookups, 0 if there have been no lookups.
+		 */
+		public double getHitRate() {
+			double result = 0d;
+			if (hits + misses > 0) {
+				result = (double)hits / (hits + misses);
+			}
+			return result;
+		}
+	}
+
+	/**
+	 * Latency and result states of one test.
+	 */
+	private static final class TestCounter {
+		private final LatencyHistogram latency = new LatencyHistogram();
+		private final ConcurrentHashMap<String,LongAdder> states = new ConcurrentHashMap<String,LongAdder>();
+	}
+
+	private static final EventDateQCMetrics INSTANCE = new EventDateQCMetrics();
+
+	private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+	private final LongAdder records = new LongAdder();
+	private volatile long resetNanos = System.nanoTime();
+	private final ConcurrentHashMap<String,TestCounter> tests = new ConcurrentHashMap<String,TestCounter>();
+	private final ConcurrentHashMap<String,LongAdder> states = new ConcurrentHashMap<String,LongAdder>();
+	private final LongAdder[] cacheHits = new LongAdder[Cache.values().length];
+	private final LongAdder[] cacheMisses = new LongAdder[Cache.values().length];
+
+	private EventDateQCMetrics() {
+		for (int i=0; i<cacheHits.length; i++) {
+			cacheHits[i] = new LongAdder();
+			cacheMisses[i] = new LongAdder();
+		}
+	}
+
+	/**
+	 * @return the metrics of this JVM.
+	 */
+	public static EventDateQCMetrics getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Register the metrics with the platform MBean server, if they are not already registered,
+	 * and enable collection.
+	 *
+	 * @return the name under which the metrics are registered.
+	 * @throws JMException if the metrics can not be registered.
+	 */
+	public static synchronized ObjectName register() throws JMException {
+		ObjectName result = new ObjectName(OBJECT_NAME);
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		if (!server.isRegistered(result)) {
+			server.registerMBean(INSTANCE, result);
+		}
+		enabled = true;
+		return result;
+	}
+
+	/**
+	 * Disable collection and unregister the metrics from the platform MBean server, if they
+	 * are registered.
+	 *
+	 * @throws JMException if the metrics can not be unregistered.
+	 */
+	public static synchronized void unregister() throws JMException {
+		enabled = false;
+		ObjectName name = new ObjectName(OBJECT_NAME);
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		if (server.isRegistered(name)) {
+			server.unregisterMBean(name);
+		}
+	}
+
+	/**
+	 * @return true if metrics are being collected.
+	 */
+	public static boolean isCollecting() {
+		return enabled;
+	}
+
+	/**
+	 * @return true if tests are to be timed, for the metrics or for FlightRecorderEvents,
+	 *   checked by callers before timing a test.
+	 */
+	public static boolean isTimingTests() {
+		return enabled || FlightRecorderEvents.isTestEnabled();
+	}
+
+	/**
+	 * @param values the values given to a test, any of which may be null.
+	 * @return the total length of the values.
+	 */
+	public static int inputLength(String... values) {
+		int result = 0;
+		for (String value : values) {
+			if (value!=null) {
+				result = result + value.length();
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Count a record evaluated, if metrics are being collected.
+	 */
+	public static void countRecord() {
+		if (enabled) {
+			INSTANCE.records.increment();
+		}
+	}
+
+	/**
+	 * Record an invocation of a test, if metrics are being collected, and end the
+	 * FlightRecorderEvents test event begun for it, if any.
+	 *
+	 * @param event the event returned by FlightRecorderEvents.beginTest() before the test
+	 *   was invoked, may be null.
+	 * @param test the name of the test, the class and method providing it, e.g.
+	 *   DwCEventDQ.validationEventConsistent.
+	 * @param response the response of the test, may be null.
+	 * @param inputLength the total length of the values given to the test, see inputLength().
+	 * @param nanos the time taken by the test, in nanoseconds.
+	 */
+	public static void recordTest(Object event, String test, DQResponse<?> response, int inputLength, long nanos) {
+		if (event!=null) {
+			FlightRecorderEvents.endTest(event, test, inputLength, stateOf(response));
+		}
+		if (enabled) {
+			TestCounter counter = INSTANCE.tests.get(test);
+			if (counter==null) {
+				TestCounter added = new TestCounter();
+				counter = INSTANCE.tests.putIfAbsent(test, added);
+				if (counter==null) {
+					counter = added;
+				}
+			}
+			counter.latency.record(nanos);
+			String state = stateOf(response);
+			increment(counter.states, state);
+			increment(INSTANCE.states, state);
+		}
+	}
+
+	/**
+	 * Count a lookup in a cache, if metrics are being collected.
+	 *
+	 * @param cache the cache consulted.
+	 * @param hit true if the lookup found a value.
+	 */
+	static void countLookup(Cache cache, boolean hit) {
+		if (enabled) {
+			if (hit) {
+				INSTANCE.cacheHits[cache.ordinal()].increment();
+			} else {
+				INSTANCE.cacheMisses[cache.ordinal()].increment();
+			}
+		}
+	}
+
+	private static String stateOf(DQResponse<?> response) {
+		String result = "null";
+		if (response!=null && response.getResultState()!=null) {
+			result = response.getResultState().getLabel();
+		}
+		return result;
+	}
+
+	private static void increment(ConcurrentHashMap<String,LongAdder> counters, String key) {
+		LongAdder counter = counters.get(key);
+		if (counter==null) {
+			LongAdder added = new LongAdder();
+			counter = counters.putIfAbsent(key, added);
+			if (counter==null) {
+				counter = added;
+			}
+		}
+		counter.increment();
+	}
+
+	private static Map<String,Long> sums(ConcurrentHashMap<String,LongAdder> counters) {
+		Map<String,Long> result = new TreeMap<String,Long>();
+		for (Map.Entry<String,LongAdder> entry : counters.entrySet()) {
+			result.put(entry.getKey(), entry.getValue().sum());
+		}
+		return result;
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	@Override
+	public void setEnabled(boolean enable) {
+		enabled = enable;
+	}
+
+	@Override
+	public long getRecordCount() {
+		return records.sum();
+	}
+
+	@Override
+	public double getRecordsPerSecond() {
+		double result = 0d;
+		long elapsed = System.nanoTime() - resetNanos;
+		if (elapsed>0) {
+			result = records.sum() / (elapsed / 1000000000d);
+		}
+		return result;
+	}
+
+	@Override
+	public long getSecondsSinceReset() {
+		return (System.nanoTime() - resetNanos) / 1000000000l;
+	}
+
+	@Override
+	public Map<String,Long> getTestInvocationCounts() {
+		Map<String,Long> result = new TreeMap<String,Long>();
+		for (Map.Entry<String,TestCounter> entry : tests.entrySet()) {
+			result.put(entry.getKey(), entry.getValue().latency.getCount());
+		}
+		return result;
+	}
+
+	@Override
+	public List<TestStatistics> getTestStatistics() {
+		Map<String,TestCounter> sorted = new TreeMap<String,TestCounter>(tests);
+		List<TestStatistics> result = new ArrayList<TestStatistics>();
+		for (Map.Entry<String,TestCounter> entry : sorted.entrySet()) {
+			result.add(new TestStatistics(entry.getKey(), entry.getValue().latency, sums(entry.getValue().states)));
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	@Override
+	public Map<String,Long> getResultStateCounts() {
+		return sums(states);
+	}
+
+	@Override
+	public List<CacheStatistics> getCacheStatistics() {
+		List<CacheStatistics> result = new ArrayList<CacheStatistics>();
+		for (Cache cache : Cache.values()) {
+			result.add(new CacheStatistics(cache.getLabel(), cacheHits[cache.ordinal()].sum(), cacheMisses[cache.ordinal()].sum()));
+		}
+		return Collections.unmodifiableList(result);
+	}
+
+	@Override
+	public void reset() {
+		records.reset();
+		tests.clear();
+		states.clear();
+		for (int i=0; i<cacheHits.length; i++) {
+			cacheHits[i].reset();
+			cacheMisses[i].reset();
+		}
+		resetNanos = System.nanoTime();
+	}
+
+}
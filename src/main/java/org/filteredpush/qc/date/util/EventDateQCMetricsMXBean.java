@@ -0,0 +1,83 @@
+/**
+ * EventDateQCMetricsMXBean.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date.util;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Management interface of EventDateQCMetrics, live throughput, latency, cache, and result
+ * state metrics for the tests run in this JVM.
+ *
+ * @author mole
+ *
+ */
+public interface EventDateQCMetricsMXBean {
+
+	/**
+	 * @return true if metrics are being collected.
+	 */
+	boolean isEnabled();
+
+	/**
+	 * @param enable true to collect metrics, false to stop collecting them, metrics collected
+	 *   so far are retained.
+	 */
+	void setEnabled(boolean enable);
+
+	/**
+	 * @return the number of records evaluated since the metrics were last reset.
+	 */
+	long getRecordCount();
+
+	/**
+	 * @return the mean number of records evaluated per second since the metrics were last reset.
+	 */
+	double getRecordsPerSecond();
+
+	/**
+	 * @return the number of seconds since the metrics were last reset.
+	 */
+	long getSecondsSinceReset();
+
+	/**
+	 * @return the number of invocations of each test, by test.
+	 */
+	Map<String,Long> getTestInvocationCounts();
+
+	/**
+	 * @return invocation count, latency, and result state distribution for each test.
+	 */
+	List<EventDateQCMetrics.TestStatistics> getTestStatistics();
+
+	/**
+	 * @return the number of responses with each result state, over all tests.
+	 */
+	Map<String,Long> getResultStateCounts();
+
+	/**
+	 * @return the hits and misses of each cache.
+	 */
+	List<EventDateQCMetrics.CacheStatistics> getCacheStatistics();
+
+	/**
+	 * Discard all metrics collected so far.
+	 */
+	void reset();
+
+}
@@ -0,0 +1,130 @@
+/**
+ * FlightRecorderEvents.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date.util;
+
+/**
+ * Java Flight Recorder events for slow verbatim date interpretations, ISO interval parses,
+ * and test invocations.
+ *
+ * This is the Java 8 implementation, in which no events are available, the isEnabled methods
+ * return false, the begin methods return null and the end methods do nothing.  On Java 11 and
+ * later the implementation in META-INF/versions/11 of the multi-release jar, from
+ * src/main/java11, is used instead, which commits the events
+ * org.filteredpush.qc.date.VerbatimInterpretation, org.filteredpush.qc.date.IntervalParse and
+ * org.filteredpush.qc.date.TestInvocation, each with a label, the input length, the outcome
+ * and the duration.
+ *
+ * Callers begin an event before the work and end it, with the values of its fields, after
+ * the work, so the event is timed by Flight Recorder itself.  Events shorter than their
+ * threshold, DEFAULT_THRESHOLD unless changed by the threshold setting of the event in the
+ * recording's settings, are not committed, so that only slow events are recorded.
+ *
+ * @author mole
+ *
+ */
+public final class FlightRecorderEvents {
+
+	/** Threshold of each kind of event, unless changed in the settings of a recording. */
+	public static final String DEFAULT_THRESHOLD = "1 ms";
+
+	private FlightRecorderEvents() {
+	}
+
+	/**
+	 * @return true if verbatim interpretation events are being recorded, false on Java 8.
+	 */
+	public static boolean isVerbatimEnabled() {
+		return false;
+	}
+
+	/**
+	 * Begin timing the interpretation of a verbatim date.
+	 *
+	 * @return the event to pass to endVerbatim(), null on Java 8.
+	 */
+	public static Object beginVerbatim() {
+		return null;
+	}
+
+	/**
+	 * End the interpretation of a verbatim date, committing the event if it took at least
+	 * its threshold.
+	 *
+	 * @param begun the event returned by beginVerbatim(), may be null.
+	 * @param handler the handler in DateUtils.extractDateFromVerbatimER() which matched, or null.
+	 * @param input the verbatim date.
+	 * @param outcome the result state of the interpretation.
+	 */
+	public static void endVerbatim(Object begun, String handler, String input, String outcome) {
+	}
+
+	/**
+	 * @return true if interval parse events are being recorded, false on Java 8.
+	 */
+	public static boolean isIntervalEnabled() {
+		return false;
+	}
+
+	/**
+	 * Begin timing the parse of an ISO date or interval.
+	 *
+	 * @return the event to pass to endInterval(), null on Java 8.
+	 */
+	public static Object beginInterval() {
+		return null;
+	}
+
+	/**
+	 * End the parse of an ISO date or interval, committing the event if it took at least
+	 * its threshold.
+	 *
+	 * @param begun the event returned by beginInterval(), may be null.
+	 * @param input the value parsed.
+	 * @param outcome the outcome of the parse.
+	 */
+	public static void endInterval(Object begun, String input, String outcome) {
+	}
+
+	/**
+	 * @return true if test invocation events are being recorded, false on Java 8.
+	 */
+	public static boolean isTestEnabled() {
+		return false;
+	}
+
+	/**
+	 * Begin timing the invocation of a test.
+	 *
+	 * @return the event to pass to endTest(), null on Java 8.
+	 */
+	public static Object beginTest() {
+		return null;
+	}
+
+	/**
+	 * End the invocation of a test, committing the event if it took at least its threshold.
+	 *
+	 * @param begun the event returned by beginTest(), may be null.
+	 * @param test the name of the test.
+	 * @param inputLength the total length of the values given to the test.
+	 * @param outcome the result state of the response.
+	 */
+	public static void endTest(Object begun, String test, int inputLength, String outcome) {
+	}
+
+}
@@ -0,0 +1,194 @@
+/**
+ * LatencyHistogram.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of latencies in nanoseconds, in log-linear buckets in the manner of an
+ * HDR histogram, with constant relative precision over the whole range of a long.
+ *
+ * Latencies below SUB_BUCKETS nanoseconds each have their own bucket, above that each power
+ * of two range is split into SUB_BUCKETS buckets of equal width, so that percentiles are
+ * reported to within 1/SUB_BUCKETS (6.25%), at the cost of one atomic increment per latency
+ * recorded.  The count, total and maximum are exact.  A histogram may be recorded into by many
+ * threads at once, a reading taken while latencies are being recorded may include some but not
+ * all of the concurrent recordings.
+ *
+ * @author mole
+ *
+ */
+public final class LatencyHistogram {
+
+	/** Number of bits of sub-bucket within each power of two range. */
+	private static final int SUB_BUCKET_BITS = 4;
+	/** Number of buckets within each power of two range. */
+	public static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	/** Number of buckets, enough for any positive long. */
+	public static final int BUCKETS = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder total = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * @param nanos a latency in nanoseconds.
+	 * @return the index of the bucket in which the latency is counted, negative latencies
+	 *   are counted as zero.
+	 */
+	public static int bucketOf(long nanos) {
+		int result = 0;
+		if (nanos>=SUB_BUCKETS) {
+			int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+			int shift = exponent - SUB_BUCKET_BITS;
+			int sub = (int)(nanos >>> shift) - SUB_BUCKETS;
+			result = SUB_BUCKETS + shift * SUB_BUCKETS + sub;
+		} else if (nanos>0) {
+			result = (int)nanos;
+		}
+		return result;
+	}
+
+	/**
+	 * @param bucket the index of a bucket.
+	 * @return the largest latency, in nanoseconds, counted in the bucket.
+	 */
+	public static long upperBoundOf(int bucket) {
+		long result = bucket;
+		if (bucket>=SUB_BUCKETS) {
+			int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+			long sub = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+			long lower = (SUB_BUCKETS + sub) << shift;
+			result = lower + (1l << shift) - 1l;
+		}
+		return result;
+	}
+
+	/**
+	 * Record a latency.
+	 *
+	 * @param nanos the latency in nanoseconds.
+	 */
+	public void record(long nanos) {
+		if (nanos<0) {
+			nanos = 0;
+		}
+		buckets.incrementAndGet(bucketOf(nanos));
+		count.increment();
+		total.add(nanos);
+		long current = max.get();
+		while (nanos>current && !max.compareAndSet(current, nanos)) {
+			current = max.get();
+		}
+	}
+
+	/**
+	 * @return the number of latencies recorded.
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * @return the sum of the latencies recorded, in nanoseconds.
+	 */
+	public long getTotalNanos() {
+		return total.sum();
+	}
+
+	/**
+	 * @return the largest latency recorded, in nanoseconds, 0 if none have been recorded.
+	 */
+	public long getMaxNanos() {
+		return max.get();
+	}
+
+	/**
+	 * @return the mean of the latencies recorded, in nanoseconds, 0 if none have been recorded.
+	 */
+	public double getMeanNanos() {
+		double result = 0d;
+		long n = count.sum();
+		if (n>0) {
+			result = (double)total.sum() / n;
+		}
+		return result;
+	}
+
+	/**
+	 * Estimate a percentile of the latencies recorded.
+	 *
+	 * @param percentile the percentile, from 0 to 100.
+	 * @return the upper bound of the bucket containing the percentile, no more than the largest
+	 *   latency recorded, in nanoseconds, 0 if none have been recorded.
+	 * @throws IllegalArgumentException if percentile is not from 0 to 100.
+	 */
+	public long getPercentileNanos(double percentile) {
+		if (percentile<0d || percentile>100d) {
+			throw new IllegalArgumentException("Percentile must be from 0 to 100, not " + percentile);
+		}
+		long[] counts = getBucketCounts();
+		long n = 0l;
+		for (int i=0; i<counts.length; i++) {
+			n = n + counts[i];
+		}
+		long result = 0l;
+		if (n>0) {
+			long rank = (long)Math.ceil(n * percentile / 100d);
+			if (rank<1) {
+				rank = 1;
+			}
+			long seen = 0l;
+			int bucket = 0;
+			while (bucket<counts.length && seen + counts[bucket]<rank) {
+				seen = seen + counts[bucket];
+				bucket++;
+			}
+			result = Math.min(upperBoundOf(bucket), max.get());
+		}
+		return result;
+	}
+
+	/**
+	 * @return a copy of the count in each bucket.
+	 */
+	public long[] getBucketCounts() {
+		long[] result = new long[BUCKETS];
+		for (int i=0; i<BUCKETS; i++) {
+			result[i] = buckets.get(i);
+		}
+		return result;
+	}
+
+	/**
+	 * Discard the latencies recorded, a reset concurrent with recording may retain some of
+	 * the concurrent recordings.
+	 */
+	public void reset() {
+		for (int i=0; i<BUCKETS; i++) {
+			buckets.set(i, 0l);
+		}
+		count.reset();
+		total.reset();
+		max.set(0l);
+	}
+
+}
@@ -0,0 +1,223 @@
+/**
+ * MonthDictionary.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date.util;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.text.DateFormatSymbols;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Dictionary of the interpretations of non-numeric values of dwc:month as integers, as
+ * used by DwCEventDQ.amendmentMonthStandardized(), so that each distinct spelling of a
+ * month in a data set is interpreted only once.
+ *
+ * A value is interpreted with DateUtils.interpretAsIntegerMonth(), with any trailing period
+ * removed, and the result is either the integer found, as a string, or UNINTERPRETABLE.
+ * The dictionary is seeded with roman numerals, number words, Chinese month numerals, and
+ * month names from several locales, each interpreted in the same way, so that the seeds
+ * do not change any interpretation.  Values not in the dictionary are interpreted when first
+ * seen, and are added to the dictionary until it holds its capacity, after which further
+ * values are interpreted on each use.
+ *
+ * The entries may be stored and loaded between runs as a properties file.
+ *
+ * A dictionary may be shared between threads.
+ *
+ * @author mole
+ *
+ */
+public final class MonthDictionary {
+
+	private static final Log logger = LogFactory.getLog(MonthDictionary.class);
+
+	/** Value in the dictionary for a month which could not be interpreted as an integer. */
+	public static final String UNINTERPRETABLE = "";
+
+	/** Capacity of the default dictionary, well above the number of month spellings in a data set. */
+	public static final int DEFAULT_CAPACITY = 10000;
+
+	private static final String[] ROMAN = { "I", "II", "III", "IV", "V", "VI", "VII", "VIII", "IX", "X", "XI", "XII" };
+	private static final String[] WORDS = { "one", "two", "three", "four", "five", "six", "seven", "eight", "nine", "ten", "eleven", "twelve" };
+	private static final String[] CHINESE = { "一", "二", "三", "四", "五", "六", "七", "八", "九", "十", "十一", "十二" };
+	private static final Locale[] LOCALES = { Locale.ENGLISH, Locale.FRENCH, Locale.GERMAN, Locale.ITALIAN,
+			new Locale("es"), new Locale("pt"), new Locale("nl") };
+
+	private static final MonthDictionary DEFAULT = new MonthDictionary(DEFAULT_CAPACITY);
+
+	private final ConcurrentHashMap<String,String> entries;
+	private final int capacity;
+
+	/**
+	 * Create a seeded dictionary.
+	 *
+	 * @param capacity the maximum number of entries, including the seeds.
+	 */
+	public MonthDictionary(int capacity) {
+		this.capacity = capacity;
+		this.entries = new ConcurrentHashMap<String,String>(Math.min(capacity, 1024));
+		seed();
+	}
+
+	/**
+	 * @return the dictionary used by DwCEventDQ.amendmentMonthStandardized().
+	 */
+	public static MonthDictionary getDefault() {
+		return DEFAULT;
+	}
+
+	private void seed() {
+		for (int i=0; i<12; i++) {
+			add(ROMAN[i]);
+			add(ROMAN[i] + ".");
+			add(ROMAN[i].toLowerCase());
+			add(ROMAN[i].toLowerCase() + ".");
+			add(WORDS[i]);
+			add(CHINESE[i]);
+			add(CHINESE[i] + "月");
+		}
+		for (Locale locale : LOCALES) {
+			DateFormatSymbols symbols = DateFormatSymbols.getInstance(locale);
+			for (String name : symbols.getMonths()) {
+				add(name);
+			}
+			for (String name : symbols.getShortMonths()) {
+				add(name);
+				add(name + ".");
+			}
+		}
+	}
+
+	private void add(String month) {
+		if (!DateUtils.isEmpty(month) && entries.size()<capacity) {
+			entries.putIfAbsent(month, interpret(month));
+		}
+	}
+
+	/**
+	 * Interpret a non-numeric month value without consulting the dictionary.
+	 *
+	 * @param month the value of dwc:month, not empty.
+	 * @return the integer the month was interpreted as, or UNINTERPRETABLE.
+	 */
+	static String interpret(String month) {
+		String result = UNINTERPRETABLE;
+		String monthConverted = DateUtils.interpretAsIntegerMonth(month);
+		// Strip any trailing period off of month name.
+		String monthTrim = monthConverted.replaceFirst("\\.$", "").trim();
+		if (!DateUtils.isEmpty(monthTrim)) {
+			try {
+				result = Integer.toString(Integer.parseInt(monthTrim));
+			} catch (NumberFormatException e) {
+				logger.debug(e.getMessage());
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Look up the interpretation of a month value, interpreting and adding it if it is not
+	 * already in the dictionary.
+	 *
+	 * @param month the value of dwc:month, not empty.
+	 * @return the integer the month was interpreted as, as a string, or UNINTERPRETABLE.
+	 */
+	public String standardize(String month) {
+		String result = entries.get(month);
+		EventDateQCMetrics.countLookup(EventDateQCMetrics.Cache.MONTH_DICTIONARY, result!=null);
+		if (result==null) {
+			result = interpret(month);
+			if (entries.size()<capacity) {
+				entries.putIfAbsent(month, result);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return the number of entries in the dictionary.
+	 */
+	public int size() {
+		return entries.size();
+	}
+
+	/**
+	 * @return the maximum number of entries in the dictionary.
+	 */
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * Write the entries of the dictionary as a properties file, in order of their keys.
+	 *
+	 * @param writer to which to write the entries, not closed.
+	 * @throws IOException on a failure to write.
+	 */
+	public void store(Writer writer) throws IOException {
+		Map<String,String> sorted = new TreeMap<String,String>(entries);
+		// Properties.store() writes in hash order, so write each of the sorted entries through
+		// a one entry Properties to get its escaping.
+		writer.write("# dwc:month interpretations, empty for uninterpretable\n");
+		for (Map.Entry<String,String> entry : sorted.entrySet()) {
+			Properties line = new Properties();
+			line.setProperty(entry.getKey(), entry.getValue());
+			StringWriter buffer = new StringWriter();
+			line.store(buffer, null);
+			String stored = buffer.toString();
+			// drop the date comment written by Properties.store()
+			writer.write(stored.substring(stored.indexOf('\n') + 1));
+		}
+		writer.flush();
+	}
+
+	/**
+	 * Add entries stored with store() to the dictionary, up to its capacity.  Entries already
+	 * in the dictionary are kept, and stored values which are neither an integer nor
+	 * UNINTERPRETABLE are ignored.
+	 *
+	 * @param reader from which to read the entries, not closed.
+	 * @return the number of entries added.
+	 * @throws IOException on a failure to read.
+	 */
+	public int load(Reader reader) throws IOException {
+		Properties properties = new Properties();
+		properties.load(reader);
+		int result = 0;
+		for (String month : properties.stringPropertyNames()) {
+			String value = properties.getProperty(month);
+			boolean valid = value.equals(UNINTERPRETABLE) || DateUtils.scanInteger(value, false)!=DateUtils.NOT_AN_INTEGER;
+			if (!valid) {
+				logger.debug("Ignoring stored interpretation [" + value + "] of month [" + month + "]");
+			} else if (!DateUtils.isEmpty(month) && entries.size()<capacity && entries.putIfAbsent(month, value)==null) {
+				result++;
+			}
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,354 @@
+/**
+ * ProgressReporter.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date.util;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Locale;
+import java.util.Timer;
+import java.util.TimerTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+/**
+ * Periodic progress reports for a long run over an input file, with records processed, bytes
+ * of input consumed, current and average records per second, heap in use, and an estimate of
+ * the time remaining from the fraction of the input consumed, or of a limit on the number of
+ * records if that is closer.
+ *
+ * Reports are made by a daemon timer thread every interval, as a line to a PrintStream and/or
+ * by replacing a status file of name=value lines, so the only cost to the thread processing
+ * records is an ordered store of the record count for each record and of the byte count for
+ * each read from the input.  Counts are written by one thread, the one processing records.
+ *
+ * The status file has state=running while reporting, and state=finished after stop(), or
+ * state=failed after fail(), or if the JVM shuts down while reporting, so that a run which
+ * ends abnormally does not leave the status file claiming that it is still running.
+ *
+ * @author mole
+ *
+ */
+public final class ProgressReporter {
+
+	private static final Log logger = LogFactory.getLog(ProgressReporter.class);
+
+	public static final long DEFAULT_INTERVAL_SECONDS = 10l;
+
+	private static final String RUNNING = "running";
+	private static final String FINISHED = "finished";
+	private static final String FAILED = "failed";
+
+	private final AtomicLong records = new AtomicLong();
+	private final AtomicLong bytes = new AtomicLong();
+	private final PrintStream out;
+	private final File statusFile;
+	private final long totalBytes;
+	private final long limit;
+	private final long intervalMillis;
+	private final long started;
+	private final Instant startTime;
+	private Timer timer;
+	private Thread shutdownHook;
+	private boolean ended;
+	private long lastNanos;
+	private long lastRecords;
+
+	/**
+	 * @param out to which to print a progress line each interval, or null for none.
+	 * @param statusFile file to replace with the status each interval, or null for none.
+	 * @param totalBytes size of the input in bytes, 0 if not known.
+	 * @param limit number of records after which the run will stop, 0 for no limit.
+	 * @param intervalMillis milliseconds between reports.
+	 */
+	public ProgressReporter(PrintStream out, File statusFile, long totalBytes, long limit, long intervalMillis) {
+		if (intervalMillis<=0l) {
+			throw new IllegalArgumentException("Interval must be positive, not " + intervalMillis);
+		}
+		this.out = out;
+		this.statusFile = statusFile;
+		this.totalBytes = totalBytes;
+		this.limit = limit;
+		this.intervalMillis = intervalMillis;
+		this.started = System.nanoTime();
+		this.startTime = Instant.now();
+		this.lastNanos = started;
+	}
+
+	/**
+	 * Wrap the input so that bytes read from it are counted as consumed.
+	 *
+	 * @param in the input being processed.
+	 * @return a stream reading from in.
+	 */
+	public InputStream count(InputStream in) {
+		return new FilterInputStream(in) {
+			@Override
+			public int read() throws IOException {
+				int result = super.read();
+				if (result>=0) {
+					bytes.lazySet(bytes.get() + 1);
+				}
+				return result;
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				int result = super.read(b, off, len);
+				if (result>0) {
+					bytes.lazySet(bytes.get() + result);
+				}
+				return result;
+			}
+
+			@Override
+			public long skip(long n) throws IOException {
+				long result = super.skip(n);
+				bytes.lazySet(bytes.get() + result);
+				return result;
+			}
+		};
+	}
+
+	/**
+	 * Count one record as processed, called only from the thread processing records.
+	 */
+	public void countRecord() {
+		records.lazySet(records.get() + 1);
+	}
+
+	/**
+	 * @return the number of records processed.
+	 */
+	public long getRecords() {
+		return records.get();
+	}
+
+	/**
+	 * @return the number of bytes of input consumed.
+	 */
+	public long getBytes() {
+		return bytes.get();
+	}
+
+	/**
+	 * Start reporting every interval, until stop() or fail() is called, or the JVM shuts down.
+	 */
+	public synchronized void start() {
+		if (timer==null && !ended) {
+			timer = new Timer("event_date_qc progress", true);
+			timer.scheduleAtFixedRate(new TimerTask() {
+				@Override
+				public void run() {
+					report(RUNNING);
+				}
+			}, intervalMillis, intervalMillis);
+			shutdownHook = new Thread("event_date_qc progress shutdown") {
+				@Override
+				public void run() {
+					fail();
+				}
+			};
+			Runtime.getRuntime().addShutdownHook(shutdownHook);
+		}
+	}
+
+	/**
+	 * Stop reporting, and make a final report, with the status file, if any, marked finished.
+	 */
+	public void stop() {
+		end(FINISHED);
+	}
+
+	/**
+	 * Stop reporting on a run that ended abnormally, and make a final report, with the status 
+	 * file, if any, marked failed.  Does nothing if reporting has already ended.
+	 */
+	public void fail() {
+		end(FAILED);
+	}
+
+	/**
+	 * Stop reporting and make the final report, once.
+	 *
+	 * @param state the final state of the run.
+	 */
+	private synchronized void end(String state) {
+		if (!ended) {
+			ended = true;
+			if (timer!=null) {
+				timer.cancel();
+				timer = null;
+			}
+			if (shutdownHook!=null && Thread.currentThread()!=shutdownHook) {
+				try {
+					Runtime.getRuntime().removeShutdownHook(shutdownHook);
+				} catch (IllegalStateException e) {
+					// the JVM is already shutting down
+				}
+			}
+			shutdownHook = null;
+			report(state);
+		}
+	}
+
+	/**
+	 * Estimate the seconds remaining.
+	 *
+	 * @param elapsedSeconds seconds since the reporter was created.
+	 * @param recordCount records processed.
+	 * @param byteCount bytes consumed.
+	 * @return estimated seconds remaining, or -1 if no estimate can be made.
+	 */
+	public long estimateRemainingSeconds(double elapsedSeconds, long recordCount, long byteCount) {
+		long result = -1l;
+		if (totalBytes>0l && byteCount>0l) {
+			result = (long)Math.ceil(elapsedSeconds * (totalBytes - Math.min(byteCount, totalBytes)) / byteCount);
+		}
+		if (limit>0l && recordCount>0l) {
+			long byLimit = (long)Math.ceil(elapsedSeconds * (limit - Math.min(recordCount, limit)) / recordCount);
+			if (result<0l || byLimit<result) {
+				result = byLimit;
+			}
+		}
+		return result;
+	}
+
+	private static String formatSeconds(long seconds) {
+		return String.format(Locale.ROOT, "%d:%02d:%02d", seconds / 3600l, (seconds / 60l) % 60l, seconds % 60l);
+	}
+
+	/**
+	 * Report progress now, to the PrintStream and the status file.
+	 *
+	 * @param state running, or the final state of the run, finished or failed.
+	 */
+	synchronized void report(String state) {
+		boolean finished = FINISHED.equals(state);
+		boolean running = RUNNING.equals(state);
+		long now = System.nanoTime();
+		long recordCount = records.get();
+		long byteCount = bytes.get();
+		double elapsed = (now - started) / 1000000000d;
+		double interval = (now - lastNanos) / 1000000000d;
+		double average = elapsed > 0d ? recordCount / elapsed : 0d;
+		double current = interval > 0d ? (recordCount - lastRecords) / interval : 0d;
+		lastNanos = now;
+		lastRecords = recordCount;
+		long remaining = -1l;
+		if (finished) {
+			remaining = 0l;
+		} else if (running) {
+			remaining = estimateRemainingSeconds(elapsed, recordCount, byteCount);
+		}
+		Runtime runtime = Runtime.getRuntime();
+		long heapUsed = runtime.totalMemory() - runtime.freeMemory();
+
+		if (out!=null) {
+			StringBuilder line = new StringBuilder();
+			if (running) {
+				line.append("Progress: ");
+			} else if (finished) {
+				line.append("Finished: ");
+			} else {
+				line.append("Failed: ");
+			}
+			line.append(recordCount).append(" records, ");
+			line.append(String.format(Locale.ROOT, "%.1f", byteCount / 1048576d));
+			if (totalBytes>0l) {
+				line.append(String.format(Locale.ROOT, " of %.1f MB (%.1f%%)", totalBytes / 1048576d, 100d * byteCount / totalBytes));
+			} else {
+				line.append(" MB");
+			}
+			line.append(String.format(Locale.ROOT, ", %.0f records/s current, %.0f records/s average", current, average));
+			line.append(", elapsed ").append(formatSeconds((long)elapsed));
+			if (running) {
+				line.append(", ETA ");
+				if (remaining<0l) {
+					line.append("unknown");
+				} else {
+					line.append(formatSeconds(remaining)).append(" (").append(Instant.now().plusSeconds(remaining).truncatedTo(ChronoUnit.SECONDS)).append(")");
+				}
+			}
+			line.append(String.format(Locale.ROOT, ", heap %.0f MB", heapUsed / 1048576d));
+			out.println(line.toString());
+			out.flush();
+		}
+
+		if (statusFile!=null) {
+			try {
+				writeStatusFile(state, recordCount, byteCount, elapsed, current, average, remaining, heapUsed);
+			} catch (IOException e) {
+				logger.error("Unable to write status file " + statusFile.getPath() + ": " + e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Replace the status file, writing a temporary file beside it and moving that into place,
+	 * so that a reader never sees a partly written status, nor one left incomplete by an error
+	 * in writing, which leaves the previous status in place.
+	 */
+	private void writeStatusFile(String state, long recordCount, long byteCount, double elapsed, double current,
+			double average, long remaining, long heapUsed) throws IOException {
+		File directory = statusFile.getAbsoluteFile().getParentFile();
+		File temporary = new File(directory, statusFile.getName() + ".tmp");
+		PrintWriter writer = new PrintWriter(new OutputStreamWriter(new FileOutputStream(temporary), StandardCharsets.UTF_8));
+		boolean failed = false;
+		try {
+			writer.println("state=" + state);
+			writer.println("time=" + Instant.now());
+			writer.println("startTime=" + startTime);
+			writer.println("elapsedSeconds=" + (long)elapsed);
+			writer.println("records=" + recordCount);
+			writer.println("bytes=" + byteCount);
+			writer.println("totalBytes=" + totalBytes);
+			writer.println(String.format(Locale.ROOT, "currentRecordsPerSecond=%.1f", current));
+			writer.println(String.format(Locale.ROOT, "averageRecordsPerSecond=%.1f", average));
+			writer.println("etaSeconds=" + remaining);
+			writer.println("heapUsedBytes=" + heapUsed);
+			// PrintWriter does not throw, flush and check for an error in writing
+			failed = writer.checkError();
+		} finally {
+			writer.close();
+		}
+		if (failed) {
+			temporary.delete();
+			throw new IOException("Error writing " + temporary.getPath());
+		}
+		try {
+			Files.move(temporary.toPath(), statusFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(temporary.toPath(), statusFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+	}
+
+}
@@ -0,0 +1,137 @@
+/**
+ * RecordParseMemo.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.filteredpush.qc.date.LocalDateInterval;
+
+/**
+ * Memo of the results of DateUtils.eventDateValid() and DateUtils.extractInterval(),
+ * and of the EventDatePrecision of each value, for the values in a single record, so that the tests run on a record share one
+ * parse of each value.
+ *
+ * A memo is opened for the current thread with open() and must be closed with close()
+ * when the record is complete, typically in a finally block.  While a memo is open on
+ * a thread, DateUtils consults it before parsing.  The memo holds only the values of
+ * the one record, so that it does not grow over a run.  Lookups are counted as cache hits
+ * and misses in the EventDateQCMetrics.
+ *
+ * @author mole
+ *
+ */
+public final class RecordParseMemo {
+
+	private static final ThreadLocal<RecordParseMemo> CURRENT = new ThreadLocal<RecordParseMemo>();
+
+	private final Map<String,Boolean> valid = new HashMap<String,Boolean>(8);
+	private final Map<String,LocalDateInterval> intervals = new HashMap<String,LocalDateInterval>(8);
+	private final Map<String,EventDatePrecision> precisions = new HashMap<String,EventDatePrecision>(8);
+
+	private RecordParseMemo() {
+	}
+
+	/**
+	 * Open a memo for the current thread, if one is not already open.
+	 *
+	 * @return true if a memo was opened by this call, in which case the caller
+	 *   must call close(), false if a memo was already open.
+	 */
+	public static boolean open() {
+		boolean result = false;
+		if (CURRENT.get()==null) {
+			CURRENT.set(new RecordParseMemo());
+			result = true;
+		}
+		return result;
+	}
+
+	/**
+	 * Close and discard the memo for the current thread.
+	 */
+	public static void close() {
+		CURRENT.remove();
+	}
+
+	/**
+	 * @return the memo open on the current thread, or null if none is open.
+	 */
+	static RecordParseMemo current() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * @param eventDate the value tested
+	 * @return the remembered result of eventDateValid for eventDate, or null if not known.
+	 */
+	Boolean getValid(String eventDate) {
+		Boolean result = valid.get(eventDate);
+		EventDateQCMetrics.countLookup(EventDateQCMetrics.Cache.EVENTDATE_VALID, result!=null);
+		return result;
+	}
+
+	void putValid(String eventDate, boolean isValid) {
+		valid.put(eventDate, isValid);
+	}
+
+	/**
+	 * @param eventDate the value parsed
+	 * @return true if a result of extractInterval, possibly null, is remembered for eventDate.
+	 */
+	boolean hasInterval(String eventDate) {
+		boolean result = intervals.containsKey(eventDate);
+		EventDateQCMetrics.countLookup(EventDateQCMetrics.Cache.INTERVAL, result);
+		return result;
+	}
+
+	/**
+	 * @param eventDate the value parsed
+	 * @return the remembered result of extractInterval for eventDate, check with hasInterval first.
+	 */
+	LocalDateInterval getInterval(String eventDate) {
+		return intervals.get(eventDate);
+	}
+
+	void putInterval(String eventDate, LocalDateInterval interval) {
+		intervals.put(eventDate, interval);
+	}
+
+	/**
+	 * @param eventDate the value classified
+	 * @return true if a result of EventDatePrecision.of(), possibly null, is remembered for eventDate.
+	 */
+	boolean hasPrecision(String eventDate) {
+		boolean result = precisions.containsKey(eventDate);
+		EventDateQCMetrics.countLookup(EventDateQCMetrics.Cache.PRECISION, result);
+		return result;
+	}
+
+	/**
+	 * @param eventDate the value classified
+	 * @return the remembered result of EventDatePrecision.of() for eventDate, check with hasPrecision first.
+	 */
+	EventDatePrecision getPrecision(String eventDate) {
+		return precisions.get(eventDate);
+	}
+
+	void putPrecision(String eventDate, EventDatePrecision precision) {
+		precisions.put(eventDate, precision);
+	}
+
+}
@@ -0,0 +1,297 @@
+/**
+ * ScannedDateTime.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date.util;
+
+import java.time.LocalDateTime;
+
+/**
+ * An ISO date with a time of day, as recognized in a single scan of a string by
+ * scan(), without the use of java.time formatters.
+ *
+ * Recognizes a date in the form yyyy-mm-dd followed by T and a time in the form
+ * hh, hh:mm, hh:mm:ss, or hh:mm:ss.s (one to nine digits of fractional seconds),
+ * optionally followed by a time zone designator, one of Z, UTC, +hh, +hhmm, or
+ * +hh:mm (or the same with -).  The date must be a valid date in the proleptic
+ * ISO calendar and the time a valid time of day (hours 00 to 23, no leap seconds).
+ * Other forms, including date ranges, are not recognized, and callers are expected
+ * to fall back on java.time parsing for them.
+ *
+ * @author mole
+ *
+ */
+public final class ScannedDateTime {
+
+	/** Precision of a time given only as hours. */
+	public static final int PRECISION_HOUR = 1;
+	/** Precision of a time given as hours and minutes. */
+	public static final int PRECISION_MINUTE = 2;
+	/** Precision of a time given as hours, minutes, and seconds, possibly with fractional seconds. */
+	public static final int PRECISION_SECOND = 3;
+
+	/** No time zone designator. */
+	public static final int ZONE_NONE = 0;
+	/** Time zone designator Z. */
+	public static final int ZONE_Z = 1;
+	/** Time zone designator UTC. */
+	public static final int ZONE_UTC = 2;
+	/** Time zone offset in the form +hh. */
+	public static final int ZONE_OFFSET_HOURS = 3;
+	/** Time zone offset in the form +hhmm. */
+	public static final int ZONE_OFFSET_BASIC = 4;
+	/** Time zone offset in the form +hh:mm. */
+	public static final int ZONE_OFFSET_EXTENDED = 5;
+
+	private final int year;
+	private final int month;
+	private final int day;
+	private final int hour;
+	private final int minute;
+	private final int second;
+	private final int nano;
+	private final int fractionDigits;
+	private final int precision;
+	private final int zoneStyle;
+	private final int offsetSeconds;
+
+	private ScannedDateTime(int year, int month, int day, int hour, int minute, int second, int nano,
+			int fractionDigits, int precision, int zoneStyle, int offsetSeconds) {
+		this.year = year;
+		this.month = month;
+		this.day = day;
+		this.hour = hour;
+		this.minute = minute;
+		this.second = second;
+		this.nano = nano;
+		this.fractionDigits = fractionDigits;
+		this.precision = precision;
+		this.zoneStyle = zoneStyle;
+		this.offsetSeconds = offsetSeconds;
+	}
+
+	/**
+	 * Scan a string for an ISO date with a time of day.
+	 *
+	 * @param value the string to scan
+	 * @return a ScannedDateTime if the whole of value is a recognized date and time,
+	 *   otherwise null.
+	 */
+	public static ScannedDateTime scan(String value) {
+		ScannedDateTime result = null;
+		if (value!=null && value.length()>=13
+				&& isDigits(value,0,4) && value.charAt(4)=='-'
+				&& isDigits(value,5,2) && value.charAt(7)=='-'
+				&& isDigits(value,8,2) && value.charAt(10)=='T' && isDigits(value,11,2))
+		{
+			int length = value.length();
+			int year = digitsValue(value,0,4);
+			int month = digitsValue(value,5,2);
+			int day = digitsValue(value,8,2);
+			int hour = digitsValue(value,11,2);
+			int minute = 0;
+			int second = 0;
+			int nano = 0;
+			int fractionDigits = 0;
+			int precision = PRECISION_HOUR;
+			boolean valid = month>=1 && month<=12 && day>=1 && day<=DateUtils.daysInMonth(year, month) && hour<=23;
+			int position = 13;
+			if (valid && position<length && value.charAt(position)==':') {
+				valid = isDigits(value,position+1,2);
+				if (valid) {
+					minute = digitsValue(value,position+1,2);
+					precision = PRECISION_MINUTE;
+					position = position + 3;
+					valid = minute<=59;
+				}
+				if (valid && position<length && value.charAt(position)==':') {
+					valid = isDigits(value,position+1,2);
+					if (valid) {
+						second = digitsValue(value,position+1,2);
+						precision = PRECISION_SECOND;
+						position = position + 3;
+						valid = second<=59;
+					}
+					if (valid && position<length && value.charAt(position)=='.') {
+						position++;
+						while (position<length && fractionDigits<10 && isDigits(value,position,1)) {
+							if (fractionDigits<9) {
+								nano = nano*10 + (value.charAt(position)-'0');
+							}
+							fractionDigits++;
+							position++;
+						}
+						valid = fractionDigits>=1 && fractionDigits<=9;
+						for (int i=fractionDigits; valid && i<9; i++) {
+							nano = nano*10;
+						}
+					}
+				}
+			}
+			int zoneStyle = ZONE_NONE;
+			int offsetSeconds = 0;
+			if (valid && position<length) {
+				char c = value.charAt(position);
+				int remaining = length - position;
+				if (c=='Z' && remaining==1) {
+					zoneStyle = ZONE_Z;
+				} else if (c=='U' && remaining==3 && value.endsWith("UTC")) {
+					zoneStyle = ZONE_UTC;
+				} else if ((c=='+' || c=='-') && isDigits(value,position+1,2)) {
+					int offsetHours = digitsValue(value,position+1,2);
+					int offsetMinutes = 0;
+					if (remaining==3) {
+						zoneStyle = ZONE_OFFSET_HOURS;
+					} else if (remaining==5 && isDigits(value,position+3,2)) {
+						zoneStyle = ZONE_OFFSET_BASIC;
+						offsetMinutes = digitsValue(value,position+3,2);
+					} else if (remaining==6 && value.charAt(position+3)==':' && isDigits(value,position+4,2)) {
+						zoneStyle = ZONE_OFFSET_EXTENDED;
+						offsetMinutes = digitsValue(value,position+4,2);
+					} else {
+						valid = false;
+					}
+					valid = valid && offsetMinutes<=59 && (offsetHours<18 || (offsetHours==18 && offsetMinutes==0));
+					offsetSeconds = (offsetHours*3600 + offsetMinutes*60) * (c=='-' ? -1 : 1);
+				} else {
+					valid = false;
+				}
+			}
+			if (valid) {
+				result = new ScannedDateTime(year, month, day, hour, minute, second, nano,
+						fractionDigits, precision, zoneStyle, offsetSeconds);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return the date and time as written, ignoring any time zone designator.
+	 */
+	public LocalDateTime toLocalDateTime() {
+		return LocalDateTime.of(year, month, day, hour, minute, second, nano);
+	}
+
+	/**
+	 * Obtain the time of day in UTC, in the form hh:mm:ss.sssZ, adjusting for any
+	 * time zone offset, with fractional seconds truncated to milliseconds.  A time
+	 * with no time zone designator is treated as already being in UTC.
+	 *
+	 * @return the time of day in UTC.
+	 */
+	public String toZuluTime() {
+		int secondOfDay = Math.floorMod(hour*3600 + minute*60 + second - offsetSeconds, 86400);
+		int millis = nano / 1000000;
+		StringBuilder time = new StringBuilder(13);
+		appendTwoDigits(time, secondOfDay / 3600).append(':');
+		appendTwoDigits(time, (secondOfDay / 60) % 60).append(':');
+		appendTwoDigits(time, secondOfDay % 60).append('.');
+		time.append((char)('0' + millis/100)).append((char)('0' + (millis/10)%10)).append((char)('0' + millis%10));
+		time.append('Z');
+		return time.toString();
+	}
+
+	/**
+	 * @return the hour of the day, 0 to 23.
+	 */
+	public int getHour() {
+		return hour;
+	}
+
+	/**
+	 * @return the precision of the time, one of PRECISION_HOUR, PRECISION_MINUTE, or PRECISION_SECOND.
+	 */
+	public int getPrecision() {
+		return precision;
+	}
+
+	/**
+	 * @return the number of digits of fractional seconds, 0 if none were given.
+	 */
+	public int getFractionDigits() {
+		return fractionDigits;
+	}
+
+	/**
+	 * @return the form of time zone designator, one of the ZONE_ constants.
+	 */
+	public int getZoneStyle() {
+		return zoneStyle;
+	}
+
+	/**
+	 * @return true if a time zone designator was present.
+	 */
+	public boolean hasZone() {
+		return zoneStyle != ZONE_NONE;
+	}
+
+	/**
+	 * @return the offset from UTC in seconds, 0 if no time zone designator was present.
+	 */
+	public int getOffsetSeconds() {
+		return offsetSeconds;
+	}
+
+	/**
+	 * Test if a string has a T (or t) separating a date from a time at the position 
+	 * expected for a date in the form yyyy-mm-dd, without any other check of its form.
+	 *
+	 * @param value the string to test
+	 * @return true if value may contain a date with a time.
+	 */
+	static boolean hasTimeSeparator(String value) {
+		return value.length()>11 && (value.charAt(10)=='T' || value.charAt(10)=='t');
+	}
+
+	private static StringBuilder appendTwoDigits(StringBuilder builder, int value) {
+		return builder.append((char)('0' + value/10)).append((char)('0' + value%10));
+	}
+
+	/**
+	 * Check that a run of characters in a string are all ASCII digits.
+	 *
+	 * @param value the string to examine
+	 * @param start position of the first character to check
+	 * @param count number of characters to check
+	 * @return true if value has count ASCII digits starting at start.
+	 */
+	static boolean isDigits(String value, int start, int count) {
+		boolean result = start+count <= value.length();
+		for (int i=start; result && i<start+count; i++) {
+			char c = value.charAt(i);
+			result = c>='0' && c<='9';
+		}
+		return result;
+	}
+
+	/**
+	 * Obtain the integer value of a run of ASCII digits, check with isDigits first.
+	 *
+	 * @param value the string containing the digits
+	 * @param start position of the first digit
+	 * @param count number of digits
+	 * @return the value of the digits
+	 */
+	static int digitsValue(String value, int start, int count) {
+		int result = 0;
+		for (int i=start; i<start+count; i++) {
+			result = result*10 + (value.charAt(i)-'0');
+		}
+		return result;
+	}
+
+}
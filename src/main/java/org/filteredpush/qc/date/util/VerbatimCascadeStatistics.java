@@ -0,0 +1,339 @@
+/**
+ * VerbatimCascadeStatistics.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date.util;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.filteredpush.qc.date.EventResult;
+
+/**
+ * Optional statistics on the handler blocks of DateUtils.extractDateFromVerbatimER() and on
+ * the formatters they parse with, counting for each named handler and each formatter the
+ * attempts, the hits, and the cumulative nanoseconds spent in attempts.
+ *
+ * A handler is attempted when it is reached with no date yet extracted, and hits when it
+ * extracts a date.  A formatter is attempted each time a handler parses with it, and hits when
+ * the parse succeeds, formatters are identified by their description, as handlers construct
+ * new formatters on each call.  Time in a handler includes time in its formatters and in any
+ * recursive interpretation of part of the verbatim date.
+ *
+ * Disabled by default, when disabled the cost to the cascade is a read of a volatile flag per
+ * call and per parse.  Enable with setEnabled(true) or the system property
+ * event_date_qc.verbatimStatistics=true.  Counts are shared by all threads.
+ *
+ * @author mole
+ *
+ */
+public final class VerbatimCascadeStatistics {
+
+	/** System property which, if true, enables the statistics at startup. */
+	public static final String ENABLED_PROPERTY = "event_date_qc.verbatimStatistics";
+
+	private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+	private static final ConcurrentHashMap<String,Counter> handlers = new ConcurrentHashMap<String,Counter>();
+	private static final ConcurrentHashMap<String,Counter> formatters = new ConcurrentHashMap<String,Counter>();
+
+	private VerbatimCascadeStatistics() {
+	}
+
+	/**
+	 * Accumulating counts for one handler or formatter.
+	 */
+	private static final class Counter {
+		private final LongAdder attempts = new LongAdder();
+		private final LongAdder hits = new LongAdder();
+		private final LongAdder nanos = new LongAdder();
+
+		private void record(boolean hit, long elapsed) {
+			attempts.increment();
+			if (hit) {
+				hits.increment();
+			}
+			nanos.add(elapsed);
+		}
+	}
+
+	/**
+	 * Counts for one handler or formatter at the time of a snapshot.
+	 */
+	public static final class Counts {
+		private final String name;
+		private final long attempts;
+		private final long hits;
+		private final long nanos;
+
+		private Counts(String name, long attempts, long hits, long nanos) {
+			this.name = name;
+			this.attempts = attempts;
+			this.hits = hits;
+			this.nanos = nanos;
+		}
+
+		/**
+		 * @return the name of the handler or the description of the formatter.
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return the number of times the handler or formatter was attempted.
+		 */
+		public long getAttempts() {
+			return attempts;
+		}
+
+		/**
+		 * @return the number of attempts that extracted a date.
+		 */
+		public long getHits() {
+			return hits;
+		}
+
+		/**
+		 * @return the number of attempts that did not extract a date.
+		 */
+		public long getMisses() {
+			return attempts - hits;
+		}
+
+		/**
+		 * @return cumulative nanoseconds spent in attempts.
+		 */
+		public long getNanos() {
+			return nanos;
+		}
+
+		@Override
+		public String toString() {
+			return name + "\tattempts=" + attempts + "\thits=" + hits + "\tms=" + (nanos / 1000000l);
+		}
+	}
+
+	/**
+	 * Tracks the handler being run within one call of the cascade, attributing the time from
+	 * one mark to the next to the handler opened at the first, and the handler which extracted
+	 * a date, for the FlightRecorderEvents verbatim event.
+	 */
+	static final class Probe {
+		private final EventResult result;
+		private final String input;
+		private final boolean counting;
+		private final Object event;
+		private String handler;
+		private boolean attempted;
+		private long started;
+		private String matched;
+
+		private Probe(EventResult result, String input, boolean counting) {
+			this.result = result;
+			this.input = input;
+			this.counting = counting;
+			this.event = FlightRecorderEvents.beginVerbatim();
+		}
+
+		/**
+		 * Close the current handler, if any, and open the next.
+		 *
+		 * @param name the name of the handler about to run.
+		 */
+		void handler(String name) {
+			end();
+			handler = name;
+			attempted = isNotRun();
+			started = System.nanoTime();
+		}
+
+		/**
+		 * Close the current handler, if any.
+		 */
+		void end() {
+			if (handler!=null) {
+				long elapsed = System.nanoTime() - started;
+				if (attempted) {
+					boolean hit = !isNotRun();
+					if (hit) {
+						matched = handler;
+					}
+					if (counting) {
+						counter(handlers, handler).record(hit, elapsed);
+					}
+				}
+				handler = null;
+			}
+		}
+
+		/**
+		 * Close the current handler, if any, and record the call of the cascade as a
+		 * FlightRecorderEvents verbatim event if those are being recorded.
+		 *
+		 * @param returned the result returned by the cascade.
+		 */
+		void finish(EventResult returned) {
+			end();
+			if (event!=null) {
+				String outcome = "null";
+				if (returned!=null && returned.getResultState()!=null) {
+					outcome = returned.getResultState().name();
+				}
+				FlightRecorderEvents.endVerbatim(event, matched, input, outcome);
+			}
+		}
+
+		private boolean isNotRun() {
+			return result.getResultState()==null || result.getResultState().equals(EventResult.EventQCResultState.NOT_RUN);
+		}
+	}
+
+	/**
+	 * Obtain a probe for one call of the cascade.
+	 *
+	 * @param result the result the cascade sets when a handler extracts a date.
+	 * @param input the verbatim date being interpreted.
+	 * @return a probe, or null if statistics are disabled and FlightRecorderEvents verbatim
+	 *   events are not being recorded.
+	 */
+	static Probe probe(EventResult result, String input) {
+		Probe probe = null;
+		if (enabled || FlightRecorderEvents.isVerbatimEnabled()) {
+			probe = new Probe(result, input, enabled);
+		}
+		return probe;
+	}
+
+	/**
+	 * Parse a date, counting the attempt against the formatter when statistics are enabled.
+	 *
+	 * @param text the text to parse.
+	 * @param formatter the formatter to parse with.
+	 * @return as LocalDate.parse(text, formatter)
+	 * @throws java.time.format.DateTimeParseException as LocalDate.parse(text, formatter)
+	 */
+	static LocalDate parse(CharSequence text, DateTimeFormatter formatter) {
+		LocalDate result;
+		if (enabled) {
+			boolean hit = false;
+			long started = System.nanoTime();
+			try {
+				result = LocalDate.parse(text, formatter);
+				hit = true;
+			} finally {
+				long elapsed = System.nanoTime() - started;
+				counter(formatters, formatter.toString()).record(hit, elapsed);
+			}
+		} else {
+			result = LocalDate.parse(text, formatter);
+		}
+		return result;
+	}
+
+	private static Counter counter(ConcurrentHashMap<String,Counter> counters, String name) {
+		Counter result = counters.get(name);
+		if (result==null) {
+			Counter added = new Counter();
+			result = counters.putIfAbsent(name, added);
+			if (result==null) {
+				result = added;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * @return true if statistics are being collected.
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Start or stop collecting statistics, counts collected so far are retained.
+	 *
+	 * @param enable true to collect statistics.
+	 */
+	public static void setEnabled(boolean enable) {
+		enabled = enable;
+	}
+
+	/**
+	 * Discard all counts collected so far.
+	 */
+	public static void reset() {
+		handlers.clear();
+		formatters.clear();
+	}
+
+	/**
+	 * @return the counts for each handler that has been attempted, most time first.
+	 */
+	public static List<Counts> snapshotHandlers() {
+		return snapshot(handlers);
+	}
+
+	/**
+	 * @return the counts for each formatter that has been attempted, most time first.
+	 */
+	public static List<Counts> snapshotFormatters() {
+		return snapshot(formatters);
+	}
+
+	private static List<Counts> snapshot(ConcurrentHashMap<String,Counter> counters) {
+		List<Counts> result = new ArrayList<Counts>();
+		for (Map.Entry<String,Counter> entry : counters.entrySet()) {
+			Counter counter = entry.getValue();
+			result.add(new Counts(entry.getKey(), counter.attempts.sum(), counter.hits.sum(), counter.nanos.sum()));
+		}
+		Collections.sort(result, new Comparator<Counts>() {
+			@Override
+			public int compare(Counts a, Counts b) {
+				int order = Long.compare(b.nanos, a.nanos);
+				if (order==0) {
+					order = a.name.compareTo(b.name);
+				}
+				return order;
+			}
+		});
+		return Collections.unmodifiableList(result);
+	}
+
+	/**
+	 * @return a multi-line report of the handler and then the formatter counts, most time first.
+	 */
+	public static String report() {
+		StringBuilder result = new StringBuilder();
+		result.append("Verbatim date handlers:\n");
+		for (Counts counts : snapshotHandlers()) {
+			result.append(counts.toString()).append("\n");
+		}
+		result.append("Verbatim date formatters:\n");
+		for (Counts counts : snapshotFormatters()) {
+			result.append(counts.toString()).append("\n");
+		}
+		return result.toString();
+	}
+
+}
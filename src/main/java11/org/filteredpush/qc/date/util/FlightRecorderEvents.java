@@ -0,0 +1,251 @@
+/**
+ * FlightRecorderEvents.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date.util;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Java Flight Recorder events for slow verbatim date interpretations, ISO interval parses,
+ * and test invocations.
+ *
+ * This is the Java 11 implementation, in META-INF/versions/11 of the multi-release jar, the
+ * Java 8 implementation in src/main/java has the same methods and records nothing.  The events
+ * are org.filteredpush.qc.date.VerbatimInterpretation, org.filteredpush.qc.date.IntervalParse
+ * and org.filteredpush.qc.date.TestInvocation, enabled by default in any recording.  Each
+ * carries a label, the input length and the outcome, with the duration of the work as the
+ * duration of the event.
+ *
+ * Callers begin an event before the work and end it, with the values of its fields, after
+ * the work, so the event is timed by Flight Recorder itself.  An event is begun only while a
+ * recording has it enabled, otherwise begin returns null and end does nothing.  Events shorter
+ * than their threshold, DEFAULT_THRESHOLD unless changed by the threshold setting of the event
+ * in the recording's settings, are not committed, so that only slow events are recorded.
+ *
+ * @author mole
+ *
+ */
+public final class FlightRecorderEvents {
+
+	/** Threshold of each kind of event, unless changed in the settings of a recording. */
+	public static final String DEFAULT_THRESHOLD = "1 ms";
+
+	/** Longest input recorded in an event, longer inputs are truncated. */
+	private static final int MAX_INPUT = 256;
+
+	@Name("org.filteredpush.qc.date.VerbatimInterpretation")
+	@Label("Verbatim Date Interpretation")
+	@Description("A slow interpretation of a verbatim date by DateUtils.extractDateFromVerbatimER()")
+	@Category("event_date_qc")
+	@StackTrace(false)
+	@Threshold(DEFAULT_THRESHOLD)
+	static final class VerbatimEvent extends Event {
+		@Label("Handler")
+		@Description("Handler which matched the verbatim date, none if no handler matched")
+		String label;
+		@Label("Input")
+		String input;
+		@Label("Input Length")
+		int inputLength;
+		@Label("Outcome")
+		String outcome;
+	}
+
+	@Name("org.filteredpush.qc.date.IntervalParse")
+	@Label("ISO Interval Parse")
+	@Description("A slow parse of an ISO date or interval by DateUtils.extractInterval()")
+	@Category("event_date_qc")
+	@StackTrace(false)
+	@Threshold(DEFAULT_THRESHOLD)
+	static final class IntervalEvent extends Event {
+		@Label("Label")
+		String label;
+		@Label("Input")
+		String input;
+		@Label("Input Length")
+		int inputLength;
+		@Label("Outcome")
+		String outcome;
+	}
+
+	@Name("org.filteredpush.qc.date.TestInvocation")
+	@Label("Test Invocation")
+	@Description("A slow invocation of a data quality test")
+	@Category("event_date_qc")
+	@StackTrace(false)
+	@Threshold(DEFAULT_THRESHOLD)
+	static final class TestEvent extends Event {
+		@Label("Test")
+		String label;
+		@Label("Input Length")
+		int inputLength;
+		@Label("Outcome")
+		String outcome;
+	}
+
+	private static final EventType VERBATIM = EventType.getEventType(VerbatimEvent.class);
+	private static final EventType INTERVAL = EventType.getEventType(IntervalEvent.class);
+	private static final EventType TEST = EventType.getEventType(TestEvent.class);
+
+	private FlightRecorderEvents() {
+	}
+
+	private static String truncate(String input) {
+		String result = input;
+		if (input!=null && input.length()>MAX_INPUT) {
+			result = input.substring(0, MAX_INPUT);
+		}
+		return result;
+	}
+
+	/**
+	 * @return true if verbatim interpretation events are being recorded.
+	 */
+	public static boolean isVerbatimEnabled() {
+		return VERBATIM.isEnabled();
+	}
+
+	/**
+	 * Begin timing the interpretation of a verbatim date.
+	 *
+	 * @return the event to pass to endVerbatim(), or null if the event is not being recorded.
+	 */
+	public static Object beginVerbatim() {
+		VerbatimEvent result = null;
+		if (VERBATIM.isEnabled()) {
+			result = new VerbatimEvent();
+			result.begin();
+		}
+		return result;
+	}
+
+	/**
+	 * End the interpretation of a verbatim date, committing the event if it took at least
+	 * its threshold.
+	 *
+	 * @param begun the event returned by beginVerbatim(), may be null.
+	 * @param handler the handler in DateUtils.extractDateFromVerbatimER() which matched, or null.
+	 * @param input the verbatim date.
+	 * @param outcome the result state of the interpretation.
+	 */
+	public static void endVerbatim(Object begun, String handler, String input, String outcome) {
+		if (begun!=null) {
+			VerbatimEvent event = (VerbatimEvent) begun;
+			event.end();
+			if (event.shouldCommit()) {
+				event.label = handler==null ? "none" : handler;
+				event.input = truncate(input);
+				event.inputLength = input==null ? 0 : input.length();
+				event.outcome = outcome;
+				event.commit();
+			}
+		}
+	}
+
+	/**
+	 * @return true if interval parse events are being recorded.
+	 */
+	public static boolean isIntervalEnabled() {
+		return INTERVAL.isEnabled();
+	}
+
+	/**
+	 * Begin timing the parse of an ISO date or interval.
+	 *
+	 * @return the event to pass to endInterval(), or null if the event is not being recorded.
+	 */
+	public static Object beginInterval() {
+		IntervalEvent result = null;
+		if (INTERVAL.isEnabled()) {
+			result = new IntervalEvent();
+			result.begin();
+		}
+		return result;
+	}
+
+	/**
+	 * End the parse of an ISO date or interval, committing the event if it took at least
+	 * its threshold.
+	 *
+	 * @param begun the event returned by beginInterval(), may be null.
+	 * @param input the value parsed.
+	 * @param outcome the outcome of the parse.
+	 */
+	public static void endInterval(Object begun, String input, String outcome) {
+		if (begun!=null) {
+			IntervalEvent event = (IntervalEvent) begun;
+			event.end();
+			if (event.shouldCommit()) {
+				event.label = "extractInterval";
+				event.input = truncate(input);
+				event.inputLength = input==null ? 0 : input.length();
+				event.outcome = outcome;
+				event.commit();
+			}
+		}
+	}
+
+	/**
+	 * @return true if test invocation events are being recorded.
+	 */
+	public static boolean isTestEnabled() {
+		return TEST.isEnabled();
+	}
+
+	/**
+	 * Begin timing the invocation of a test.
+	 *
+	 * @return the event to pass to endTest(), or null if the event is not being recorded.
+	 */
+	public static Object beginTest() {
+		TestEvent result = null;
+		if (TEST.isEnabled()) {
+			result = new TestEvent();
+			result.begin();
+		}
+		return result;
+	}
+
+	/**
+	 * End the invocation of a test, committing the event if it took at least its threshold.
+	 *
+	 * @param begun the event returned by beginTest(), may be null.
+	 * @param test the name of the test.
+	 * @param inputLength the total length of the values given to the test.
+	 * @param outcome the result state of the response.
+	 */
+	public static void endTest(Object begun, String test, int inputLength, String outcome) {
+		if (begun!=null) {
+			TestEvent event = (TestEvent) begun;
+			event.end();
+			if (event.shouldCommit()) {
+				event.label = test;
+				event.inputLength = inputLength;
+				event.outcome = outcome;
+				event.commit();
+			}
+		}
+	}
+
+}
@@ -12,7 +12,25 @@ import org.junit.runners.Suite.SuiteClasses;
 	DwCEventDQTestDefinitions.class,
 	DwCOtherDateDQTest.class,
 	DwCOtherDateDQTestDefinitions.class,
-	LocalDateIntervalTest.class
+	LocalDateIntervalTest.class,
+	PackedDateIntervalTest.class,
+	ScannedDateTimeTest.class,
+	InRangeValidatorTest.class,
+	TemplatedDQResponseTest.class,
+	TemporalSuiteTest.class,
+	AmendmentSchedulerTest.class,
+	ResultCodeTest.class,
+	MonthDictionaryTest.class,
+	EventDateBoundsTest.class,
+	EventDatePrecisionTest.class,
+	VerbatimCascadeStatisticsTest.class,
+	LatencyHistogramTest.class,
+	EventDateQCMetricsTest.class,
+	GoldenCorpusTest.class,
+	ProgressReporterTest.class,
+	RunnerTest.class,
+	DailyBindingTest.class,
+	AllocationBudgetTest.class
 	})
 public class AllTests {
 
@@ -0,0 +1,266 @@
+/**
+ * AllocationBudgetTest.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVRecord;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.filteredpush.qc.date.util.DateUtils;
+import org.junit.Assume;
+import org.junit.Test;
+
+/**
+ * Allocation budget for hot paths, fails if the mean number of bytes allocated per call on
+ * a fixed corpus exceeds the budget for that call in allocation_budget.properties by more
+ * than a margin.
+ *
+ * Allocation depends on the JDK, so the budget file records the java.specification.version
+ * of the JDK on which the budgets were measured, with JUnit running AllTests, and the check
+ * is skipped on JDKs of any other version.  Allocation also differs a little between builds
+ * and vendors of the same version, and with the code compiled before the check runs, which
+ * the margin is to absorb.
+ *
+ * Bytes allocated are measured with com.sun.management.ThreadMXBean.getThreadAllocatedBytes()
+ * on the test thread, after warming up on the same corpus, so that the measurement reflects
+ * compiled code.  The margin is a fraction of the budget, from the system property
+ * allocation.budget.margin, default 0.25.  To print the measured values in the form of the
+ * budget file, for updating it after a change in allocation, set allocation.budget.report=true.
+ * The test passes without checking where the JVM does not support measuring thread allocation.
+ *
+ * @author mole
+ *
+ */
+public class AllocationBudgetTest {
+
+	private static final Log logger = LogFactory.getLog(AllocationBudgetTest.class);
+
+	/** Resource containing the budget, in bytes per call, for each measured call. */
+	public static final String BUDGET_RESOURCE = "/allocation_budget.properties";
+	/** System property identifying the JDK, recorded in the budget file with the budgets. */
+	public static final String JDK_PROPERTY = "java.specification.version";
+	/** System property for the margin over the budget, as a fraction of the budget. */
+	public static final String MARGIN_PROPERTY = "allocation.budget.margin";
+	/** System property which, if true, prints the measured values. */
+	public static final String REPORT_PROPERTY = "allocation.budget.report";
+	public static final double DEFAULT_MARGIN = 0.25d;
+
+	/** Number of leading verbatim dates from example_dates.csv in the verbatim corpus. */
+	private static final int VERBATIM_CORPUS_SIZE = 500;
+	private static final int WARMUP_PASSES = 4;
+	private static final int MEASURED_PASSES = 3;
+
+	private static final String[] EVENT_DATES = { "1880", "1880-05", "1880-05-08", "1880-05-08/1880-05-10",
+			"1880-05-08T10:00", "1880-05-08T10:00:15.5Z", "1880-05-08T10:00-05:00/1880-05-08T11:00-05:00",
+			"1880-129", "1880-129/131", "1880/1881", "1880-05/1880-06", "1880-05-08/10", "2000-02-29",
+			"1999-03-01/2000-02-29", "1880-13", "1880-02-30", "8/5/1880", "", "foo" };
+
+	/**
+	 * A call whose allocation is measured, invoked once for each value of its corpus.
+	 */
+	private interface Call {
+		void invoke(int index);
+	}
+
+	private static com.sun.management.ThreadMXBean threadBean() {
+		com.sun.management.ThreadMXBean result = null;
+		java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+		if (bean instanceof com.sun.management.ThreadMXBean) {
+			result = (com.sun.management.ThreadMXBean) bean;
+			if (!result.isThreadAllocatedMemorySupported()) {
+				result = null;
+			} else if (!result.isThreadAllocatedMemoryEnabled()) {
+				result.setThreadAllocatedMemoryEnabled(true);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Measure the mean bytes allocated per call over a corpus.
+	 *
+	 * @param bean the bean from which to read the bytes allocated by the current thread.
+	 * @param size the number of values in the corpus.
+	 * @param call the call to measure.
+	 * @return mean bytes allocated per call.
+	 */
+	private static long bytesPerCall(com.sun.management.ThreadMXBean bean, int size, Call call) {
+		for (int pass=0; pass<WARMUP_PASSES; pass++) {
+			for (int i=0; i<size; i++) {
+				call.invoke(i);
+			}
+		}
+		long threadId = Thread.currentThread().getId();
+		long start = bean.getThreadAllocatedBytes(threadId);
+		for (int pass=0; pass<MEASURED_PASSES; pass++) {
+			for (int i=0; i<size; i++) {
+				call.invoke(i);
+			}
+		}
+		long allocated = bean.getThreadAllocatedBytes(threadId) - start;
+		return allocated / ((long)size * MEASURED_PASSES);
+	}
+
+	private static Reader openResource(String resource) throws IOException {
+		InputStream stream = AllocationBudgetTest.class.getResourceAsStream(resource);
+		if (stream==null) {
+			throw new IOException("Resource " + resource + " not found.");
+		}
+		return new InputStreamReader(stream, StandardCharsets.UTF_8);
+	}
+
+	private static String[] loadVerbatimCorpus() throws IOException {
+		List<String> values = new ArrayList<String>();
+		BufferedReader reader = new BufferedReader(openResource("/example_dates.csv"));
+		try {
+			String line;
+			while (values.size() < VERBATIM_CORPUS_SIZE && (line=reader.readLine())!=null) {
+				if (line.trim().length()>0) {
+					values.add(line.trim());
+				}
+			}
+		} finally {
+			reader.close();
+		}
+		return values.toArray(new String[values.size()]);
+	}
+
+	private static List<CSVRecord> loadRecordCorpus() throws IOException {
+		List<CSVRecord> result;
+		Reader reader = openResource("/date_example_data.csv");
+		try {
+			result = CSVFormat.DEFAULT.withFirstRecordAsHeader().parse(reader).getRecords();
+		} finally {
+			reader.close();
+		}
+		return result;
+	}
+
+	/**
+	 * Test that allocation per call on each corpus is within budget.
+	 *
+	 * @throws IOException if a corpus or the budget can not be read.
+	 */
+	@Test
+	public void testAllocationWithinBudget() throws IOException {
+		final com.sun.management.ThreadMXBean bean = threadBean();
+		if (bean==null) {
+			logger.warn("Thread allocated memory is not supported by this JVM, allocation budget not checked.");
+			return;
+		}
+		double margin = Double.parseDouble(System.getProperty(MARGIN_PROPERTY, Double.toString(DEFAULT_MARGIN)));
+		Properties budget = new Properties();
+		Reader budgetReader = openResource(BUDGET_RESOURCE);
+		try {
+			budget.load(budgetReader);
+		} finally {
+			budgetReader.close();
+		}
+		boolean report = Boolean.parseBoolean(System.getProperty(REPORT_PROPERTY, "false"));
+		if (report) {
+			System.out.println(JDK_PROPERTY + "=" + System.getProperty(JDK_PROPERTY));
+		}
+		String measuredOn = budget.getProperty(JDK_PROPERTY);
+		assertNotNull("No " + JDK_PROPERTY + " for the JDK the budget was measured on in " + BUDGET_RESOURCE, measuredOn);
+		Assume.assumeTrue("Allocation budget measured with Java " + measuredOn.trim()
+				+ ", not checked on Java " + System.getProperty(JDK_PROPERTY) + ".",
+				measuredOn.trim().equals(System.getProperty(JDK_PROPERTY)));
+
+		final String[] verbatim = loadVerbatimCorpus();
+		final List<CSVRecord> records = loadRecordCorpus();
+		final String[] eventDates = new String[EVENT_DATES.length + records.size()];
+		System.arraycopy(EVENT_DATES, 0, eventDates, 0, EVENT_DATES.length);
+		for (int i=0; i<records.size(); i++) {
+			eventDates[EVENT_DATES.length + i] = records.get(i).get("eventDate");
+		}
+
+		Map<String,Long> measured = new TreeMap<String,Long>();
+		measured.put("DateUtils.extractDateFromVerbatimER", bytesPerCall(bean, verbatim.length,
+				i -> DateUtils.extractDateFromVerbatimER(verbatim[i])));
+		measured.put("LocalDateInterval.new", bytesPerCall(bean, eventDates.length, i -> {
+			try {
+				new LocalDateInterval(eventDates[i]);
+			} catch (Exception e) {
+				// allocation on failure is part of the budget
+			}
+		}));
+		measured.put("DateUtils.eventDateValid", bytesPerCall(bean, eventDates.length,
+				i -> DateUtils.eventDateValid(eventDates[i])));
+		measured.put("DwCEventDQ.validationEventdateStandard", bytesPerCall(bean, eventDates.length,
+				i -> DwCEventDQ.validationEventdateStandard(eventDates[i])));
+		measured.put("DwCEventDQ.amendmentEventdateStandardized", bytesPerCall(bean, eventDates.length,
+				i -> DwCEventDQ.amendmentEventdateStandardized(eventDates[i])));
+		measured.put("DwCEventDQ.measureEventdateDurationinseconds", bytesPerCall(bean, eventDates.length,
+				i -> DwCEventDQ.measureEventdateDurationinseconds(eventDates[i])));
+		measured.put("DwCEventDQDefaults.validationEventdateInrange", bytesPerCall(bean, eventDates.length,
+				i -> DwCEventDQDefaults.validationEventdateInrange(eventDates[i])));
+		measured.put("DwCEventDQ.validationEventConsistent", bytesPerCall(bean, records.size(), i -> {
+			CSVRecord r = records.get(i);
+			try {
+				DwCEventDQ.validationEventConsistent(r.get("eventDate"), r.get("year"), r.get("month"), r.get("day"),
+						r.get("startDayOfYear"), r.get("endDayOfYear"));
+			} catch (RuntimeException e) {
+				// some eventDates from which no interval can be extracted throw
+			}
+		}));
+		measured.put("DwCEventDQ.amendmentEventFromEventdate", bytesPerCall(bean, records.size(), i -> {
+			CSVRecord r = records.get(i);
+			DwCEventDQ.amendmentEventFromEventdate(r.get("eventDate"), r.get("year"), r.get("month"), r.get("day"),
+					r.get("startDayOfYear"), r.get("endDayOfYear"));
+		}));
+		measured.put("DwCEventDQ.amendmentEventdateFromVerbatim", bytesPerCall(bean, records.size(),
+				i -> DwCEventDQ.amendmentEventdateFromVerbatim(records.get(i).get("eventDate"), records.get(i).get("verbatimEventDate"))));
+		measured.put("DwCEventDQ.validationDayInrange", bytesPerCall(bean, records.size(),
+				i -> DwCEventDQ.validationDayInrange(records.get(i).get("year"), records.get(i).get("month"), records.get(i).get("day"))));
+
+		if (report) {
+			for (Map.Entry<String,Long> entry : measured.entrySet()) {
+				System.out.println(entry.getKey() + "=" + entry.getValue());
+			}
+		}
+
+		StringBuilder exceeded = new StringBuilder();
+		for (Map.Entry<String,Long> entry : measured.entrySet()) {
+			String value = budget.getProperty(entry.getKey());
+			assertNotNull("No allocation budget for " + entry.getKey() + " in " + BUDGET_RESOURCE, value);
+			long allowed = Long.parseLong(value.trim());
+			logger.debug(entry.getKey() + " " + entry.getValue() + " bytes per call, budget " + allowed);
+			if (entry.getValue() > allowed * (1.0d + margin)) {
+				exceeded.append(entry.getKey()).append(" allocated ").append(entry.getValue())
+						.append(" bytes per call, budget ").append(allowed).append(" with margin ").append(margin).append("; ");
+			}
+		}
+		assertTrue("Allocation over budget: " + exceeded.toString(), exceeded.length()==0);
+	}
+
+}
@@ -0,0 +1,294 @@
+/**
+ * AmendmentSchedulerTest.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.datakurator.ffdq.annotations.ActedUpon;
+import org.datakurator.ffdq.api.DQResponse;
+import org.datakurator.ffdq.api.result.AmendmentValue;
+import org.datakurator.ffdq.model.ResultState;
+import org.filteredpush.qc.date.TemplatedDQResponse.CommentMode;
+import org.filteredpush.qc.date.util.RecordParseMemo;
+import org.junit.Test;
+
+/**
+ * @author mole
+ *
+ */
+public class AmendmentSchedulerTest {
+
+	private static final String[] TERMS = { "dwc:eventDate", "dwc:verbatimEventDate", "dwc:year", "dwc:month", "dwc:day",
+			"dwc:startDayOfYear", "dwc:endDayOfYear", "dwc:dateIdentified" };
+
+	private static Map<String,String> record(String... values) {
+		Map<String,String> result = new HashMap<String,String>();
+		for (int i=0; i<values.length; i++) {
+			result.put(TERMS[i], values[i]);
+		}
+		return result;
+	}
+
+	private static List<Map<String,String>> records() {
+		List<Map<String,String>> result = new ArrayList<Map<String,String>>();
+		result.add(record("", "", "", "", "", "", "", ""));
+		result.add(record("1880-05-08", "8 May 1880", "1880", "5", "8", "129", "129", "1880-06-01"));
+		result.add(record("", "", "1880", "V", "08", "", "", "8 June 1880"));
+		result.add(record("", "May 8, 1880", "", "", "", "", "", ""));
+		result.add(record("", "", "2004", "", "", "60", "61", ""));
+		result.add(record("1880-05", "", "", "", "", "", "", "1880-05-08"));
+		result.add(record("5/8/1880", "", "", "", "", "", "", "foo"));
+		result.add(record("", "", "1880", "May", "8", "", "", ""));
+		return result;
+	}
+
+	/**
+	 * Test the dependencies worked out for the event amendments.
+	 */
+	@Test
+	public void testDependencies() {
+		AmendmentScheduler scheduler = AmendmentScheduler.getEventAmendments();
+		assertEquals(8, scheduler.size());
+		// standardization of dateIdentified, eventDate, day, and month are independent of each other
+		assertTrue(Arrays.equals(new int[] { 0, 1, 2, 3 }, scheduler.getLevel(0)));
+		assertEquals(0, scheduler.getDependencies(0).length);
+		// eventDate from year/month/day reads the standardized eventDate, day, and month
+		assertTrue(Arrays.equals(new int[] { 1, 2, 3 }, scheduler.getDependencies(4)));
+		// event from eventDate follows everything that touches the event terms
+		assertTrue(Arrays.equals(new int[] { 1, 2, 3, 4, 5, 6 }, scheduler.getDependencies(7)));
+		assertEquals(5, scheduler.getLevelCount());
+		assertEquals("710fe118-17e1-440f-b428-88ba3f547d6d", scheduler.getGuid(7));
+	}
+
+	/**
+	 * Test that scheduled amendments give the same record and responses as running the
+	 * amendments one after another, on the current thread and on an executor.
+	 */
+	@Test
+	public void testEvaluateMatchesSequence() throws Exception {
+		AmendmentScheduler scheduler = AmendmentScheduler.getEventAmendments();
+		AmendmentScheduler.Evaluation evaluation = scheduler.newEvaluation();
+		AmendmentScheduler.Evaluation concurrent = scheduler.newEvaluation();
+		ExecutorService executor = Executors.newFixedThreadPool(3);
+		try {
+			for (Map<String,String> record : records()) {
+				List<DQResponse<AmendmentValue>> expected = new ArrayList<DQResponse<AmendmentValue>>();
+				Map<String,String> expectedRecord = runSequence(record, expected);
+				assertEquals(expectedRecord, evaluation.evaluate(record));
+				assertEquals(expectedRecord, concurrent.evaluate(record, executor));
+				for (int i=0; i<scheduler.size(); i++) {
+					String context = scheduler.getMethod(i).getName() + " " + record;
+					assertEquals(context, expected.get(i).getResultState(), evaluation.getResponse(i).getResultState());
+					assertEquals(context, expected.get(i).getComment(), evaluation.getResponse(i).getComment());
+					assertEquals(context, expected.get(i).getResultState(), concurrent.getResponse(i).getResultState());
+				}
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Test that amendments are only invoked again when the values they read change.
+	 */
+	@Test
+	public void testReuse() {
+		AmendmentScheduler scheduler = AmendmentScheduler.getEventAmendments();
+		AmendmentScheduler.Evaluation evaluation = scheduler.newEvaluation();
+		Map<String,String> record = record("", "", "1880", "V", "08", "", "", "8 June 1880");
+		Map<String,String> first = evaluation.evaluate(record);
+		for (int i=0; i<scheduler.size(); i++) {
+			assertFalse(evaluation.isReused(i));
+		}
+		DQResponse<AmendmentValue> dayResponse = evaluation.getResponse(2);
+		assertEquals(first, evaluation.evaluate(record));
+		for (int i=0; i<scheduler.size(); i++) {
+			assertTrue(evaluation.isReused(i));
+		}
+		assertSame(dayResponse, evaluation.getResponse(2));
+		// only the amendment reading dateIdentified is affected by a change to it
+		record.put("dwc:dateIdentified", "1880-06-08");
+		evaluation.evaluate(record);
+		assertFalse(evaluation.isReused(0));
+		for (int i=1; i<scheduler.size(); i++) {
+			assertTrue(evaluation.isReused(i));
+		}
+		// eventDate is filled in from year, month, and day, so a change to verbatimEventDate
+		// does not change the terms read by the amendment that follows the one reading it
+		record.put("dwc:verbatimEventDate", "1881");
+		assertEquals(first.get("dwc:eventDate"), evaluation.evaluate(record).get("dwc:eventDate"));
+		assertEquals(ResultState.FILLED_IN, evaluation.getResponse(4).getResultState());
+		assertFalse(evaluation.isReused(6));
+		assertTrue(evaluation.isReused(7));
+	}
+
+	/**
+	 * Amendment of month for testing failures, throws on "bad", otherwise amends month to X- and the value.
+	 *
+	 * @param month the value to amend.
+	 * @return an AMENDED response.
+	 */
+	public static DQResponse<AmendmentValue> amendmentMonthThrowing(@ActedUpon("dwc:month") String month) {
+		if ("bad".equals(month)) {
+			throw new IllegalArgumentException("Unable to amend month " + month);
+		}
+		DQResponse<AmendmentValue> result = new DQResponse<AmendmentValue>();
+		Map<String,String> amended = new HashMap<String,String>();
+		amended.put("dwc:month", "X-" + month);
+		result.setValue(new AmendmentValue(amended));
+		result.setResultState(ResultState.AMENDED);
+		return result;
+	}
+
+	/**
+	 * Test that an amendment which threw is invoked again for the same inputs, rather than the
+	 * response from an earlier record for other inputs being reused.
+	 *
+	 * @throws NoSuchMethodException if the test amendment is not found.
+	 */
+	@Test
+	public void testNoReuseAfterFailure() throws NoSuchMethodException {
+		AmendmentScheduler scheduler = new AmendmentScheduler(
+				AmendmentSchedulerTest.class.getMethod("amendmentMonthThrowing", String.class));
+		AmendmentScheduler.Evaluation evaluation = scheduler.newEvaluation();
+		Map<String,String> record = new HashMap<String,String>();
+		record.put("dwc:month", "5");
+		assertEquals("X-5", evaluation.evaluate(record).get("dwc:month"));
+		record.put("dwc:month", "bad");
+		for (int i=0; i<2; i++) {
+			try {
+				evaluation.evaluate(record);
+				fail("Expected the amendment to throw on bad.");
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+			assertNull(evaluation.getResponse(0));
+			assertFalse(evaluation.isReused(0));
+		}
+		record.put("dwc:month", "5");
+		assertEquals("X-5", evaluation.evaluate(record).get("dwc:month"));
+		assertFalse(evaluation.isReused(0));
+		assertEquals("X-5", evaluation.evaluate(record).get("dwc:month"));
+		assertTrue(evaluation.isReused(0));
+	}
+
+	/**
+	 * Amendment of day for testing the context of an invocation, amends day to the CommentMode
+	 * in effect and whether a RecordParseMemo is open, and adds a comment.
+	 *
+	 * @param day the value to amend.
+	 * @return an AMENDED response.
+	 */
+	public static DQResponse<AmendmentValue> amendmentDayContext(@ActedUpon("dwc:day") String day) {
+		boolean memoOpened = RecordParseMemo.open();
+		if (memoOpened) {
+			RecordParseMemo.close();
+		}
+		TemplatedDQResponse<AmendmentValue> result = new TemplatedDQResponse<AmendmentValue>();
+		Map<String,String> amended = new HashMap<String,String>();
+		amended.put("dwc:day", TemplatedDQResponse.getCommentMode() + (memoOpened ? " no memo" : " memo"));
+		result.setValue(new AmendmentValue(amended));
+		result.setResultState(ResultState.AMENDED);
+		result.addComment("comment on " + day);
+		return result;
+	}
+
+	/**
+	 * Test that amendments run on an executor use the CommentMode of the calling thread and a
+	 * RecordParseMemo, and leave the executor thread as they found it.
+	 *
+	 * @throws Exception if the test amendments are not found or the executor fails.
+	 */
+	@Test
+	public void testExecutorContext() throws Exception {
+		AmendmentScheduler scheduler = new AmendmentScheduler(
+				AmendmentSchedulerTest.class.getMethod("amendmentMonthThrowing", String.class),
+				AmendmentSchedulerTest.class.getMethod("amendmentDayContext", String.class));
+		assertEquals(1, scheduler.getLevelCount());
+		AmendmentScheduler.Evaluation evaluation = scheduler.newEvaluation();
+		Map<String,String> record = new HashMap<String,String>();
+		record.put("dwc:month", "5");
+		record.put("dwc:day", "8");
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			CommentMode previous = TemplatedDQResponse.openCommentMode(CommentMode.NONE);
+			try {
+				assertEquals("NONE memo", evaluation.evaluate(record, executor).get("dwc:day"));
+				assertEquals("", evaluation.getResponse(1).getComment());
+			} finally {
+				TemplatedDQResponse.closeCommentMode(previous);
+			}
+			// both amendments are invoked again, so the amendment of day is again run on the executor
+			record.put("dwc:month", "6");
+			record.put("dwc:day", "9");
+			assertEquals("FULL memo", evaluation.evaluate(record, executor).get("dwc:day"));
+			assertEquals("comment on 9", evaluation.getResponse(1).getComment());
+			Future<String> after = executor.submit(new Callable<String>() {
+				@Override
+				public String call() {
+					boolean memoOpened = RecordParseMemo.open();
+					if (memoOpened) {
+						RecordParseMemo.close();
+					}
+					return TemplatedDQResponse.getCommentMode() + " " + memoOpened;
+				}
+			});
+			assertEquals("FULL true", after.get());
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Run the event amendments one after another, passing on the amended terms.
+	 */
+	private static Map<String,String> runSequence(Map<String,String> record, List<DQResponse<AmendmentValue>> responses) {
+		Map<String,String> result = new HashMap<String,String>(record);
+		responses.add(apply(result, DwCOtherDateDQ.amendmentDateidentifiedStandardized(result.get("dwc:dateIdentified"))));
+		responses.add(apply(result, DwCEventDQ.amendmentEventdateStandardized(result.get("dwc:eventDate"))));
+		responses.add(apply(result, DwCEventDQ.amendmentDayStandardized(result.get("dwc:day"))));
+		responses.add(apply(result, DwCEventDQ.amendmentMonthStandardized(result.get("dwc:month"))));
+		responses.add(apply(result, DwCEventDQ.amendmentEventDateFromYearMonthDay(result.get("dwc:eventDate"), result.get("dwc:year"), result.get("dwc:month"), result.get("dwc:day"))));
+		responses.add(apply(result, DwCEventDQ.amendmentEventdateFromYearstartdayofyearenddayofyear(result.get("dwc:eventDate"), result.get("dwc:year"), result.get("dwc:startDayOfYear"), result.get("dwc:endDayOfYear"))));
+		responses.add(apply(result, DwCEventDQ.amendmentEventdateFromVerbatim(result.get("dwc:eventDate"), result.get("dwc:verbatimEventDate"))));
+		responses.add(apply(result, DwCEventDQ.amendmentEventFromEventdate(result.get("dwc:eventDate"), result.get("dwc:year"), result.get("dwc:month"), result.get("dwc:day"), result.get("dwc:startDayOfYear"), result.get("dwc:endDayOfYear"))));
+		return result;
+	}
+
+	private static DQResponse<AmendmentValue> apply(Map<String,String> record, DQResponse<AmendmentValue> response) {
+		if (response.getResultState().equals(ResultState.AMENDED) || response.getResultState().equals(ResultState.FILLED_IN)) {
+			for (Map.Entry<String,String> entry : response.getValue().getObject().entrySet()) {
+				if (entry.getValue()!=null) {
+					record.put(entry.getKey(), entry.getValue());
+				}
+			}
+		}
+		return response;
+	}
+
+}
@@ -0,0 +1,74 @@
+/**
+ * DailyBindingTest.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import static org.junit.Assert.*;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * @author mole
+ *
+ */
+public class DailyBindingTest {
+
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.DailyBinding#get(long)}.
+	 */
+	@Test
+	public void testGetRebindsAfterMidnight() {
+		final List<LocalDate> bound = new ArrayList<LocalDate>();
+		DailyBinding<String> binding = new DailyBinding<String>() {
+			@Override
+			protected String bind(LocalDate today) {
+				bound.add(today);
+				return today.toString();
+			}
+		};
+		LocalDate day = LocalDate.of(2025, 12, 31);
+		long midnight = day.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		long noon = day.atTime(12, 0).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+		assertEquals("2025-12-31", binding.get(noon));
+		assertEquals("2025-12-31", binding.get(midnight - 1));
+		assertEquals(1, bound.size());
+		assertEquals("2026-01-01", binding.get(midnight));
+		assertEquals("2026-01-01", binding.get(midnight + 1));
+		assertEquals(2, bound.size());
+		assertEquals(LocalDate.of(2026, 1, 1), bound.get(1));
+	}
+
+	/**
+	 * Test that the default bounds of the Defaults classes are bound as of the current day.
+	 */
+	@Test
+	public void testDefaultsBoundToToday() {
+		LocalDate today = LocalDate.now();
+		assertEquals("COMPLIANT", DwCEventDQDefaults.validationYearInrange(Integer.toString(today.getYear())).getValue().getLabel());
+		assertEquals("NOT_COMPLIANT", DwCEventDQDefaults.validationYearInrange(Integer.toString(today.getYear()+1)).getValue().getLabel());
+		assertEquals("COMPLIANT", DwCEventDQDefaults.validationEventdateInrange(today.getYear() + "-12-31").getValue().getLabel());
+		assertEquals("COMPLIANT", DwCOtherDateDQDefaults.validationDateidentifiedInrange(today.toString(), "").getValue().getLabel());
+		assertEquals("NOT_COMPLIANT", DwCOtherDateDQDefaults.validationDateidentifiedInrange(today.plusDays(2).toString(), "").getValue().getLabel());
+	}
+
+}
@@ -2161,8 +2161,53 @@ public class DateUtilsTest {
     	assertEquals(2, DateUtils.countLeapDays("1978/1985"));
     	
     	assertEquals(0, DateUtils.countLeapDays("1981/1983"));
+    	
+    	assertEquals(243, DateUtils.countLeapDays("1000/2000"));
+    	assertEquals(2, DateUtils.countLeapDays("0800/0804"));
+    	assertEquals(1, DateUtils.countLeapDays("1984-02-29"));
+    	assertEquals(1, DateUtils.countLeapDays("1984-060"));
     }    
  
+    @Test
+    public void testExtractTimestamp() { 
+    	assertEquals(null, DateUtils.extractTimestamp(null));
+    	assertEquals(null, DateUtils.extractTimestamp(""));
+    	assertEquals(null, DateUtils.extractTimestamp("2018-05-24"));
+    	assertEquals(null, DateUtils.extractTimestamp("2018-05-24T10"));
+    	assertEquals(null, DateUtils.extractTimestamp("2018-02-29 10:28:29"));
+    	assertEquals(null, DateUtils.extractTimestamp("2018-05-24T24:00:00"));
+    	assertEquals(null, DateUtils.extractTimestamp("2018-05-24T10:28:29."));
+    	assertEquals(null, DateUtils.extractTimestamp("2018-05-24T10:28:29.1234567890"));
+    	assertEquals(null, DateUtils.extractTimestamp("2018-05-24T10:28:29-0500"));
+    	assertEquals(null, DateUtils.extractTimestamp("2018-05-24T10:28:29+19:00"));
+    	assertEquals("2018-05-24T10:28:29", DateUtils.extractTimestamp("2018-05-24 10:28:29"));
+    	assertEquals("2018-05-24T10:28", DateUtils.extractTimestamp("2018-05-24 10:28"));
+    	assertEquals("2016-02-29T10:28:29.123456789Z", DateUtils.extractTimestamp("2016-02-29 10:28:29.123456789Z"));
+    	assertEquals("2018-05-24T10:28:29-05:00", DateUtils.extractTimestamp("2018-05-24 10:28:29-05:00"));
+    	
+    	// recognized timestamps must agree with eventDateValid()
+    	String[] dates = { "2018-05-24", "2016-02-29", "2017-02-29", "1900-02-29", "2000-02-29", "0099-12-31", "2018-13-01", "2018-04-31" };
+    	String[] times = { "10:28", "10:28:29", "23:59:59", "00:00:00.1", "10:28:29.123456789", "10:60", "10:28:60" };
+    	String[] offsets = { "", "Z", "+02:00", "-18:00", "+18:30", "-05:60" };
+    	for (String date : dates) { 
+    		for (String time : times) { 
+    			for (String offset : offsets) { 
+    				String value = date + "T" + time + offset;
+    				String timestamp = DateUtils.extractTimestamp(value);
+    				if (timestamp!=null) { 
+    					assertEquals(value, DateUtils.eventDateValid(value), timestamp.equals(value));
+    				}
+    				value = date + " " + time + offset;
+    				timestamp = DateUtils.extractTimestamp(value);
+    				if (timestamp!=null) { 
+    					assertFalse(value, DateUtils.eventDateValid(value));
+    					assertTrue(timestamp, DateUtils.eventDateValid(timestamp));
+    				}
+    			}
+    		}
+    	}
+    }
+    
     @Test
     public void testVerbatimIsDiscontinuous() { 
     	assertEquals(null, DateUtils.verbatimIsDiscontinuous(null));
@@ -2248,4 +2293,38 @@ public class DateUtilsTest {
     	assertEquals(true, DateUtils.hasResolutionDayOrFiner("1811-01-01T213342Z/1812-01-10T213342Z"));
     	assertEquals(true, DateUtils.hasResolutionDayOrFiner("1813-001T213342Z"));
     }
+    
+    @Test
+    public void testScanInteger() {
+    	String[] values = { "0", "5", "05", "+5", "-5", "-0", "2147483647", "-2147483648", "\u0662\u0669", 
+    			"", "+", "-", "x", "5.0", "1e2", "1 2", "2147483648", "-2147483649", "99999999999999999999", " 5", "5 " };
+    	for (String value : values) {
+    		long expected = DateUtils.NOT_AN_INTEGER;
+    		try {
+    			expected = Integer.parseInt(value);
+    		} catch (NumberFormatException e) {
+    			// expected stays NOT_AN_INTEGER
+    		}
+    		assertEquals(value, expected, DateUtils.scanInteger(value, false));
+    		long expectedTrimmed = DateUtils.NOT_AN_INTEGER;
+    		try {
+    			expectedTrimmed = Integer.parseInt(value.trim());
+    		} catch (NumberFormatException e) {
+    			// expected stays NOT_AN_INTEGER
+    		}
+    		assertEquals(value, expectedTrimmed, DateUtils.scanInteger(" \t" + value + " ", true));
+    	}
+    	assertEquals(DateUtils.NOT_AN_INTEGER, DateUtils.scanInteger(null, true));
+    	assertEquals(DateUtils.NOT_AN_INTEGER, DateUtils.scanInteger("   ", true));
+    }
+
+    @Test
+    public void testDaysInMonthAndYear() {
+    	for (int year=-2000; year<=10000; year++) {
+    		assertEquals(LocalDate.of(year, 1, 1).lengthOfYear(), DateUtils.daysInYear(year));
+    		for (int month=1; month<=12; month++) {
+    			assertEquals(LocalDate.of(year, month, 1).lengthOfMonth(), DateUtils.daysInMonth(year, month));
+    		}
+    	}
+    }
 }
@@ -24,6 +24,7 @@ import java.time.format.DateTimeFormatter;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.datakurator.ffdq.api.DQResponse;
+import org.datakurator.ffdq.api.result.AmendmentValue;
 import org.datakurator.ffdq.api.result.ComplianceValue;
 import org.datakurator.ffdq.model.ResultState;
 import org.filteredpush.qc.date.util.DateUtils;
@@ -527,4 +528,50 @@ public class DwCOtherDateDQTest {
 		assertEquals(ComplianceValue.NOT_COMPLIANT, result.getValue());		
 		
 	}
-}
\ No newline at end of file
+	
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.DwCOtherDateDQ#validationModifiedStandard(java.lang.String)}.
+	 */
+	@Test
+	public void testValidationModifiedStandard() {
+		DwCOtherDateDQ dq = new DwCOtherDateDQ();
+		DQResponse<ComplianceValue> result = dq.validationModifiedStandard("");
+		assertEquals(ResultState.INTERNAL_PREREQUISITES_NOT_MET, result.getResultState());
+		
+		String[] compliant = { "2018-05-24T10:28:29", "2018-05-24T10:28:29.123Z", "2018-05-24T10:28:29+02:00", "2018-05-24", "2018-05-24T10:28-0500" };
+		for (int i=0; i<compliant.length; i++) { 
+			result = dq.validationModifiedStandard(compliant[i]);
+			assertEquals(ResultState.RUN_HAS_RESULT, result.getResultState());
+			assertEquals(compliant[i], ComplianceValue.COMPLIANT, result.getValue());
+		}
+		String[] notCompliant = { "2018-05-24 10:28:29", "2018-02-30T10:28:29", "2018-05-24T24:00:00", "Jan 5, 2018" };
+		for (int i=0; i<notCompliant.length; i++) { 
+			result = dq.validationModifiedStandard(notCompliant[i]);
+			assertEquals(ResultState.RUN_HAS_RESULT, result.getResultState());
+			assertEquals(notCompliant[i], ComplianceValue.NOT_COMPLIANT, result.getValue());
+		}
+	}
+	
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.DwCOtherDateDQ#amendmentModifiedStandardized(java.lang.String)}.
+	 */
+	@Test
+	public void testAmendmentModifiedStandardized() {
+		DQResponse<AmendmentValue> result = DwCOtherDateDQ.amendmentModifiedStandardized(null);
+		assertEquals(ResultState.INTERNAL_PREREQUISITES_NOT_MET, result.getResultState());
+		
+		result = DwCOtherDateDQ.amendmentModifiedStandardized("2018-05-24T10:28:29Z");
+		assertEquals(ResultState.NOT_AMENDED, result.getResultState());
+		
+		result = DwCOtherDateDQ.amendmentModifiedStandardized("2018-05-24 10:28:29");
+		assertEquals(ResultState.AMENDED, result.getResultState());
+		assertEquals("2018-05-24T10:28:29", result.getValue().getObject().get("dcterms:modified"));
+		
+		result = DwCOtherDateDQ.amendmentModifiedStandardized("2018-05-24 10:28:29.5+02:00");
+		assertEquals(ResultState.AMENDED, result.getResultState());
+		assertEquals("2018-05-24T10:28:29.5+02:00", result.getValue().getObject().get("dcterms:modified"));
+		
+		result = DwCOtherDateDQ.amendmentModifiedStandardized("2018-02-30 10:28:29");
+		assertEquals(ResultState.NOT_AMENDED, result.getResultState());
+	}
+}
@@ -0,0 +1,82 @@
+/**
+ * EventDateBoundsTest.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import static org.junit.Assert.*;
+
+import org.filteredpush.qc.date.util.DateUtils;
+import org.filteredpush.qc.date.util.EventDateBounds;
+import org.junit.Test;
+
+/**
+ * @author mole
+ *
+ */
+public class EventDateBoundsTest {
+
+	private static final String[] EVENT_DATES = { "1880", "1880-05", "1880-05-08", "1880-05-08/1880-05-10", "2000-02",
+			"2000-02-29", "2000-01-01/2000-12-31", "1999-03-01/2000-02-29", "2000-12-31/2001-01-01", "0000-01-01",
+			"9999-12-31", "1880-129", "1880-05-08T10:00Z", "1880/1881", "1880-05-08/10", "1880-05/1880-06" };
+
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.util.EventDateBounds#extract(java.lang.String)}.
+	 *
+	 * @throws TimeExtractionException on a failure to measure a duration
+	 */
+	@Test
+	public void testExtractMatchesDateUtils() throws TimeExtractionException {
+		for (String eventDate : EVENT_DATES) {
+			EventDateBounds bounds = EventDateBounds.extract(eventDate);
+			LocalDateInterval interval = DateUtils.extractInterval(eventDate);
+			assertNotNull(eventDate, bounds);
+			assertEquals(eventDate, interval.getStartDate(), bounds.getStartDate());
+			assertEquals(eventDate, interval.getStartDate().getYear(), bounds.getStartYear());
+			assertEquals(eventDate, interval.getStartDate().getMonthValue(), bounds.getStartMonth());
+			assertEquals(eventDate, interval.getStartDate().getDayOfMonth(), bounds.getStartDay());
+			assertEquals(eventDate, interval.getEndDate().getYear(), bounds.getEndYear());
+			assertEquals(eventDate, interval.getEndDate().getMonthValue(), bounds.getEndMonth());
+			assertEquals(eventDate, interval.getStartDate().getDayOfYear(), bounds.getStartDayOfYear());
+			assertEquals(eventDate, interval.getEndDate().getDayOfYear(), bounds.getEndDayOfYear());
+			assertEquals(eventDate, interval.getDurationDays(), bounds.getDurationDays());
+			assertEquals(eventDate, DateUtils.isRange(eventDate), bounds.isRange());
+			assertEquals(eventDate, DateUtils.specificToMonthScale(eventDate), bounds.isSpecificToMonthScale());
+			assertEquals(eventDate, DateUtils.specificToYearScale(eventDate), bounds.isSpecificToYearScale());
+			assertEquals(eventDate, DateUtils.hasResolutionDayOrFiner(eventDate), bounds.hasResolutionDayOrFiner());
+			assertEquals(eventDate, DateUtils.extractDate(eventDate), bounds.extractDate());
+			assertEquals(eventDate, DateUtils.measureDurationSeconds(eventDate), bounds.measureDurationSeconds());
+		}
+		String[] unparsable = { null, "", "1880-13", "1880-02-30", "2000-01-01/1999-12-31", "8/5/1880", "foo" };
+		for (String eventDate : unparsable) {
+			assertNull(eventDate, EventDateBounds.extract(eventDate));
+		}
+	}
+
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.util.DateUtils#isConsistent(String, String, String, String, String, String)}
+	 * with an eventDate from which no interval can be extracted.
+	 */
+	@Test
+	public void testIsConsistentUnparsable() {
+		assertFalse(DateUtils.isConsistent("8/5/1880", "1", "10", null, null, null));
+		assertFalse(DateUtils.isConsistent("1880-13", "1", "10", "", "", ""));
+		assertTrue(DateUtils.isConsistent("1880-01-01/1880-01-10", "1", "10", "", "", ""));
+		assertTrue(DateUtils.isConsistent("1880-05-08", "129", "", "1880", "5", "8"));
+		assertFalse(DateUtils.isConsistent("1880-05-08", "130", "", "1880", "5", "8"));
+	}
+
+}
@@ -0,0 +1,113 @@
+/**
+ * EventDatePrecisionTest.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import static org.junit.Assert.*;
+
+import org.filteredpush.qc.date.util.DateUtils;
+import org.filteredpush.qc.date.util.EventDatePrecision;
+import org.filteredpush.qc.date.util.EventDatePrecision.Scale;
+import org.filteredpush.qc.date.util.RecordParseMemo;
+import org.junit.Test;
+
+/**
+ * @author mole
+ *
+ */
+public class EventDatePrecisionTest {
+
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.util.EventDatePrecision#getScale()}.
+	 */
+	@Test
+	public void testGetScale() {
+		assertEquals(Scale.DAY, EventDatePrecision.of("1880-05-08").getScale());
+		assertEquals(Scale.SUB_DAY, EventDatePrecision.of("1880-05-08T10:00/1880-05-08T11:00").getScale());
+		assertEquals(Scale.MONTH, EventDatePrecision.of("1880-05").getScale());
+		assertEquals(Scale.MONTH, EventDatePrecision.of("1880-05-08/1880-06-07").getScale());
+		assertEquals(Scale.YEAR, EventDatePrecision.of("1880-05-08/1880-06-08").getScale());
+		assertEquals(Scale.YEAR, EventDatePrecision.of("1880").getScale());
+		assertEquals(Scale.YEAR, EventDatePrecision.of("1999-03-01/2000-02-29").getScale());
+		assertEquals(Scale.DECADE, EventDatePrecision.of("1999-03-01/2000-03-01").getScale());
+		assertEquals(Scale.DECADE, EventDatePrecision.of("1880/1889").getScale());
+		assertEquals(Scale.COARSER, EventDatePrecision.of("1880/1890").getScale());
+		assertNull(EventDatePrecision.of("1880-13"));
+		assertNull(EventDatePrecision.of(""));
+		assertNull(EventDatePrecision.of(null));
+	}
+
+	/**
+	 * Test that the classification gives the same results as the DateUtils methods
+	 * that delegate to it did before delegating.
+	 *
+	 * @throws TimeExtractionException on a failure to measure a duration
+	 */
+	@Test
+	public void testClassification() throws TimeExtractionException {
+		EventDatePrecision precision = EventDatePrecision.of("1842-01-01/1842-12-31");
+		assertTrue(precision.hasResolutionDayOrFiner());
+		assertTrue(precision.isRange());
+		assertFalse(precision.isSpecificToDay());
+		assertFalse(precision.isSpecificToMonthScale());
+		assertTrue(precision.isSpecificToYearScale());
+		assertTrue(precision.isSpecificToDecadeScale());
+		assertFalse(precision.includesLeapDay());
+		assertEquals(365l * 86400l, precision.measureDurationSeconds());
+
+		precision = EventDatePrecision.of("1842");
+		assertFalse(precision.hasResolutionDayOrFiner());
+		assertTrue(precision.isRange());
+		assertEquals(precision.isSpecificToYearScale(), DateUtils.specificToYearScale("1842"));
+
+		precision = EventDatePrecision.of("2000-02-29T10:00Z");
+		assertTrue(precision.hasResolutionDayOrFiner());
+		assertFalse(precision.isRange());
+		assertTrue(precision.isSpecificToDay());
+		assertTrue(precision.includesLeapDay());
+		assertEquals(DateUtils.measureDurationSeconds("2000-02-29T10:00Z"), precision.measureDurationSeconds());
+
+		assertFalse(DateUtils.hasResolutionDayOrFiner("1880-13"));
+		assertTrue(DateUtils.hasResolutionDayOrFiner("1880-05-32"));
+		assertFalse(DateUtils.includesLeapDay("1880-13"));
+		try {
+			DateUtils.specificToMonthScale("1880-13");
+			fail("NullPointerException should have been thrown for an eventDate with no interval");
+		} catch (NullPointerException e) {
+			// expected, as before the classification
+		}
+	}
+
+	/**
+	 * Test that an open RecordParseMemo shares one classification of each value.
+	 */
+	@Test
+	public void testMemo() {
+		assertFalse(EventDatePrecision.of("1880-05-08")==EventDatePrecision.of("1880-05-08"));
+		boolean opened = RecordParseMemo.open();
+		try {
+			assertTrue(opened);
+			EventDatePrecision precision = EventDatePrecision.of("1880-05-08T10:00");
+			assertSame(precision, EventDatePrecision.of("1880-05-08T10:00"));
+			assertNull(EventDatePrecision.of("foo"));
+			assertNull(EventDatePrecision.of("foo"));
+		} finally {
+			RecordParseMemo.close();
+		}
+	}
+
+}
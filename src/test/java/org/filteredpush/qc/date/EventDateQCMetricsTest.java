@@ -0,0 +1,189 @@
+/**
+ * EventDateQCMetricsTest.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import static org.junit.Assert.*;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import org.filteredpush.qc.date.util.EventDateQCMetrics;
+import org.filteredpush.qc.date.util.EventDateQCMetrics.CacheStatistics;
+import org.filteredpush.qc.date.util.EventDateQCMetrics.TestStatistics;
+import org.filteredpush.qc.date.util.MonthDictionary;
+import org.junit.Test;
+
+/**
+ * @author mole
+ *
+ */
+public class EventDateQCMetricsTest {
+
+	private static Map<String,String> record() {
+		Map<String,String> result = new HashMap<String,String>();
+		result.put("dwc:eventDate", "1880-05-08");
+		result.put("dwc:year", "1880");
+		result.put("dwc:month", "May");
+		result.put("dwc:day", "8");
+		return result;
+	}
+
+	private static CacheStatistics cache(EventDateQCMetrics.Cache cache) {
+		CacheStatistics result = null;
+		for (CacheStatistics statistics : EventDateQCMetrics.getInstance().getCacheStatistics()) {
+			if (statistics.getName().equals(cache.getLabel())) {
+				result = statistics;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Test that nothing is collected while disabled.
+	 */
+	@Test
+	public void testDisabled() {
+		EventDateQCMetrics metrics = EventDateQCMetrics.getInstance();
+		metrics.setEnabled(false);
+		metrics.reset();
+		TemporalSuite.evaluate(record());
+		assertEquals(0l, metrics.getRecordCount());
+		assertTrue(metrics.getTestInvocationCounts().isEmpty());
+		assertTrue(metrics.getResultStateCounts().isEmpty());
+		assertEquals(0l, cache(EventDateQCMetrics.Cache.EVENTDATE_VALID).getHits());
+	}
+
+	/**
+	 * Test the metrics collected from evaluating records with TemporalSuite.
+	 */
+	@Test
+	public void testTemporalSuite() {
+		EventDateQCMetrics metrics = EventDateQCMetrics.getInstance();
+		metrics.reset();
+		metrics.setEnabled(true);
+		try {
+			TemporalSuite.evaluate(record());
+			TemporalSuite.evaluate(record());
+		} finally {
+			metrics.setEnabled(false);
+		}
+		assertEquals(2l, metrics.getRecordCount());
+		assertTrue(metrics.getRecordsPerSecond() > 0d);
+
+		Map<String,Long> invocations = metrics.getTestInvocationCounts();
+		assertEquals(TemporalSuite.size(), invocations.size());
+		assertEquals(Long.valueOf(2l), invocations.get("DwCEventDQ.validationEventConsistent"));
+
+		long responses = 0l;
+		for (Long count : metrics.getResultStateCounts().values()) {
+			responses = responses + count;
+		}
+		assertEquals(2l * TemporalSuite.size(), responses);
+
+		List<TestStatistics> statistics = metrics.getTestStatistics();
+		assertEquals(TemporalSuite.size(), statistics.size());
+		for (TestStatistics test : statistics) {
+			assertEquals(test.getTest(), 2l, test.getInvocations());
+			assertTrue(test.getTest(), test.getP50Micros() <= test.getMaxMicros());
+			long states = 0l;
+			for (Long count : test.getResultStates().values()) {
+				states = states + count;
+			}
+			assertEquals(test.getTest(), 2l, states);
+		}
+
+		// the tests on one record share the check of eventDate
+		CacheStatistics valid = cache(EventDateQCMetrics.Cache.EVENTDATE_VALID);
+		assertTrue(valid.getHits() > 0l);
+		assertTrue(valid.getMisses() > 0l);
+		assertTrue(valid.getHitRate() > 0d && valid.getHitRate() < 1d);
+
+		metrics.reset();
+		assertEquals(0l, metrics.getRecordCount());
+		assertTrue(metrics.getTestStatistics().isEmpty());
+		assertEquals(0l, cache(EventDateQCMetrics.Cache.EVENTDATE_VALID).getHits());
+	}
+
+	/**
+	 * Test that month dictionary lookups are counted.
+	 */
+	@Test
+	public void testMonthDictionary() {
+		EventDateQCMetrics metrics = EventDateQCMetrics.getInstance();
+		metrics.reset();
+		metrics.setEnabled(true);
+		try {
+			MonthDictionary dictionary = new MonthDictionary(MonthDictionary.DEFAULT_CAPACITY);
+			dictionary.standardize("V");
+			dictionary.standardize("Thermidor");
+			dictionary.standardize("Thermidor");
+		} finally {
+			metrics.setEnabled(false);
+		}
+		CacheStatistics months = cache(EventDateQCMetrics.Cache.MONTH_DICTIONARY);
+		assertEquals(2l, months.getHits());
+		assertEquals(1l, months.getMisses());
+		metrics.reset();
+	}
+
+	/**
+	 * Test registration with the platform MBean server and reading attributes through it.
+	 *
+	 * @throws JMException on a failure to register or read the MBean.
+	 */
+	@Test
+	public void testRegister() throws JMException {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = EventDateQCMetrics.register();
+		try {
+			assertEquals(new ObjectName(EventDateQCMetrics.OBJECT_NAME), name);
+			assertTrue(server.isRegistered(name));
+			assertTrue(EventDateQCMetrics.isCollecting());
+			// registering again leaves the registration in place
+			assertEquals(name, EventDateQCMetrics.register());
+
+			server.invoke(name, "reset", null, null);
+			TemporalSuite.evaluate(record());
+			assertEquals(Long.valueOf(1l), server.getAttribute(name, "RecordCount"));
+			assertEquals(Boolean.TRUE, server.getAttribute(name, "Enabled"));
+			TabularData invocations = (TabularData) server.getAttribute(name, "TestInvocationCounts");
+			assertEquals(TemporalSuite.size(), invocations.size());
+			CompositeData[] tests = (CompositeData[]) server.getAttribute(name, "TestStatistics");
+			assertEquals(TemporalSuite.size(), tests.length);
+			assertEquals(Long.valueOf(1l), tests[0].get("invocations"));
+			assertTrue(tests[0].get("resultStates") instanceof TabularData);
+			CompositeData[] caches = (CompositeData[]) server.getAttribute(name, "CacheStatistics");
+			assertEquals(EventDateQCMetrics.Cache.values().length, caches.length);
+			assertTrue(caches[0].get("hitRate") instanceof Double);
+		} finally {
+			EventDateQCMetrics.unregister();
+			EventDateQCMetrics.getInstance().reset();
+		}
+		assertFalse(server.isRegistered(name));
+		assertFalse(EventDateQCMetrics.isCollecting());
+	}
+
+}
@@ -0,0 +1,282 @@
+/**
+ * GoldenCorpusTest.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import static org.junit.Assert.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.apache.commons.csv.CSVFormat;
+import org.apache.commons.csv.CSVRecord;
+import org.datakurator.ffdq.annotations.ActedUpon;
+import org.datakurator.ffdq.annotations.Consulted;
+import org.datakurator.ffdq.annotations.Parameter;
+import org.datakurator.ffdq.annotations.Provides;
+import org.datakurator.ffdq.api.DQResponse;
+import org.filteredpush.qc.date.util.DateUtils;
+import org.filteredpush.qc.date.util.RecordParseMemo;
+import org.junit.Test;
+
+/**
+ * Golden corpus check of the optimized paths against the reference paths within this build,
+ * the in-process counterpart of the DifferentialHarness in the benchmarks project, which can
+ * also compare against another build.
+ *
+ * TemporalSuite.evaluate() is compared with each @Provides method invoked separately, on
+ * result state, value, and comment with values in square brackets removed, over the records
+ * of date_example_data.csv and records made from the leading values of example_dates.csv and
+ * from DateReferenceSetCol1.txt, each as an eventDate and as a verbatimEventDate.
+ * DateUtils.extractInterval() within a RecordParseMemo, on a first and on a memoized call, is
+ * compared with a call without one over the same values.  All divergences are reported.
+ *
+ * @author mole
+ *
+ */
+public class GoldenCorpusTest {
+
+	/** Number of leading verbatim dates from example_dates.csv in the corpus. */
+	private static final int EXAMPLE_DATES_CORPUS_SIZE = 500;
+	/** Maximum number of divergences listed in a failure message. */
+	private static final int MAX_REPORTED = 20;
+
+	private static Reader openResource(String resource) throws IOException {
+		InputStream stream = GoldenCorpusTest.class.getResourceAsStream(resource);
+		if (stream==null) {
+			throw new IOException("Resource " + resource + " not found.");
+		}
+		return new InputStreamReader(stream, StandardCharsets.UTF_8);
+	}
+
+	private static List<String> loadValues(String resource, int limit) throws IOException {
+		List<String> result = new ArrayList<String>();
+		BufferedReader reader = new BufferedReader(openResource(resource));
+		try {
+			String line;
+			while (result.size() < limit && (line=reader.readLine())!=null) {
+				if (line.trim().length()>0) {
+					result.add(line.trim());
+				}
+			}
+		} finally {
+			reader.close();
+		}
+		return result;
+	}
+
+	private static List<String> loadCorpusValues() throws IOException {
+		List<String> result = new ArrayList<String>();
+		result.addAll(loadValues("/example_dates.csv", EXAMPLE_DATES_CORPUS_SIZE));
+		result.addAll(loadValues("/DateReferenceSetCol1.txt", Integer.MAX_VALUE));
+		return result;
+	}
+
+	private static List<Map<String,String>> loadRecords() throws IOException {
+		List<Map<String,String>> result = new ArrayList<Map<String,String>>();
+		Reader reader = openResource("/date_example_data.csv");
+		try {
+			for (CSVRecord row : CSVFormat.DEFAULT.withFirstRecordAsHeader().parse(reader)) {
+				Map<String,String> record = new TreeMap<String,String>();
+				for (String term : new String[] { "eventDate", "verbatimEventDate", "year", "month", "day", "startDayOfYear",
+						"endDayOfYear", "eventTime", "dateIdentified" }) {
+					record.put("dwc:" + term, row.get(term));
+				}
+				record.put("dcterms:modified", row.get("modified"));
+				result.add(record);
+			}
+		} finally {
+			reader.close();
+		}
+		for (String value : loadCorpusValues()) {
+			Map<String,String> asEventDate = new TreeMap<String,String>();
+			asEventDate.put("dwc:eventDate", value);
+			result.add(asEventDate);
+			Map<String,String> asVerbatim = new TreeMap<String,String>();
+			asVerbatim.put("dwc:verbatimEventDate", value);
+			result.add(asVerbatim);
+		}
+		return result;
+	}
+
+	/**
+	 * Find the method providing each test in the suite with its default parameters.
+	 */
+	private static Method[] findDefaultMethods() {
+		String[] guids = TemporalSuite.getGuids();
+		Map<String,Method> methods = new HashMap<String,Method>();
+		Class<?>[] classes = { DwCEventDQDefaults.class, DwCOtherDateDQDefaults.class, DwCEventDQ.class, DwCOtherDateDQ.class };
+		for (Class<?> testClass : classes) {
+			for (Method method : testClass.getDeclaredMethods()) {
+				Provides provides = method.getAnnotation(Provides.class);
+				if (provides!=null && !hasParameter(method) && !methods.containsKey(provides.value())) {
+					methods.put(provides.value(), method);
+				}
+			}
+		}
+		Method[] result = new Method[guids.length];
+		for (int i=0; i<guids.length; i++) {
+			result[i] = methods.get(guids[i]);
+			assertNotNull("No method provides " + guids[i], result[i]);
+		}
+		return result;
+	}
+
+	private static boolean hasParameter(Method method) {
+		boolean result = false;
+		for (Annotation[] annotations : method.getParameterAnnotations()) {
+			for (Annotation annotation : annotations) {
+				if (annotation instanceof Parameter) {
+					result = true;
+				}
+			}
+		}
+		return result;
+	}
+
+	private static Object[] arguments(Method method, Map<String,String> record) {
+		Annotation[][] annotations = method.getParameterAnnotations();
+		Object[] result = new Object[annotations.length];
+		for (int i=0; i<annotations.length; i++) {
+			for (Annotation annotation : annotations[i]) {
+				if (annotation instanceof ActedUpon) {
+					result[i] = record.get(((ActedUpon)annotation).value());
+				} else if (annotation instanceof Consulted) {
+					result[i] = record.get(((Consulted)annotation).value());
+				}
+			}
+		}
+		return result;
+	}
+
+	private static String describe(Object output) {
+		String result;
+		if (output==null) {
+			result = "null";
+		} else if (output instanceof Throwable) {
+			result = "threw " + output.getClass().getName();
+		} else if (output instanceof LocalDateInterval) {
+			result = ((LocalDateInterval)output).getStartDate() + "/" + ((LocalDateInterval)output).getEndDate();
+		} else {
+			DQResponse<?> response = (DQResponse<?>)output;
+			Object value = null;
+			if (response.getValue()!=null) {
+				value = response.getValue().getObject();
+				if (value instanceof Map) {
+					value = new TreeMap<Object,Object>((Map<?,?>)value);
+				}
+			}
+			String comment = response.getComment()==null ? "" : response.getComment().replaceAll("\\[[^\\]]*\\]", "[]").trim();
+			result = response.getResultState().getLabel() + " " + value + " {" + comment + "}";
+		}
+		return result;
+	}
+
+	private static void diverged(StringBuilder divergences, int[] found, String what, Object input, String expected, String actual) {
+		found[0]++;
+		if (found[0] <= MAX_REPORTED) {
+			divergences.append(what).append(" ").append(input).append(": reference=").append(expected)
+					.append(" optimized=").append(actual).append("\n");
+		}
+	}
+
+	/**
+	 * Test that TemporalSuite.evaluate() matches each test invoked separately on every record
+	 * of the golden corpus, test by test, where a test that throws when invoked separately
+	 * must have the failed result that the suite stands in for it.
+	 *
+	 * @throws IOException if the corpus can not be read.
+	 */
+	@Test
+	public void testSuiteMatchesSeparateTests() throws IOException {
+		Method[] methods = findDefaultMethods();
+		StringBuilder divergences = new StringBuilder();
+		int[] found = new int[1];
+		for (Map<String,String> record : loadRecords()) {
+			String[] expected = new String[methods.length];
+			for (int i=0; i<methods.length; i++) {
+				Object output;
+				try {
+					output = methods[i].invoke(null, arguments(methods[i], record));
+				} catch (InvocationTargetException e) {
+					output = e.getCause();
+					if (output instanceof RuntimeException) {
+						// the suite isolates a test that throws, standing in a failed result for it
+						output = TemporalSuite.failed(i, (RuntimeException)output);
+					}
+				} catch (IllegalAccessException e) {
+					throw new IllegalStateException(e);
+				}
+				expected[i] = describe(output);
+			}
+			DQResponse<?>[] results = TemporalSuite.evaluate(record);
+			for (int i=0; i<methods.length; i++) {
+				String actual = describe(results[i]);
+				if (!expected[i].equals(actual)) {
+					diverged(divergences, found, methods[i].getName(), record, expected[i], actual);
+				}
+			}
+		}
+		assertEquals("Divergences of TemporalSuite from separate tests:\n" + divergences, 0, found[0]);
+	}
+
+	/**
+	 * Test that extractInterval() within a RecordParseMemo, on a first and a memoized call,
+	 * matches a call without one on every value of the golden corpus.
+	 *
+	 * @throws IOException if the corpus can not be read.
+	 */
+	@Test
+	public void testMemoizedIntervalMatches() throws IOException {
+		StringBuilder divergences = new StringBuilder();
+		int[] found = new int[1];
+		for (String value : loadCorpusValues()) {
+			String expected = describe(DateUtils.extractInterval(value));
+			String first;
+			String memoized;
+			boolean opened = RecordParseMemo.open();
+			try {
+				first = describe(DateUtils.extractInterval(value));
+				memoized = describe(DateUtils.extractInterval(value));
+			} finally {
+				if (opened) {
+					RecordParseMemo.close();
+				}
+			}
+			if (!expected.equals(first)) {
+				diverged(divergences, found, "extractInterval", value, expected, first);
+			}
+			if (!expected.equals(memoized)) {
+				diverged(divergences, found, "extractInterval memoized", value, expected, memoized);
+			}
+		}
+		assertEquals("Divergences of memoized extractInterval:\n" + divergences, 0, found[0]);
+	}
+
+}
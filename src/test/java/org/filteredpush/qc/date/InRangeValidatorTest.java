@@ -0,0 +1,217 @@
+/**
+ * InRangeValidatorTest.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import static org.junit.Assert.*;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.datakurator.ffdq.api.DQResponse;
+import org.datakurator.ffdq.api.result.ComplianceValue;
+import org.datakurator.ffdq.model.ResultState;
+import org.junit.Test;
+
+/**
+ * Tests of the bound forms of the InRange validations, EventDateInRangeValidator,
+ * YearInRangeValidator, and DateIdentifiedInRangeValidator.
+ *
+ * @author mole
+ *
+ */
+public class InRangeValidatorTest {
+
+	private static final Log logger = LogFactory.getLog(InRangeValidatorTest.class);
+
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.EventDateInRangeValidator#validate(java.lang.String)}.
+	 */
+	@Test
+	public void testEventDateInRange() {
+		EventDateInRangeValidator validator = EventDateInRangeValidator.bind("1800-01-01", "1900-12-31");
+		assertEquals("1800-01-01", validator.getEarliestValidDate());
+		assertEquals("1900-12-31", validator.getLatestValidDate());
+
+		DQResponse<ComplianceValue> result = validator.validate("1850-05-02");
+		assertEquals(ResultState.RUN_HAS_RESULT.getLabel(), result.getResultState().getLabel());
+		assertEquals(ComplianceValue.COMPLIANT.getLabel(), result.getValue().getLabel());
+		assertTrue(result.getComment().startsWith("Using non-default argument [1900-12-31] for Parameter bdq:latestValidDate.|Using non-default argument [1800-01-01] for Parameter bdq:earliestValidDate."));
+
+		result = validator.validate("1890/1910");
+		assertEquals(ComplianceValue.NOT_COMPLIANT.getLabel(), result.getValue().getLabel());
+		assertTrue(result.getComment().contains("extends outside the range"));
+
+		result = validator.validate("1950");
+		assertEquals(ComplianceValue.NOT_COMPLIANT.getLabel(), result.getValue().getLabel());
+		assertTrue(result.getComment().contains("is outside the range"));
+
+		result = validator.validate("");
+		assertEquals(ResultState.INTERNAL_PREREQUISITES_NOT_MET.getLabel(), result.getResultState().getLabel());
+		assertNull(result.getValue());
+
+		// a bound validator gives the same response on reuse
+		DQResponse<ComplianceValue> again = validator.validate("1850-05-02");
+		assertEquals(ComplianceValue.COMPLIANT.getLabel(), again.getValue().getLabel());
+		assertEquals(validator.validate("1850-05-02").getComment(), again.getComment());
+
+		validator = EventDateInRangeValidator.bind(null, null);
+		assertEquals(EventDateInRangeValidator.DEFAULT_EARLIEST_VALID_DATE, validator.getEarliestValidDate());
+		assertEquals(String.format("%04d", LocalDate.now().getYear()) + "-12-31", validator.getLatestValidDate());
+		result = validator.validate("1582-11-14");
+		assertEquals(ComplianceValue.NOT_COMPLIANT.getLabel(), result.getValue().getLabel());
+		assertEquals("Provided value for dwc:eventDate '1582-11-14' is outside the range 1582-11-15 to " + validator.getLatestValidDate() + ".", result.getComment());
+	}
+
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.YearInRangeValidator#validate(java.lang.String)}.
+	 */
+	@Test
+	public void testYearInRange() {
+		YearInRangeValidator validator = YearInRangeValidator.bind(null, null);
+		assertEquals("1582", validator.getLowerBound());
+		assertEquals(Integer.toString(LocalDate.now().getYear()), validator.getUpperBound());
+
+		DQResponse<ComplianceValue> result = validator.validate(" 1900 ");
+		assertEquals(ResultState.RUN_HAS_RESULT.getLabel(), result.getResultState().getLabel());
+		assertEquals(ComplianceValue.COMPLIANT.getLabel(), result.getValue().getLabel());
+
+		result = validator.validate("1581");
+		assertEquals(ComplianceValue.NOT_COMPLIANT.getLabel(), result.getValue().getLabel());
+
+		result = validator.validate("1581a");
+		assertEquals(ResultState.INTERNAL_PREREQUISITES_NOT_MET.getLabel(), result.getResultState().getLabel());
+		assertTrue(result.getComment().startsWith("Unable to parse dwc:year as an integer:"));
+
+		validator = YearInRangeValidator.bind("1000", "foo");
+		result = validator.validate("1900");
+		assertEquals(ResultState.INTERNAL_PREREQUISITES_NOT_MET.getLabel(), result.getResultState().getLabel());
+		assertNull(result.getValue());
+		assertTrue(result.getComment().contains("Unable to parse dwc:year as an integer:"));
+		assertTrue(result.getComment().contains("foo"));
+		// the year is checked before the bounds
+		result = validator.validate("");
+		assertEquals("Using non-default argument [1000] for Parameter bdq:earliestValidDate.|Using non-default argument [foo] for Parameter bdq:earliestDate.|No value provided for dwc:year.", result.getComment());
+	}
+
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.DateIdentifiedInRangeValidator#validate(java.lang.String, java.lang.String)}.
+	 */
+	@Test
+	public void testDateIdentifiedInRange() {
+		String today = LocalDate.now().format(DateTimeFormatter.ISO_LOCAL_DATE);
+		DateIdentifiedInRangeValidator validator = DateIdentifiedInRangeValidator.bind(null, null, null);
+		assertEquals(DateIdentifiedInRangeValidator.DEFAULT_EARLIEST_VALID_DATE, validator.getEarliestValidDate());
+		assertEquals(today, validator.getLatestValidDate());
+		assertTrue(validator.isIncludeEventDate());
+
+		DQResponse<ComplianceValue> result = validator.validate("1880-05-08", "1880-05-01");
+		assertEquals(ComplianceValue.COMPLIANT.getLabel(), result.getValue().getLabel());
+		assertEquals("Provided value for dateIdentified [1880-05-08] is after the end of the eventDate [1880-05-01].", result.getComment());
+
+		result = validator.validate("1880-04-08", "1880-05-01");
+		assertEquals(ComplianceValue.NOT_COMPLIANT.getLabel(), result.getValue().getLabel());
+
+		validator = DateIdentifiedInRangeValidator.bind("1753-01-01", today, "false");
+		assertFalse(validator.isIncludeEventDate());
+		result = validator.validate("1880-04-08", "1880-05-01");
+		assertEquals(ComplianceValue.COMPLIANT.getLabel(), result.getValue().getLabel());
+		assertTrue(result.getComment().startsWith("Using non-default argument [false] for Parameter bdq:includeEventDate."));
+
+		validator = DateIdentifiedInRangeValidator.bind("1753-01-01", today, "maybe");
+		assertTrue(validator.isIncludeEventDate());
+		result = validator.validate("", "1880-05-01");
+		assertEquals(ResultState.INTERNAL_PREREQUISITES_NOT_MET.getLabel(), result.getResultState().getLabel());
+		assertEquals("Using non-default argument [maybe] for Parameter bdq:includeEventDate.|Uninterpretable value provided for bdq:includeEventDate, treating as true.|No value provided for dwc:dateIdentified.", result.getComment());
+	}
+
+	/**
+	 * Test that the parameterized and default forms of the tests delegate to bound validators
+	 * with the same results.
+	 */
+	@Test
+	public void testDefaultsUseBoundValidators() {
+		String[] eventDates = { "1900-01-01", "1582-11-14", "1880/1890", "", "foo", "2100-01-01" };
+		EventDateInRangeValidator eventDateValidator = EventDateInRangeValidator.bind("1582-11-15", LocalDate.now().getYear() + "-12-31");
+		for (String eventDate : eventDates) {
+			assertSameResponse(eventDateValidator.validate(eventDate), DwCEventDQDefaults.validationEventdateInrange(eventDate));
+		}
+		String[] years = { "1900", "1500", "", "year", "3000" };
+		YearInRangeValidator yearValidator = YearInRangeValidator.bind("1582", Integer.toString(LocalDate.now().getYear()));
+		for (String year : years) {
+			assertSameResponse(yearValidator.validate(year), DwCEventDQDefaults.validationYearInrange(year));
+			assertSameResponse(yearValidator.validate(year), DwCEventDQ.validationYearInrange(year, 1582, LocalDate.now().getYear()));
+		}
+		DateIdentifiedInRangeValidator identifiedValidator = DateIdentifiedInRangeValidator.bind(null, null, null);
+		for (String eventDate : eventDates) {
+			assertSameResponse(identifiedValidator.validate("1900-01-01", eventDate), DwCOtherDateDQDefaults.validationDateidentifiedInrange("1900-01-01", eventDate));
+		}
+	}
+
+	/**
+	 * Test that one bound validator can be shared between threads.
+	 *
+	 * @throws Exception on an error in a worker thread
+	 */
+	@Test
+	public void testSharedBetweenThreads() throws Exception {
+		final EventDateInRangeValidator validator = EventDateInRangeValidator.bind("1800-01-01", "1900-12-31");
+		final String[] eventDates = { "1850-05-02", "1890/1910", "1950", "1799-12-31/1800-01-01", "1800", "1900-12" };
+		final String[] expected = new String[eventDates.length];
+		for (int i=0; i<eventDates.length; i++) {
+			expected[i] = validator.validate(eventDates[i]).getValue().getLabel();
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Boolean>> futures = new ArrayList<Future<Boolean>>();
+			for (int t=0; t<4; t++) {
+				futures.add(executor.submit(() -> {
+					boolean agrees = true;
+					for (int n=0; n<200; n++) {
+						int i = n % eventDates.length;
+						agrees = agrees && expected[i].equals(validator.validate(eventDates[i]).getValue().getLabel());
+					}
+					return agrees;
+				}));
+			}
+			for (Future<Boolean> future : futures) {
+				assertTrue(future.get());
+			}
+		} finally {
+			executor.shutdown();
+		}
+		logger.debug(expected[0]);
+	}
+
+	private static void assertSameResponse(DQResponse<ComplianceValue> expected, DQResponse<ComplianceValue> actual) {
+		assertEquals(expected.getResultState().getLabel(), actual.getResultState().getLabel());
+		if (expected.getValue()==null) {
+			assertNull(actual.getValue());
+		} else {
+			assertEquals(expected.getValue().getLabel(), actual.getValue().getLabel());
+		}
+		assertEquals(expected.getComment(), actual.getComment());
+	}
+
+}
@@ -0,0 +1,132 @@
+/**
+ * LatencyHistogramTest.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import static org.junit.Assert.*;
+
+import org.filteredpush.qc.date.util.LatencyHistogram;
+import org.junit.Test;
+
+/**
+ * @author mole
+ *
+ */
+public class LatencyHistogramTest {
+
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.util.LatencyHistogram#bucketOf(long)}.
+	 */
+	@Test
+	public void testBucketOf() {
+		assertEquals(0, LatencyHistogram.bucketOf(0l));
+		assertEquals(0, LatencyHistogram.bucketOf(-5l));
+		assertEquals(1, LatencyHistogram.bucketOf(1l));
+		assertEquals(15, LatencyHistogram.bucketOf(15l));
+		assertEquals(16, LatencyHistogram.bucketOf(16l));
+		assertEquals(31, LatencyHistogram.bucketOf(31l));
+		assertEquals(32, LatencyHistogram.bucketOf(32l));
+		assertEquals(32, LatencyHistogram.bucketOf(33l));
+		assertEquals(33, LatencyHistogram.bucketOf(34l));
+		assertEquals(LatencyHistogram.BUCKETS - 1, LatencyHistogram.bucketOf(Long.MAX_VALUE));
+		assertEquals(Long.MAX_VALUE, LatencyHistogram.upperBoundOf(LatencyHistogram.BUCKETS - 1));
+		long previous = -1l;
+		for (int bucket=0; bucket<LatencyHistogram.BUCKETS; bucket++) {
+			long upper = LatencyHistogram.upperBoundOf(bucket);
+			assertEquals(bucket, LatencyHistogram.bucketOf(upper));
+			// buckets are contiguous
+			assertEquals(bucket, LatencyHistogram.bucketOf(previous + 1l));
+			if (bucket<LatencyHistogram.BUCKETS - 1) {
+				assertEquals(bucket + 1, LatencyHistogram.bucketOf(upper + 1l));
+			}
+			// bucket width within 1/SUB_BUCKETS of the values in the bucket
+			assertTrue(upper - previous - 1l <= Math.max(0l, (previous + 1l) / LatencyHistogram.SUB_BUCKETS));
+			previous = upper;
+		}
+	}
+
+	/**
+	 * Test counts, mean, maximum and percentiles.
+	 */
+	@Test
+	public void testRecord() {
+		LatencyHistogram histogram = new LatencyHistogram();
+		assertEquals(0l, histogram.getCount());
+		assertEquals(0l, histogram.getPercentileNanos(50d));
+		assertEquals(0d, histogram.getMeanNanos(), 0d);
+
+		for (int i=0; i<90; i++) {
+			histogram.record(100l);
+		}
+		for (int i=0; i<9; i++) {
+			histogram.record(10000l);
+		}
+		histogram.record(1000000l);
+
+		assertEquals(100l, histogram.getCount());
+		assertEquals(90l * 100l + 9l * 10000l + 1000000l, histogram.getTotalNanos());
+		assertEquals(1000000l, histogram.getMaxNanos());
+		assertEquals(10990d, histogram.getMeanNanos(), 0.001d);
+		// percentiles are the upper bounds of their buckets
+		assertEquals(103l, histogram.getPercentileNanos(50d));
+		assertEquals(103l, histogram.getPercentileNanos(90d));
+		assertEquals(10239l, histogram.getPercentileNanos(99d));
+		assertEquals(1000000l, histogram.getPercentileNanos(99.9d));
+		assertEquals(1000000l, histogram.getPercentileNanos(100d));
+		assertEquals(90l, histogram.getBucketCounts()[LatencyHistogram.bucketOf(100l)]);
+
+		histogram.reset();
+		assertEquals(0l, histogram.getCount());
+		assertEquals(0l, histogram.getMaxNanos());
+		assertEquals(0l, histogram.getBucketCounts()[LatencyHistogram.bucketOf(100l)]);
+	}
+
+	/**
+	 * Test that percentiles out of range are rejected.
+	 */
+	@Test(expected=IllegalArgumentException.class)
+	public void testPercentileOutOfRange() {
+		new LatencyHistogram().getPercentileNanos(101d);
+	}
+
+	/**
+	 * Test recording from several threads.
+	 *
+	 * @throws InterruptedException if interrupted waiting for the threads.
+	 */
+	@Test
+	public void testConcurrentRecord() throws InterruptedException {
+		final LatencyHistogram histogram = new LatencyHistogram();
+		Thread[] threads = new Thread[4];
+		for (int t=0; t<threads.length; t++) {
+			final long latency = (t + 1) * 1000l;
+			threads[t] = new Thread(() -> {
+				for (int i=0; i<10000; i++) {
+					histogram.record(latency);
+				}
+			});
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		assertEquals(40000l, histogram.getCount());
+		assertEquals(10000l * (1000l + 2000l + 3000l + 4000l), histogram.getTotalNanos());
+		assertEquals(4000l, histogram.getMaxNanos());
+	}
+
+}
@@ -664,5 +664,46 @@ public class LocalDateIntervalTest {
 			fail(e.getMessage());
 		}
 	}
+	
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.LocalDateInterval#getDurationDays()} and 
+	 * {@link org.filteredpush.qc.date.LocalDateInterval#getStartEpochDay()}.
+	 */
+	@Test
+	public void testGetDurationDays() {
+		try {
+			LocalDateInterval instance = new LocalDateInterval("1950-02-04/1950-02-06");
+			assertEquals(3l, instance.getDurationDays());
+			assertEquals(86400l*3, instance.getDurationSeconds());
+			assertEquals(LocalDate.of(1950, 2, 4).toEpochDay(), instance.getStartEpochDay());
+			assertEquals(LocalDate.of(1950, 2, 6).toEpochDay(), instance.getEndEpochDay());
+			instance = new LocalDateInterval("1950-02-04");
+			assertEquals(1l, instance.getDurationDays());
+			assertEquals(instance.getStartEpochDay(), instance.getEndEpochDay());
+			instance = new LocalDateInterval("1952");
+			assertEquals(366l, instance.getDurationDays());
+			instance = new LocalDateInterval(LocalDate.of(1970, 1, 1));
+			assertEquals(0l, instance.getStartEpochDay());
+			assertEquals(instance.toDuration().getSeconds(), instance.getDurationSeconds());
+		} catch (DateTimeParseException | EmptyDateException e) {
+			fail(e.getMessage());
+		}
+	}
+
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.LocalDateInterval#countLeapDays()}.
+	 */
+	@Test
+	public void testCountLeapDays() {
+		try {
+			assertEquals(1, new LocalDateInterval("1952").countLeapDays());
+			assertEquals(0, new LocalDateInterval("1900").countLeapDays());
+			assertEquals(3, new LocalDateInterval("1896/1908").countLeapDays());
+			assertEquals(true, new LocalDateInterval("1984-02-29").includesLeapDay());
+			assertEquals(false, new LocalDateInterval("1984-03-01/1984-12-31").includesLeapDay());
+		} catch (DateTimeParseException | EmptyDateException e) {
+			fail(e.getMessage());
+		}
+	}
 
 }
@@ -0,0 +1,125 @@
+/**
+ * MonthDictionaryTest.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.datakurator.ffdq.api.DQResponse;
+import org.datakurator.ffdq.api.result.AmendmentValue;
+import org.datakurator.ffdq.model.ResultState;
+import org.filteredpush.qc.date.util.MonthDictionary;
+import org.junit.Test;
+
+/**
+ * @author mole
+ *
+ */
+public class MonthDictionaryTest {
+
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.util.MonthDictionary#standardize(java.lang.String)}.
+	 */
+	@Test
+	public void testStandardize() {
+		MonthDictionary dictionary = new MonthDictionary(MonthDictionary.DEFAULT_CAPACITY);
+		int seeded = dictionary.size();
+		assertTrue(seeded > 0);
+		assertEquals("5", dictionary.standardize("V"));
+		assertEquals("5", dictionary.standardize("v."));
+		assertEquals("12", dictionary.standardize("XII"));
+		assertEquals("3", dictionary.standardize("three"));
+		assertEquals("3", dictionary.standardize("三月"));
+		assertEquals(MonthDictionary.UNINTERPRETABLE, dictionary.standardize("Mar."));
+		assertEquals(MonthDictionary.UNINTERPRETABLE, dictionary.standardize("foo"));
+		assertEquals(seeded, dictionary.size() - 1);
+		assertEquals(MonthDictionary.UNINTERPRETABLE, dictionary.standardize("foo"));
+		assertEquals(seeded, dictionary.size() - 1);
+	}
+
+	/**
+	 * Test that a full dictionary still interprets values, without adding them.
+	 */
+	@Test
+	public void testCapacity() {
+		MonthDictionary dictionary = new MonthDictionary(4);
+		assertEquals(4, dictionary.getCapacity());
+		assertEquals(4, dictionary.size());
+		assertEquals("7", dictionary.standardize("vii"));
+		assertEquals("7", dictionary.standardize("VII."));
+		assertEquals(MonthDictionary.UNINTERPRETABLE, dictionary.standardize("bar"));
+		assertEquals(4, dictionary.size());
+	}
+
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.util.MonthDictionary#store(java.io.Writer)}
+	 * and {@link org.filteredpush.qc.date.util.MonthDictionary#load(java.io.Reader)}.
+	 *
+	 * @throws IOException on a failure to read or write the entries.
+	 */
+	@Test
+	public void testStoreLoad() throws IOException {
+		MonthDictionary dictionary = new MonthDictionary(MonthDictionary.DEFAULT_CAPACITY);
+		dictionary.standardize("foo bar");
+		dictionary.standardize("xi.");
+		StringWriter writer = new StringWriter();
+		dictionary.store(writer);
+
+		MonthDictionary empty = new MonthDictionary(0);
+		assertEquals(0, empty.size());
+		assertEquals(0, empty.load(new StringReader(writer.toString())));
+
+		MonthDictionary loaded = new MonthDictionary(dictionary.size() + 2);
+		int added = loaded.load(new StringReader(writer.toString() + "baz=May\nqux=4\n"));
+		assertEquals(2, added);
+		assertEquals(dictionary.size() + 1, loaded.size());
+		assertEquals(MonthDictionary.UNINTERPRETABLE, loaded.standardize("foo bar"));
+		assertEquals("4", loaded.standardize("qux"));
+		StringWriter rewritten = new StringWriter();
+		loaded.standardize("baz");
+		loaded.store(rewritten);
+		assertTrue(rewritten.toString().contains("baz="));
+		assertTrue(rewritten.toString().contains("xi.=11"));
+	}
+
+	/**
+	 * Test that amendmentMonthStandardized gives the same response on the first and later
+	 * lookups of a value.
+	 */
+	@Test
+	public void testAmendmentMonthStandardizedRepeated() {
+		String[] months = { "IV", "iv.", "April", "十月", "eight", "Sept.", "xiv" };
+		String[] expected = { "4", "4", null, "10", "8", null, null };
+		for (int i=0; i<months.length; i++) {
+			for (int repeat=0; repeat<2; repeat++) {
+				DQResponse<AmendmentValue> response = DwCEventDQ.amendmentMonthStandardized(months[i]);
+				if (expected[i]==null) {
+					assertEquals(months[i], ResultState.NOT_AMENDED.getLabel(), response.getResultState().getLabel());
+					assertTrue(months[i], response.getValue().getObject().isEmpty());
+				} else {
+					assertEquals(months[i], ResultState.AMENDED.getLabel(), response.getResultState().getLabel());
+					assertEquals(months[i], expected[i], response.getValue().getObject().get("dwc:month"));
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,166 @@
+/**
+ * PackedDateIntervalTest.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import static org.junit.Assert.*;
+
+import java.time.LocalDate;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.junit.Test;
+
+/**
+ * @author mole
+ *
+ */
+public class PackedDateIntervalTest {
+
+	private static final Log logger = LogFactory.getLog(PackedDateIntervalTest.class);
+
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.PackedDateInterval#pack(int, int)}.
+	 */
+	@Test
+	public void testPack() {
+		long packed = PackedDateInterval.pack(-5, 12);
+		assertEquals(-5, PackedDateInterval.startEpochDay(packed));
+		assertEquals(12, PackedDateInterval.endEpochDay(packed));
+		packed = PackedDateInterval.pack(-700000, -699000);
+		assertEquals(-700000, PackedDateInterval.startEpochDay(packed));
+		assertEquals(-699000, PackedDateInterval.endEpochDay(packed));
+		packed = PackedDateInterval.packDay(0);
+		assertTrue(PackedDateInterval.isSingleDay(packed));
+		assertEquals(1, PackedDateInterval.durationDays(packed));
+		assertEquals(86400l, PackedDateInterval.durationSeconds(packed));
+		try {
+			PackedDateInterval.pack(2, 1);
+			fail("IllegalArgumentException should have been thrown");
+		} catch (IllegalArgumentException e) {
+			logger.debug(e.getMessage());
+		}
+	}
+
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.PackedDateInterval#fromInterval(LocalDateInterval)}
+	 * and {@link org.filteredpush.qc.date.PackedDateInterval#toInterval(long)}.
+	 */
+	@Test
+	public void testIntervalConversion() {
+		String[] dates = { "1950-02-04", "1950", "1950-02", "1950-02-04/1951-06-01", "1880/1882", "-0200", "1582-10-15/1582-11-15", "1900-060" };
+		for (int i=0; i<dates.length; i++) {
+			try {
+				LocalDateInterval interval = new LocalDateInterval(dates[i]);
+				long packed = PackedDateInterval.fromInterval(interval);
+				assertEquals(interval.getStartDate().toEpochDay(), PackedDateInterval.startEpochDay(packed));
+				assertEquals(interval.getEndDate().toEpochDay(), PackedDateInterval.endEpochDay(packed));
+				assertEquals(interval, PackedDateInterval.toInterval(packed));
+				assertEquals(interval.toDuration().getSeconds(), PackedDateInterval.durationSeconds(packed));
+				assertEquals(interval.isSingleDay(), PackedDateInterval.isSingleDay(packed));
+				assertEquals(interval.getStartDate().getDayOfYear(), PackedDateInterval.startDayOfYear(packed));
+				assertEquals(interval.getEndDate().getDayOfYear(), PackedDateInterval.endDayOfYear(packed));
+			} catch (EmptyDateException | DateOrderException e) {
+				fail(e.getMessage());
+			}
+		}
+		try {
+			PackedDateInterval.fromInterval(null);
+			fail("EmptyDateException should have been thrown");
+		} catch (EmptyDateException e) {
+			logger.debug(e.getMessage());
+		}
+	}
+
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.PackedDateInterval#dayOfYear(long)}
+	 * and {@link org.filteredpush.qc.date.PackedDateInterval#year(long)}.
+	 */
+	@Test
+	public void testDayOfYear() {
+		LocalDate date = LocalDate.of(-1000, 1, 1);
+		LocalDate end = LocalDate.of(3000, 12, 31);
+		while (!date.isAfter(end)) {
+			long epochDay = date.toEpochDay();
+			assertEquals(date.toString(), date.getYear(), PackedDateInterval.year(epochDay));
+			assertEquals(date.toString(), date.getDayOfYear(), PackedDateInterval.dayOfYear(epochDay));
+			assertEquals(date.isLeapYear(), PackedDateInterval.isLeapYear(date.getYear()));
+			date = date.plusDays(13);
+		}
+		assertEquals(LocalDate.of(1600, 1, 1).toEpochDay(), PackedDateInterval.firstDayOfYear(1600));
+		assertEquals(LocalDate.of(-1, 1, 1).toEpochDay(), PackedDateInterval.firstDayOfYear(-1));
+	}
+
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.PackedDateInterval#countLeapDays(long)}.
+	 */
+	@Test
+	public void testCountLeapDays() {
+		assertEquals(1, PackedDateInterval.countLeapDays(packed(1980, 1, 1, 1980, 12, 31)));
+		assertEquals(0, PackedDateInterval.countLeapDays(packed(1981, 1, 1, 1981, 12, 31)));
+		assertEquals(1, PackedDateInterval.countLeapDays(packed(2000, 1, 1, 2000, 12, 31)));
+		assertEquals(0, PackedDateInterval.countLeapDays(packed(1900, 1, 1, 1900, 12, 31)));
+		assertEquals(1, PackedDateInterval.countLeapDays(packed(1984, 2, 29, 1984, 2, 29)));
+		assertEquals(0, PackedDateInterval.countLeapDays(packed(1984, 3, 1, 1984, 12, 31)));
+		assertEquals(0, PackedDateInterval.countLeapDays(packed(1984, 1, 1, 1984, 2, 28)));
+		assertEquals(2, PackedDateInterval.countLeapDays(packed(1981, 1, 1, 1988, 2, 29)));
+		assertEquals(243, PackedDateInterval.countLeapDays(packed(1000, 1, 1, 2000, 12, 31)));
+		// compare with a day by day count over spans crossing century years
+		int[][] spans = { {1890, 1910}, {1596, 1605}, {-5, 5}, {1999, 2001} };
+		for (int i=0; i<spans.length; i++) {
+			LocalDate start = LocalDate.of(spans[i][0], 2, 10);
+			LocalDate end = LocalDate.of(spans[i][1], 3, 3);
+			int expected = 0;
+			for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+				if (day.getMonthValue()==2 && day.getDayOfMonth()==29) {
+					expected++;
+				}
+			}
+			assertEquals(expected, PackedDateInterval.countLeapDays(PackedDateInterval.pack((int)start.toEpochDay(), (int)end.toEpochDay())));
+		}
+	}
+
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.PackedDateInterval#contains(long, long)} and
+	 * {@link org.filteredpush.qc.date.PackedDateInterval#overlaps(long, long)}.
+	 */
+	@Test
+	public void testContainsOverlaps() {
+		String[] dates = { "1950-02-04", "1950", "1950-02", "1950-02-04/1951-06-01", "1949-12-31/1950-01-01",
+				"1951-06-01", "1949", "1948/1952", "1950-12-31/1951-01-01" };
+		for (int i=0; i<dates.length; i++) {
+			for (int j=0; j<dates.length; j++) {
+				try {
+					LocalDateInterval a = new LocalDateInterval(dates[i]);
+					LocalDateInterval b = new LocalDateInterval(dates[j]);
+					long pa = PackedDateInterval.fromInterval(a);
+					long pb = PackedDateInterval.fromInterval(b);
+					assertEquals(dates[i] + " contains " + dates[j], a.contains(b), PackedDateInterval.contains(pa, pb));
+					assertEquals(dates[i] + " overlaps " + dates[j], a.overlaps(b), PackedDateInterval.overlaps(pa, pb));
+				} catch (EmptyDateException e) {
+					fail(e.getMessage());
+				}
+			}
+		}
+	}
+
+	private long packed(int startYear, int startMonth, int startDay, int endYear, int endMonth, int endDay) {
+		return PackedDateInterval.pack((int)LocalDate.of(startYear, startMonth, startDay).toEpochDay(),
+				(int)LocalDate.of(endYear, endMonth, endDay).toEpochDay());
+	}
+
+}
@@ -0,0 +1,170 @@
+/**
+ * ProgressReporterTest.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+import org.filteredpush.qc.date.util.ProgressReporter;
+import org.junit.Test;
+
+/**
+ * @author mole
+ *
+ */
+public class ProgressReporterTest {
+
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.util.ProgressReporter#count(java.io.InputStream)}.
+	 *
+	 * @throws IOException on a failure to read.
+	 */
+	@Test
+	public void testCount() throws IOException {
+		ProgressReporter progress = new ProgressReporter(null, null, 100l, 0l, 1000l);
+		InputStream in = progress.count(new ByteArrayInputStream(new byte[100]));
+		assertEquals(0, in.read());
+		assertEquals(10, in.read(new byte[10]));
+		assertEquals(5l, in.skip(5l));
+		while (in.read(new byte[16])>0) {
+			// consume
+		}
+		assertEquals(-1, in.read());
+		assertEquals(100l, progress.getBytes());
+		for (int i=0; i<7; i++) {
+			progress.countRecord();
+		}
+		assertEquals(7l, progress.getRecords());
+	}
+
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.util.ProgressReporter#estimateRemainingSeconds(double, long, long)}.
+	 */
+	@Test
+	public void testEstimateRemainingSeconds() {
+		// a quarter of the input in 10 seconds leaves 30
+		assertEquals(30l, new ProgressReporter(null, null, 1000l, 0l, 1000l).estimateRemainingSeconds(10d, 50l, 250l));
+		assertEquals(0l, new ProgressReporter(null, null, 1000l, 0l, 1000l).estimateRemainingSeconds(10d, 200l, 1000l));
+		// nothing to go on
+		assertEquals(-1l, new ProgressReporter(null, null, 0l, 0l, 1000l).estimateRemainingSeconds(10d, 50l, 250l));
+		assertEquals(-1l, new ProgressReporter(null, null, 1000l, 0l, 1000l).estimateRemainingSeconds(0d, 0l, 0l));
+		// a limit on records closer than the end of the input
+		assertEquals(10l, new ProgressReporter(null, null, 1000l, 100l, 1000l).estimateRemainingSeconds(10d, 50l, 250l));
+		assertEquals(30l, new ProgressReporter(null, null, 1000l, 1000l, 1000l).estimateRemainingSeconds(10d, 50l, 250l));
+		assertEquals(10l, new ProgressReporter(null, null, 0l, 100l, 1000l).estimateRemainingSeconds(10d, 50l, 0l));
+		try {
+			new ProgressReporter(null, null, 0l, 0l, 0l);
+			fail("IllegalArgumentException should have been thrown");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.util.ProgressReporter#stop()}.
+	 *
+	 * @throws IOException on a failure to read or write the status file.
+	 */
+	@Test
+	public void testReports() throws IOException {
+		File statusFile = File.createTempFile("progress", ".status");
+		try {
+			ByteArrayOutputStream lines = new ByteArrayOutputStream();
+			PrintStream out = new PrintStream(lines, true, "UTF-8");
+			ProgressReporter progress = new ProgressReporter(out, statusFile, 2048l, 0l, 50l);
+			InputStream in = progress.count(new ByteArrayInputStream(new byte[1024]));
+			while (in.read(new byte[256])>0) {
+				progress.countRecord();
+			}
+			progress.start();
+			try {
+				Thread.sleep(200l);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			progress.stop();
+			String report = new String(lines.toByteArray(), StandardCharsets.UTF_8);
+			assertTrue(report, report.startsWith("Progress: 4 records, 0.0 of 0.0 MB (50.0%)"));
+			assertTrue(report, report.contains("ETA "));
+			assertTrue(report, report.contains("Finished: 4 records"));
+
+			Properties status = new Properties();
+			InputStreamReader reader = new InputStreamReader(new FileInputStream(statusFile), StandardCharsets.UTF_8);
+			try {
+				status.load(reader);
+			} finally {
+				reader.close();
+			}
+			assertEquals("finished", status.getProperty("state"));
+			assertEquals("4", status.getProperty("records"));
+			assertEquals("1024", status.getProperty("bytes"));
+			assertEquals("2048", status.getProperty("totalBytes"));
+			assertEquals("0", status.getProperty("etaSeconds"));
+			assertFalse(new File(statusFile.getPath() + ".tmp").exists());
+		} finally {
+			statusFile.delete();
+		}
+	}
+
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.util.ProgressReporter#fail()}.
+	 *
+	 * @throws IOException on a failure to read or write the status file.
+	 */
+	@Test
+	public void testFail() throws IOException {
+		File statusFile = File.createTempFile("progress", ".status");
+		try {
+			ByteArrayOutputStream lines = new ByteArrayOutputStream();
+			PrintStream out = new PrintStream(lines, true, "UTF-8");
+			ProgressReporter progress = new ProgressReporter(out, statusFile, 2048l, 0l, 60000l);
+			progress.start();
+			progress.countRecord();
+			progress.fail();
+			// reporting has ended, a later stop does not replace the failed state
+			progress.stop();
+			String report = new String(lines.toByteArray(), StandardCharsets.UTF_8);
+			assertTrue(report, report.startsWith("Failed: 1 records"));
+			assertFalse(report, report.contains("Finished: "));
+
+			Properties status = new Properties();
+			InputStreamReader reader = new InputStreamReader(new FileInputStream(statusFile), StandardCharsets.UTF_8);
+			try {
+				status.load(reader);
+			} finally {
+				reader.close();
+			}
+			assertEquals("failed", status.getProperty("state"));
+			assertEquals("1", status.getProperty("records"));
+			assertEquals("-1", status.getProperty("etaSeconds"));
+		} finally {
+			statusFile.delete();
+		}
+	}
+
+}
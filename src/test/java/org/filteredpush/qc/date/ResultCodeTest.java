@@ -0,0 +1,134 @@
+/**
+ * ResultCodeTest.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.datakurator.ffdq.api.DQResponse;
+import org.datakurator.ffdq.api.result.AmendmentValue;
+import org.datakurator.ffdq.api.result.ComplianceValue;
+import org.datakurator.ffdq.model.ResultState;
+import org.junit.Test;
+
+/**
+ * @author mole
+ *
+ */
+public class ResultCodeTest {
+
+	private static final String[] TERMS = { "dwc:eventDate", "dwc:verbatimEventDate", "dwc:year", "dwc:month", "dwc:day",
+			"dwc:startDayOfYear", "dwc:endDayOfYear", "dwc:eventTime", "dwc:dateIdentified", "dcterms:modified" };
+
+	private static Map<String,String> record(String... values) {
+		Map<String,String> result = new HashMap<String,String>();
+		for (int i=0; i<values.length; i++) {
+			result.put(TERMS[i], values[i]);
+		}
+		return result;
+	}
+
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.ResultCode#encode(org.datakurator.ffdq.api.DQResponse)}.
+	 */
+	@Test
+	public void testEncode() {
+		assertEquals(0, ResultCode.encode(null));
+		assertNull(ResultCode.getResultState((byte)0));
+
+		DQResponse<ComplianceValue> validation = DwCEventDQ.validationDayStandard("5");
+		byte code = ResultCode.encode(validation);
+		assertEquals(ResultState.RUN_HAS_RESULT, ResultCode.getResultState(code));
+		assertEquals(ComplianceValue.COMPLIANT.getLabel(), ResultCode.getComplianceValue(code).getLabel());
+		assertFalse(ResultCode.isAmendmentProposed(code));
+
+		code = ResultCode.encode(DwCEventDQ.validationDayStandard("40"));
+		assertEquals(ComplianceValue.NOT_COMPLIANT.getLabel(), ResultCode.getComplianceValue(code).getLabel());
+
+		code = ResultCode.encode(DwCEventDQ.validationDayStandard(""));
+		assertEquals(ResultState.INTERNAL_PREREQUISITES_NOT_MET, ResultCode.getResultState(code));
+		assertNull(ResultCode.getComplianceValue(code));
+
+		DQResponse<AmendmentValue> amendment = DwCEventDQ.amendmentMonthStandardized("V");
+		code = ResultCode.encode(amendment);
+		assertEquals(ResultState.AMENDED, ResultCode.getResultState(code));
+		assertTrue(ResultCode.isAmendmentProposed(code));
+		assertNull(ResultCode.getComplianceValue(code));
+
+		code = ResultCode.encode(DwCEventDQ.amendmentMonthStandardized("5"));
+		assertFalse(ResultCode.isAmendmentProposed(code));
+		assertTrue(code>=0);
+	}
+
+	/**
+	 * Test that the codes from bulk evaluation of the suite match the full responses.
+	 */
+	@Test
+	public void testEvaluateCodes() {
+		List<Map<String,String>> records = new ArrayList<Map<String,String>>();
+		records.add(record("", "", "", "", "", "", "", "", "", ""));
+		records.add(record("1880-05-08", "8 May 1880", "1880", "5", "8", "129", "129", "10:00", "1880-06-01", "2019-01-01T10:00:00Z"));
+		records.add(record("", "May 8, 1880", "1880", "V", "8", "", "", "", "8/5/1880", "2019-13-01"));
+		records.add(record("1500", "", "1500", "13", "32", "", "", "", "1400-01-01", "modified"));
+		records.add(record("s.d.", "", "1880", "5", "8", "129", "", "", "", ""));
+		records.add(record("1880-05-08", "", "1880", "5", "x", "y", "z", "", "", ""));
+		int size = TemporalSuite.size();
+		byte[] codes = new byte[records.size() * size];
+		AmendmentBuffer amendments = new AmendmentBuffer();
+		for (int r=0; r<records.size(); r++) {
+			TemporalSuite.evaluate(records.get(r), codes, r * size, r, amendments);
+		}
+		int entry = 0;
+		for (int r=0; r<records.size(); r++) {
+			DQResponse<?>[] responses = TemporalSuite.evaluate(records.get(r));
+			for (int i=0; i<size; i++) {
+				byte code = codes[r * size + i];
+				assertEquals(responses[i].getResultState(), ResultCode.getResultState(code));
+				if (ResultCode.getComplianceValue(code)!=null) {
+					assertEquals(responses[i].getValue().getObject(), ResultCode.getComplianceValue(code).getObject());
+				}
+				if (ResultCode.isAmendmentProposed(code)) {
+					assertEquals(r, amendments.getRecord(entry));
+					assertEquals(i, amendments.getTest(entry));
+					assertEquals(responses[i].getValue().getObject(), amendments.getValues(entry));
+					entry++;
+				}
+			}
+		}
+		assertEquals(entry, amendments.size());
+		assertTrue(entry>0);
+
+		int monthStandard = TemporalSuite.indexOf("01c6dafa-0886-4b7e-9881-2c3018c98bdc");
+		int[] counts = ResultCode.count(codes, records.size(), size, monthStandard);
+		assertEquals(1, counts[ResultCode.encode(DwCEventDQ.validationMonthStandard(""))]);
+		assertEquals(3, counts[ResultCode.encode(DwCEventDQ.validationMonthStandard("5"))]);
+		assertEquals(2, counts[ResultCode.encode(DwCEventDQ.validationMonthStandard("13"))]);
+
+		try {
+			TemporalSuite.evaluate(records.get(0), codes, codes.length - 1, 0, null);
+			fail("IllegalArgumentException should have been thrown");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+}
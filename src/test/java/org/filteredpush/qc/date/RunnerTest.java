@@ -0,0 +1,129 @@
+/**
+ * RunnerTest.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import static org.junit.Assert.*;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.datakurator.ffdq.annotations.ActedUpon;
+import org.datakurator.ffdq.annotations.Consulted;
+import org.datakurator.ffdq.annotations.Provides;
+import org.datakurator.ffdq.api.DQResponse;
+import org.junit.Test;
+
+/**
+ * @author mole
+ *
+ */
+public class RunnerTest {
+
+	/** Records with values indexed as Runner.TERMS, eventDate, day, month, year, startDayOfYear,
+	 * endDayOfYear, verbatimEventDate, dateIdentified. */
+	private static final String[][] RECORDS = {
+		{ "", "", "", "", "", "", "", "" },
+		{ "1880-05-08", "8", "5", "1880", "129", "129", "8 May 1880", "1880-06-01" },
+		{ "1880-05-08/1880-05-10", "", "5", "1880", "129", "131", "", "1879" },
+		{ "1880-05-08", "9", "6", "1881", "200", "1", "May 8, 1880", "1870" },
+		{ "", "8", "V", "1880", "", "", "May 8, 1880", "8/5/1880" },
+		{ "2004", "", "", "2004", "60", "366", "", "" },
+		{ "1500", "32", "13", "1500", "400", "0", "", "1400-01-01" }
+	};
+
+	private static Method findMethod(String name) throws ClassNotFoundException {
+		Class<?> testClass = Class.forName("org.filteredpush.qc.date." + name.substring(0, name.indexOf('.')));
+		Method result = null;
+		for (Method method : testClass.getDeclaredMethods()) {
+			if (method.getName().equals(name.substring(name.indexOf('.') + 1)) && method.isAnnotationPresent(Provides.class)) {
+				result = method;
+			}
+		}
+		return result;
+	}
+
+	private static Object[] arguments(Method method, String[] values) {
+		List<String> terms = Arrays.asList(Runner.TERMS);
+		Annotation[][] annotations = method.getParameterAnnotations();
+		Object[] result = new Object[annotations.length];
+		for (int i=0; i<annotations.length; i++) {
+			for (Annotation annotation : annotations[i]) {
+				String term = null;
+				if (annotation instanceof ActedUpon) {
+					term = ((ActedUpon)annotation).value();
+				} else if (annotation instanceof Consulted) {
+					term = ((Consulted)annotation).value();
+				}
+				if (term!=null) {
+					assertTrue(method.getName() + " reads " + term + " not read by Runner", terms.contains(term));
+					result[i] = values[terms.indexOf(term)];
+				}
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Test that each validation run by Runner.validate() gets the values of the terms its
+	 * method is annotated with, by comparing it with a direct call bound from the annotations.
+	 *
+	 * @throws Exception on a failure to find or invoke a method.
+	 */
+	@Test
+	public void testValidateMatchesDirectCalls() throws Exception {
+		for (int v=0; v<Runner.VALIDATION_METHODS.length; v++) {
+			Method method = findMethod(Runner.VALIDATION_METHODS[v]);
+			assertNotNull(Runner.VALIDATION_METHODS[v], method);
+			for (String[] values : RECORDS) {
+				String context = Runner.VALIDATION_METHODS[v] + " " + Arrays.toString(values);
+				DQResponse<?> expected = null;
+				Throwable expectedThrown = null;
+				try {
+					expected = (DQResponse<?>) method.invoke(null, arguments(method, values));
+				} catch (InvocationTargetException e) {
+					expectedThrown = e.getCause();
+				}
+				DQResponse<?> actual = null;
+				Throwable actualThrown = null;
+				try {
+					actual = Runner.validate(v, values);
+				} catch (RuntimeException e) {
+					actualThrown = e;
+				}
+				if (expectedThrown!=null) {
+					assertNotNull(context, actualThrown);
+					assertEquals(context, expectedThrown.getClass(), actualThrown.getClass());
+				} else {
+					assertNull(context + " threw " + actualThrown, actualThrown);
+					assertEquals(context, expected.getResultState().getLabel(), actual.getResultState().getLabel());
+					if (expected.getValue()==null) {
+						assertNull(context, actual.getValue());
+					} else {
+						assertTrue(context, Objects.equals(expected.getValue().getObject(), actual.getValue().getObject()));
+					}
+					assertEquals(context, expected.getComment(), actual.getComment());
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,101 @@
+/**
+ * ScannedDateTimeTest.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import static org.junit.Assert.*;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import org.filteredpush.qc.date.util.DateUtils;
+import org.filteredpush.qc.date.util.ScannedDateTime;
+import org.junit.Test;
+
+/**
+ * @author mole
+ *
+ */
+public class ScannedDateTimeTest {
+
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.util.ScannedDateTime#scan(java.lang.String)}.
+	 */
+	@Test
+	public void testScan() {
+		String[] notRecognized = { null, "", "2018-05-24", "2018-05-24t10:28", "2018-05-24 10:28", "2018-02-29T10:28",
+				"2018-05-24T24:00", "2018-05-24T10:60", "2018-05-24T10:28:60", "2018-05-24T10:28:29.",
+				"2018-05-24T10:28:29.1234567890", "2018-05-24T10:2", "2018-05-24T10:28z", "2018-05-24T10:28+5",
+				"2018-05-24T10:28+19:00", "2018-05-24T10:28+05:60", "2018-05-24T10:28[Europe/Paris]",
+				"2018-05-24T10:00/2018-05-24T11:00" };
+		for (int i=0; i<notRecognized.length; i++) {
+			assertNull(notRecognized[i], ScannedDateTime.scan(notRecognized[i]));
+		}
+
+		ScannedDateTime scanned = ScannedDateTime.scan("2016-02-29T10");
+		assertEquals(ScannedDateTime.PRECISION_HOUR, scanned.getPrecision());
+		assertEquals(LocalDateTime.of(2016, 2, 29, 10, 0), scanned.toLocalDateTime());
+		assertFalse(scanned.hasZone());
+
+		scanned = ScannedDateTime.scan("2018-05-24T10:28+05:30");
+		assertEquals(ScannedDateTime.PRECISION_MINUTE, scanned.getPrecision());
+		assertEquals(ScannedDateTime.ZONE_OFFSET_EXTENDED, scanned.getZoneStyle());
+		assertEquals(19800, scanned.getOffsetSeconds());
+		assertEquals("04:58:00.000Z", scanned.toZuluTime());
+
+		scanned = ScannedDateTime.scan("2018-05-24T01:02:03.0045-0500");
+		assertEquals(ScannedDateTime.PRECISION_SECOND, scanned.getPrecision());
+		assertEquals(4, scanned.getFractionDigits());
+		assertEquals(ScannedDateTime.ZONE_OFFSET_BASIC, scanned.getZoneStyle());
+		assertEquals(LocalDateTime.of(2018, 5, 24, 1, 2, 3, 4500000), scanned.toLocalDateTime());
+		assertEquals("06:02:03.004Z", scanned.toZuluTime());
+
+		scanned = ScannedDateTime.scan("2018-05-24T23:30:00UTC");
+		assertEquals(ScannedDateTime.ZONE_UTC, scanned.getZoneStyle());
+		assertEquals("23:30:00.000Z", scanned.toZuluTime());
+		assertEquals("22:30:00.000Z", ScannedDateTime.scan("2018-05-24T23:30:00+01").toZuluTime());
+		assertEquals("00:30:00.000Z", ScannedDateTime.scan("2018-05-24T23:30:00-01:00").toZuluTime());
+	}
+
+	/**
+	 * Check that the single scan paths in DateUtils and LocalDateTimeInterval give the same
+	 * results as java.time parsing of the same values.
+	 */
+	@Test
+	public void testAgreesWithJavaTime() {
+		String[] values = { "1905-04-08T01:02:03.004Z", "1905-04-08T08:32:16-05:00", "1905-04-08T08:32:16.5+01:00",
+				"1905-04-08T08:32Z", "1905-04-08T08:32:16.123+14:00" };
+		for (int i=0; i<values.length; i++) {
+			assertTrue(values[i], DateUtils.containsTime(values[i]));
+			String expected = OffsetDateTime.parse(values[i]).atZoneSameInstant(ZoneOffset.UTC).format(DateTimeFormatter.ofPattern("HH:mm:ss.SSSVV"));
+			assertEquals(values[i], expected, DateUtils.extractZuluTime(values[i]));
+			try {
+				LocalDateTimeInterval interval = new LocalDateTimeInterval(values[i]);
+				assertEquals(values[i], ScannedDateTime.scan(values[i]).toLocalDateTime(), interval.getStartDate());
+				assertEquals(0l, DateUtils.measureDurationSeconds(values[i]));
+			} catch (Exception e) {
+				fail(values[i] + " " + e.getMessage());
+			}
+		}
+		assertNull(DateUtils.extractZuluTime("1905-04-08T08:32:16"));
+		assertNull(DateUtils.extractZuluTime("1905-04-08"));
+		assertFalse(DateUtils.containsTime("1905-04-08"));
+	}
+
+}
@@ -0,0 +1,184 @@
+/**
+ * TemplatedDQResponseTest.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.datakurator.ffdq.api.DQResponse;
+import org.datakurator.ffdq.api.result.ComplianceValue;
+import org.filteredpush.qc.date.TemplatedDQResponse.CommentMode;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * @author mole
+ *
+ */
+public class TemplatedDQResponseTest {
+
+	@After
+	public void restoreCommentMode() {
+		TemplatedDQResponse.closeCommentMode(null);
+	}
+
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.CommentTemplate#render(java.lang.Object[])}.
+	 */
+	@Test
+	public void testRender() {
+		assertEquals("Provided value for day '5' is an integer in the range 1 to 31.", CommentTemplate.INTEGER_IN_RANGE.render("day", "5", 31));
+		assertEquals("Provided value for dwc:eventDate 'null' is outside the range 1582-11-15 to 2000.", CommentTemplate.EVENTDATE_OUTSIDE_RANGE.render(null, "1582-11-15", "2000"));
+		assertEquals("Unable to parse dwc:year as an integer:For input string: \"a\"", CommentTemplate.YEAR_NOT_INTEGER.render("For input string: \"a\""));
+		assertEquals("Provided value for dateIdentified [{1}] ends before the eventDate starts.", CommentTemplate.DATEIDENTIFIED_ENDS_BEFORE_EVENTDATE.render("{1}"));
+		for (CommentTemplate template : CommentTemplate.values()) {
+			Object[] arguments = new Object[] { "A", "B", "C" };
+			assertFalse(template.render(arguments).contains("{"));
+		}
+	}
+
+	/**
+	 * Test the ordering and separators of comments in each CommentMode.
+	 */
+	@Test
+	public void testCommentModes() {
+		DQResponse<ComplianceValue> plain = new DQResponse<ComplianceValue>();
+		plain.addComment("first");
+		plain.addComment("");
+		plain.addComment(CommentTemplate.DAY_EMPTY.render("x"));
+		for (CommentMode mode : CommentMode.values()) {
+			CommentMode previous = TemplatedDQResponse.openCommentMode(mode);
+			TemplatedDQResponse<ComplianceValue> response = new TemplatedDQResponse<ComplianceValue>();
+			TemplatedDQResponse.closeCommentMode(previous);
+			assertEquals(mode, response.getMode());
+			response.addComment("first");
+			response.addComment("");
+			response.addComment(CommentTemplate.DAY_EMPTY, "x");
+			if (mode.equals(CommentMode.NONE)) {
+				assertEquals("", response.getComment());
+			} else {
+				assertEquals(plain.getComment(), response.getComment());
+				// comments added after rendering follow those already rendered
+				response.addComment(CommentTemplate.DAY_NOT_INTEGER, "y");
+				assertEquals(plain.getComment() + "|" + CommentTemplate.DAY_NOT_INTEGER.render("y"), response.getComment());
+			}
+		}
+		// mode is fixed when the response is created
+		CommentMode previous = TemplatedDQResponse.openCommentMode(CommentMode.NONE);
+		TemplatedDQResponse<ComplianceValue> response = new TemplatedDQResponse<ComplianceValue>();
+		TemplatedDQResponse.closeCommentMode(previous);
+		response.addComment("dropped");
+		assertEquals("", response.getComment());
+		assertEquals(CommentMode.FULL, TemplatedDQResponse.getCommentMode());
+		previous = TemplatedDQResponse.openCommentMode(null);
+		assertEquals(CommentMode.FULL, TemplatedDQResponse.getCommentMode());
+		TemplatedDQResponse.closeCommentMode(previous);
+	}
+
+	/**
+	 * Test that an opened CommentMode is restored on close and applies only to the current thread.
+	 *
+	 * @throws InterruptedException if interrupted waiting for the other thread.
+	 */
+	@Test
+	public void testCommentModeScope() throws InterruptedException {
+		assertEquals(CommentMode.FULL, TemplatedDQResponse.getCommentMode());
+		CommentMode outer = TemplatedDQResponse.openCommentMode(CommentMode.NONE);
+		assertNull(outer);
+		CommentMode inner = TemplatedDQResponse.openCommentMode(CommentMode.LAZY);
+		assertEquals(CommentMode.NONE, inner);
+		assertEquals(CommentMode.LAZY, TemplatedDQResponse.getCommentMode());
+		TemplatedDQResponse.closeCommentMode(inner);
+		assertEquals(CommentMode.NONE, TemplatedDQResponse.getCommentMode());
+
+		final List<CommentMode> otherThread = new ArrayList<CommentMode>();
+		Thread thread = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				otherThread.add(new TemplatedDQResponse<ComplianceValue>().getMode());
+			}
+		});
+		thread.start();
+		thread.join();
+		assertEquals(CommentMode.FULL, otherThread.get(0));
+
+		TemplatedDQResponse.closeCommentMode(outer);
+		assertEquals(CommentMode.FULL, TemplatedDQResponse.getCommentMode());
+		assertEquals(CommentMode.FULL, new TemplatedDQResponse<ComplianceValue>().getMode());
+	}
+
+	/**
+	 * Test that the converted tests give the same comments in FULL and LAZY modes, and none in NONE.
+	 */
+	@Test
+	public void testTestsInEachMode() {
+		List<String> full = runTests(CommentMode.FULL);
+		List<String> lazy = runTests(CommentMode.LAZY);
+		List<String> none = runTests(CommentMode.NONE);
+		assertEquals(full, lazy);
+		assertEquals(full.size(), none.size());
+		for (int i=0; i<full.size(); i++) {
+			assertTrue(full.get(i).length()>0);
+			assertEquals("", none.get(i));
+		}
+	}
+
+	private List<String> runTests(CommentMode mode) {
+		CommentMode previous = TemplatedDQResponse.openCommentMode(mode);
+		List<DQResponse<ComplianceValue>> responses = new ArrayList<DQResponse<ComplianceValue>>();
+		try {
+			String[] days = { "", "5", "0", "32", "30", "31", "29", "a" };
+			String[] months = { "", "2", "4", "12", "b" };
+			String[] years = { "", "2000", "1900", "c" };
+			for (String day : days) {
+				responses.add(DwCEventDQ.validationDayStandard(day));
+				for (String month : months) {
+					for (String year : years) {
+						responses.add(DwCEventDQ.validationDayInrange(year, month, day));
+					}
+				}
+			}
+			for (String month : months) {
+				responses.add(DwCEventDQ.validationMonthStandard(month));
+			}
+			String[] eventDates = { "", "1880-05-08", "1880-05-08/1881-02-03", "1900", "1400-01-01/1582-12-01", "1400", "foo", "2100-01-01" };
+			for (String eventDate : eventDates) {
+				responses.add(DwCEventDQ.validationEventdateStandard(eventDate));
+				responses.add(DwCEventDQDefaults.validationEventdateInrange(eventDate));
+				responses.add(DwCEventDQ.validationStartdayofyearInrange("366", eventDate));
+				responses.add(DwCEventDQ.validationEnddayofyearInrange("12", eventDate));
+				responses.add(DwCOtherDateDQ.validationDateidentifiedStandard(eventDate));
+				responses.add(DwCOtherDateDQDefaults.validationDateidentifiedInrange("1880-05-08", eventDate));
+				responses.add(DwCOtherDateDQDefaults.validationDateidentifiedInrange(eventDate, "1880"));
+			}
+			for (String year : years) {
+				responses.add(DwCEventDQDefaults.validationYearInrange(year));
+			}
+		} finally {
+			TemplatedDQResponse.closeCommentMode(previous);
+		}
+		List<String> result = new ArrayList<String>();
+		for (DQResponse<ComplianceValue> response : responses) {
+			result.add(response.getComment());
+		}
+		return result;
+	}
+
+}
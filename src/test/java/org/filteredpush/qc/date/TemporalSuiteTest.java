@@ -0,0 +1,195 @@
+/**
+ * TemporalSuiteTest.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import static org.junit.Assert.*;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.datakurator.ffdq.annotations.ActedUpon;
+import org.datakurator.ffdq.annotations.Consulted;
+import org.datakurator.ffdq.annotations.Parameter;
+import org.datakurator.ffdq.annotations.Provides;
+import org.datakurator.ffdq.api.DQResponse;
+import org.junit.Test;
+
+/**
+ * @author mole
+ *
+ */
+public class TemporalSuiteTest {
+
+	private static final String[] TERMS = { "dwc:eventDate", "dwc:verbatimEventDate", "dwc:year", "dwc:month", "dwc:day",
+			"dwc:startDayOfYear", "dwc:endDayOfYear", "dwc:eventTime", "dwc:dateIdentified", "dcterms:modified" };
+
+	private static Map<String,String> record(String... values) {
+		Map<String,String> result = new HashMap<String,String>();
+		for (int i=0; i<values.length; i++) {
+			result.put(TERMS[i], values[i]);
+		}
+		return result;
+	}
+
+	private static List<Map<String,String>> records() {
+		List<Map<String,String>> result = new ArrayList<Map<String,String>>();
+		result.add(record());
+		result.add(record("", "", "", "", "", "", "", "", "", ""));
+		result.add(record("1880-05-08", "8 May 1880", "1880", "5", "8", "129", "129", "10:00", "1880-06-01", "2019-01-01T10:00:00Z"));
+		result.add(record("1880-05-08/1880-05-10", "", "1880", "5", "", "129", "131", "", "1879", "2019-01-01 10:00"));
+		result.add(record("", "May 8, 1880", "1880", "V", "8", "", "", "", "8/5/1880", "2019-13-01"));
+		result.add(record("30 Feb 2000", "", "2000", "", "30", "366", "367", "", "foo", ""));
+		result.add(record("", "", "2004", "", "", "60", "366", "", "", ""));
+		result.add(record("1500", "", "1500", "13", "32", "", "", "", "1400-01-01", "modified"));
+		// no interval can be extracted from eventDate, or day and day of year are not integers
+		result.add(record("s.d.", "", "1880", "5", "8", "129", "", "", "", ""));
+		result.add(record("1880-05-08", "", "1880", "5", "x", "y", "z", "", "", ""));
+		return result;
+	}
+
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.TemporalSuite#indexOf(java.lang.String)}.
+	 */
+	@Test
+	public void testIndexOf() {
+		String[] guids = TemporalSuite.getGuids();
+		assertEquals(TemporalSuite.size(), guids.length);
+		for (int i=0; i<guids.length; i++) {
+			assertEquals(i, TemporalSuite.indexOf(guids[i]));
+		}
+		assertEquals(-1, TemporalSuite.indexOf("not-a-guid"));
+		try {
+			TemporalSuite.evaluate(record(), new DQResponse<?>[1]);
+			fail("IllegalArgumentException should have been thrown");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	/**
+	 * Test that the suite gives the same results as calling each @Provides method separately,
+	 * with a reused results array.
+	 *
+	 * @throws Exception on a failure to invoke a test method
+	 */
+	@Test
+	public void testEvaluateMatchesProvides() throws Exception {
+		String[] guids = TemporalSuite.getGuids();
+		DQResponse<?>[] results = new DQResponse<?>[TemporalSuite.size()];
+		for (Map<String,String> record : records()) {
+			TemporalSuite.evaluate(record, results);
+			for (int i=0; i<guids.length; i++) {
+				Method method = findDefaultMethod(guids[i]);
+				assertNotNull(guids[i], method);
+				DQResponse<?> expected = (DQResponse<?>) method.invoke(null, arguments(method, record));
+				String context = method.getName() + " " + record;
+				assertEquals(context, expected.getResultState().getLabel(), results[i].getResultState().getLabel());
+				if (expected.getValue()==null) {
+					assertNull(context, results[i].getValue());
+				} else {
+					assertTrue(context, Objects.equals(expected.getValue().getObject(), results[i].getValue().getObject()));
+				}
+				assertEquals(context, expected.getComment(), results[i].getComment());
+			}
+		}
+	}
+
+	/**
+	 * Test that every test gives a result on records with values from which consistency can not
+	 * be evaluated, rather than the record failing.
+	 */
+	@Test
+	public void testEvaluateUninterpretableValues() {
+		int consistent = TemporalSuite.indexOf("5618f083-d55a-4ac2-92b5-b9fb227b832f");
+		List<Map<String,String>> records = new ArrayList<Map<String,String>>();
+		records.add(record("s.d.", "", "1880", "5", "8", "129", "", "", "", ""));
+		records.add(record("1880-02-30", "", "", "2", "", "", "", "", "", ""));
+		records.add(record("1880-05-08", "", "1880", "5", "x", "y", "z", "", "", ""));
+		for (Map<String,String> record : records) {
+			DQResponse<?>[] results = TemporalSuite.evaluate(record);
+			for (int i=0; i<results.length; i++) {
+				assertNotNull(record.toString() + " " + i, results[i]);
+				assertFalse(record.toString() + " " + i, results[i].getComment().startsWith("Unable to run "));
+			}
+			assertEquals(record.toString(), "INTERNAL_PREREQUISITES_NOT_MET", results[consistent].getResultState().getLabel());
+		}
+	}
+
+	/**
+	 * Test method for {@link org.filteredpush.qc.date.TemporalSuite#failed(int, java.lang.RuntimeException)}.
+	 */
+	@Test
+	public void testFailed() {
+		DQResponse<?> result = TemporalSuite.failed(17, new NumberFormatException("For input string: \"x\""));
+		assertEquals("INTERNAL_PREREQUISITES_NOT_MET", result.getResultState().getLabel());
+		assertNull(result.getValue());
+		assertEquals("Unable to run DwCEventDQ.validationEventConsistent on the provided values: java.lang.NumberFormatException: For input string: \"x\"",
+				result.getComment());
+	}
+
+	/**
+	 * Find the method providing a test with its default parameters, looking first in the
+	 * Defaults classes, then in the classes they extend.
+	 */
+	private static Method findDefaultMethod(String guid) {
+		Method result = null;
+		Class<?>[] classes = { DwCEventDQDefaults.class, DwCOtherDateDQDefaults.class, DwCEventDQ.class, DwCOtherDateDQ.class };
+		for (Class<?> testClass : classes) {
+			for (Method method : testClass.getDeclaredMethods()) {
+				Provides provides = method.getAnnotation(Provides.class);
+				if (result==null && provides!=null && provides.value().equals(guid) && !hasParameter(method)) {
+					result = method;
+				}
+			}
+		}
+		return result;
+	}
+
+	private static boolean hasParameter(Method method) {
+		boolean result = false;
+		for (Annotation[] annotations : method.getParameterAnnotations()) {
+			for (Annotation annotation : annotations) {
+				if (annotation instanceof Parameter) {
+					result = true;
+				}
+			}
+		}
+		return result;
+	}
+
+	private static Object[] arguments(Method method, Map<String,String> record) {
+		Annotation[][] annotations = method.getParameterAnnotations();
+		Object[] result = new Object[annotations.length];
+		for (int i=0; i<annotations.length; i++) {
+			for (Annotation annotation : annotations[i]) {
+				if (annotation instanceof ActedUpon) {
+					result[i] = record.get(((ActedUpon)annotation).value());
+				} else if (annotation instanceof Consulted) {
+					result[i] = record.get(((Consulted)annotation).value());
+				}
+			}
+		}
+		return result;
+	}
+
+}
@@ -0,0 +1,115 @@
+/**
+ * VerbatimCascadeStatisticsTest.java
+ *
+ * Copyright 2026 President and Fellows of Harvard College
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.filteredpush.qc.date;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.filteredpush.qc.date.util.DateUtils;
+import org.filteredpush.qc.date.util.VerbatimCascadeStatistics;
+import org.filteredpush.qc.date.util.VerbatimCascadeStatistics.Counts;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * @author mole
+ *
+ */
+public class VerbatimCascadeStatisticsTest {
+
+	@After
+	public void tearDown() {
+		VerbatimCascadeStatistics.setEnabled(false);
+		VerbatimCascadeStatistics.reset();
+	}
+
+	private static Counts find(List<Counts> counts, String name) {
+		Counts result = null;
+		for (Counts c : counts) {
+			if (c.getName().equals(name)) {
+				result = c;
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Test that nothing is counted while the statistics are disabled.
+	 */
+	@Test
+	public void testDisabled() {
+		VerbatimCascadeStatistics.setEnabled(false);
+		VerbatimCascadeStatistics.reset();
+		assertEquals("1982-02-05", DateUtils.extractDateFromVerbatimER("1982-02-05").getResult());
+		assertTrue(VerbatimCascadeStatistics.snapshotHandlers().isEmpty());
+		assertTrue(VerbatimCascadeStatistics.snapshotFormatters().isEmpty());
+	}
+
+	/**
+	 * Test the counts of attempts and hits for handlers and formatters.
+	 */
+	@Test
+	public void testCounts() {
+		VerbatimCascadeStatistics.reset();
+		VerbatimCascadeStatistics.setEnabled(true);
+		assertTrue(VerbatimCascadeStatistics.isEnabled());
+
+		assertEquals("1982-02-05", DateUtils.extractDateFromVerbatimER("1982-02-05").getResult());
+		assertEquals("1982-02-06", DateUtils.extractDateFromVerbatimER("1982-02-06").getResult());
+		assertEquals(EventResult.EventQCResultState.NOT_RUN, DateUtils.extractDateFromVerbatimER("not a date").getResultState());
+
+		List<Counts> handlers = VerbatimCascadeStatistics.snapshotHandlers();
+		Counts preprocess = find(handlers, "preprocess");
+		assertNotNull(preprocess);
+		assertEquals(3, preprocess.getAttempts());
+		assertEquals(0, preprocess.getHits());
+
+		Counts isoDate = find(handlers, "yyyy-mm-dd");
+		assertNotNull(isoDate);
+		assertEquals(3, isoDate.getAttempts());
+		assertEquals(2, isoDate.getHits());
+		assertEquals(1, isoDate.getMisses());
+		assertTrue(isoDate.getNanos() >= 0);
+
+		// once a handler hits, later handlers are not attempted
+		long hits = 0;
+		for (Counts c : handlers) {
+			assertTrue(c.getName(), c.getAttempts() <= 3);
+			assertTrue(c.getName(), c.getHits() <= c.getAttempts());
+			hits = hits + c.getHits();
+		}
+		assertEquals(2, hits);
+
+		List<Counts> formatters = VerbatimCascadeStatistics.snapshotFormatters();
+		assertFalse(formatters.isEmpty());
+		long formatterHits = 0;
+		for (Counts c : formatters) {
+			formatterHits = formatterHits + c.getHits();
+		}
+		assertEquals(2, formatterHits);
+
+		String report = VerbatimCascadeStatistics.report();
+		assertTrue(report.contains("yyyy-mm-dd\tattempts=3\thits=2"));
+
+		VerbatimCascadeStatistics.reset();
+		assertTrue(VerbatimCascadeStatistics.snapshotHandlers().isEmpty());
+		assertTrue(VerbatimCascadeStatistics.snapshotFormatters().isEmpty());
+	}
+
+}